@@ -0,0 +1,74 @@
+-- Move air, LCL and FCL pricing details into the single freight_details table.
+--
+-- Before: courier_rates.air_freight_details_id -> air_freight_rates
+--         courier_rates.lcl_freight_details_id -> lcl_freight_rates
+--         fcl_freight_rates.courier_rate_id    -> courier_rates
+-- After:  freight_details.courier_rate_id      -> courier_rates (freight_mode = AIR | LCL | FCL)
+--
+-- Run once against the application's schema (the one selected by the connection, e.g.
+-- mysql freight_quote_db < 001_single_table_freight_details.sql) before starting the
+-- new backend version. The old tables and columns are left in place so the previous
+-- version can still be rolled back; drop them with the statements at the end once the
+-- migration has been verified.
+
+CREATE TABLE IF NOT EXISTS freight_details (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    freight_mode VARCHAR(3) NOT NULL,
+    courier_rate_id BIGINT NOT NULL,
+    rate DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3),
+    description VARCHAR(500),
+    -- AIR
+    minimum_charge DECIMAL(10,2),
+    fuel_surcharge_rate DECIMAL(5,4),
+    security_surcharge DECIMAL(10,2),
+    weight_limit DOUBLE,
+    -- LCL / FCL
+    documentation_fee DECIMAL(10,2),
+    bunker_adjustment_rate DECIMAL(5,4),
+    -- LCL
+    lcl_service_charge DECIMAL(10,2),
+    -- FCL
+    container_type_id BIGINT,
+    terminal_handling_charge DECIMAL(10,2),
+    PRIMARY KEY (id),
+    KEY idx_freight_details_courier_rate (courier_rate_id),
+    CONSTRAINT fk_freight_details_courier_rate FOREIGN KEY (courier_rate_id) REFERENCES courier_rates (id),
+    CONSTRAINT fk_freight_details_container_type FOREIGN KEY (container_type_id) REFERENCES container_types (id)
+);
+
+START TRANSACTION;
+
+INSERT INTO freight_details (freight_mode, courier_rate_id, rate, currency, description,
+        minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit)
+SELECT 'AIR', cr.id, a.rate, a.currency, a.description,
+        a.minimum_charge, a.fuel_surcharge_rate, a.security_surcharge, a.weight_limit
+FROM courier_rates cr
+JOIN air_freight_rates a ON a.id = cr.air_freight_details_id
+WHERE NOT EXISTS (SELECT 1 FROM freight_details fd WHERE fd.courier_rate_id = cr.id AND fd.freight_mode = 'AIR');
+
+INSERT INTO freight_details (freight_mode, courier_rate_id, rate, currency, description,
+        documentation_fee, bunker_adjustment_rate, lcl_service_charge)
+SELECT 'LCL', cr.id, l.rate, l.currency, l.description,
+        l.documentation_fee, l.bunker_adjustment_rate, l.lcl_service_charge
+FROM courier_rates cr
+JOIN lcl_freight_rates l ON l.id = cr.lcl_freight_details_id
+WHERE NOT EXISTS (SELECT 1 FROM freight_details fd WHERE fd.courier_rate_id = cr.id AND fd.freight_mode = 'LCL');
+
+INSERT INTO freight_details (freight_mode, courier_rate_id, rate, currency, description,
+        documentation_fee, bunker_adjustment_rate, container_type_id, terminal_handling_charge)
+SELECT 'FCL', f.courier_rate_id, f.rate, f.currency, f.description,
+        f.documentation_fee, f.bunker_adjustment_rate, f.container_type_id, f.terminal_handling_charge
+FROM fcl_freight_rates f
+WHERE f.courier_rate_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM freight_details fd WHERE fd.courier_rate_id = f.courier_rate_id
+                  AND fd.freight_mode = 'FCL' AND fd.container_type_id <=> f.container_type_id);
+
+COMMIT;
+
+-- Cleanup, once the new layout has been verified:
+-- ALTER TABLE courier_rates DROP FOREIGN KEY <fk to air_freight_rates>, DROP COLUMN air_freight_details_id;
+-- ALTER TABLE courier_rates DROP FOREIGN KEY <fk to lcl_freight_rates>, DROP COLUMN lcl_freight_details_id;
+-- DROP TABLE air_freight_rates;
+-- DROP TABLE lcl_freight_rates;
+-- DROP TABLE fcl_freight_rates;
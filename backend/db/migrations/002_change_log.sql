@@ -0,0 +1,16 @@
+-- Change log used by every backend instance to invalidate its local caches
+-- (second-level cache, query cache and rate snapshot) after writes made elsewhere.
+--
+-- Rows are appended in the same transaction as the change they describe and tailed
+-- by id; entries older than change-log.retention-hours are purged by the backend.
+
+CREATE TABLE IF NOT EXISTS change_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    node_id VARCHAR(64) NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_change_log_changed_at (changed_at)
+) ENGINE=InnoDB;
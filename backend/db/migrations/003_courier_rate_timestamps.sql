@@ -0,0 +1,8 @@
+-- Track courier rate creation and modification to the microsecond instead of the day,
+-- so delta sync and the admin UI can tell same-day edits apart.
+--
+-- Existing rows keep their date at midnight.
+
+ALTER TABLE courier_rates
+    MODIFY created_at DATETIME(6) NULL,
+    MODIFY updated_at DATETIME(6) NULL;
@@ -0,0 +1,8 @@
+-- Courier rate attributes on change log entries, so change feed subscribers can filter
+-- by lane, courier and shipping type (including deletes) without loading the rate.
+
+ALTER TABLE change_log
+    ADD COLUMN origin_id BIGINT NULL,
+    ADD COLUMN destination_id BIGINT NULL,
+    ADD COLUMN courier_name VARCHAR(255) NULL,
+    ADD COLUMN shipping_type VARCHAR(10) NULL;
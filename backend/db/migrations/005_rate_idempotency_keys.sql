@@ -0,0 +1,14 @@
+-- Client idempotency keys for POST /api/courier-rates/upsert: a retried request with
+-- the same key returns the rate the first attempt wrote instead of writing again.
+--
+-- Rows are written in the same transaction as the rate; entries older than
+-- idempotency.retention-hours are purged by the backend.
+
+CREATE TABLE IF NOT EXISTS rate_idempotency_keys (
+    idempotency_key VARCHAR(128) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    rate_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    KEY idx_rate_idempotency_keys_created_at (created_at)
+) ENGINE=InnoDB;
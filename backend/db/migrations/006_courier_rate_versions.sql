@@ -0,0 +1,32 @@
+-- Append-only history of courier rates, for re-pricing old quotes and auditing what a
+-- customer saw (?asOf= on quotes, searches and GET /api/courier-rates/{id}).
+--
+-- Each create or update of a rate closes its current version (recorded_to) and appends
+-- a new one; a delete only closes it. effective_from/effective_to are the valid time,
+-- recorded_from/recorded_to the transaction time. The lane and filter columns are
+-- copied out of the payload so as-of lookups are index range scans, and the payload
+-- holds the full rate (locations and pricing components) as JSON.
+--
+-- Existing rates get their first version from the backend at startup.
+
+CREATE TABLE IF NOT EXISTS courier_rate_versions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    rate_id BIGINT NOT NULL,
+    version INT NOT NULL,
+    courier_name VARCHAR(255) NULL,
+    origin_id BIGINT NULL,
+    destination_id BIGINT NULL,
+    shipping_type VARCHAR(10) NULL,
+    sea_freight_mode VARCHAR(10) NULL,
+    effective_from DATE NULL,
+    effective_to DATE NULL,
+    transit_days INT NULL,
+    is_active BIT NULL,
+    recorded_from DATETIME(6) NOT NULL,
+    recorded_to DATETIME(6) NULL,
+    payload LONGTEXT NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_courier_rate_versions_rate_version (rate_id, version),
+    KEY idx_courier_rate_versions_lane (origin_id, destination_id, recorded_from),
+    KEY idx_courier_rate_versions_recorded (recorded_from, recorded_to)
+) ENGINE=InnoDB;
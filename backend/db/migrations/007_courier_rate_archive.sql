@@ -0,0 +1,57 @@
+-- Cold storage for expired courier rates, so quotes, searches and conflict checks no
+-- longer scan or index past them.
+--
+-- The backend moves rates whose effective_to is more than rate-archive.retention-days
+-- in the past, with their freight_details rows, in small batches (one short transaction
+-- each). Archived rows keep their ids and columns; there are no foreign keys so moves
+-- only lock the rows being moved. Archived rates stay readable with ?includeArchived=true
+-- (served from courier_rate_versions, whose current version of an archived rate stays open).
+--
+-- To restore a rate, copy its rows back into courier_rates and freight_details and
+-- delete them here.
+
+CREATE TABLE IF NOT EXISTS courier_rates_archive (
+    id BIGINT NOT NULL,
+    courier_name VARCHAR(255) NOT NULL,
+    origin_location_id BIGINT NOT NULL,
+    destination_location_id BIGINT NOT NULL,
+    shipping_type VARCHAR(255) NOT NULL,
+    sea_freight_mode VARCHAR(255),
+    effective_from DATE NOT NULL,
+    effective_to DATE NOT NULL,
+    is_active BIT(1) NOT NULL,
+    transit_days INT,
+    weight_limit DOUBLE,
+    dimension_limit VARCHAR(255),
+    description VARCHAR(500),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_courier_rates_archive_lane (origin_location_id, destination_location_id, effective_to),
+    KEY idx_courier_rates_archive_archived_at (archived_at)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS freight_details_archive (
+    id BIGINT NOT NULL,
+    freight_mode VARCHAR(3) NOT NULL,
+    courier_rate_id BIGINT NOT NULL,
+    rate DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3),
+    description VARCHAR(500),
+    minimum_charge DECIMAL(10,2),
+    fuel_surcharge_rate DECIMAL(5,4),
+    security_surcharge DECIMAL(10,2),
+    weight_limit DOUBLE,
+    documentation_fee DECIMAL(10,2),
+    bunker_adjustment_rate DECIMAL(5,4),
+    lcl_service_charge DECIMAL(10,2),
+    container_type_id BIGINT,
+    terminal_handling_charge DECIMAL(10,2),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_freight_details_archive_courier_rate (courier_rate_id)
+) ENGINE=InnoDB;
+
+-- The archival job finds candidates by effective_to
+CREATE INDEX idx_courier_rates_effective_to ON courier_rates (effective_to);
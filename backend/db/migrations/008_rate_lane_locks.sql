@@ -0,0 +1,10 @@
+-- One row per rate lane (courier, origin, destination, shipping type), locked with
+-- SELECT ... FOR UPDATE by rate writes so instances serialize writes to the same lane.
+--
+-- lane_key is the SHA-256 (hex) of the lane. Rows are inserted on the lane's first write
+-- and never change; the lock is released by the writing transaction's commit or rollback.
+
+CREATE TABLE IF NOT EXISTS rate_lane_locks (
+    lane_key CHAR(64) NOT NULL,
+    PRIMARY KEY (lane_key)
+) ENGINE=InnoDB;
@@ -0,0 +1,12 @@
+-- Rate upsert idempotency keys keep the response of the request that first used them,
+-- so a retry gets the original status and body back even after the rate changed or was
+-- deleted.
+--
+-- The key row is now inserted before the rate is written (a concurrent request with the
+-- same key waits on it), so rate_id and the response are only set later in the same
+-- transaction.
+
+ALTER TABLE rate_idempotency_keys
+    MODIFY rate_id BIGINT NULL,
+    ADD COLUMN response_status SMALLINT NULL AFTER rate_id,
+    ADD COLUMN response_body LONGTEXT NULL AFTER response_status;
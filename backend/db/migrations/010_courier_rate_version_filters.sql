@@ -0,0 +1,31 @@
+-- Description and FCL container types of rate history versions as columns, so as-of
+-- searches (?asOf= on /api/courier-rates/search-advanced) filter and page on them in
+-- SQL instead of rebuilding every version of the lane from its payload.
+--
+-- Existing versions are filled in from their payloads (MySQL 8 JSON functions); new
+-- versions get them from the backend. Payloads written from now on also keep every
+-- freight detail row (freightDetails), so as-of quotes price with the same charges as
+-- the live rate did.
+
+ALTER TABLE courier_rate_versions
+    ADD COLUMN description VARCHAR(500) NULL AFTER is_active;
+
+UPDATE courier_rate_versions
+SET description = JSON_UNQUOTE(JSON_EXTRACT(payload, '$.description'))
+WHERE JSON_TYPE(JSON_EXTRACT(payload, '$.description')) = 'STRING';
+
+CREATE TABLE IF NOT EXISTS courier_rate_version_container_types (
+    version_id BIGINT NOT NULL,
+    container_type_id BIGINT NOT NULL,
+    PRIMARY KEY (version_id, container_type_id),
+    KEY idx_courier_rate_version_container_types_type (container_type_id),
+    CONSTRAINT fk_courier_rate_version_container_types_version
+        FOREIGN KEY (version_id) REFERENCES courier_rate_versions (id)
+) ENGINE=InnoDB;
+
+INSERT INTO courier_rate_version_container_types (version_id, container_type_id)
+SELECT v.id, CAST(k.container_type_id AS UNSIGNED)
+FROM courier_rate_versions v,
+     JSON_TABLE(JSON_KEYS(v.payload, '$.ratesForFCL'), '$[*]'
+         COLUMNS (container_type_id VARCHAR(20) PATH '$')) k
+WHERE v.sea_freight_mode = 'FCL';
@@ -0,0 +1,108 @@
+package com.freightquote.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.freightquote.config.JacksonConfig;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.SparseFieldsets;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.Location;
+
+/**
+ * JSON against the negotiable binary encodings (CBOR, Smile) for a quote response:
+ * encode and decode time per response. The encoded size of each combination is printed
+ * once per fork, ahead of its warmup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EncodingBenchmark {
+
+    /** Encoding, as negotiated by the Accept header */
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    /** Number of quotes in the response */
+    @Param({ "100", "1000" })
+    private int quotes;
+
+    /** Full DTOs, or the ?fields=compact projection */
+    @Param({ "false", "true" })
+    private boolean compact;
+
+    private List<CourierRateDto> response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<CourierRate> rates = RateFixtures.quoteResponse(quotes);
+        response = new ArrayList<>(rates.size());
+        for (CourierRate rate : rates) {
+            CourierRateDto quotation = new CourierRateDto(rate);
+            quotation.setRate(BigDecimal.valueOf(1000 + rate.getId()));
+            response.add(quotation);
+        }
+
+        // Same builder settings as the application ObjectMapper; the binary mappers copy it
+        // the way the CBOR and Smile message converters do
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        ObjectMapper mapper = builder
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(SparseFieldsets.serializeAll())
+                .mixIn(Location.class, JacksonConfig.LocationFieldsMixIn.class)
+                .build();
+
+        TypeReference<List<CourierRateDto>> type = new TypeReference<>() {
+        };
+        writer = mapper.writerFor(type);
+        if (compact) {
+            writer = writer.with(SparseFieldsets.parse(SparseFieldsets.COMPACT));
+        }
+        reader = mapper.readerFor(type);
+        encoded = writer.writeValueAsBytes(response);
+        System.out.printf("encoded size: %d bytes (format=%s, quotes=%d, compact=%s)%n",
+                encoded.length, format, quotes, compact);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public List<CourierRateDto> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
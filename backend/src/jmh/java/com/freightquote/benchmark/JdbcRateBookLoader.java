@@ -0,0 +1,170 @@
+package com.freightquote.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.entity.LCLFreightRate;
+
+/**
+ * Inserts a generated rate book with JDBC batches, bypassing JPA, so millions of rows load
+ * in minutes. Expects the schema and seed data to exist already.
+ */
+public class JdbcRateBookLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_RATE = "INSERT INTO courier_rates (id, courier_name, origin_location_id, "
+            + "destination_location_id, shipping_type, sea_freight_mode, effective_from, effective_to, is_active, "
+            + "transit_days, weight_limit, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAIL = "INSERT INTO freight_details (freight_mode, courier_rate_id, rate, "
+            + "currency, minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, "
+            + "bunker_adjustment_rate, lcl_service_charge, container_type_id, terminal_handling_charge) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+
+    public JdbcRateBookLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Generate and insert rates with ids firstId .. firstId + count - 1
+     */
+    public void load(RateBookGenerator generator, long firstId, long count) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            Map<String, Long> locationIds = idsByCode(connection, "locations");
+            Map<String, Long> containerTypeIds = idsByCode(connection, "container_types");
+
+            try (PreparedStatement rates = connection.prepareStatement(INSERT_RATE);
+                    PreparedStatement details = connection.prepareStatement(INSERT_DETAIL)) {
+                long[] pending = { 0 };
+                generator.generate(firstId, count, rate -> {
+                    try {
+                        addRate(rates, rate, locationIds);
+                        for (FreightRate detail : rate.getFreightDetails()) {
+                            addDetail(details, rate.getId(), detail, containerTypeIds);
+                        }
+                        if (++pending[0] == BATCH_SIZE) {
+                            rates.executeBatch();
+                            details.executeBatch();
+                            connection.commit();
+                            pending[0] = 0;
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Failed to insert rate " + rate.getId(), e);
+                    }
+                });
+                rates.executeBatch();
+                details.executeBatch();
+                connection.commit();
+            }
+            restartIdentity(connection, firstId + count);
+        }
+    }
+
+    private static void addRate(PreparedStatement statement, CourierRate rate, Map<String, Long> locationIds)
+            throws SQLException {
+        statement.setLong(1, rate.getId());
+        statement.setString(2, rate.getCourierName());
+        statement.setLong(3, requireId(locationIds, rate.getOrigin().getCode()));
+        statement.setLong(4, requireId(locationIds, rate.getDestination().getCode()));
+        statement.setString(5, rate.getShippingType().name());
+        statement.setString(6, rate.getSeaFreightMode() != null ? rate.getSeaFreightMode().name() : null);
+        statement.setDate(7, Date.valueOf(rate.getEffectiveFrom()));
+        statement.setDate(8, Date.valueOf(rate.getEffectiveTo()));
+        statement.setBoolean(9, rate.getIsActive());
+        statement.setInt(10, rate.getTransitDays());
+        statement.setDouble(11, rate.getWeightLimit());
+        statement.setString(12, rate.getDescription());
+        statement.setTimestamp(13, Timestamp.from(rate.getCreatedAt()));
+        statement.setTimestamp(14, Timestamp.from(rate.getUpdatedAt()));
+        statement.addBatch();
+    }
+
+    private static void addDetail(PreparedStatement statement, long courierRateId, FreightRate detail,
+            Map<String, Long> containerTypeIds) throws SQLException {
+        AirFreightRate air = detail instanceof AirFreightRate a ? a : null;
+        LCLFreightRate lcl = detail instanceof LCLFreightRate l ? l : null;
+        FCLFreightRate fcl = detail instanceof FCLFreightRate f ? f : null;
+
+        statement.setString(1, air != null ? "AIR" : lcl != null ? "LCL" : "FCL");
+        statement.setLong(2, courierRateId);
+        statement.setBigDecimal(3, detail.getRate());
+        statement.setString(4, detail.getCurrency());
+        setDecimal(statement, 5, air != null ? air.getMinimumCharge() : null);
+        setDecimal(statement, 6, air != null ? air.getFuelSurchargeRate() : null);
+        setDecimal(statement, 7, air != null ? air.getSecuritySurcharge() : null);
+        if (air != null && air.getWeightLimit() != null) {
+            statement.setDouble(8, air.getWeightLimit());
+        } else {
+            statement.setNull(8, Types.DOUBLE);
+        }
+        setDecimal(statement, 9, lcl != null ? lcl.getDocumentationFee() : fcl != null ? fcl.getDocumentationFee() : null);
+        setDecimal(statement, 10, lcl != null ? lcl.getBunkerAdjustmentRate() : fcl != null ? fcl.getBunkerAdjustmentRate() : null);
+        setDecimal(statement, 11, lcl != null ? lcl.getLclServiceCharge() : null);
+        if (fcl != null) {
+            statement.setLong(12, requireId(containerTypeIds, fcl.getContainerType().getCode()));
+        } else {
+            statement.setNull(12, Types.BIGINT);
+        }
+        setDecimal(statement, 13, fcl != null ? fcl.getTerminalHandlingCharge() : null);
+        statement.addBatch();
+    }
+
+    private static void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        if (value != null) {
+            statement.setBigDecimal(index, value);
+        } else {
+            statement.setNull(index, Types.DECIMAL);
+        }
+    }
+
+    private static Map<String, Long> idsByCode(Connection connection, String table) throws SQLException {
+        Map<String, Long> ids = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT id, code FROM " + table)) {
+            while (rows.next()) {
+                ids.put(rows.getString("code"), rows.getLong("id"));
+            }
+        }
+        return ids;
+    }
+
+    private static long requireId(Map<String, Long> ids, String code) {
+        Long id = ids.get(code);
+        if (id == null) {
+            throw new IllegalStateException("No row with code " + code + "; start the backend once to seed reference data");
+        }
+        return id;
+    }
+
+    /**
+     * MySQL moves AUTO_INCREMENT past explicit ids on its own; H2 identity columns do not
+     */
+    private static void restartIdentity(Connection connection, long nextId) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE courier_rates ALTER COLUMN id RESTART WITH " + nextId);
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,319 @@
+package com.freightquote.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.FreightQuoteApplication;
+import com.freightquote.benchmark.RateBookGenerator.Lane;
+import com.freightquote.benchmark.RateFixtures.CargoProfile;
+import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.service.RateHistoryService;
+import com.freightquote.service.RateSnapshot;
+import com.freightquote.service.RateSnapshotService;
+
+/**
+ * End-to-end load test: starts the backend on an embedded H2 database (MySQL mode), loads a
+ * generated rate book, then replays a quote/search/lookup mix from closed-loop client
+ * threads and reports throughput and p50/p99/p99.9 latency per operation.
+ *
+ * Usage: LoadDriver [--rates 100000] [--seed 42] [--threads 16] [--warmup-seconds 10]
+ *        [--duration-seconds 30] [--mix quote=70,search=20,lookup=10] [--url http://host:8080]
+ *        [--any.spring.property value]
+ *
+ * With --url the traffic goes to a running backend instead, which must already hold the
+ * same rate book (RateBookSqlWriter with the same --rates and --seed). Options containing
+ * a dot are passed to the embedded application as Spring properties.
+ */
+public class LoadDriver {
+
+    enum Operation {
+        QUOTE, SEARCH, LOOKUP
+    }
+
+    private static final String[] EMBEDDED_PROPERTIES = {
+            "--spring.profiles.active=loadtest",
+            "--server.port=0",
+            "--grpc.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--cors.allowed-origins=http://localhost",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--logging.level.com.freightquote=WARN" };
+
+    private static final CargoProfile[] CARGO = CargoProfile.values();
+
+    private final RateBookGenerator generator;
+    private final String baseUrl;
+    private final long firstId;
+    private final long rates;
+    private final Map<Operation, Integer> mix;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> shed = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private Map<String, Long> locationIds;
+
+    LoadDriver(RateBookGenerator generator, String baseUrl, long firstId, long rates, Map<Operation, Integer> mix) {
+        this.generator = generator;
+        this.baseUrl = baseUrl;
+        this.firstId = firstId;
+        this.rates = rates;
+        this.mix = mix;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            shed.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Options.parse(args);
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        long rates = Long.parseLong(options.getOrDefault("rates", "100000"));
+        long firstId = Long.parseLong(options.getOrDefault("first-id", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "30"));
+        Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", "quote=70,search=20,lookup=10"));
+        RateBookGenerator generator = new RateBookGenerator(seed, LocalDate.parse(options.getOrDefault("start", "2025-01-01")),
+                Integer.parseInt(options.getOrDefault("horizon-days", "1095")));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("url");
+        try {
+            if (baseUrl == null) {
+                context = startEmbedded(options);
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                loadRateBook(context, generator, firstId, rates);
+            }
+            LoadDriver driver = new LoadDriver(generator, baseUrl, firstId, rates, mix);
+            driver.run(seed, threads, warmupSeconds, durationSeconds);
+            System.out.printf("%nLoad test: %,d rates, %d threads, %d s measured after %d s warm-up, mix %s, %s%n",
+                    rates, threads, durationSeconds, warmupSeconds, mix, options.containsKey("url") ? baseUrl : "embedded H2");
+            driver.report(durationSeconds);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(Map<String, String> options) {
+        List<String> arguments = new ArrayList<>(List.of(EMBEDDED_PROPERTIES));
+        options.forEach((name, value) -> {
+            if (name.contains(".")) {
+                arguments.add("--" + name + "=" + value);
+            }
+        });
+        return SpringApplication.run(FreightQuoteApplication.class, arguments.toArray(new String[0]));
+    }
+
+    private static void loadRateBook(ConfigurableApplicationContext context, RateBookGenerator generator, long firstId,
+            long rates) throws Exception {
+        long startNanos = System.nanoTime();
+        new JdbcRateBookLoader(context.getBean(DataSource.class)).load(generator, firstId, rates);
+        System.out.printf("Loaded %,d rates in %,d ms%n", rates, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        // Inserted around the backend, so they have no history (?asOf=) until recorded here
+        context.getBean(RateHistoryService.class).backfillMissingVersions();
+
+        // The rate snapshot was built before the load; quotes are priced from it
+        RateSnapshotService snapshots = context.getBean(RateSnapshotService.class);
+        RateSnapshot before = snapshots.getSnapshot();
+        if (before == null) {
+            return;
+        }
+        snapshots.requestRebuild();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+        while (snapshots.getSnapshot().getVersion() == before.getVersion()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Rate snapshot was not rebuilt after loading the rate book");
+            }
+            Thread.sleep(100);
+        }
+        System.out.printf("Rate snapshot v%d holds %,d active rates%n", snapshots.getSnapshot().getVersion(),
+                snapshots.getSnapshot().size());
+    }
+
+    void run(long seed, int threads, int warmupSeconds, int durationSeconds) throws Exception {
+        locationIds = fetchLocationIds();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Random random = new Random(seed + i);
+            Thread worker = new Thread(() -> drive(random, measureFrom, measureUntil), "load-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void drive(Random random, long measureFrom, long measureUntil) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            Operation operation = pick(random.nextInt(totalWeight));
+            int status;
+            try {
+                status = client.send(request(operation, random), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long elapsedNanos = System.nanoTime() - now;
+            if (now < measureFrom) {
+                continue;
+            }
+            if (status == 429) {
+                shed.get(operation).increment();
+            } else if (status < 200 || status >= 300) {
+                errors.get(operation).increment();
+            } else {
+                latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            }
+        }
+    }
+
+    private Operation pick(int draw) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            draw -= entry.getValue();
+            if (draw < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.QUOTE;
+    }
+
+    private HttpRequest request(Operation operation, Random random) throws Exception {
+        switch (operation) {
+            case LOOKUP -> {
+                long id = firstId + (long) (random.nextDouble() * rates);
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/courier-rates/" + id)).GET().build();
+            }
+            case SEARCH -> {
+                Lane lane = generator.sampleLane(random);
+                CourierRateSearchCriteriaDto criteria = new CourierRateSearchCriteriaDto();
+                criteria.setOriginId(locationIds.get(lane.origin().getCode()));
+                if (random.nextBoolean()) {
+                    criteria.setDestinationId(locationIds.get(lane.destination().getCode()));
+                }
+                criteria.setShippingType(lane.shippingType());
+                criteria.setActiveOnDate(shippingDate(random));
+                return post("/api/courier-rates/search-advanced", criteria);
+            }
+            default -> {
+                Lane lane = generator.sampleLane(random);
+                SeaFreightMode seaFreightMode = lane.shippingType() == ShippingType.AIR ? null
+                        : random.nextBoolean() ? SeaFreightMode.FCL : SeaFreightMode.LCL;
+                ShippingRequirementDto requirement = CARGO[random.nextInt(CARGO.length)]
+                        .requirement(lane.shippingType(), seaFreightMode);
+                requirement.setOrigin(locationIds.get(lane.origin().getCode()));
+                requirement.setDestination(locationIds.get(lane.destination().getCode()));
+                requirement.setShippingDate(shippingDate(random));
+                return post("/api/quotes/get-quotes", requirement);
+            }
+        }
+    }
+
+    private LocalDate shippingDate(Random random) {
+        return generator.getStartDate().plusDays(random.nextInt(generator.getHorizonDays()));
+    }
+
+    private HttpRequest post(String path, Object body) throws Exception {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private Map<String, Long> fetchLocationIds() throws Exception {
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/locations")).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/locations returned " + response.statusCode());
+        }
+        Map<String, Long> ids = new HashMap<>();
+        for (JsonNode location : objectMapper.readTree(response.body())) {
+            ids.put(location.get("code").asText(), location.get("id").asLong());
+        }
+        return ids;
+    }
+
+    void report(int durationSeconds) {
+        System.out.printf("%-8s %10s %9s %9s %9s %9s %9s %7s %7s%n",
+                "op", "ok", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "429", "errors");
+        Histogram total = new Histogram(3);
+        long totalShed = 0;
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).getIntervalHistogram();
+            total.add(histogram);
+            totalShed += shed.get(operation).sum();
+            totalErrors += errors.get(operation).sum();
+            printRow(operation.name().toLowerCase(), histogram, shed.get(operation).sum(), errors.get(operation).sum(),
+                    durationSeconds);
+        }
+        printRow("total", total, totalShed, totalErrors, durationSeconds);
+    }
+
+    private static void printRow(String name, Histogram histogram, long shedCount, long errorCount, int durationSeconds) {
+        System.out.printf("%-8s %,10d %,9.1f %9.2f %9.2f %9.2f %9.2f %,7d %,7d%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / (double) durationSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                shedCount,
+                errorCount);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split("=");
+            weights.put(Operation.valueOf(nameAndWeight[0].trim().toUpperCase()), Integer.parseInt(nameAndWeight[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,120 @@
+package com.freightquote.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.freightquote.config.JacksonConfig;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.SparseFieldsets;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.Location;
+
+/**
+ * Cost of turning matched rates into a quote response: DTO mapping, the FCL rate map
+ * and Jackson serialization of the whole list, in full and as the compact projection
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    /** Number of quotes in the mapped and serialized response, a busy lane's worth */
+    private static final int QUOTES = 100;
+
+    private CourierRate airRate;
+    private CourierRate lclRate;
+    private CourierRate fclRate;
+    private List<CourierRate> rates;
+    private List<CourierRateDto> response;
+    private ObjectWriter writer;
+    private ObjectWriter compactWriter;
+
+    @Setup
+    public void setUp() {
+        airRate = RateFixtures.airRate(1);
+        lclRate = RateFixtures.lclRate(2);
+        fclRate = RateFixtures.fclRate(3, 4);
+
+        rates = RateFixtures.quoteResponse(QUOTES);
+        response = new ArrayList<>(rates.size());
+        for (CourierRate rate : rates) {
+            CourierRateDto quotation = new CourierRateDto(rate);
+            quotation.setRate(BigDecimal.valueOf(1000 + rate.getId()));
+            response.add(quotation);
+        }
+
+        // Same modules and date handling as the application's ObjectMapper
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(SparseFieldsets.serializeAll())
+                .mixIn(Location.class, JacksonConfig.LocationFieldsMixIn.class)
+                .build()
+                .writerFor(new TypeReference<List<CourierRateDto>>() {
+                });
+        compactWriter = writer.with(SparseFieldsets.parse(SparseFieldsets.COMPACT));
+    }
+
+    @Benchmark
+    public CourierRateDto dtoAir() {
+        return new CourierRateDto(airRate);
+    }
+
+    @Benchmark
+    public CourierRateDto dtoLcl() {
+        return new CourierRateDto(lclRate);
+    }
+
+    @Benchmark
+    public CourierRateDto dtoFcl() {
+        return new CourierRateDto(fclRate);
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal> ratesForFcl() {
+        return fclRate.getRatesForFCL();
+    }
+
+    /**
+     * Mapping the whole matched list, as QuoteService does before pricing
+     */
+    @Benchmark
+    public List<CourierRateDto> dtoResponse() {
+        List<CourierRateDto> dtos = new ArrayList<>(rates.size());
+        for (CourierRate rate : rates) {
+            dtos.add(new CourierRateDto(rate));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeCompactResponse() throws JsonProcessingException {
+        return compactWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,98 @@
+package com.freightquote.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.benchmark.RateFixtures.CargoProfile;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.LCLFreightRate;
+
+/**
+ * Per-rate pricing cost of each Quotable and of CourierRate.getQuotation dispatching to them
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PricingBenchmark {
+
+    @Param({ "DOCUMENTS", "PARCELS", "PALLETS", "PROJECT_CARGO" })
+    private CargoProfile cargo;
+
+    @Param({ "4" })
+    private int containerTypes;
+
+    private AirFreightRate airDetails;
+    private LCLFreightRate lclDetails;
+    private FCLFreightRate fclDetails;
+    private CourierRate airRate;
+    private CourierRate lclRate;
+    private CourierRate fclRate;
+
+    private ShippingRequirementDto airRequirement;
+    private ShippingRequirementDto lclRequirement;
+    private ShippingRequirementDto fclRequirement;
+
+    @Setup
+    public void setUp() {
+        airDetails = RateFixtures.airDetails();
+        lclDetails = RateFixtures.lclDetails();
+        fclDetails = RateFixtures.fclDetails(RateFixtures.CONTAINER_TYPE_IDS[0], new BigDecimal("1450"));
+        airRate = RateFixtures.airRate(1);
+        lclRate = RateFixtures.lclRate(2);
+        fclRate = RateFixtures.fclRate(3, containerTypes);
+
+        airRequirement = cargo.requirement(ShippingType.AIR, null);
+        lclRequirement = cargo.requirement(ShippingType.WATER, SeaFreightMode.LCL);
+        fclRequirement = cargo.requirement(ShippingType.WATER, SeaFreightMode.FCL);
+    }
+
+    @Benchmark
+    public BigDecimal airFreightRate() {
+        return airDetails.getQuotation(airRequirement);
+    }
+
+    @Benchmark
+    public BigDecimal lclFreightRate() {
+        return lclDetails.getQuotation(lclRequirement);
+    }
+
+    @Benchmark
+    public BigDecimal fclFreightRate() {
+        return fclDetails.getQuotation(fclRequirement);
+    }
+
+    @Benchmark
+    public BigDecimal courierRateAir() {
+        return airRate.getQuotation(airRequirement);
+    }
+
+    @Benchmark
+    public BigDecimal courierRateLcl() {
+        return lclRate.getQuotation(lclRequirement);
+    }
+
+    @Benchmark
+    public BigDecimal courierRateFcl() {
+        return fclRate.getQuotation(fclRequirement);
+    }
+}
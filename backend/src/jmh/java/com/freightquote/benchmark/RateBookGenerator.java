@@ -0,0 +1,290 @@
+package com.freightquote.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.Location;
+import com.freightquote.service.DataInitializationService;
+
+/**
+ * Deterministic synthetic rate book over the DataInitializationService locations and
+ * container types. The same seed and size always produce the same rates, in id order.
+ *
+ * Shape of the data:
+ * - 55% of rates are sea freight (60% of those FCL), the rest air
+ * - lanes are sea-port-to-sea-port (WATER) or airport-to-airport (AIR) and are drawn with
+ *   a Zipf distribution within each mode, so a few hundred lanes carry most of the rates
+ * - carriers per mode are Zipf-skewed as well
+ * - each lane/carrier/mode keeps a timeline of consecutive contracts (30 days to a year);
+ *   a share of contracts overlap the previous one, and busy timelines wrap around the
+ *   horizon, so overlapping validity periods exist just like in real rate books
+ * - FCL rates price 3-6 container types, always including 20GP, 40GP and 40HC
+ *
+ * Generated entities carry location and container type codes but no database ids;
+ * writers resolve the codes against the target database.
+ */
+public class RateBookGenerator {
+
+    private static final List<String> AIR_CARRIERS = List.of(
+            "Emirates SkyCargo", "Qatar Airways Cargo", "Lufthansa Cargo", "Cathay Cargo", "DHL Aviation",
+            "FedEx Express", "UPS Airlines", "Singapore Airlines Cargo", "Air India Cargo", "IndiGo CarGo",
+            "Turkish Cargo", "Etihad Cargo", "Korean Air Cargo", "Blue Dart Aviation");
+
+    private static final List<String> SEA_CARRIERS = List.of(
+            "Maersk Line", "MSC", "CMA CGM", "COSCO Shipping", "Hapag-Lloyd", "ONE", "Evergreen Line",
+            "HMM", "Yang Ming", "ZIM", "Shipping Corporation of India", "X-Press Feeders");
+
+    /** Price factor of each container type relative to a 20GP, by code */
+    private static final Map<String, Double> CONTAINER_PRICE_FACTORS = Map.ofEntries(
+            Map.entry("20GP", 1.00), Map.entry("20HC", 1.06), Map.entry("40GP", 1.62), Map.entry("40HC", 1.70),
+            Map.entry("20RF", 2.10), Map.entry("40RF", 3.05), Map.entry("40RH", 3.15), Map.entry("20OT", 1.45),
+            Map.entry("40OT", 2.15), Map.entry("20FR", 1.55), Map.entry("40FR", 2.35));
+
+    private static final List<String> CORE_CONTAINER_CODES = List.of("20GP", "40GP", "40HC");
+
+    /** Contract lengths in days and their cumulative weights out of 100 */
+    private static final int[] VALIDITY_DAYS = { 30, 90, 182, 365 };
+    private static final int[] VALIDITY_WEIGHTS = { 15, 50, 75, 100 };
+
+    private static final double SEA_SHARE = 0.55;
+    private static final double LANE_SKEW = 1.1;
+    private static final double CARRIER_SKEW = 0.8;
+    private static final double OVERLAP_SHARE = 0.05;
+    private static final double INACTIVE_SHARE = 0.03;
+
+    /**
+     * Directed origin/destination pair served by one shipping type
+     */
+    public record Lane(Location origin, Location destination, ShippingType shippingType) {
+    }
+
+    private final long seed;
+    private final LocalDate startDate;
+    private final int horizonDays;
+    private final List<Lane> airLanes;
+    private final List<Lane> seaLanes;
+    private final ZipfSampler airLaneSampler;
+    private final ZipfSampler seaLaneSampler;
+    private final ZipfSampler airCarrierSampler = new ZipfSampler(AIR_CARRIERS.size(), CARRIER_SKEW);
+    private final ZipfSampler seaCarrierSampler = new ZipfSampler(SEA_CARRIERS.size(), CARRIER_SKEW);
+    private final List<ContainerType> containerTypes = DataInitializationService.defaultContainerTypes();
+
+    public RateBookGenerator(long seed, LocalDate startDate, int horizonDays) {
+        this.seed = seed;
+        this.startDate = startDate;
+        this.horizonDays = horizonDays;
+        Random random = new Random(seed);
+        List<Location> locations = DataInitializationService.defaultLocations();
+        this.airLanes = rankedLanes(locations, Location.Type.AIRPORT, ShippingType.AIR, random);
+        this.seaLanes = rankedLanes(locations, Location.Type.SEA_PORT, ShippingType.WATER, random);
+        this.airLaneSampler = new ZipfSampler(airLanes.size(), LANE_SKEW);
+        this.seaLaneSampler = new ZipfSampler(seaLanes.size(), LANE_SKEW);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    /**
+     * Lane drawn with the same skew as the generated rates, for traffic that follows the data
+     */
+    public Lane sampleLane(Random random) {
+        return random.nextDouble() < SEA_SHARE
+                ? seaLanes.get(seaLaneSampler.sample(random))
+                : airLanes.get(airLaneSampler.sample(random));
+    }
+
+    /**
+     * Generate rates with ids firstId .. firstId + count - 1 and hand each to the sink
+     */
+    public void generate(long firstId, long count, Consumer<CourierRate> sink) {
+        Random random = new Random(seed);
+        Map<String, LocalDate> nextStartByTimeline = new HashMap<>();
+        Instant createdAt = startDate.atStartOfDay().toInstant(ZoneOffset.UTC);
+
+        for (long id = firstId; id < firstId + count; id++) {
+            Lane lane = sampleLane(random);
+            boolean air = lane.shippingType() == ShippingType.AIR;
+            SeaFreightMode seaFreightMode = air ? null : random.nextInt(5) < 3 ? SeaFreightMode.FCL : SeaFreightMode.LCL;
+            String carrier = air
+                    ? AIR_CARRIERS.get(airCarrierSampler.sample(random))
+                    : SEA_CARRIERS.get(seaCarrierSampler.sample(random));
+
+            // Consecutive contracts per lane, carrier and mode
+            String timeline = lane.origin().getCode() + '>' + lane.destination().getCode() + '|' + carrier + '|' + seaFreightMode;
+            LocalDate effectiveFrom = nextStartByTimeline.get(timeline);
+            if (effectiveFrom == null || effectiveFrom.isAfter(startDate.plusDays(horizonDays))) {
+                effectiveFrom = startDate.plusDays(random.nextInt(60));
+            }
+            LocalDate effectiveTo = effectiveFrom.plusDays(validityDays(random) - 1);
+            LocalDate nextStart = effectiveTo.plusDays(1);
+            if (random.nextDouble() < OVERLAP_SHARE) {
+                nextStart = effectiveTo.minusDays(1 + random.nextInt(20));
+            }
+            nextStartByTimeline.put(timeline, nextStart);
+
+            CourierRate rate = new CourierRate();
+            rate.setId(id);
+            rate.setCourierName(carrier);
+            rate.setOrigin(lane.origin());
+            rate.setDestination(lane.destination());
+            rate.setShippingType(lane.shippingType());
+            rate.setSeaFreightMode(seaFreightMode);
+            rate.setEffectiveFrom(effectiveFrom);
+            rate.setEffectiveTo(effectiveTo);
+            rate.setIsActive(random.nextDouble() >= INACTIVE_SHARE);
+            rate.setTransitDays(air ? 1 + random.nextInt(6) : 12 + random.nextInt(34));
+            rate.setWeightLimit(air ? 5000.0 : 28000.0);
+            rate.setDescription(carrier + " " + lane.origin().getCode() + " to " + lane.destination().getCode());
+            rate.setCreatedAt(createdAt);
+            rate.setUpdatedAt(createdAt);
+
+            // Carrier-specific spread around the lane's base price
+            double priceFactor = laneFactor(lane) * (0.85 + random.nextDouble() * 0.30);
+            if (air) {
+                rate.setAirFreightDetails(airDetails(priceFactor, random));
+            } else if (seaFreightMode == SeaFreightMode.LCL) {
+                rate.setLclFreightDetails(lclDetails(priceFactor, random));
+            } else {
+                rate.setFclFreightDetails(fclDetails(priceFactor, random));
+            }
+            sink.accept(rate);
+        }
+    }
+
+    private static int validityDays(Random random) {
+        int draw = random.nextInt(100);
+        for (int i = 0; i < VALIDITY_WEIGHTS.length; i++) {
+            if (draw < VALIDITY_WEIGHTS[i]) {
+                return VALIDITY_DAYS[i];
+            }
+        }
+        return VALIDITY_DAYS[VALIDITY_DAYS.length - 1];
+    }
+
+    /**
+     * Domestic lanes are cheapest, same-region international lanes in between
+     */
+    private static double laneFactor(Lane lane) {
+        String originCountry = lane.origin().getCountryCode();
+        String destinationCountry = lane.destination().getCountryCode();
+        if (originCountry.equals(destinationCountry)) {
+            return 0.45;
+        }
+        return "IND".equals(originCountry) || "IND".equals(destinationCountry) ? 1.0 : 1.25;
+    }
+
+    private static AirFreightRate airDetails(double priceFactor, Random random) {
+        AirFreightRate details = new AirFreightRate();
+        details.setRate(money(4.20 * priceFactor));
+        details.setCurrency("USD");
+        details.setMinimumCharge(money(60 + random.nextInt(60)));
+        details.setFuelSurchargeRate(BigDecimal.valueOf(1200 + random.nextInt(1200), 4));
+        details.setSecuritySurcharge(money(15 + random.nextInt(40)));
+        details.setWeightLimit(5000.0);
+        return details;
+    }
+
+    private static LCLFreightRate lclDetails(double priceFactor, Random random) {
+        LCLFreightRate details = new LCLFreightRate();
+        details.setRate(money(72 * priceFactor));
+        details.setCurrency("USD");
+        details.setDocumentationFee(money(35 + random.nextInt(30)));
+        details.setBunkerAdjustmentRate(BigDecimal.valueOf(400 + random.nextInt(800), 4));
+        details.setLclServiceCharge(money(20 + random.nextInt(40)));
+        return details;
+    }
+
+    private List<FCLFreightRate> fclDetails(double priceFactor, Random random) {
+        List<ContainerType> priced = new ArrayList<>();
+        List<ContainerType> optional = new ArrayList<>();
+        for (ContainerType containerType : containerTypes) {
+            (CORE_CONTAINER_CODES.contains(containerType.getCode()) ? priced : optional).add(containerType);
+        }
+        Collections.shuffle(optional, random);
+        priced.addAll(optional.subList(0, random.nextInt(4)));
+
+        BigDecimal documentationFee = money(50 + random.nextInt(50));
+        BigDecimal bunkerAdjustmentRate = BigDecimal.valueOf(500 + random.nextInt(1000), 4);
+        List<FCLFreightRate> details = new ArrayList<>(priced.size());
+        for (ContainerType containerType : priced) {
+            FCLFreightRate fcl = new FCLFreightRate();
+            fcl.setContainerType(containerType);
+            fcl.setRate(money(1450 * priceFactor * CONTAINER_PRICE_FACTORS.getOrDefault(containerType.getCode(), 1.5)));
+            fcl.setCurrency("USD");
+            fcl.setDocumentationFee(documentationFee);
+            fcl.setBunkerAdjustmentRate(bunkerAdjustmentRate);
+            fcl.setTerminalHandlingCharge(money(140 + random.nextInt(120)));
+            details.add(fcl);
+        }
+        return details;
+    }
+
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * All pairs of locations of the given type in a seed-dependent order; rank 0 is the busiest lane
+     */
+    private static List<Lane> rankedLanes(List<Location> locations, Location.Type type, ShippingType shippingType,
+            Random random) {
+        List<Lane> lanes = new ArrayList<>();
+        for (Location origin : locations) {
+            for (Location destination : locations) {
+                if (origin != destination && origin.getType() == type && destination.getType() == type) {
+                    lanes.add(new Lane(origin, destination, shippingType));
+                }
+            }
+        }
+        Collections.shuffle(lanes, random);
+        return lanes;
+    }
+
+    /**
+     * Draws ranks 0..n-1 with probability proportional to 1 / (rank + 1)^skew
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double skew) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1 / Math.pow(rank + 1, skew);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
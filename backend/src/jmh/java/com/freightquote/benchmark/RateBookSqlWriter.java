@@ -0,0 +1,177 @@
+package com.freightquote.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.Location;
+import com.freightquote.service.DataInitializationService;
+
+/**
+ * Writes a generated rate book as a MySQL script for a database the backend has already
+ * created and seeded. Location and container type ids are looked up by code into session
+ * variables, so the script does not depend on seed insertion order.
+ *
+ * Usage: RateBookSqlWriter [--rates 1000000] [--seed 42] [--first-id 1] [--start 2025-01-01]
+ *        [--horizon-days 1095] [--out target/rate-book.sql]
+ */
+public class RateBookSqlWriter {
+
+    /** Rows per multi-row INSERT */
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String RATE_COLUMNS = "id, courier_name, origin_location_id, destination_location_id, shipping_type, "
+            + "sea_freight_mode, effective_from, effective_to, is_active, transit_days, weight_limit, description, "
+            + "created_at, updated_at";
+
+    private static final String DETAIL_COLUMNS = "freight_mode, courier_rate_id, rate, currency, minimum_charge, "
+            + "fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, bunker_adjustment_rate, "
+            + "lcl_service_charge, container_type_id, terminal_handling_charge";
+
+    private final Writer out;
+    private final List<String> rateRows = new ArrayList<>(INSERT_BATCH_SIZE);
+    private final List<String> detailRows = new ArrayList<>(INSERT_BATCH_SIZE * 4);
+
+    public RateBookSqlWriter(Writer out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = Options.parse(args);
+        long rates = Long.parseLong(options.getOrDefault("rates", "1000000"));
+        long firstId = Long.parseLong(options.getOrDefault("first-id", "1"));
+        Path file = Path.of(options.getOrDefault("out", "target/rate-book.sql"));
+        RateBookGenerator generator = new RateBookGenerator(
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                LocalDate.parse(options.getOrDefault("start", "2025-01-01")),
+                Integer.parseInt(options.getOrDefault("horizon-days", "1095")));
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        long startNanos = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            RateBookSqlWriter sqlWriter = new RateBookSqlWriter(writer);
+            sqlWriter.writeHeader(rates, options);
+            generator.generate(firstId, rates, sqlWriter::add);
+            sqlWriter.finish();
+        }
+        System.out.printf("Wrote %,d rates to %s in %,d ms%n", rates, file, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public void writeHeader(long rates, Map<String, String> options) throws IOException {
+        out.write("-- Synthetic rate book: " + rates + " courier rates, generated by RateBookSqlWriter " + options + "\n");
+        out.write("-- Run against a database the backend has created and seeded (locations, container types)\n\n");
+        out.write("USE freight_quote_db;\n\n");
+        for (Location location : DataInitializationService.defaultLocations()) {
+            out.write("SET @" + locationVariable(location) + " = (SELECT id FROM locations WHERE code = '"
+                    + location.getCode() + "');\n");
+        }
+        for (ContainerType containerType : DataInitializationService.defaultContainerTypes()) {
+            out.write("SET @" + containerTypeVariable(containerType) + " = (SELECT id FROM container_types WHERE code = '"
+                    + containerType.getCode() + "');\n");
+        }
+        out.write("\nSTART TRANSACTION;\n\n");
+    }
+
+    public void add(CourierRate rate) {
+        rateRows.add(String.join(", ",
+                String.valueOf(rate.getId()),
+                quote(rate.getCourierName()),
+                "@" + locationVariable(rate.getOrigin()),
+                "@" + locationVariable(rate.getDestination()),
+                quote(rate.getShippingType().name()),
+                rate.getSeaFreightMode() != null ? quote(rate.getSeaFreightMode().name()) : "NULL",
+                quote(rate.getEffectiveFrom().toString()),
+                quote(rate.getEffectiveTo().toString()),
+                Boolean.TRUE.equals(rate.getIsActive()) ? "1" : "0",
+                String.valueOf(rate.getTransitDays()),
+                String.valueOf(rate.getWeightLimit()),
+                quote(rate.getDescription()),
+                quote(rate.getCreatedAt().toString().replace('T', ' ').replace("Z", "")),
+                quote(rate.getUpdatedAt().toString().replace('T', ' ').replace("Z", ""))));
+
+        for (FreightRate detail : rate.getFreightDetails()) {
+            detailRows.add(detailRow(rate.getId(), detail));
+        }
+        if (rateRows.size() >= INSERT_BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    public void finish() throws IOException {
+        flush();
+        out.write("COMMIT;\n");
+    }
+
+    private String detailRow(long courierRateId, FreightRate detail) {
+        String freightMode = detail instanceof AirFreightRate ? "AIR" : detail instanceof LCLFreightRate ? "LCL" : "FCL";
+        AirFreightRate air = detail instanceof AirFreightRate a ? a : null;
+        LCLFreightRate lcl = detail instanceof LCLFreightRate l ? l : null;
+        FCLFreightRate fcl = detail instanceof FCLFreightRate f ? f : null;
+        BigDecimal documentationFee = lcl != null ? lcl.getDocumentationFee() : fcl != null ? fcl.getDocumentationFee() : null;
+        BigDecimal bunkerAdjustmentRate = lcl != null ? lcl.getBunkerAdjustmentRate()
+                : fcl != null ? fcl.getBunkerAdjustmentRate() : null;
+
+        return String.join(", ",
+                quote(freightMode),
+                String.valueOf(courierRateId),
+                sql(detail.getRate()),
+                quote(detail.getCurrency()),
+                sql(air != null ? air.getMinimumCharge() : null),
+                sql(air != null ? air.getFuelSurchargeRate() : null),
+                sql(air != null ? air.getSecuritySurcharge() : null),
+                air != null ? String.valueOf(air.getWeightLimit()) : "NULL",
+                sql(documentationFee),
+                sql(bunkerAdjustmentRate),
+                sql(lcl != null ? lcl.getLclServiceCharge() : null),
+                fcl != null ? "@" + containerTypeVariable(fcl.getContainerType()) : "NULL",
+                sql(fcl != null ? fcl.getTerminalHandlingCharge() : null));
+    }
+
+    private void flush() {
+        try {
+            if (!rateRows.isEmpty()) {
+                out.write("INSERT INTO courier_rates (" + RATE_COLUMNS + ") VALUES\n(" + String.join("),\n(", rateRows) + ");\n");
+            }
+            if (!detailRows.isEmpty()) {
+                out.write("INSERT INTO freight_details (" + DETAIL_COLUMNS + ") VALUES\n(" + String.join("),\n(", detailRows) + ");\n\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rateRows.clear();
+        detailRows.clear();
+    }
+
+    private static String locationVariable(Location location) {
+        return "loc_" + location.getCode();
+    }
+
+    private static String containerTypeVariable(ContainerType containerType) {
+        return "ct_" + containerType.getCode();
+    }
+
+    private static String sql(BigDecimal value) {
+        return value != null ? value.toPlainString() : "NULL";
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
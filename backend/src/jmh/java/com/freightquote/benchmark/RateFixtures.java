@@ -0,0 +1,168 @@
+package com.freightquote.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.Location;
+
+/**
+ * Detached rates and cargo profiles shaped like the data DataInitializationService seeds
+ */
+public final class RateFixtures {
+
+    /** Container type ids in DataInitializationService order: 20GP, 20HC, 40GP, 40HC, 20RF, 40RF */
+    static final long[] CONTAINER_TYPE_IDS = { 1, 2, 3, 4, 5, 6 };
+
+    /**
+     * Typical shipments, from a courier envelope to a multi-container booking
+     */
+    public enum CargoProfile {
+        DOCUMENTS(1, 2.5, 0.01, Map.of(1L, 1)),
+        PARCELS(8, 140.0, 0.9, Map.of(1L, 1)),
+        PALLETS(12, 4200.0, 14.0, Map.of(1L, 2, 4L, 1)),
+        PROJECT_CARGO(40, 26000.0, 58.0, Map.of(1L, 4, 3L, 3, 4L, 2, 5L, 1));
+
+        private final int packages;
+        private final double grossWeightKG;
+        private final double volumeCBM;
+        private final Map<Long, Integer> containerCount;
+
+        CargoProfile(int packages, double grossWeightKG, double volumeCBM, Map<Long, Integer> containerCount) {
+            this.packages = packages;
+            this.grossWeightKG = grossWeightKG;
+            this.volumeCBM = volumeCBM;
+            this.containerCount = containerCount;
+        }
+
+        ShippingRequirementDto requirement(ShippingType shippingType, SeaFreightMode seaFreightMode) {
+            ShippingRequirementDto requirement = new ShippingRequirementDto();
+            requirement.setOrigin(10L);
+            requirement.setDestination(6L);
+            requirement.setShippingType(shippingType);
+            requirement.setSeaFreightMode(seaFreightMode);
+            requirement.setShippingDate(LocalDate.of(2026, 6, 15));
+            requirement.setNumberOfPackages(packages);
+            requirement.setGrossWeightKG(grossWeightKG);
+            requirement.setVolumeCBM(volumeCBM);
+            if (seaFreightMode == SeaFreightMode.FCL) {
+                requirement.setContainerCount(containerCount);
+            }
+            return requirement;
+        }
+    }
+
+    private RateFixtures() {
+    }
+
+    static AirFreightRate airDetails() {
+        AirFreightRate details = new AirFreightRate();
+        details.setRate(new BigDecimal("4.85"));
+        details.setCurrency("USD");
+        details.setMinimumCharge(new BigDecimal("75.00"));
+        details.setFuelSurchargeRate(new BigDecimal("0.1850"));
+        details.setSecuritySurcharge(new BigDecimal("35.00"));
+        details.setWeightLimit(5000.0);
+        return details;
+    }
+
+    static LCLFreightRate lclDetails() {
+        LCLFreightRate details = new LCLFreightRate();
+        details.setRate(new BigDecimal("68.00"));
+        details.setCurrency("USD");
+        details.setDocumentationFee(new BigDecimal("45.00"));
+        details.setBunkerAdjustmentRate(new BigDecimal("0.0725"));
+        details.setLclServiceCharge(new BigDecimal("30.00"));
+        return details;
+    }
+
+    static FCLFreightRate fclDetails(long containerTypeId, BigDecimal rate) {
+        FCLFreightRate details = new FCLFreightRate();
+        details.setContainerType(new ContainerType(containerTypeId));
+        details.setRate(rate);
+        details.setCurrency("USD");
+        details.setDocumentationFee(new BigDecimal("65.00"));
+        details.setBunkerAdjustmentRate(new BigDecimal("0.0950"));
+        details.setTerminalHandlingCharge(new BigDecimal("180.00"));
+        return details;
+    }
+
+    static CourierRate airRate(long id) {
+        CourierRate rate = courierRate(id, ShippingType.AIR, null, location(26, "AIR_USLAX"), location(36, "AIR_INDEL"));
+        rate.setAirFreightDetails(airDetails());
+        return rate;
+    }
+
+    static CourierRate lclRate(long id) {
+        CourierRate rate = courierRate(id, ShippingType.WATER, SeaFreightMode.LCL, location(10, "SHP_INMUN"), location(6, "SHP_NLRTM"));
+        rate.setLclFreightDetails(lclDetails());
+        return rate;
+    }
+
+    /**
+     * FCL rate with one price per container type; real rate books carry 3-6
+     */
+    static CourierRate fclRate(long id, int containerTypes) {
+        CourierRate rate = courierRate(id, ShippingType.WATER, SeaFreightMode.FCL, location(10, "SHP_INMUN"), location(6, "SHP_NLRTM"));
+        List<FCLFreightRate> details = new ArrayList<>();
+        for (int i = 0; i < containerTypes; i++) {
+            details.add(fclDetails(CONTAINER_TYPE_IDS[i], BigDecimal.valueOf(1450 + 425L * i)));
+        }
+        rate.setFclFreightDetails(details);
+        return rate;
+    }
+
+    /**
+     * Quote response mix: mostly FCL and LCL lanes with some air
+     */
+    static List<CourierRate> quoteResponse(int size) {
+        List<CourierRate> rates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rates.add(switch (i % 4) {
+                case 0 -> airRate(i + 1);
+                case 1 -> lclRate(i + 1);
+                default -> fclRate(i + 1, 4);
+            });
+        }
+        return rates;
+    }
+
+    private static CourierRate courierRate(long id, ShippingType shippingType, SeaFreightMode seaFreightMode,
+            Location origin, Location destination) {
+        CourierRate rate = new CourierRate();
+        rate.setId(id);
+        rate.setCourierName("Carrier " + (id % 17));
+        rate.setOrigin(origin);
+        rate.setDestination(destination);
+        rate.setShippingType(shippingType);
+        rate.setSeaFreightMode(seaFreightMode);
+        rate.setEffectiveFrom(LocalDate.of(2026, 1, 1));
+        rate.setEffectiveTo(LocalDate.of(2026, 12, 31));
+        rate.setTransitDays(shippingType == ShippingType.AIR ? 3 : 28);
+        rate.setWeightLimit(shippingType == ShippingType.AIR ? 5000.0 : 28000.0);
+        rate.setDescription("Benchmark rate " + id);
+        rate.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        rate.setUpdatedAt(Instant.parse("2026-03-01T12:30:00.123456Z"));
+        return rate;
+    }
+
+    private static Location location(long id, String code) {
+        Location location = new Location();
+        location.setId(id);
+        location.setCode(code);
+        location.setName(code);
+        location.setType(code.startsWith("AIR_") ? Location.Type.AIRPORT : Location.Type.SEA_PORT);
+        return location;
+    }
+}
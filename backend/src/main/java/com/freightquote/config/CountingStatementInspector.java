@@ -0,0 +1,18 @@
+package com.freightquote.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import com.freightquote.filter.SqlStatementRecorder;
+
+/**
+ * Reports every SQL statement Hibernate prepares to {@link SqlStatementRecorder}.
+ * Registered through hibernate.session_factory.statement_inspector.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,93 @@
+package com.freightquote.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.freightquote.exception.DeadlineSQLTimeoutException;
+import com.freightquote.filter.RequestDeadline;
+
+/**
+ * DataSource that turns the current request deadline into JDBC query timeouts.
+ *
+ * Every statement created while a deadline is set gets setQueryTimeout() with the
+ * remaining budget (rounded up to whole seconds, as JDBC requires), and no new
+ * connection or statement is handed out once the budget is spent. Slow lanes then
+ * fail with a query timeout instead of holding a pooled connection indefinitely.
+ *
+ * The wrapper adds no locking of its own, so it is safe to use from virtual threads.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkDeadline();
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkDeadline();
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static void checkDeadline() throws DeadlineSQLTimeoutException {
+        if (RequestDeadline.remainingMillis() <= 0) {
+            throw new DeadlineSQLTimeoutException("Request deadline exceeded before the query was issued");
+        }
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new DeadlineConnectionHandler(connection));
+    }
+
+    private static final class DeadlineConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        DeadlineConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            boolean createsStatement = name.equals("createStatement")
+                    || name.equals("prepareStatement")
+                    || name.equals("prepareCall");
+
+            if (createsStatement && RequestDeadline.isSet()) {
+                checkDeadline();
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+
+            if (createsStatement && result instanceof Statement statement && RequestDeadline.isSet()) {
+                long remainingMillis = RequestDeadline.remainingMillis();
+                int timeoutSeconds = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+                statement.setQueryTimeout(timeoutSeconds);
+            }
+            return result;
+        }
+    }
+}
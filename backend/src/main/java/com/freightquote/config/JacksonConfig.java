@@ -0,0 +1,32 @@
+package com.freightquote.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.freightquote.dto.SparseFieldsets;
+import com.freightquote.entity.Location;
+
+/**
+ * Serialize all properties of @JsonFilter-annotated types unless a request narrows them
+ * with a fields= selection. The Location entity gets its filter from a mix-in, so the
+ * entity package does not depend on the web layer.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetsCustomizer() {
+        return builder -> builder
+                .filters(SparseFieldsets.serializeAll())
+                .mixIn(Location.class, LocationFieldsMixIn.class);
+    }
+
+    /**
+     * Applies the sparse fieldset location filter to {@link Location}
+     */
+    @JsonFilter(SparseFieldsets.LOCATION_FILTER)
+    public abstract static class LocationFieldsMixIn {
+    }
+}
@@ -0,0 +1,34 @@
+package com.freightquote.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request execution settings.
+ *
+ * Virtual threads are switched on with spring.threads.virtual.enabled (VIRTUAL_THREADS_ENABLED)
+ * when running on Java 21 (build with -Pjava21); Tomcat then runs every servlet request on its
+ * own virtual thread and concurrency is bounded by the Hikari pool rather than the Tomcat pool.
+ * On Java 17 the flag has no effect.
+ *
+ * Regardless of the thread model, the caller's deadline is propagated into JDBC query timeouts.
+ */
+@Configuration
+public class RequestExecutionConfig {
+
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineAwareDataSource)) {
+                    return new DeadlineAwareDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
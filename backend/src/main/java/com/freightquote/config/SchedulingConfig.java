@@ -0,0 +1,14 @@
+package com.freightquote.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (change log tailing and purging). The scheduler has
+ * a single thread, so long jobs (rate archival, rate book audit) hand their work to a
+ * thread of their own instead of running on it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
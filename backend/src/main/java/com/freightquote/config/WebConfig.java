@@ -3,15 +3,26 @@ package com.freightquote.config;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.freightquote.metrics.QuoteMetrics;
+import com.freightquote.metrics.TimedJacksonHttpMessageConverter;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -33,6 +44,33 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${cors.max-age:3600}")
     private long maxAge;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QuoteMetrics quoteMetrics;
+
+    /**
+     * Swap the JSON converter for one that can time response serialization, and build the
+     * CBOR and Smile converters from the application ObjectMapper's configuration (modules,
+     * date handling, sparse fieldset filters) instead of the framework defaults
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> {
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                return new TimedJacksonHttpMessageConverter(objectMapper, quoteMetrics);
+            }
+            if (converter.getClass() == MappingJackson2CborHttpMessageConverter.class) {
+                return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+            }
+            if (converter.getClass() == MappingJackson2SmileHttpMessageConverter.class) {
+                return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+            }
+            return converter;
+        });
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         // Parse allowed origins from comma-separated string
@@ -0,0 +1,72 @@
+package com.freightquote.controller;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.service.ChangeFeedService;
+import com.freightquote.service.ChangeFeedService.ChangeFeedFilter;
+
+/**
+ * Live feed of rate, location and container type changes for admin screens
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    /**
+     * Subscribe to change events as server-sent events
+     *
+     * Each "change" event carries a ChangeEventDto and its change log sequence as the event
+     * id, so a reconnecting EventSource resumes through Last-Event-ID. A "resync" event
+     * means events were missed (slow client or expired id): reload the lists and reconnect.
+     *
+     * Example request:
+     * GET /api/changes/stream?entityTypes=COURIER_RATE&originId=1&destinationId=3&shippingType=WATER
+     *
+     * @param entityTypes Entity types to receive (default all)
+     * @param originId Only rate changes from this origin location
+     * @param destinationId Only rate changes to this destination location
+     * @param courierName Only rate changes for this courier (case-insensitive)
+     * @param shippingType Only rate changes for this shipping type
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(required = false) Set<EntityType> entityTypes,
+            @RequestParam(required = false) Long originId,
+            @RequestParam(required = false) Long destinationId,
+            @RequestParam(required = false) String courierName,
+            @RequestParam(required = false) ShippingType shippingType,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        ChangeFeedFilter filter = new ChangeFeedFilter();
+        filter.setEntityTypes(entityTypes);
+        filter.setOriginId(originId);
+        filter.setDestinationId(destinationId);
+        filter.setCourierName(courierName);
+        filter.setShippingType(shippingType);
+
+        SseEmitter emitter = changeFeedService.subscribe(filter, lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.freightquote.dto.MultiGetResultDto;
 import com.freightquote.entity.ContainerType;
 import com.freightquote.service.ContainerTypeService;
 
@@ -50,6 +51,14 @@ public class ContainerTypeController {
         }
     }
     
+    /**
+     * Several container types in one round trip, in request order with unknown ids listed as missing
+     */
+    @GetMapping("/by-ids")
+    public ResponseEntity<MultiGetResultDto<Long, ContainerType>> getContainerTypesByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(containerTypeService.getContainerTypesByIds(ids));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<ContainerType> getContainerTypeById(@PathVariable Long id) {
         try {
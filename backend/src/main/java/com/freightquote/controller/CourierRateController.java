@@ -1,26 +1,41 @@
 package com.freightquote.controller;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateChangesDto;
 import com.freightquote.dto.CourierRateDto;
 import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.MultiGetResultDto;
+import com.freightquote.dto.RateVersionDto;
+import com.freightquote.dto.SparseFieldsets;
 import com.freightquote.service.CourierRateService;
+import com.freightquote.service.CourierRateService.RateUpsert;
+import com.freightquote.service.NormalizedRatesService;
+import com.freightquote.service.RateHistoryService;
 
 import jakarta.validation.Valid;
 
@@ -31,25 +46,94 @@ public class CourierRateController {
     @Autowired
     private CourierRateService courierRateService;
 
+    @Autowired
+    private NormalizedRatesService normalizedRatesService;
+
+    @Autowired
+    private StreamingArrayWriter streamingArrayWriter;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    /**
+     * All rates, streamed from a database cursor as they are read
+     */
     @GetMapping
-    public ResponseEntity<List<CourierRateDto>> getAllRates() {
+    public ResponseEntity<StreamingResponseBody> getAllRates(NativeWebRequest request) {
+        return streamingArrayWriter.write(request, courierRateService::streamAllRates);
+    }
+
+    /**
+     * List endpoints accept normalized=true to return a NormalizedRatesDto: origin and
+     * destination as location ids plus each referenced location and container type once
+     */
+    @GetMapping(params = "normalized=true")
+    public ResponseEntity<MappingJacksonValue> getAllRatesNormalized() {
         List<CourierRateDto> rates = courierRateService.getAllRates();
-        return ResponseEntity.ok(rates);
+        return ResponseEntity.ok(toBody(rates, null, true));
+    }
+
+    /**
+     * Several rates in one round trip, e.g. /by-ids?ids=12,7,31: found rates in request order
+     * plus the ids that matched nothing (at most bulk-get.max-ids ids)
+     */
+    @GetMapping("/by-ids")
+    public ResponseEntity<MappingJacksonValue> getRatesByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+        MultiGetResultDto<Long, CourierRateDto> rates = courierRateService.getRatesByIds(ids);
+        return ResponseEntity.ok(SparseFieldsets.apply(rates, fields));
     }
 
+    /**
+     * The rate now, or as recorded at asOf (ISO instant, e.g. 2025-03-01T12:00:00Z);
+     * includeArchived also finds rates moved to the archive
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<CourierRateDto> getRateById(@PathVariable Long id) {
-        return courierRateService.getRateById(id)
-                .map(rate -> ResponseEntity.ok(rate))
+    public ResponseEntity<CourierRateDto> getRateById(
+            @PathVariable Long id,
+            @RequestParam(required = false) Instant asOf,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        Optional<CourierRateDto> rate = asOf != null
+                ? rateHistoryService.getRateAsOf(id, asOf)
+                : courierRateService.getRateById(id);
+        if (rate.isEmpty() && asOf == null && includeArchived) {
+            rate = rateHistoryService.getRateAsOf(id, Instant.now());
+        }
+        return rate
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Every recorded version of the rate, oldest first (empty for unknown ids)
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<RateVersionDto>> getRateHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(rateHistoryService.getHistory(id));
+    }
+
     @PostMapping
     public ResponseEntity<CourierRateDto> createRate(@Valid @RequestBody CourierRateDto rateDto) {
         CourierRateDto createdRate = courierRateService.createRate(rateDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdRate);
     }
 
+    /**
+     * Create the rate, or update the existing rate on its lane with overlapping dates
+     * (201 when created). With an Idempotency-Key header a retried request returns the
+     * original result, marked Idempotent-Replayed: true, instead of writing again.
+     */
+    @PostMapping("/upsert")
+    public ResponseEntity<CourierRateDto> upsertRate(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CourierRateDto rateDto) {
+        RateUpsert upsert = courierRateService.upsertRate(idempotencyKey, rateDto);
+        return ResponseEntity.status(upsert.isCreated() ? HttpStatus.CREATED : HttpStatus.OK)
+                .header("Idempotent-Replayed", String.valueOf(upsert.isReplayed()))
+                .body(upsert.getRate());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CourierRateDto> updateRate(
             @PathVariable Long id,
@@ -69,28 +153,59 @@ public class CourierRateController {
 
     
     @GetMapping("/active")
-    public ResponseEntity<List<CourierRateDto>> getActiveRates() {
+    public ResponseEntity<StreamingResponseBody> getActiveRates(NativeWebRequest request) {
+        return streamingArrayWriter.write(request, courierRateService::streamActiveRates);
+    }
+
+    @GetMapping(value = "/active", params = "normalized=true")
+    public ResponseEntity<MappingJacksonValue> getActiveRatesNormalized() {
         List<CourierRateDto> rates = courierRateService.getActiveRates();
-        return ResponseEntity.ok(rates);
+        return ResponseEntity.ok(toBody(rates, null, true));
+    }
+    
+    /**
+     * Delta sync for the admin dashboard and downstream caches.
+     *
+     * Without since, returns all rates plus a token; with since, returns only the rates
+     * inserted, updated or deleted after that token. Answers 410 Gone when the token is
+     * older than the retained change log, in which case the client starts over without one.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<CourierRateChangesDto> getChanges(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(courierRateService.getChangesSince(since));
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<CourierRateDto>> searchRates(
+    public ResponseEntity<MappingJacksonValue> searchRates(
             @RequestParam(required = false) ShippingType shippingType,
             @RequestParam(required = false) SeaFreightMode seaFreightMode,
             @RequestParam(required = false) String origin,
-            @RequestParam(required = false) String destination) {
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) Instant asOf) {
         
-        List<CourierRateDto> rates = courierRateService.searchRates(
-                shippingType, seaFreightMode, origin, destination);
-        return ResponseEntity.ok(rates);
+        List<CourierRateDto> rates;
+        if (asOf != null) {
+            // Rates active on the as-of date, as they were recorded at that instant
+            CourierRateSearchCriteriaDto criteria = new CourierRateSearchCriteriaDto();
+            criteria.setShippingType(shippingType);
+            criteria.setSeaFreightMode(seaFreightMode);
+            criteria.setOrigin(origin);
+            criteria.setDestination(destination);
+            criteria.setActiveOnDate(asOf.atZone(ZoneOffset.UTC).toLocalDate());
+            rates = rateHistoryService.findRatesAsOf(criteria, asOf);
+        } else {
+            rates = courierRateService.searchRates(shippingType, seaFreightMode, origin, destination);
+        }
+        return ResponseEntity.ok(toBody(rates, fields, normalized));
     }
     
     @GetMapping("/shipping-type/{type}")
-    public ResponseEntity<List<CourierRateDto>> getRatesByShippingType(
-            @PathVariable ShippingType type) {
-        List<CourierRateDto> rates = courierRateService.getRatesByShippingType(type);
-        return ResponseEntity.ok(rates);
+    public ResponseEntity<StreamingResponseBody> getRatesByShippingType(
+            @PathVariable ShippingType type, NativeWebRequest request) {
+        return streamingArrayWriter.write(request,
+                (Consumer<CourierRateDto> action) -> courierRateService.streamRatesByShippingType(type, action));
     }
     
     @GetMapping("/shipping-type/{shippingType}/sea-freight-mode/{containerType}")
@@ -103,9 +218,28 @@ public class CourierRateController {
     }
 
     @PostMapping("/search-advanced")
-    public ResponseEntity<Page<CourierRateDto>> searchRatesAdvanced(
-            @Valid @RequestBody CourierRateSearchCriteriaDto searchCriteria) {
-        Page<CourierRateDto> ratePage = courierRateService.searchRatesAdvanced(searchCriteria);
-        return ResponseEntity.ok(ratePage);
+    public ResponseEntity<MappingJacksonValue> searchRatesAdvanced(
+            @Valid @RequestBody CourierRateSearchCriteriaDto searchCriteria,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) Instant asOf,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        // The history as of asOf includes rates archived since; without asOf archived rates follow the live ones
+        Page<CourierRateDto> ratePage = asOf != null
+                ? rateHistoryService.searchRatesAsOf(searchCriteria, asOf)
+                : includeArchived
+                        ? courierRateService.searchRatesAdvancedIncludingArchived(searchCriteria)
+                        : courierRateService.searchRatesAdvanced(searchCriteria);
+        if (normalized) {
+            return ResponseEntity.ok(SparseFieldsets.apply(normalizedRatesService.normalize(ratePage), fields, true));
+        }
+        return ResponseEntity.ok(SparseFieldsets.apply(ratePage, fields));
+    }
+
+    private MappingJacksonValue toBody(List<CourierRateDto> rates, String fields, boolean normalized) {
+        if (normalized) {
+            return SparseFieldsets.apply(normalizedRatesService.normalize(rates), fields, true);
+        }
+        return SparseFieldsets.apply(rates, fields);
     }
 }
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.freightquote.dto.MultiGetResultDto;
 import com.freightquote.entity.Location;
 import com.freightquote.service.LocationService;
 
@@ -70,6 +71,22 @@ public class LocationController {
         }
     }
     
+    /**
+     * Several locations by id in one round trip, in request order with unknown ids listed as missing
+     */
+    @GetMapping("/by-ids")
+    public ResponseEntity<MultiGetResultDto<Long, Location>> getLocationsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(locationService.getLocationsByIds(ids));
+    }
+    
+    /**
+     * Several locations by code in one round trip, in request order with unknown codes listed as missing
+     */
+    @GetMapping("/by-codes")
+    public ResponseEntity<MultiGetResultDto<String, Location>> getLocationsByCodes(@RequestParam List<String> codes) {
+        return ResponseEntity.ok(locationService.getLocationsByCodes(codes));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Location> getLocationById(@PathVariable Long id) {
         try {
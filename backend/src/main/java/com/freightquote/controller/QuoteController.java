@@ -1,19 +1,30 @@
 package com.freightquote.controller;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.freightquote.dto.CourierRateDto;
 import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.dto.SparseFieldsets;
+import com.freightquote.service.NormalizedRatesService;
 import com.freightquote.service.QuoteService;
+import com.freightquote.service.RateHistoryService;
+import com.freightquote.service.RateSnapshot;
+import com.freightquote.service.RateSnapshotService;
 
 import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
 
 /**
  * Controller dedicated to freight quotation and rate matching for customers
@@ -22,8 +33,20 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/quotes")
 public class QuoteController {
     
+    /** Version of the rate book the quotes were priced against (absent when priced from the database) */
+    public static final String RATE_BOOK_VERSION_HEADER = "X-Rate-Book-Version";
+
     @Autowired
     private QuoteService quoteService;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private NormalizedRatesService normalizedRatesService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
     
     /**
      * Get freight quotes based on shipping requirements
@@ -47,14 +70,70 @@ public class QuoteController {
      *   "maxTransitDays": 30
      * }
      *
+     * POST /api/quotes/get-quotes?fields=compact returns the lean quote projection instead
+     * (id, courier, mode, validity, transit days, rate and origin/destination id/code/name);
+     * see {@link SparseFieldsets} for selecting individual properties. With normalized=true
+     * the quotes come wrapped in a {@link com.freightquote.dto.NormalizedRatesDto}.
+     *
+     * With asOf (an ISO instant) the quotes are priced against the rates as they were
+     * recorded at that instant, e.g. to reproduce a quote a customer was given earlier.
+     * includeArchived=true also prices archived (long expired) rates, for shipping dates
+     * that lie in the past: their quotes follow the unchanged quotes of the current rates.
+     * With asOf the history includes archived rates anyway.
+     *
      * @param requirement The shipping requirements including origin, destination, dates, cargo details
+     * @param fields Optional comma-separated properties to return, or "compact"
+     * @param normalized Return location ids plus a side-loaded location and container type dictionary
+     * @param asOf Optional instant to price against the rate history instead of the current rates
+     * @param includeArchived Also match rates moved to the archive
      * @return List of quoted rates with calculated costs based on the requirements
      */
     @PostMapping("/get-quotes")
-    public ResponseEntity<List<CourierRateDto>> getQuotes(
+    public ResponseEntity<MappingJacksonValue> getQuotes(
+            @Valid @RequestBody ShippingRequirementDto requirement,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @RequestParam(required = false) Instant asOf,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        
+        RateSnapshot snapshot = asOf != null
+                ? rateHistoryService.snapshotAsOf(requirement, asOf)
+                : rateSnapshotService.getSnapshot();
+        List<CourierRateDto> quotes = quoteService.findMatchingQuotes(requirement, snapshot);
+        if (asOf == null && includeArchived) {
+            // Live quotes as without archived rates, then those of the archived rates (from their history)
+            quotes = new ArrayList<>(quotes);
+            quotes.addAll(quoteService.findMatchingQuotes(requirement, rateHistoryService.archivedSnapshot(requirement)));
+        }
+        MappingJacksonValue body = SparseFieldsets.apply(
+                normalized ? normalizedRatesService.normalize(quotes) : quotes, fields, normalized);
+        if (snapshot == null || asOf != null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+                .header(RATE_BOOK_VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                .body(body);
+    }
+    
+    /**
+     * Stream freight quotes as they are priced
+     *
+     * Same matching and pricing as /get-quotes, but results are emitted one by one as
+     * newline-delimited JSON (or server-sent events) with backpressure: rates are read
+     * in small batches only as fast as the client consumes them, and no request thread
+     * is held while waiting on the database.
+     *
+     * Example request:
+     * POST /api/quotes/stream
+     * Accept: application/x-ndjson
+     *
+     * @param requirement The shipping requirements including origin, destination, dates, cargo details
+     * @return Stream of quoted rates with calculated costs based on the requirements
+     */
+    @PostMapping(value = "/stream", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE })
+    public Flux<CourierRateDto> streamQuotes(
             @Valid @RequestBody ShippingRequirementDto requirement) {
         
-        List<CourierRateDto> quotes = quoteService.findMatchingQuotes(requirement);
-        return ResponseEntity.ok(quotes);
+        return quoteService.streamMatchingQuotes(requirement);
     }
 }
@@ -0,0 +1,147 @@
+package com.freightquote.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.freightquote.filter.RequestDeadline;
+import com.freightquote.filter.SqlStatementRecorder;
+import com.freightquote.filter.SqlStatementRecorder.Recording;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Writes list responses as an array, element by element, while a database cursor is
+ * still being read, instead of building the list and handing it to a message converter.
+ *
+ * The encoding follows the Accept header like the message converters do (JSON, CBOR or
+ * Smile, JSON when anything is accepted); compression is left to the server's per-client
+ * gzip negotiation.
+ * Errors after the first bytes have gone out can only cut the response short.
+ *
+ * The body is written on an async thread. It runs under the request's deadline, so
+ * cursor reads get query timeouts, and its statements count towards the request's SQL
+ * budget. The admission permit is held until the async request completes.
+ */
+@Component
+public class StreamingArrayWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingArrayWriter.class);
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContentNegotiationManager contentNegotiationManager;
+
+    private final Map<MediaType, ObjectWriter> writers = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        writers.put(MediaType.APPLICATION_JSON, elementWriter(objectMapper));
+        writers.put(MediaType.APPLICATION_CBOR, elementWriter(objectMapper.copyWith(new CBORFactory())));
+        writers.put(APPLICATION_SMILE, elementWriter(objectMapper.copyWith(new SmileFactory())));
+    }
+
+    /**
+     * Stream the elements the producer hands to its consumer as one array
+     *
+     * @param producer Called on the response thread with a consumer that writes one element;
+     *                 it must do its own database work (e.g. a @Transactional streaming read)
+     */
+    public <T> ResponseEntity<StreamingResponseBody> write(NativeWebRequest request, Consumer<Consumer<T>> producer) {
+        MediaType contentType = negotiate(request);
+        if (contentType == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        ObjectWriter writer = writers.get(contentType);
+        // The body runs on an async thread, under this request's deadline and statement count
+        Long deadline = RequestDeadline.currentNanos();
+        Recording recording = SqlStatementRecorder.current();
+
+        StreamingResponseBody body = outputStream -> call(RequestDeadline.propagate(deadline,
+                SqlStatementRecorder.propagate(recording, () -> writeArray(outputStream, writer, contentType, producer))));
+        return ResponseEntity.ok().contentType(contentType).body(body);
+    }
+
+    private static <T> Void writeArray(OutputStream outputStream, ObjectWriter writer, MediaType contentType,
+            Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+            generator.writeStartArray();
+            producer.accept(element -> {
+                try {
+                    writer.writeValue(generator, element);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        } catch (RuntimeException e) {
+            log.warn("Streamed {} response aborted: {}", contentType, e.toString());
+            throw e;
+        }
+        return null;
+    }
+
+    private static void call(Callable<Void> task) throws IOException {
+        try {
+            task.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MediaType negotiate(NativeWebRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+        for (MediaType acceptedType : accepted) {
+            for (MediaType streamable : writers.keySet()) {
+                if (acceptedType.isCompatibleWith(streamable)) {
+                    return streamable;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * One generator per response: no flush after every element and the servlet stream
+     * stays open for the framework to complete
+     */
+    private static ObjectWriter elementWriter(ObjectMapper mapper) {
+        return mapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -0,0 +1,44 @@
+package com.freightquote.dto;
+
+import java.time.Instant;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.entity.ChangeLogEntry;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.entity.ChangeLogEntry.Operation;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact change event pushed to change feed subscribers; clients refetch the entity
+ * (or use the delta-sync endpoint) when they need its full state
+ */
+@Data
+@NoArgsConstructor
+public class ChangeEventDto {
+
+    private Long sequence; // change log id, also sent as the SSE event id
+    private EntityType entityType;
+    private Long entityId;
+    private Operation operation;
+    private Instant changedAt;
+
+    // Courier rate changes only
+    private Long originId;
+    private Long destinationId;
+    private String courierName;
+    private ShippingType shippingType;
+
+    public ChangeEventDto(ChangeLogEntry entry) {
+        this.sequence = entry.getId();
+        this.entityType = entry.getEntityType();
+        this.entityId = entry.getEntityId();
+        this.operation = entry.getOperation();
+        this.changedAt = entry.getChangedAt();
+        this.originId = entry.getOriginId();
+        this.destinationId = entry.getDestinationId();
+        this.courierName = entry.getCourierName();
+        this.shippingType = entry.getShippingType();
+    }
+}
@@ -0,0 +1,31 @@
+package com.freightquote.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Courier rate changes since a delta-sync token.
+ *
+ * Apply upserts and deletes in any order, then pass token as "since" on the next call.
+ * When hasMore is true, call again straight away. It stays false while a change that has
+ * not committed yet holds the token back, even if more changes are waiting behind it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourierRateChangesDto {
+
+    private String token;
+
+    private boolean fullSync; // true when upserts is the complete rate list and the client should drop anything else
+
+    private List<CourierRateDto> upserts = new ArrayList<>();
+
+    private List<Long> deletes = new ArrayList<>(); // Tombstones: ids of rates deleted since the token
+
+    private boolean hasMore;
+}
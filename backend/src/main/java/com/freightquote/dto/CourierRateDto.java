@@ -1,11 +1,13 @@
 package com.freightquote.dto;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
 import com.freightquote.entity.AirFreightRate;
@@ -25,6 +27,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(SparseFieldsets.COURIER_RATE_FILTER)
 public class CourierRateDto {
 
 	// CourierRate fields
@@ -56,8 +59,8 @@ public class CourierRateDto {
 	private Double weightLimit;
 	private String dimensionLimit;
 	private String description;
-	private LocalDate createdAt;
-	private LocalDate updatedAt;
+	private Instant createdAt;
+	private Instant updatedAt;
 
 	// Rate fields (base class)
 	@Positive(message = "Rate must be positive")
@@ -112,8 +115,9 @@ public class CourierRateDto {
 			this.airWeightLimit = airDetails.getWeightLimit();
 			this.airDescription = airDetails.getDescription();
 		} else if (courierRate.getShippingType() == ShippingType.WATER) {
-			if (courierRate.getSeaFreightMode() == SeaFreightMode.FCL && courierRate.getFclFreightDetails() != null) {
-				var fclDetails = courierRate.getFclFreightDetails().get(0);
+			var fclRates = courierRate.getSeaFreightMode() == SeaFreightMode.FCL ? courierRate.getFclFreightDetails() : null;
+			if (fclRates != null) {
+				var fclDetails = fclRates.get(0);
 				this.documentationFee = fclDetails.getDocumentationFee();
 				this.bunkerAdjustmentRate = fclDetails.getBunkerAdjustmentRate();
 				this.terminalHandlingCharge = fclDetails.getTerminalHandlingCharge();
@@ -122,9 +126,7 @@ public class CourierRateDto {
 				var lclDetails = courierRate.getLclFreightDetails();
 				this.documentationFee = lclDetails.getDocumentationFee();
 				this.bunkerAdjustmentRate = lclDetails.getBunkerAdjustmentRate();
-				// Note: The lclServiceCharge getter will be available once the entity
-				// relationships are properly established
-				// this.lclServiceCharge = lclDetails.getLclServiceCharge();
+				this.lclServiceCharge = lclDetails.getLclServiceCharge();
 			}
 		}
 	}
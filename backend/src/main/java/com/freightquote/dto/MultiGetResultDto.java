@@ -0,0 +1,71 @@
+package com.freightquote.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.freightquote.exception.TooManyIdsException;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a bulk get-by-ids (or codes) call: the entries found, in request order with
+ * repeated keys answered once, and the requested keys that matched nothing.
+ */
+@Data
+@NoArgsConstructor
+public class MultiGetResultDto<K, T> {
+
+    private List<T> items = new ArrayList<>();
+
+    private List<K> missing = new ArrayList<>();
+
+    /**
+     * The distinct non-null keys of a request, in request order
+     *
+     * @throws TooManyIdsException when there are more than max of them
+     */
+    public static <K> Set<K> requestedKeys(Collection<K> keys, int max) {
+        Set<K> distinct = new LinkedHashSet<>();
+        if (keys != null) {
+            keys.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        if (distinct.size() > max) {
+            throw new TooManyIdsException("At most " + max + " ids per request, got " + distinct.size());
+        }
+        return distinct;
+    }
+
+    /**
+     * Arrange what a single IN query returned (in whatever order) by the requested keys
+     *
+     * @param requested Distinct keys in request order
+     * @param found     Entries loaded for those keys
+     * @param key       Key of a loaded entry, comparable with the requested keys
+     */
+    public static <K, T> MultiGetResultDto<K, T> inRequestOrder(Collection<K> requested, Collection<T> found,
+            Function<T, K> key) {
+        Map<K, T> byKey = new HashMap<>();
+        for (T entry : found) {
+            byKey.put(key.apply(entry), entry);
+        }
+
+        MultiGetResultDto<K, T> result = new MultiGetResultDto<>();
+        for (K requestedKey : requested) {
+            T entry = byKey.get(requestedKey);
+            if (entry != null) {
+                result.items.add(entry);
+            } else {
+                result.missing.add(requestedKey);
+            }
+        }
+        return result;
+    }
+}
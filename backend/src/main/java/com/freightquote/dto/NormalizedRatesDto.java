@@ -0,0 +1,39 @@
+package com.freightquote.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.Location;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rates with origin and destination written as location ids (and ratesForFCL keyed by
+ * container type id as always), plus each referenced Location and ContainerType once.
+ *
+ * Paging fields are only present for paged searches.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NormalizedRatesDto {
+
+    private List<CourierRateDto> rates = new ArrayList<>();
+
+    private Map<Long, Location> locations = new LinkedHashMap<>();
+
+    private Map<Long, ContainerType> containerTypes = new LinkedHashMap<>();
+
+    private Integer page;
+
+    private Integer size;
+
+    private Long totalElements;
+
+    private Integer totalPages;
+}
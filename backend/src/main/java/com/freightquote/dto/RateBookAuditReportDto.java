@@ -0,0 +1,78 @@
+package com.freightquote.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one rate book audit: overlapping rates per lane and runs of back-to-back
+ * periods with identical pricing that can be merged into one rate. The lists stop at
+ * rate-book-audit.max-reported entries; the counts are always complete.
+ */
+@Data
+@NoArgsConstructor
+public class RateBookAuditReportDto {
+
+    private Instant startedAt;
+
+    private long durationMs;
+
+    private int ratesScanned;
+
+    private int lanesScanned;
+
+    private int overlapCount;
+
+    private List<Overlap> overlaps = new ArrayList<>();
+
+    private int mergeCandidateCount;
+
+    private List<MergeCandidate> mergeCandidates = new ArrayList<>();
+
+    /** Whether merge candidates were merged by this run */
+    private boolean compacted;
+
+    /** Rates removed by merging (each merge keeps the first rate of the run) */
+    private int ratesMerged;
+
+    /**
+     * Two conflicting rates of the same lane valid on the same days; for FCL rates the
+     * container type they share, if any
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Overlap {
+        private String courierName;
+        private Long originId;
+        private Long destinationId;
+        private ShippingType shippingType;
+        private SeaFreightMode seaFreightMode;
+        private Long containerTypeId;
+        private Long rateId;
+        private Long otherRateId;
+        private LocalDate overlapFrom;
+        private LocalDate overlapTo;
+    }
+
+    /**
+     * Rates of one lane whose periods follow each other without a gap and price the same
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MergeCandidate {
+        private List<Long> rateIds;
+        private LocalDate effectiveFrom;
+        private LocalDate effectiveTo;
+        private boolean merged;
+    }
+}
@@ -0,0 +1,25 @@
+package com.freightquote.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a rate's history: the rate as it was recorded from recordedFrom until
+ * recordedTo (null for the current version)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateVersionDto {
+
+    private int version;
+
+    private Instant recordedFrom;
+
+    private Instant recordedTo;
+
+    private CourierRateDto rate;
+}
@@ -0,0 +1,146 @@
+package com.freightquote.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.SeaFreightRate;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Payload of a rate history version: the rate as a CourierRateDto plus every freight
+ * detail row as stored, so a version rebuilds into the entity that was priced at the time
+ * (per container type charges and currencies included) rather than the DTO's summary.
+ *
+ * Payloads recorded before the freight details were kept have none and rebuild through
+ * {@link CourierRateDto#toEntity()}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class RateVersionPayload extends CourierRateDto {
+
+    private List<FreightDetail> freightDetails;
+
+    public RateVersionPayload(CourierRate rate) {
+        super(rate);
+        this.freightDetails = new ArrayList<>();
+        if (rate.getFreightDetails() != null) {
+            for (FreightRate detail : rate.getFreightDetails()) {
+                this.freightDetails.add(new FreightDetail(detail));
+            }
+        }
+    }
+
+    @Override
+    public CourierRate toEntity() {
+        CourierRate entity = super.toEntity();
+        if (freightDetails != null) {
+            List<FreightRate> details = new ArrayList<>(freightDetails.size());
+            for (FreightDetail detail : freightDetails) {
+                details.add(detail.toEntity());
+            }
+            entity.setFreightDetails(details);
+        }
+        return entity;
+    }
+
+    /**
+     * One freight_details row, by its freight_mode discriminator
+     */
+    @Data
+    @NoArgsConstructor
+    public static class FreightDetail {
+
+        private String freightMode; // AIR, LCL or FCL
+        private BigDecimal rate;
+        private String currency;
+        private String description;
+
+        // AIR
+        private BigDecimal minimumCharge;
+        private BigDecimal fuelSurchargeRate;
+        private BigDecimal securitySurcharge;
+        private Double weightLimit;
+
+        // LCL and FCL
+        private BigDecimal documentationFee;
+        private BigDecimal bunkerAdjustmentRate;
+
+        // LCL
+        private BigDecimal lclServiceCharge;
+
+        // FCL
+        private Long containerTypeId;
+        private BigDecimal terminalHandlingCharge;
+
+        public FreightDetail(FreightRate detail) {
+            this.rate = detail.getRate();
+            this.currency = detail.getCurrency();
+            this.description = detail.getDescription();
+            if (detail instanceof SeaFreightRate sea) {
+                this.documentationFee = sea.getDocumentationFee();
+                this.bunkerAdjustmentRate = sea.getBunkerAdjustmentRate();
+            }
+            if (detail instanceof AirFreightRate air) {
+                this.freightMode = "AIR";
+                this.minimumCharge = air.getMinimumCharge();
+                this.fuelSurchargeRate = air.getFuelSurchargeRate();
+                this.securitySurcharge = air.getSecuritySurcharge();
+                this.weightLimit = air.getWeightLimit();
+            } else if (detail instanceof LCLFreightRate lcl) {
+                this.freightMode = "LCL";
+                this.lclServiceCharge = lcl.getLclServiceCharge();
+            } else if (detail instanceof FCLFreightRate fcl) {
+                this.freightMode = "FCL";
+                this.containerTypeId = fcl.getContainerType() != null ? fcl.getContainerType().getId() : null;
+                this.terminalHandlingCharge = fcl.getTerminalHandlingCharge();
+            }
+        }
+
+        public FreightRate toEntity() {
+            FreightRate detail;
+            switch (freightMode) {
+                case "AIR" -> {
+                    AirFreightRate air = new AirFreightRate();
+                    air.setMinimumCharge(minimumCharge);
+                    air.setFuelSurchargeRate(fuelSurchargeRate);
+                    air.setSecuritySurcharge(securitySurcharge);
+                    air.setWeightLimit(weightLimit);
+                    detail = air;
+                }
+                case "LCL" -> {
+                    LCLFreightRate lcl = new LCLFreightRate();
+                    lcl.setLclServiceCharge(lclServiceCharge);
+                    detail = lcl;
+                }
+                case "FCL" -> {
+                    FCLFreightRate fcl = new FCLFreightRate();
+                    fcl.setContainerType(containerTypeId != null ? new ContainerType(containerTypeId) : null);
+                    fcl.setTerminalHandlingCharge(terminalHandlingCharge);
+                    detail = fcl;
+                }
+                default -> throw new IllegalStateException("Unknown freight mode " + freightMode);
+            }
+            if (detail instanceof SeaFreightRate sea) {
+                sea.setDocumentationFee(documentationFee);
+                sea.setBunkerAdjustmentRate(bunkerAdjustmentRate);
+            }
+            detail.setRate(rate);
+            detail.setCurrency(currency);
+            detail.setDescription(description);
+            return detail;
+        }
+    }
+}
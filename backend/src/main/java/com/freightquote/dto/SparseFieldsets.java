@@ -0,0 +1,168 @@
+package com.freightquote.dto;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.freightquote.entity.Location;
+import com.freightquote.exception.InvalidFieldSelectionException;
+
+/**
+ * Sparse fieldsets for rate and quote responses, e.g. ?fields=id,courierName,rate,origin.code
+ *
+ * Plain names select CourierRateDto properties; origin.x and destination.x select Location
+ * properties (one selection shared by origin and destination, a bare origin keeps the whole
+ * location). "compact" expands to the quote projection and can be combined with other names.
+ * Filtering happens in Jackson through the {@link #COURIER_RATE_FILTER} and
+ * {@link #LOCATION_FILTER} filters, so unselected properties are never serialized.
+ * The same rate filter writes origin and destination as bare location ids for
+ * {@link NormalizedRatesDto} responses.
+ */
+public final class SparseFieldsets {
+
+    public static final String COURIER_RATE_FILTER = "courierRateFields";
+    public static final String LOCATION_FILTER = "locationFields";
+
+    public static final String COMPACT = "compact";
+
+    private static final List<String> COMPACT_FIELDS = List.of(
+            "id", "courierName", "shippingType", "seaFreightMode", "effectiveFrom", "effectiveTo", "transitDays",
+            "rate", "currency", "origin.id", "origin.code", "origin.name", "destination.id", "destination.code",
+            "destination.name");
+
+    private static final Set<String> COURIER_RATE_PROPERTIES = propertyNames(CourierRateDto.class);
+    private static final Set<String> LOCATION_PROPERTIES = propertyNames(Location.class);
+
+    private SparseFieldsets() {
+    }
+
+    /**
+     * Filters that serialize every property; the application ObjectMapper's default
+     */
+    public static FilterProvider serializeAll() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * Wrap a response body so only the selected fields are written (all when fields is blank)
+     */
+    public static MappingJacksonValue apply(Object body, String fields) {
+        return apply(body, fields, false);
+    }
+
+    /**
+     * As {@link #apply(Object, String)}, optionally writing rate origins and destinations as ids
+     */
+    public static MappingJacksonValue apply(Object body, String fields, boolean locationsAsIds) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if ((fields != null && !fields.isBlank()) || locationsAsIds) {
+            value.setFilters(parse(fields, locationsAsIds));
+        }
+        return value;
+    }
+
+    public static FilterProvider parse(String fields) {
+        return parse(fields, false);
+    }
+
+    public static FilterProvider parse(String fields, boolean locationsAsIds) {
+        if (fields == null || fields.isBlank()) {
+            return new SimpleFilterProvider()
+                    .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                    .addFilter(COURIER_RATE_FILTER, new RateFieldsFilter(null, locationsAsIds));
+        }
+
+        Set<String> rateFields = new LinkedHashSet<>();
+        Set<String> locationFields = new LinkedHashSet<>();
+        for (String field : expand(fields)) {
+            int dot = field.indexOf('.');
+            String property = dot < 0 ? field : field.substring(0, dot);
+            if (!COURIER_RATE_PROPERTIES.contains(property)) {
+                throw new InvalidFieldSelectionException("Unknown field '" + field + "'; expected one of "
+                        + COURIER_RATE_PROPERTIES + " or " + COMPACT);
+            }
+            rateFields.add(property);
+            if (dot >= 0) {
+                String nested = field.substring(dot + 1);
+                if (!("origin".equals(property) || "destination".equals(property)) || !LOCATION_PROPERTIES.contains(nested)) {
+                    throw new InvalidFieldSelectionException("Unknown field '" + field + "'; nested fields are origin.x or "
+                            + "destination.x with x one of " + LOCATION_PROPERTIES);
+                }
+                locationFields.add(nested);
+            }
+        }
+
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(COURIER_RATE_FILTER, new RateFieldsFilter(rateFields, locationsAsIds))
+                .addFilter(LOCATION_FILTER, locationFields.isEmpty()
+                        ? SimpleBeanPropertyFilter.serializeAll()
+                        : SimpleBeanPropertyFilter.filterOutAllExcept(locationFields));
+    }
+
+    /**
+     * Writes the selected rate properties (all when fields is null), with Location values
+     * reduced to their id when locationsAsIds is set
+     */
+    private static final class RateFieldsFilter extends SimpleBeanPropertyFilter {
+
+        private final Set<String> fields;
+        private final boolean locationsAsIds;
+
+        private RateFieldsFilter(Set<String> fields, boolean locationsAsIds) {
+            this.fields = fields;
+            this.locationsAsIds = locationsAsIds;
+        }
+
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return fields == null || fields.contains(writer.getName());
+        }
+
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            return fields == null || fields.contains(writer.getName());
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+                throws Exception {
+            if (locationsAsIds && include(writer) && writer instanceof BeanPropertyWriter beanWriter
+                    && beanWriter.get(pojo) instanceof Location location) {
+                gen.writeFieldName(writer.getName());
+                provider.defaultSerializeValue(location.getId(), gen);
+                return;
+            }
+            super.serializeAsField(pojo, gen, provider, writer);
+        }
+    }
+
+    private static List<String> expand(String fields) {
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .flatMap(field -> COMPACT.equals(field) ? COMPACT_FIELDS.stream() : Stream.of(field))
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> propertyNames(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
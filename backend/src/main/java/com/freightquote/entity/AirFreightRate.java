@@ -6,32 +6,20 @@ import com.freightquote.ENUM.ShippingType;
 import com.freightquote.dto.ShippingRequirementDto;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "air_freight_rates")
+@DiscriminatorValue("AIR")
 @Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
-public class AirFreightRate implements Quotable {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    // Inherited from Rate class
-    @Column(name = "rate", precision = 10, scale = 2, nullable = false)
-    private BigDecimal rate;
-
-    @Column(name = "currency", length = 3)
-    private String currency = "INR";
+public class AirFreightRate extends FreightRate {
 
     // Air freight specific properties
     @Column(name = "minimum_charge", precision = 10, scale = 2)
@@ -46,9 +34,6 @@ public class AirFreightRate implements Quotable {
     @Column(name = "weight_limit")
     private Double weightLimit; // Maximum weight in KG
     
-    @Column(length = 500)
-    private String description;
-    
     public ShippingType getShippingType() {
         return ShippingType.AIR;
     }
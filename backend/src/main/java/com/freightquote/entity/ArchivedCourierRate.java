@@ -0,0 +1,84 @@
+package com.freightquote.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A courier rate moved to courier_rates_archive by RateArchiveService, with the columns it
+ * had in courier_rates. Rows are only written by the archival job's INSERT ... SELECT.
+ */
+@Entity
+@Immutable
+@Table(name = "courier_rates_archive", indexes = {
+    @Index(name = "idx_courier_rates_archive_lane", columnList = "origin_location_id, destination_location_id, effective_to"),
+    @Index(name = "idx_courier_rates_archive_archived_at", columnList = "archived_at")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedCourierRate {
+
+    @Id
+    private Long id;
+
+    @Column(name = "courier_name", nullable = false)
+    private String courierName;
+
+    @Column(name = "origin_location_id", nullable = false)
+    private Long originLocationId;
+
+    @Column(name = "destination_location_id", nullable = false)
+    private Long destinationLocationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipping_type", nullable = false)
+    private ShippingType shippingType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sea_freight_mode")
+    private SeaFreightMode seaFreightMode;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(name = "effective_to", nullable = false)
+    private LocalDate effectiveTo;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "transit_days")
+    private Integer transitDays;
+
+    @Column(name = "weight_limit")
+    private Double weightLimit;
+
+    @Column(name = "dimension_limit")
+    private String dimensionLimit;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
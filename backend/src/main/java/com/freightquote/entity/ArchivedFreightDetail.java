@@ -0,0 +1,76 @@
+package com.freightquote.entity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A freight_details row moved to freight_details_archive along with its rate
+ * ({@link ArchivedCourierRate}), all freight modes in one table as before
+ */
+@Entity
+@Immutable
+@Table(name = "freight_details_archive", indexes = {
+    @Index(name = "idx_freight_details_archive_courier_rate", columnList = "courier_rate_id")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedFreightDetail {
+
+    @Id
+    private Long id;
+
+    @Column(name = "freight_mode", nullable = false, length = 3)
+    private String freightMode;
+
+    @Column(name = "courier_rate_id", nullable = false)
+    private Long courierRateId;
+
+    @Column(name = "rate", precision = 10, scale = 2, nullable = false)
+    private BigDecimal rate;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "minimum_charge", precision = 10, scale = 2)
+    private BigDecimal minimumCharge;
+
+    @Column(name = "fuel_surcharge_rate", precision = 5, scale = 4)
+    private BigDecimal fuelSurchargeRate;
+
+    @Column(name = "security_surcharge", precision = 10, scale = 2)
+    private BigDecimal securitySurcharge;
+
+    @Column(name = "weight_limit")
+    private Double weightLimit;
+
+    @Column(name = "documentation_fee", precision = 10, scale = 2)
+    private BigDecimal documentationFee;
+
+    @Column(name = "bunker_adjustment_rate", precision = 5, scale = 4)
+    private BigDecimal bunkerAdjustmentRate;
+
+    @Column(name = "lcl_service_charge", precision = 10, scale = 2)
+    private BigDecimal lclServiceCharge;
+
+    @Column(name = "container_type_id")
+    private Long containerTypeId;
+
+    @Column(name = "terminal_handling_charge", precision = 10, scale = 2)
+    private BigDecimal terminalHandlingCharge;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,84 @@
+package com.freightquote.entity;
+
+import java.time.Instant;
+
+import com.freightquote.ENUM.ShippingType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One committed change to a rate, location or container type.
+ *
+ * Written in the same transaction as the change itself; every backend instance tails
+ * this table by id to invalidate its local caches.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+    @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+    // Rate attributes (courier rate changes only), so change feed subscribers can filter
+    // events, including deletes, without loading the rate
+    @Column(name = "origin_id")
+    private Long originId;
+
+    @Column(name = "destination_id")
+    private Long destinationId;
+
+    @Column(name = "courier_name")
+    private String courierName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipping_type", length = 10)
+    private ShippingType shippingType;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId; // Instance that made the change
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public ChangeLogEntry(EntityType entityType, Long entityId, Operation operation, String nodeId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.nodeId = nodeId;
+        this.changedAt = Instant.now();
+    }
+
+    public enum EntityType {
+        COURIER_RATE, LOCATION, CONTAINER_TYPE
+    }
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+}
@@ -1,12 +1,15 @@
 package com.freightquote.entity;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
 import com.freightquote.dto.ShippingRequirementDto;
@@ -22,7 +25,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -63,16 +65,12 @@ public class CourierRate {
 	@Enumerated(EnumType.STRING)
 	private SeaFreightMode seaFreightMode; // Only for WATER shipping
 
-	// Relationships to specific rate details
-	@OneToOne(cascade = CascadeType.ALL, fetch = jakarta.persistence.FetchType.LAZY)
-	private AirFreightRate airFreightDetails;
-
-	@OneToOne(cascade = CascadeType.ALL, fetch = jakarta.persistence.FetchType.LAZY)
-	private LCLFreightRate lclFreightDetails;
-
-	@OneToMany(cascade = CascadeType.ALL, fetch = jakarta.persistence.FetchType.LAZY)
-	@JoinColumn(name = "courier_rate_id")
-	private List<FCLFreightRate> fclFreightDetails;
+	// All pricing components (air, LCL, FCL) live in the single freight_details table;
+	// the typed accessors below are views over this one collection
+	@OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = jakarta.persistence.FetchType.LAZY)
+	@JoinColumn(name = "courier_rate_id", nullable = false)
+	@BatchSize(size = 50)
+	private List<FreightRate> freightDetails = new ArrayList<>();
 
 	@NotNull(message = "Effective from date is required")
 	@Column(nullable = false)
@@ -98,104 +96,184 @@ public class CourierRate {
 	private String description;
 
 	@Column(name = "created_at")
-	private LocalDate createdAt;
+	private Instant createdAt;
 
 	@Column(name = "updated_at")
-	private LocalDate updatedAt;
+	private Instant updatedAt; // Microsecond precision, so same-day edits can be told apart
 
 	@PrePersist
 	protected void onCreate() {
-		createdAt = LocalDate.now();
-		updatedAt = LocalDate.now();
+		createdAt = Instant.now();
+		updatedAt = createdAt;
 	}
 
 	@PreUpdate
 	protected void onUpdate() {
-		updatedAt = LocalDate.now();
+		updatedAt = Instant.now();
+	}
+
+	public AirFreightRate getAirFreightDetails() {
+		return firstFreightDetail(AirFreightRate.class);
+	}
+
+	public void setAirFreightDetails(AirFreightRate airFreightDetails) {
+		replaceFreightDetails(AirFreightRate.class,
+				airFreightDetails != null ? List.of(airFreightDetails) : List.of());
+	}
+
+	public LCLFreightRate getLclFreightDetails() {
+		return firstFreightDetail(LCLFreightRate.class);
+	}
+
+	public void setLclFreightDetails(LCLFreightRate lclFreightDetails) {
+		replaceFreightDetails(LCLFreightRate.class,
+				lclFreightDetails != null ? List.of(lclFreightDetails) : List.of());
+	}
+
+	/**
+	 * FCL rates of this courier rate, one per container type, or null if there are none.
+	 * Copies them into a new list; the pricing methods below iterate freightDetails instead
+	 */
+	public List<FCLFreightRate> getFclFreightDetails() {
+		List<FCLFreightRate> details = getFreightDetailsOfType(FCLFreightRate.class);
+		return details.isEmpty() ? null : details;
+	}
+
+	public void setFclFreightDetails(List<FCLFreightRate> fclFreightDetails) {
+		replaceFreightDetails(FCLFreightRate.class,
+				fclFreightDetails != null ? fclFreightDetails : List.of());
+	}
+
+	private <T extends FreightRate> List<T> getFreightDetailsOfType(Class<T> type) {
+		List<T> details = new ArrayList<>();
+		if (this.freightDetails != null) {
+			for (FreightRate detail : this.freightDetails) {
+				if (type.isInstance(detail)) {
+					details.add(type.cast(detail));
+				}
+			}
+		}
+		return details;
+	}
+
+	private <T extends FreightRate> T firstFreightDetail(Class<T> type) {
+		if (this.freightDetails != null) {
+			for (FreightRate detail : this.freightDetails) {
+				if (type.isInstance(detail)) {
+					return type.cast(detail);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replace all details of the given type in place, so orphan removal still
+	 * tracks the managed collection
+	 */
+	private <T extends FreightRate> void replaceFreightDetails(Class<T> type, List<? extends T> details) {
+		if (this.freightDetails == null) {
+			this.freightDetails = new ArrayList<>();
+		}
+		List<T> replacements = new ArrayList<>(details);
+		this.freightDetails.removeIf(type::isInstance);
+		this.freightDetails.addAll(replacements);
 	}
 
 	public BigDecimal getQuotation(ShippingRequirementDto requirements) {
-		if (this.shippingType == ShippingType.AIR && this.airFreightDetails != null) {
-			return this.airFreightDetails.getQuotation(requirements);
+		if (this.shippingType == ShippingType.AIR) {
+			AirFreightRate airDetails = getAirFreightDetails();
+			return airDetails != null ? airDetails.getQuotation(requirements) : null;
 		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null) {
+				&& this.freightDetails != null) {
 			// For FCL, calculate total from all applicable container types
 			BigDecimal totalQuotation = BigDecimal.ZERO;
-			for (FCLFreightRate fclRate : this.fclFreightDetails) {
-				BigDecimal containerQuotation = fclRate.getQuotation(requirements);
-				if (containerQuotation != null) {
-					totalQuotation = totalQuotation.add(containerQuotation);
+			for (FreightRate detail : this.freightDetails) {
+				if (detail instanceof FCLFreightRate fclRate) {
+					BigDecimal containerQuotation = fclRate.getQuotation(requirements);
+					if (containerQuotation != null) {
+						totalQuotation = totalQuotation.add(containerQuotation);
+					}
 				}
 			}
 			return totalQuotation.compareTo(BigDecimal.ZERO) > 0 ? totalQuotation : null;
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL
-				&& this.lclFreightDetails != null) {
-			return this.lclFreightDetails.getQuotation(requirements);
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL) {
+			LCLFreightRate lclDetails = getLclFreightDetails();
+			return lclDetails != null ? lclDetails.getQuotation(requirements) : null;
 		}
 		return null;
 	}
 
 	public void setCurrency(String currency) {
-		if (this.shippingType == ShippingType.AIR && this.airFreightDetails != null) {
-			this.airFreightDetails.setCurrency(currency);
+		if (this.shippingType == ShippingType.AIR) {
+			AirFreightRate airDetails = getAirFreightDetails();
+			if (airDetails != null) {
+				airDetails.setCurrency(currency);
+			}
 		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null) {
+				&& this.freightDetails != null) {
 			// Set currency for all FCL rates
-			for (FCLFreightRate fclRate : this.fclFreightDetails) {
-				fclRate.setCurrency(currency);
+			for (FreightRate detail : this.freightDetails) {
+				if (detail instanceof FCLFreightRate fclRate) {
+					fclRate.setCurrency(currency);
+				}
+			}
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL) {
+			LCLFreightRate lclDetails = getLclFreightDetails();
+			if (lclDetails != null) {
+				lclDetails.setCurrency(currency);
 			}
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL
-				&& this.lclFreightDetails != null) {
-			this.lclFreightDetails.setCurrency(currency);
 		}
 	}
 
 	public String getCurrency() {
-		if (this.shippingType == ShippingType.AIR && this.airFreightDetails != null) {
-			return this.airFreightDetails.getCurrency();
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null && !this.fclFreightDetails.isEmpty()) {
+		if (this.shippingType == ShippingType.AIR) {
+			AirFreightRate airDetails = getAirFreightDetails();
+			return airDetails != null ? airDetails.getCurrency() : null;
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL) {
 			// Return currency from first FCL rate (assuming all have same currency)
-			return this.fclFreightDetails.get(0).getCurrency();
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL
-				&& this.lclFreightDetails != null) {
-			return this.lclFreightDetails.getCurrency();
+			FCLFreightRate fclRate = firstFreightDetail(FCLFreightRate.class);
+			return fclRate != null ? fclRate.getCurrency() : null;
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL) {
+			LCLFreightRate lclDetails = getLclFreightDetails();
+			return lclDetails != null ? lclDetails.getCurrency() : null;
 		}
 		return null;
 	}
 
 	public BigDecimal getRate() {
-		if (this.shippingType == ShippingType.AIR && this.airFreightDetails != null) {
-			return this.airFreightDetails.getRate();
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null && !this.fclFreightDetails.isEmpty()) {
-			// rate depends on container type, so not returning a single rate here
-			return null;
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL
-				&& this.lclFreightDetails != null) {
-			return this.lclFreightDetails.getRate();
+		if (this.shippingType == ShippingType.AIR) {
+			AirFreightRate airDetails = getAirFreightDetails();
+			return airDetails != null ? airDetails.getRate() : null;
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL) {
+			LCLFreightRate lclDetails = getLclFreightDetails();
+			return lclDetails != null ? lclDetails.getRate() : null;
 		}
+		// FCL rate depends on container type, so not returning a single rate here
 		return null;
 	}
 
 	public void setRate(BigDecimal rate) {
-		if (this.shippingType == ShippingType.AIR && this.airFreightDetails != null) {
-			this.airFreightDetails.setRate(rate);
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null) {
-			// rate depends on container type, so not setting a single rate here
-		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL
-				&& this.lclFreightDetails != null) {
-			this.lclFreightDetails.setRate(rate);
+		if (this.shippingType == ShippingType.AIR) {
+			AirFreightRate airDetails = getAirFreightDetails();
+			if (airDetails != null) {
+				airDetails.setRate(rate);
+			}
+		} else if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.LCL) {
+			LCLFreightRate lclDetails = getLclFreightDetails();
+			if (lclDetails != null) {
+				lclDetails.setRate(rate);
+			}
 		}
+		// FCL rate depends on container type, so not setting a single rate here
 	}
 
 	public Map<Long, BigDecimal> getRatesForFCL() {
 		if (this.shippingType == ShippingType.WATER && this.seaFreightMode == SeaFreightMode.FCL
-				&& this.fclFreightDetails != null) {
+				&& firstFreightDetail(FCLFreightRate.class) != null) {
 			Map<Long, BigDecimal> ratesMap = new HashMap<>();
-			for (FCLFreightRate fclRate : this.fclFreightDetails) {
-				if (fclRate.getContainerType() != null) {
+			for (FreightRate detail : this.freightDetails) {
+				if (detail instanceof FCLFreightRate fclRate && fclRate.getContainerType() != null) {
 					ratesMap.put(fclRate.getContainerType().getId(), fclRate.getRate());
 				}
 			}
@@ -228,22 +306,23 @@ public class CourierRate {
 
 	// Helper method to get FCL rate for specific container type
 	public FCLFreightRate getFclRateForContainerType(Long containerTypeId) {
-		if (this.fclFreightDetails != null) {
-			return this.fclFreightDetails.stream()
-					.filter(rate -> rate.getContainerType() != null &&
-							rate.getContainerType().getId().equals(containerTypeId))
-					.findFirst()
-					.orElse(null);
+		if (this.freightDetails != null) {
+			for (FreightRate detail : this.freightDetails) {
+				if (detail instanceof FCLFreightRate fclRate && fclRate.getContainerType() != null
+						&& fclRate.getContainerType().getId().equals(containerTypeId)) {
+					return fclRate;
+				}
+			}
 		}
 		return null;
 	}
 
 	// Helper method to add FCL rate for specific container type
 	public void addFclRate(FCLFreightRate fclRate) {
-		if (this.fclFreightDetails == null) {
-			this.fclFreightDetails = new ArrayList<>();
+		if (this.freightDetails == null) {
+			this.freightDetails = new ArrayList<>();
 		}
 		// fclRate.setCourierRate(this); // Set the back reference
-		this.fclFreightDetails.add(fclRate);
+		this.freightDetails.add(fclRate);
 	}
 }
@@ -0,0 +1,125 @@
+package com.freightquote.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One version of a courier rate, never modified except to close it.
+ *
+ * Valid time is the rate's effective dates; transaction time is recordedFrom up to
+ * recordedTo (null while it is the current version). The columns used for filtering are
+ * copies of what the payload (a RateVersionPayload in JSON) contains, FCL container types
+ * in a child table.
+ */
+@Entity
+@Table(name = "courier_rate_versions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_courier_rate_versions_rate_version", columnNames = { "rate_id", "version" })
+}, indexes = {
+    @Index(name = "idx_courier_rate_versions_lane", columnList = "origin_id, destination_id, recorded_from"),
+    @Index(name = "idx_courier_rate_versions_recorded", columnList = "recorded_from, recorded_to")
+})
+@Data
+@NoArgsConstructor
+public class CourierRateVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rate_id", nullable = false)
+    private Long rateId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(name = "courier_name")
+    private String courierName;
+
+    @Column(name = "origin_id")
+    private Long originId;
+
+    @Column(name = "destination_id")
+    private Long destinationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shipping_type", length = 10)
+    private ShippingType shippingType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sea_freight_mode", length = 10)
+    private SeaFreightMode seaFreightMode;
+
+    @Column(name = "effective_from")
+    private LocalDate effectiveFrom;
+
+    @Column(name = "effective_to")
+    private LocalDate effectiveTo;
+
+    @Column(name = "transit_days")
+    private Integer transitDays;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(length = 500)
+    private String description;
+
+    @ElementCollection
+    @CollectionTable(name = "courier_rate_version_container_types",
+            joinColumns = @JoinColumn(name = "version_id"),
+            indexes = @Index(name = "idx_courier_rate_version_container_types_type", columnList = "container_type_id"))
+    @Column(name = "container_type_id", nullable = false)
+    private Set<Long> containerTypeIds = new LinkedHashSet<>();
+
+    @Column(name = "recorded_from", nullable = false)
+    private Instant recordedFrom;
+
+    @Column(name = "recorded_to")
+    private Instant recordedTo;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    public CourierRateVersion(CourierRate rate, int version, String payload, Instant recordedFrom) {
+        this.rateId = rate.getId();
+        this.version = version;
+        this.courierName = rate.getCourierName();
+        this.originId = rate.getOrigin() != null ? rate.getOrigin().getId() : null;
+        this.destinationId = rate.getDestination() != null ? rate.getDestination().getId() : null;
+        this.shippingType = rate.getShippingType();
+        this.seaFreightMode = rate.getSeaFreightMode();
+        this.effectiveFrom = rate.getEffectiveFrom();
+        this.effectiveTo = rate.getEffectiveTo();
+        this.transitDays = rate.getTransitDays();
+        this.isActive = rate.getIsActive();
+        this.description = rate.getDescription();
+        if (rate.getRatesForFCL() != null) {
+            this.containerTypeIds.addAll(rate.getRatesForFCL().keySet());
+        }
+        this.payload = payload;
+        this.recordedFrom = recordedFrom;
+    }
+}
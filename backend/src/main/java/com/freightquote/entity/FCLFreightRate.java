@@ -6,43 +6,22 @@ import java.util.Map;
 import com.freightquote.dto.ShippingRequirementDto;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "fcl_freight_rates")
+@DiscriminatorValue("FCL")
 @Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
-public class FCLFreightRate implements Quotable {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    // Base rate properties
-    @Column(name = "rate", precision = 10, scale = 2, nullable = false)
-    private BigDecimal rate;
-
-    @Column(name = "currency", length = 3)
-    private String currency = "INR";
-
-    // Sea freight properties
-    @Column(name = "documentation_fee", precision = 10, scale = 2)
-    private BigDecimal documentationFee = BigDecimal.valueOf(0);
-
-    @Column(name = "bunker_adjustment_rate", precision = 5, scale = 4)
-    private BigDecimal bunkerAdjustmentRate = BigDecimal.valueOf(0);
-
-    @Column(name = "description", length = 500)
-    private String description;
+public class FCLFreightRate extends SeaFreightRate {
 
     // FCL-specific properties
     @ManyToOne
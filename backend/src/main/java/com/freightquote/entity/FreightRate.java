@@ -0,0 +1,47 @@
+package com.freightquote.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorColumn;
+import jakarta.persistence.DiscriminatorType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Common base for all pricing components of a CourierRate.
+ * Air, LCL and FCL details are stored in the single freight_details table,
+ * distinguished by the freight_mode column, so a rate and all of its pricing
+ * components can be loaded with one indexed read on courier_rate_id.
+ */
+@Entity
+@Table(name = "freight_details", indexes = {
+        @Index(name = "idx_freight_details_courier_rate", columnList = "courier_rate_id")
+})
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@DiscriminatorColumn(name = "freight_mode", discriminatorType = DiscriminatorType.STRING, length = 3)
+@Data
+@NoArgsConstructor
+public abstract class FreightRate implements Quotable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rate", precision = 10, scale = 2, nullable = false)
+    private BigDecimal rate;
+
+    @Column(name = "currency", length = 3)
+    private String currency = "INR";
+
+    @Column(name = "description", length = 500)
+    private String description;
+}
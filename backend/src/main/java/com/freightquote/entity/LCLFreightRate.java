@@ -5,41 +5,20 @@ import java.math.BigDecimal;
 import com.freightquote.dto.ShippingRequirementDto;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "lcl_freight_rates")
+@DiscriminatorValue("LCL")
 @Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
-public class LCLFreightRate implements Quotable {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    // Inherited from Rate class
-    @Column(name = "rate", precision = 10, scale = 2, nullable = false)
-    private BigDecimal rate;
-
-    @Column(name = "currency", length = 3)
-    private String currency = "INR";
-
-    // Inherited from SeaFreightRate class
-    @Column(name = "documentation_fee", precision = 10, scale = 2)
-    private BigDecimal documentationFee = BigDecimal.valueOf(0);
-
-    @Column(name = "bunker_adjustment_rate", precision = 5, scale = 4)
-    private BigDecimal bunkerAdjustmentRate = BigDecimal.valueOf(0);
-
-    @Column(name = "description", length = 500)
-    private String description;
+public class LCLFreightRate extends SeaFreightRate {
 
     // LCL-specific properties
     @Column(name = "lcl_service_charge", precision = 10, scale = 2)
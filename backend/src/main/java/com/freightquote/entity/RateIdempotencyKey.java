@@ -0,0 +1,52 @@
+package com.freightquote.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency key of a rate upsert, with a hash of the request it was first used for
+ * and the response that request got (status and body as JSON). The row is inserted
+ * before the rate is written, so the response columns are set by the time it commits.
+ */
+@Entity
+@Table(name = "rate_idempotency_keys", indexes = {
+    @Index(name = "idx_rate_idempotency_keys_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+public class RateIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 128)
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // SHA-256 of the request body, hex
+
+    @Column(name = "rate_id")
+    private Long rateId;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public RateIdempotencyKey(String key, String requestHash) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,23 @@
+package com.freightquote.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lock row of a rate lane, see RateLaneLocks. Mapped only so the schema has the table;
+ * rows are inserted and locked with plain SQL.
+ */
+@Entity
+@Table(name = "rate_lane_locks")
+@Data
+@NoArgsConstructor
+public class RateLaneLock {
+
+    @Id
+    @Column(name = "lane_key", length = 64)
+    private String laneKey; // SHA-256 of the lane, hex
+}
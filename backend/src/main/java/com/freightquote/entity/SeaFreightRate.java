@@ -0,0 +1,27 @@
+package com.freightquote.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Charges shared by LCL and FCL sea freight
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public abstract class SeaFreightRate extends FreightRate {
+
+    @Column(name = "documentation_fee", precision = 10, scale = 2)
+    private BigDecimal documentationFee = BigDecimal.valueOf(0);
+
+    @Column(name = "bunker_adjustment_rate", precision = 5, scale = 4)
+    private BigDecimal bunkerAdjustmentRate = BigDecimal.valueOf(0);
+}
@@ -0,0 +1,11 @@
+package com.freightquote.exception;
+
+/**
+ * Exception thrown when a delta-sync token is unknown or older than the retained change log
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+    
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.freightquote.exception;
+
+/**
+ * Exception thrown when a request runs past the deadline supplied by its caller
+ */
+public class DeadlineExceededException extends RuntimeException {
+    
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
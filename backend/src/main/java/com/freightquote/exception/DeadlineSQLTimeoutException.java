@@ -0,0 +1,15 @@
+package com.freightquote.exception;
+
+import java.sql.SQLTimeoutException;
+
+/**
+ * Thrown by the JDBC layer instead of handing out a connection or statement once the
+ * request deadline has passed. It usually reaches the web layer wrapped by Hibernate or
+ * Spring (e.g. CannotCreateTransactionException), so handlers look for it in the cause chain.
+ */
+public class DeadlineSQLTimeoutException extends SQLTimeoutException {
+
+    public DeadlineSQLTimeoutException(String message) {
+        super(message);
+    }
+}
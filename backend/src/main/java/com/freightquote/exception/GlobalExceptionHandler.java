@@ -1,15 +1,23 @@
 package com.freightquote.exception;
 
+import org.hibernate.JDBCException;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import com.freightquote.dto.DuplicateRateErrorDto;
 import com.freightquote.dto.ErrorResponseDto;
+import com.freightquote.filter.RequestDeadline;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -40,6 +48,131 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    /**
+     * Handle requests that ran out of their caller-supplied deadline, either before
+     * a query was issued or through a JDBC query timeout derived from it
+     */
+    @ExceptionHandler({ DeadlineExceededException.class, QueryTimeoutException.class })
+    public ResponseEntity<ErrorResponseDto> handleDeadlineExceeded(
+            RuntimeException ex, WebRequest request) {
+        return deadlineExceeded(RequestDeadline.findTimeout(ex), request);
+    }
+    
+    /**
+     * Handle database failures: those caused by the request deadline (no connection or
+     * statement handed out, or a query timeout, wrapped by Spring or Hibernate) are 504s,
+     * the rest are unexpected
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, JDBCException.class, DataAccessException.class })
+    public ResponseEntity<ErrorResponseDto> handleDatabaseFailure(
+            Exception ex, WebRequest request) {
+        
+        Throwable timeout = RequestDeadline.findTimeout(ex);
+        if (timeout != null) {
+            return deadlineExceeded(timeout, request);
+        }
+        return handleGenericException(ex, request);
+    }
+    
+    private ResponseEntity<ErrorResponseDto> deadlineExceeded(Throwable timeout, WebRequest request) {
+        // The timeout itself, not its wrappers: their messages carry the SQL
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            "Gateway Timeout",
+            "Request deadline exceeded: " + timeout.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+    
+    /**
+     * Handle delta-sync tokens that can no longer be served; the client must do a full resync
+     */
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponseDto> handleChangeTokenExpired(
+            ChangeTokenExpiredException ex, WebRequest request) {
+        
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.GONE.value(),
+            "Gone",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+    
+    /**
+     * Handle fields= selections that name unknown properties
+     */
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidFieldSelection(
+            InvalidFieldSelectionException ex, WebRequest request) {
+        
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
+    /**
+     * Handle idempotency keys that are malformed or reused for a different request
+     */
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponseDto> handleIdempotencyKey(
+            IdempotencyKeyException ex, WebRequest request) {
+        
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.UNPROCESSABLE_ENTITY.value(),
+            "Unprocessable Entity",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+    
+    /**
+     * Handle writes that could not get their rate lane (or a row) locked in time; safe to retry
+     */
+    @ExceptionHandler(CannotAcquireLockException.class)
+    public ResponseEntity<ErrorResponseDto> handleCannotAcquireLock(
+            CannotAcquireLockException ex, WebRequest request) {
+        
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
+    /**
+     * Handle bulk gets over the id limit
+     */
+    @ExceptionHandler(TooManyIdsException.class)
+    public ResponseEntity<ErrorResponseDto> handleTooManyIds(
+            TooManyIdsException ex, WebRequest request) {
+        
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
     /**
      * Handle IllegalArgumentException (business logic violations)
      */
@@ -96,6 +229,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
+    /**
+     * Client went away in the middle of a streamed response; there is no one left
+     * to write an error body to
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleClientDisconnect(AsyncRequestNotUsableException ex) {
+        // Nothing to send
+    }
+    
     /**
      * Handle generic exceptions
      */
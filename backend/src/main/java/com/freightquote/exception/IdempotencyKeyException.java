@@ -0,0 +1,11 @@
+package com.freightquote.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is malformed or was already used for a different request
+ */
+public class IdempotencyKeyException extends RuntimeException {
+    
+    public IdempotencyKeyException(String message) {
+        super(message);
+    }
+}
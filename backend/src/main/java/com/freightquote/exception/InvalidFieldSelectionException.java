@@ -0,0 +1,11 @@
+package com.freightquote.exception;
+
+/**
+ * Exception thrown when a fields= parameter names a property the response does not have
+ */
+public class InvalidFieldSelectionException extends RuntimeException {
+    
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.freightquote.exception;
+
+/**
+ * Exception thrown when a bulk get asks for more ids or codes than bulk-get.max-ids allows
+ */
+public class TooManyIdsException extends RuntimeException {
+    
+    public TooManyIdsException(String message) {
+        super(message);
+    }
+}
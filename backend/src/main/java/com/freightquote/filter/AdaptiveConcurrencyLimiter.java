@@ -0,0 +1,148 @@
+package com.freightquote.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to observed request latency (TCP Vegas style).
+ *
+ * The limiter tracks the lowest latency seen recently as the "no load" latency. When
+ * measured latency rises above it, the difference is treated as queueing: the estimated
+ * queue is limit * (1 - noLoadLatency / latency). A short queue grows the limit, a long
+ * queue shrinks it, so the limit converges on the concurrency the backend (Tomcat, Hikari,
+ * MySQL) can actually sustain instead of letting requests pile up in front of the pool.
+ *
+ * Each priority may only use a share of the limit, so lower classes are shed first and
+ * the remaining headroom is kept for higher ones.
+ *
+ * Uses a lock instead of synchronized so virtual threads are never pinned.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        /** Admin writes: may use the whole limit */
+        CRITICAL(1.0),
+        /** Interactive quotes and searches */
+        INTERACTIVE(0.9),
+        /** Bulk and batch callers: shed first */
+        BATCH(0.5);
+
+        private final double limitShare;
+
+        Priority(double limitShare) {
+            this.limitShare = limitShare;
+        }
+    }
+
+    /** Re-probe the no-load latency after this many samples, so it can recover after a slow period */
+    private static final int NO_LOAD_RESET_SAMPLES = 1000;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile long noLoadRttNanos = Long.MAX_VALUE;
+    private volatile long smoothedRttNanos;
+    private int samplesSinceReset;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Try to admit a request; every successful call must be paired with {@link #release(long, int)}
+     *
+     * @return the number of requests in flight when this one was admitted, or -1 if rejected
+     */
+    public int tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.limitShare));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and feed its latency into the limit
+     */
+    public void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        updateLock.lock();
+        try {
+            update(rttNanos, inflightAtStart);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int inflightAtStart) {
+        smoothedRttNanos = smoothedRttNanos == 0
+                ? rttNanos
+                : (long) (smoothedRttNanos * (1 - SMOOTHING) + rttNanos * SMOOTHING);
+
+        if (++samplesSinceReset >= NO_LOAD_RESET_SAMPLES) {
+            samplesSinceReset = 0;
+            noLoadRttNanos = rttNanos;
+        } else if (rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        double currentLimit = limit;
+
+        // Not enough load to tell whether a higher limit would help
+        if (inflightAtStart * 2 < currentLimit) {
+            return;
+        }
+
+        double log = Math.max(1, Math.log10(currentLimit));
+        double alpha = 3 * log;
+        double beta = 6 * log;
+        double queueSize = Math.ceil(currentLimit * (1 - (double) noLoadRttNanos / rttNanos));
+
+        double newLimit;
+        if (queueSize <= log) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + log;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - log;
+        } else {
+            return;
+        }
+
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Suggested client back-off in whole seconds, based on current latency
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(smoothedRttNanos * 2));
+    }
+}
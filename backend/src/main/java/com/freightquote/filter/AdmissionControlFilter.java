@@ -0,0 +1,228 @@
+package com.freightquote.filter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freightquote.dto.ErrorResponseDto;
+import com.freightquote.filter.AdaptiveConcurrencyLimiter.Priority;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for the API.
+ *
+ * Requests are admitted against an {@link AdaptiveConcurrencyLimiter} whose limit follows
+ * the measured latency of the admitted requests themselves. When the limit for a request's
+ * priority is reached it is rejected immediately with 429 and a Retry-After header instead
+ * of queueing on the Tomcat and Hikari pools.
+ *
+ * Streamed responses (NDJSON quotes, streamed rate lists) keep their permit until the
+ * async request completes, errors or times out, and are sampled with that full round
+ * trip: their database reads run on the async thread and load the server like any other
+ * request.
+ *
+ * Priorities: writes (POST/PUT/PATCH/DELETE outside the read-only search/quote endpoints)
+ * are CRITICAL, callers that send "X-Request-Priority: batch" are BATCH, everything else
+ * (quotes, searches, lookups) is INTERACTIVE.
+ *
+ * gRPC calls are admitted against the same limiter by
+ * {@link com.freightquote.grpc.AdmissionServerInterceptor}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String PRIORITY_HEADER = "X-Request-Priority";
+
+    /** POST endpoints that only read and are therefore not admin writes */
+    private static final List<String> READ_ONLY_POST_PATHS = List.of(
+            "/api/quotes/**",
+            "/api/courier-rates/search-advanced");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${admission-control.enabled:true}")
+    private boolean enabled;
+
+    @Value("${admission-control.paths:/api/**}")
+    private String[] governedPaths;
+
+    /** Long-lived streams (e.g. the change feed) would hold a permit for their whole lifetime */
+    @Value("${admission-control.excluded-paths:/api/changes/stream}")
+    private String[] excludedPaths;
+
+    public AdmissionControlFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${admission-control.initial-limit:20}") int initialLimit,
+            @Value("${admission-control.min-limit:4}") int minLimit,
+            @Value("${admission-control.max-limit:200}") int maxLimit) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Requests currently admitted")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The limiter shared by all transports, so REST and gRPC traffic adapt one limit
+     */
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Count a request shed by admission control
+     */
+    public void recordRejection(Priority priority) {
+        Counter.builder("admission.rejected")
+                .description("Requests shed by admission control")
+                .tag("priority", priority.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return Arrays.stream(governedPaths).noneMatch(pattern -> pathMatcher.match(pattern.trim(), path))
+                || Arrays.stream(excludedPaths).anyMatch(pattern -> pathMatcher.match(pattern.trim(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Priority priority = classify(request);
+        int inflightAtStart = limiter.tryAcquire(priority);
+        if (inflightAtStart < 0) {
+            reject(request, response, priority);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(startNanos, inflightAtStart));
+            } else {
+                limiter.release(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of an async request once, on whichever of complete, error or
+     * timeout comes first (a timeout or error is followed by complete)
+     */
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final long startNanos;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register for a re-started async cycle, or the permit would never be released
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private Priority classify(HttpServletRequest request) {
+        String requested = request.getHeader(PRIORITY_HEADER);
+        if (requested != null && requested.trim().equalsIgnoreCase("batch")) {
+            return Priority.BATCH;
+        }
+
+        String method = request.getMethod();
+        boolean write = HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method) || HttpMethod.DELETE.matches(method);
+        String path = request.getRequestURI();
+        if (write && READ_ONLY_POST_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return Priority.CRITICAL;
+        }
+        return Priority.INTERACTIVE;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Priority priority) throws IOException {
+        recordRejection(priority);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            "Server is at capacity for " + priority.name().toLowerCase() + " requests, please retry later",
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
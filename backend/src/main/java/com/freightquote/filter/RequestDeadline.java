@@ -0,0 +1,109 @@
+package com.freightquote.filter;
+
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Callable;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import com.freightquote.exception.DeadlineExceededException;
+
+/**
+ * Holds the end-to-end deadline of the request handled by the current thread.
+ *
+ * The deadline is set by {@link RequestDeadlineFilter} and read by the JDBC layer
+ * to derive statement query timeouts. Work handed to another thread (for example a
+ * virtual-thread executor) must be wrapped with {@link #propagate(Callable)} to keep it.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void startMillis(long budgetMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + budgetMillis * 1_000_000L);
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * Remaining budget in milliseconds, or Long.MAX_VALUE if no deadline applies
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return (deadline - System.nanoTime()) / 1_000_000L;
+    }
+
+    /**
+     * Fail fast if the deadline has already passed
+     */
+    public static void check() {
+        if (remainingMillis() <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded");
+        }
+    }
+
+    /**
+     * The innermost deadline or query timeout failure behind the given exception, however
+     * deeply it is wrapped (Spring and Hibernate wrap JDBC errors several times), or null
+     */
+    public static Throwable findTimeout(Throwable throwable) {
+        Throwable timeout = null;
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof DeadlineExceededException || cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTimeoutException) {
+                timeout = cause;
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * The deadline of the current thread as a System.nanoTime() value, or null if none
+     * is set. Lets work that hops threads several times (a Flux reading batch after
+     * batch) capture the deadline once and {@link #propagate(Long, Callable)} it to every step.
+     */
+    public static Long currentNanos() {
+        return DEADLINE_NANOS.get();
+    }
+
+    /**
+     * Wrap a task so that it runs under the deadline of the submitting thread
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        return propagate(DEADLINE_NANOS.get(), task);
+    }
+
+    /**
+     * Wrap a task so that it runs under the given deadline (see {@link #currentNanos()}),
+     * or unchanged if it is null
+     */
+    public static <T> Callable<T> propagate(Long deadline, Callable<T> task) {
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = DEADLINE_NANOS.get();
+            DEADLINE_NANOS.set(deadline);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    DEADLINE_NANOS.set(previous);
+                } else {
+                    DEADLINE_NANOS.remove();
+                }
+            }
+        };
+    }
+}
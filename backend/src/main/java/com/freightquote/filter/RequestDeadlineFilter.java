@@ -0,0 +1,90 @@
+package com.freightquote.filter;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freightquote.dto.ErrorResponseDto;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Reads the caller's remaining time budget from the X-Request-Deadline-Ms header
+ * (milliseconds, relative so clock skew between hosts does not matter) and makes it
+ * available to the JDBC layer through {@link RequestDeadline}.
+ *
+ * Budgets are capped at request-deadline.max-ms; requests without the header get
+ * request-deadline.default-ms (0 = no deadline).
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline-Ms";
+
+    @Value("${request-deadline.default-ms:0}")
+    private long defaultBudgetMillis;
+
+    @Value("${request-deadline.max-ms:30000}")
+    private long maxBudgetMillis;
+
+    private final ObjectMapper objectMapper;
+
+    public RequestDeadlineFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Long budgetMillis = resolveBudget(request.getHeader(DEADLINE_HEADER));
+        if (budgetMillis == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (budgetMillis <= 0) {
+            // Caller has already given up; do not queue for a connection
+            writeDeadlineExceeded(request, response);
+            return;
+        }
+
+        RequestDeadline.startMillis(budgetMillis);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private Long resolveBudget(String header) {
+        if (header != null && !header.isBlank()) {
+            try {
+                return Math.min(Long.parseLong(header.trim()), maxBudgetMillis);
+            } catch (NumberFormatException e) {
+                // Malformed header: fall back to the default budget
+            }
+        }
+        return defaultBudgetMillis > 0 ? Math.min(defaultBudgetMillis, maxBudgetMillis) : null;
+    }
+
+    private void writeDeadlineExceeded(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            "Gateway Timeout",
+            "Request deadline already exceeded",
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
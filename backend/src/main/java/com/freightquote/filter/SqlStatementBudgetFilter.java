@@ -0,0 +1,248 @@
+package com.freightquote.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.freightquote.filter.SqlStatementRecorder.Recording;
+import com.freightquote.filter.SqlStatementRecorder.Statement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Per-request SQL statement budget and N+1 detector.
+ *
+ * Counts the statements each API request issues. Budgets are configured per endpoint
+ * pattern in sql-budget.endpoints (first match wins, otherwise sql-budget.default).
+ * Requests over budget are logged with the statements that were repeated and the
+ * application call site that issued them. The count so far is also sent in the
+ * X-SQL-Statement-Count response header, so a harness can assert exact counts per
+ * endpoint.
+ *
+ * Streamed responses propagate the recording to the threads that write them (see
+ * {@link SqlStatementRecorder#propagate}); they are checked and measured once the async
+ * request completes, and their header only counts the statements before the first byte.
+ */
+@Component
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sql-budget.default:10}")
+    private int defaultBudget;
+
+    /** Endpoint pattern ("METHOD /path/**" or "/path/**") to statement budget, checked in order */
+    @Value("#{${sql-budget.endpoints:{:}}}")
+    private LinkedHashMap<String, Integer> endpointBudgets;
+
+    @Value("${sql-budget.expose-header:true}")
+    private boolean exposeHeader;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Recording recording = SqlStatementRecorder.start();
+        CountHeaderResponse countedResponse = exposeHeader ? new CountHeaderResponse(response, recording) : null;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, countedResponse != null ? countedResponse : response);
+            async = request.isAsyncStarted();
+        } finally {
+            SqlStatementRecorder.clear();
+            if (countedResponse != null) {
+                // Responses without a body are still uncommitted here
+                countedResponse.writeHeader();
+            }
+            if (async) {
+                String method = request.getMethod();
+                String path = request.getRequestURI();
+                request.getAsyncContext().addListener(new CheckOnCompletion(method, path, recording));
+            } else {
+                check(request.getMethod(), request.getRequestURI(), recording);
+            }
+        }
+    }
+
+    private void check(String method, String path, Recording recording) {
+        Map.Entry<String, Integer> budget = budgetFor(method, path);
+        String endpoint = budget != null ? budget.getKey() : "default";
+        int limit = budget != null ? budget.getValue() : defaultBudget;
+
+        DistributionSummary.builder("http.sql.statements")
+                .description("SQL statements issued per API request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(recording.getCount());
+
+        if (recording.getCount() <= limit) {
+            return;
+        }
+
+        Counter.builder("http.sql.budget.exceeded")
+                .description("API requests that issued more SQL statements than their budget")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+
+        String repeated = recording.getStatements().values().stream()
+                .filter(statement -> statement.getCount() > 1)
+                .sorted(Comparator.comparingInt(Statement::getCount).reversed())
+                .limit(5)
+                .map(statement -> String.format("%n  %dx at %s: %s", statement.getCount(), statement.getCallSite(),
+                        abbreviate(statement.getSql())))
+                .collect(Collectors.joining());
+
+        log.warn("SQL statement budget exceeded: {} {} issued {} statements (budget {} for '{}'){}",
+                method, path, recording.getCount(), limit, endpoint,
+                repeated.isEmpty() ? "" : "; repeated statements (possible N+1):" + repeated);
+    }
+
+    private Map.Entry<String, Integer> budgetFor(String method, String path) {
+        if (endpointBudgets == null) {
+            return null;
+        }
+        for (Map.Entry<String, Integer> entry : endpointBudgets.entrySet()) {
+            String pattern = entry.getKey().trim();
+            int space = pattern.indexOf(' ');
+            if (space > 0) {
+                if (!pattern.substring(0, space).equalsIgnoreCase(method)) {
+                    continue;
+                }
+                pattern = pattern.substring(space + 1).trim();
+            }
+            if (pathMatcher.match(pattern, path)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > 200 ? singleLine.substring(0, 200) + "..." : singleLine;
+    }
+
+    /**
+     * Checks a streamed request once, when it completes, errors or times out (a timeout
+     * or error is followed by complete)
+     */
+    private final class CheckOnCompletion implements AsyncListener {
+
+        private final String method;
+        private final String path;
+        private final Recording recording;
+        private final AtomicBoolean checked = new AtomicBoolean();
+
+        CheckOnCompletion(String method, String path, Recording recording) {
+            this.method = method;
+            this.path = path;
+            this.recording = recording;
+        }
+
+        private void check() {
+            if (checked.compareAndSet(false, true)) {
+                SqlStatementBudgetFilter.this.check(method, path, recording);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            check();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            check();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            check();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Adds the statement count header just before the response body is first written,
+     * while headers can still be set
+     */
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final Recording recording;
+        private boolean headerWritten;
+
+        CountHeaderResponse(HttpServletResponse response, Recording recording) {
+            super(response);
+            this.recording = recording;
+        }
+
+        private void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(STATEMENT_COUNT_HEADER, String.valueOf(recording.getCount()));
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+    }
+}
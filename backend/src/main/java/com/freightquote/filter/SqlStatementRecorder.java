@@ -0,0 +1,164 @@
+package com.freightquote.filter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Counts the SQL statements issued by the request handled by the current thread.
+ *
+ * Statements are reported by {@link com.freightquote.config.CountingStatementInspector}
+ * and grouped by SQL text. On the second execution of the same SQL the application
+ * frame that issued it is remembered, which is where an N+1 loop lives. Work a request
+ * hands to another thread (a streamed response body, the batches of a streamed Flux) is
+ * wrapped with {@link #propagate(Recording, Callable)} to be counted with it.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private static final ThreadLocal<List<String>> CAPTURE = new ThreadLocal<>();
+
+    /** Statements kept per capture; enough to show a query, its count query and a few lazy loads */
+    private static final int MAX_CAPTURED = 10;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static Recording start() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The recording of the current thread, or null outside a counted request
+     */
+    public static Recording current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wrap a task so that its statements count towards the given recording (see
+     * {@link #current()}), or unchanged if it is null
+     */
+    public static <T> Callable<T> propagate(Recording recording, Callable<T> task) {
+        if (recording == null) {
+            return task;
+        }
+        return () -> {
+            Recording previous = CURRENT.get();
+            CURRENT.set(recording);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+        List<String> captured = CAPTURE.get();
+        if (captured != null && captured.size() < MAX_CAPTURED) {
+            captured.add(sql);
+        }
+    }
+
+    /**
+     * Collect the SQL text of the statements issued on this thread until {@link #stopCapture()}
+     */
+    public static List<String> startCapture() {
+        List<String> captured = new ArrayList<>();
+        CAPTURE.set(captured);
+        return captured;
+    }
+
+    public static void stopCapture() {
+        CAPTURE.remove();
+    }
+
+    /**
+     * Statements of one request; may be added to from the threads its work is handed to,
+     * one at a time
+     */
+    public static final class Recording {
+
+        private int count;
+        private final Map<String, Statement> statements = new LinkedHashMap<>();
+
+        private synchronized void add(String sql) {
+            count++;
+            Statement statement = statements.computeIfAbsent(sql, Statement::new);
+            statement.count++;
+            if (statement.count == 2) {
+                statement.callSite = findCallSite();
+            }
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        public synchronized Map<String, Statement> getStatements() {
+            return statements;
+        }
+    }
+
+    /**
+     * One distinct SQL string with its execution count
+     */
+    public static final class Statement {
+
+        private final String sql;
+        private int count;
+        private String callSite;
+
+        private Statement(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * First application frame (outside entities, filters and config) that triggered the
+         * repeated statement; for lazy loads this is the code that walked the association
+         */
+        public String getCallSite() {
+            return callSite;
+        }
+    }
+
+    private static String findCallSite() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("com.freightquote.")
+                        && !f.getClassName().startsWith("com.freightquote.entity.")
+                        && !f.getClassName().startsWith("com.freightquote.filter.")
+                        && !f.getClassName().startsWith("com.freightquote.config."))
+                .findFirst());
+        return frame.map(f -> f.getClassName() + "." + f.getMethodName() + "(" + f.getFileName() + ":" + f.getLineNumber() + ")")
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,114 @@
+package com.freightquote.grpc;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.freightquote.filter.AdaptiveConcurrencyLimiter;
+import com.freightquote.filter.AdaptiveConcurrencyLimiter.Priority;
+import com.freightquote.filter.AdmissionControlFilter;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * gRPC counterpart of AdmissionControlFilter: calls are admitted against the same
+ * {@link AdaptiveConcurrencyLimiter}, so quotes over gRPC and REST share one adaptive
+ * limit. All quote calls are INTERACTIVE unless the client sends
+ * "x-request-priority: batch"; calls over the limit fail with RESOURCE_EXHAUSTED and a
+ * retry-after trailer.
+ *
+ * The permit is held until the call closes or is cancelled, so a streaming call counts
+ * for as long as it reads from the database, and the whole call is the latency sample.
+ */
+@Component
+public class AdmissionServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> PRIORITY_KEY = Metadata.Key.of(
+            AdmissionControlFilter.PRIORITY_HEADER.toLowerCase(), Metadata.ASCII_STRING_MARSHALLER);
+
+    static final Metadata.Key<String> RETRY_AFTER_KEY = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final ServerCall.Listener<?> NOOP_LISTENER = new ServerCall.Listener<>() {
+    };
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        if (!admissionControlFilter.isEnabled()) {
+            return next.startCall(call, headers);
+        }
+
+        AdaptiveConcurrencyLimiter limiter = admissionControlFilter.getLimiter();
+        String requested = headers.get(PRIORITY_KEY);
+        Priority priority = requested != null && requested.trim().equalsIgnoreCase("batch")
+                ? Priority.BATCH
+                : Priority.INTERACTIVE;
+        int inflightAtStart = limiter.tryAcquire(priority);
+        if (inflightAtStart < 0) {
+            admissionControlFilter.recordRejection(priority);
+            Metadata trailers = new Metadata();
+            trailers.put(RETRY_AFTER_KEY, String.valueOf(limiter.getRetryAfterSeconds()));
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription(
+                    "Server is at capacity for " + priority.name().toLowerCase() + " requests, please retry later"),
+                    trailers);
+            return (ServerCall.Listener<ReqT>) NOOP_LISTENER;
+        }
+
+        long startNanos = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        };
+
+        ServerCall<ReqT, RespT> releasingCall = new SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                try {
+                    super.close(status, trailers);
+                } finally {
+                    release.run();
+                }
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(releasingCall, headers);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+        return new SimpleForwardingServerCallListener<>(listener) {
+            // A cancelled call (client gone, deadline passed) may never be closed by the handler
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    release.run();
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    release.run();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.freightquote.grpc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.freightquote.filter.RequestDeadline;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * gRPC counterpart of RequestDeadlineFilter: the call's deadline becomes the
+ * {@link RequestDeadline} while the handler runs, so JDBC statements get a matching query
+ * timeout. Same request-deadline.* limits as REST: capped at max-ms, default-ms for calls
+ * without a deadline.
+ */
+@Component
+public class DeadlineServerInterceptor implements ServerInterceptor {
+
+    @Value("${request-deadline.default-ms:0}")
+    private long defaultBudgetMillis;
+
+    @Value("${request-deadline.max-ms:30000}")
+    private long maxBudgetMillis;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        return new SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            // Unary and server-streaming handlers run when the client half-closes
+            @Override
+            public void onHalfClose() {
+                Long budgetMillis = resolveBudget(Context.current().getDeadline());
+                if (budgetMillis == null) {
+                    super.onHalfClose();
+                    return;
+                }
+                if (budgetMillis <= 0) {
+                    // Caller has already given up; do not queue for a connection
+                    call.close(Status.DEADLINE_EXCEEDED.withDescription("Request deadline already exceeded"),
+                            new Metadata());
+                    return;
+                }
+
+                RequestDeadline.startMillis(budgetMillis);
+                try {
+                    super.onHalfClose();
+                } finally {
+                    RequestDeadline.clear();
+                }
+            }
+        };
+    }
+
+    private Long resolveBudget(Deadline deadline) {
+        if (deadline != null) {
+            return Math.min(deadline.timeRemaining(TimeUnit.MILLISECONDS), maxBudgetMillis);
+        }
+        return defaultBudgetMillis > 0 ? Math.min(defaultBudgetMillis, maxBudgetMillis) : null;
+    }
+}
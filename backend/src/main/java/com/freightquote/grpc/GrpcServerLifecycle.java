@@ -0,0 +1,108 @@
+package com.freightquote.grpc;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Runs the gRPC server next to the servlet container: on grpc.port, or in-process only
+ * under grpc.in-process-name (tests and embedded clients, no socket is opened).
+ *
+ * Connections are meant to be long-lived, one per client: keepalive pings are permitted
+ * down to grpc.permit-keepalive-time-seconds, even between calls, and idle connections
+ * are never closed by the server.
+ */
+@Component
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    @Value("${grpc.port:9090}")
+    private int port;
+
+    @Value("${grpc.in-process-name:}")
+    private String inProcessName;
+
+    @Value("${grpc.permit-keepalive-time-seconds:30}")
+    private long permitKeepAliveTimeSeconds;
+
+    @Value("${grpc.max-concurrent-calls-per-connection:100}")
+    private int maxConcurrentCallsPerConnection;
+
+    @Value("${grpc.shutdown-grace-seconds:10}")
+    private long shutdownGraceSeconds;
+
+    @Autowired
+    private QuoteGrpcService quoteGrpcService;
+
+    @Autowired
+    private DeadlineServerInterceptor deadlineServerInterceptor;
+
+    @Autowired
+    private AdmissionServerInterceptor admissionServerInterceptor;
+
+    private volatile Server server;
+
+    @Override
+    public void start() {
+        ServerBuilder<?> builder;
+        if (inProcessName.isBlank()) {
+            builder = NettyServerBuilder.forPort(port)
+                    .permitKeepAliveTime(permitKeepAliveTimeSeconds, TimeUnit.SECONDS)
+                    .permitKeepAliveWithoutCalls(true)
+                    .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection);
+        } else {
+            builder = InProcessServerBuilder.forName(inProcessName);
+        }
+
+        try {
+            server = builder
+                    // The last interceptor runs first: admission, then the deadline
+                    .addService(ServerInterceptors.intercept(quoteGrpcService, deadlineServerInterceptor,
+                            admissionServerInterceptor))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started {}",
+                inProcessName.isBlank() ? "on port " + server.getPort() : "in-process as " + inProcessName);
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,205 @@
+package com.freightquote.grpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.grpc.v1.BatchGetQuotesRequest;
+import com.freightquote.grpc.v1.BatchGetQuotesResponse;
+import com.freightquote.grpc.v1.GetQuotesRequest;
+import com.freightquote.grpc.v1.GetQuotesResponse;
+import com.freightquote.grpc.v1.Quote;
+import com.freightquote.grpc.v1.QuoteServiceGrpc;
+import com.freightquote.filter.RequestDeadline;
+import com.freightquote.grpc.v1.ShippingRequirement;
+import com.freightquote.service.QuoteService;
+import com.freightquote.service.RateSnapshot;
+import com.freightquote.service.RateSnapshotService;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import reactor.core.publisher.BaseSubscriber;
+
+/**
+ * gRPC counterpart of QuoteController, served by {@link GrpcServerLifecycle}.
+ *
+ * Requests are converted to ShippingRequirementDto, validated with the same constraints
+ * as the REST body and priced by QuoteService; the call deadline is applied to JDBC
+ * statements by {@link DeadlineServerInterceptor}. Being a plain bean, it can be hosted
+ * on an in-process server (grpc.in-process-name) with no network involved.
+ */
+@Component
+public class QuoteGrpcService extends QuoteServiceGrpc.QuoteServiceImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteGrpcService.class);
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${grpc.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Override
+    public void getQuotes(GetQuotesRequest request, StreamObserver<GetQuotesResponse> responseObserver) {
+        try {
+            ShippingRequirementDto requirement = toValidRequirement(request.getRequirement(), "requirement");
+            responseObserver.onNext(price(requirement, rateSnapshotService.getSnapshot()));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    @Override
+    public void batchGetQuotes(BatchGetQuotesRequest request, StreamObserver<BatchGetQuotesResponse> responseObserver) {
+        try {
+            if (request.getRequirementsCount() > maxBatchSize) {
+                throw Status.INVALID_ARGUMENT
+                        .withDescription("At most " + maxBatchSize + " requirements per batch, got "
+                                + request.getRequirementsCount())
+                        .asRuntimeException();
+            }
+            // Validate everything before pricing anything
+            List<ShippingRequirementDto> requirements = new ArrayList<>(request.getRequirementsCount());
+            for (int i = 0; i < request.getRequirementsCount(); i++) {
+                requirements.add(toValidRequirement(request.getRequirements(i), "requirements[" + i + "]"));
+            }
+
+            // One snapshot for the whole batch, so every result reflects the same rate book
+            RateSnapshot snapshot = rateSnapshotService.getSnapshot();
+            BatchGetQuotesResponse.Builder response = BatchGetQuotesResponse.newBuilder();
+            for (ShippingRequirementDto requirement : requirements) {
+                response.addResults(price(requirement, snapshot));
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    /**
+     * Bridges QuoteService.streamMatchingQuotes to the call's flow control: the next
+     * quote is only requested while the transport is ready, and cancelling the call
+     * (client gone or deadline passed) cancels the database reads. The Flux is assembled
+     * here, under the call deadline DeadlineServerInterceptor sets for onHalfClose, and
+     * applies that deadline to every batch it reads on its scheduler threads.
+     */
+    @Override
+    public void streamQuotes(GetQuotesRequest request, StreamObserver<Quote> responseObserver) {
+        ServerCallStreamObserver<Quote> call = (ServerCallStreamObserver<Quote>) responseObserver;
+        ShippingRequirementDto requirement;
+        try {
+            requirement = toValidRequirement(request.getRequirement(), "requirement");
+        } catch (RuntimeException e) {
+            call.onError(toStatus(e));
+            return;
+        }
+
+        BaseSubscriber<CourierRateDto> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                requestIfReady();
+            }
+
+            @Override
+            protected void hookOnNext(CourierRateDto quote) {
+                call.onNext(QuoteProtoMapper.toQuote(quote));
+                requestIfReady();
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                call.onCompleted();
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                call.onError(toStatus(throwable));
+            }
+
+            private void requestIfReady() {
+                if (call.isReady() && !call.isCancelled()) {
+                    request(1);
+                }
+            }
+        };
+        call.setOnReadyHandler(() -> subscriber.request(1));
+        call.setOnCancelHandler(subscriber::dispose);
+
+        try {
+            quoteService.streamMatchingQuotes(requirement).subscribe(subscriber);
+        } catch (RuntimeException e) {
+            subscriber.dispose();
+            call.onError(toStatus(e));
+        }
+    }
+
+    private GetQuotesResponse price(ShippingRequirementDto requirement, RateSnapshot snapshot) {
+        List<CourierRateDto> quotes = quoteService.findMatchingQuotes(requirement, snapshot);
+        GetQuotesResponse.Builder response = GetQuotesResponse.newBuilder();
+        for (CourierRateDto quote : quotes) {
+            response.addQuotes(QuoteProtoMapper.toQuote(quote));
+        }
+        if (snapshot != null) {
+            response.setRateBookVersion(snapshot.getVersion());
+        }
+        return response.build();
+    }
+
+    private ShippingRequirementDto toValidRequirement(ShippingRequirement requirement, String field) {
+        ShippingRequirementDto dto;
+        try {
+            dto = QuoteProtoMapper.toRequirement(requirement);
+        } catch (IllegalArgumentException e) {
+            throw Status.INVALID_ARGUMENT.withDescription(field + ": " + e.getMessage()).asRuntimeException();
+        }
+        Set<ConstraintViolation<ShippingRequirementDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String description = violations.stream()
+                    .map(violation -> field + "." + violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw Status.INVALID_ARGUMENT.withDescription(description).asRuntimeException();
+        }
+        return dto;
+    }
+
+    /**
+     * Same outcomes as GlobalExceptionHandler, in gRPC status codes
+     */
+    private static StatusRuntimeException toStatus(Throwable throwable) {
+        if (throwable instanceof StatusRuntimeException status) {
+            return status;
+        }
+        Throwable timeout = RequestDeadline.findTimeout(throwable);
+        if (timeout != null) {
+            return Status.DEADLINE_EXCEEDED.withDescription(timeout.getMessage()).asRuntimeException();
+        }
+        if (throwable instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(throwable.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error in gRPC quote call", throwable);
+        return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+    }
+}
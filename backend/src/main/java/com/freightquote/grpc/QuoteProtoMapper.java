@@ -0,0 +1,137 @@
+package com.freightquote.grpc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.Location;
+import com.freightquote.grpc.v1.Quote;
+import com.freightquote.grpc.v1.ShippingRequirement;
+
+/**
+ * Conversions between the quote_service.proto messages and the REST DTOs, so gRPC calls
+ * go through the same QuoteService code path
+ */
+public final class QuoteProtoMapper {
+
+    private QuoteProtoMapper() {
+    }
+
+    /**
+     * Proto defaults (0, empty, UNSPECIFIED) become nulls so bean validation reports them
+     * like it does for a JSON request
+     */
+    public static ShippingRequirementDto toRequirement(ShippingRequirement requirement) {
+        ShippingRequirementDto dto = new ShippingRequirementDto();
+        dto.setOrigin(requirement.getOrigin() != 0 ? requirement.getOrigin() : null);
+        dto.setDestination(requirement.getDestination() != 0 ? requirement.getDestination() : null);
+        dto.setShippingType(toShippingType(requirement.getShippingType()));
+        dto.setSeaFreightMode(toSeaFreightMode(requirement.getSeaFreightMode()));
+        dto.setShippingDate(toDate(requirement.getShippingDate()));
+        dto.setNumberOfPackages(requirement.hasNumberOfPackages() ? requirement.getNumberOfPackages() : null);
+        dto.setGrossWeightKG(requirement.hasGrossWeightKg() ? requirement.getGrossWeightKg() : null);
+        dto.setVolumeCBM(requirement.hasVolumeCbm() ? requirement.getVolumeCbm() : null);
+        dto.setMaxTransitDays(requirement.hasMaxTransitDays() ? requirement.getMaxTransitDays() : null);
+        if (requirement.getContainerCountCount() > 0) {
+            dto.setContainerCount(new LinkedHashMap<>(requirement.getContainerCountMap()));
+        }
+        return dto;
+    }
+
+    public static Quote toQuote(CourierRateDto rate) {
+        Quote.Builder quote = Quote.newBuilder();
+        if (rate.getId() != null) {
+            quote.setId(rate.getId());
+        }
+        if (rate.getCourierName() != null) {
+            quote.setCourierName(rate.getCourierName());
+        }
+        if (rate.getOrigin() != null) {
+            quote.setOrigin(toLocation(rate.getOrigin()));
+        }
+        if (rate.getDestination() != null) {
+            quote.setDestination(toLocation(rate.getDestination()));
+        }
+        if (rate.getShippingType() != null) {
+            quote.setShippingType(com.freightquote.grpc.v1.ShippingType.valueOf(rate.getShippingType().name()));
+        }
+        if (rate.getSeaFreightMode() != null) {
+            quote.setSeaFreightMode(com.freightquote.grpc.v1.SeaFreightMode.valueOf(rate.getSeaFreightMode().name()));
+        }
+        if (rate.getEffectiveFrom() != null) {
+            quote.setEffectiveFrom(rate.getEffectiveFrom().toString());
+        }
+        if (rate.getEffectiveTo() != null) {
+            quote.setEffectiveTo(rate.getEffectiveTo().toString());
+        }
+        if (rate.getTransitDays() != null) {
+            quote.setTransitDays(rate.getTransitDays());
+        }
+        if (rate.getRate() != null) {
+            quote.setRate(rate.getRate().toPlainString());
+        }
+        if (rate.getCurrency() != null) {
+            quote.setCurrency(rate.getCurrency());
+        }
+        if (rate.getRatesForFCL() != null) {
+            for (Map.Entry<Long, BigDecimal> entry : rate.getRatesForFCL().entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    quote.putRatesForFcl(entry.getKey(), entry.getValue().toPlainString());
+                }
+            }
+        }
+        return quote.build();
+    }
+
+    private static com.freightquote.grpc.v1.Location toLocation(Location location) {
+        com.freightquote.grpc.v1.Location.Builder builder = com.freightquote.grpc.v1.Location.newBuilder();
+        if (location.getId() != null) {
+            builder.setId(location.getId());
+        }
+        if (location.getCode() != null) {
+            builder.setCode(location.getCode());
+        }
+        if (location.getName() != null) {
+            builder.setName(location.getName());
+        }
+        if (location.getCountryCode() != null) {
+            builder.setCountryCode(location.getCountryCode());
+        }
+        return builder.build();
+    }
+
+    private static ShippingType toShippingType(com.freightquote.grpc.v1.ShippingType shippingType) {
+        return switch (shippingType) {
+            case AIR -> ShippingType.AIR;
+            case WATER -> ShippingType.WATER;
+            case SHIPPING_TYPE_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new IllegalArgumentException("Unknown shipping type");
+        };
+    }
+
+    private static SeaFreightMode toSeaFreightMode(com.freightquote.grpc.v1.SeaFreightMode seaFreightMode) {
+        return switch (seaFreightMode) {
+            case FCL -> SeaFreightMode.FCL;
+            case LCL -> SeaFreightMode.LCL;
+            case SEA_FREIGHT_MODE_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new IllegalArgumentException("Unknown sea freight mode");
+        };
+    }
+
+    private static LocalDate toDate(String date) {
+        if (date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Shipping date must be an ISO date (yyyy-MM-dd), got '" + date + "'");
+        }
+    }
+}
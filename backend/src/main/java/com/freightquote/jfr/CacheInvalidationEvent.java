@@ -0,0 +1,28 @@
+package com.freightquote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for cache invalidation triggered by changes made on other instances
+ */
+@Name("com.freightquote.CacheInvalidation")
+@Label("Cache Invalidation")
+@Category({ "Freight Quote", "Caches" })
+@Description("Second-level cache eviction and snapshot rebuild request after remote changes")
+@StackTrace(false)
+public class CacheInvalidationEvent extends Event {
+
+    @Label("Remote Changes")
+    public int changes;
+
+    @Label("Last Change Log Id")
+    public long lastChangeLogId;
+
+    @Label("Query Cache Evicted")
+    public boolean queryCacheEvicted;
+}
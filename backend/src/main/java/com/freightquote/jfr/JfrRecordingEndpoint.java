@@ -0,0 +1,158 @@
+package com.freightquote.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * /actuator/jfr: one bounded, on-demand Flight Recorder recording at a time.
+ * POST starts it (409 while one is running; optional durationSeconds, maxSizeMb, settings=default|profile, capped by
+ * jfr.max-duration-seconds and jfr.max-size-mb), DELETE stops it, GET shows its state and
+ * GET /actuator/jfr/recording.jfr downloads what has been recorded so far.
+ * Access is off unless management.endpoint.jfr.access is set.
+ */
+@Component
+@Endpoint(id = "jfr", defaultAccess = Access.NONE)
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+
+    private static final String DOWNLOAD_NAME = "recording.jfr";
+
+    @Value("${jfr.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    @Value("${jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    private Recording recording;
+    private Instant startedAt;
+    private Path lastDump;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("settings", recording.getName());
+        status.put("startedAt", startedAt);
+        status.put("durationSeconds", recording.getDuration() != null ? recording.getDuration().toSeconds() : null);
+        status.put("maxSizeMb", recording.getMaxSize() / (1024 * 1024));
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationSeconds,
+            @Nullable Long maxSizeMb, @Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            // Only one recording at a time; report the running one
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        closeRecording();
+
+        String settingsName = settings != null ? settings : "default";
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings '" + settingsName + "', use default or profile");
+        }
+
+        long duration = Math.min(durationSeconds != null ? durationSeconds : maxDurationSeconds, maxDurationSeconds);
+        long sizeMb = Math.min(maxSizeMb != null ? maxSizeMb : this.maxSizeMb, this.maxSizeMb);
+
+        recording = new Recording(configuration);
+        recording.setName(settingsName);
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(Math.max(duration, 1)));
+        recording.setMaxSize(Math.max(sizeMb, 1) * 1024 * 1024);
+        recording.start();
+        startedAt = Instant.now();
+        log.info("JFR recording started with '{}' settings for at most {} s / {} MB", settingsName, duration, sizeMb);
+        return new WebEndpointResponse<>(status());
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped after {} bytes", recording.getSize());
+        }
+        return status();
+    }
+
+    /**
+     * Dump of the current recording, running or stopped; 404 when there is none
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) {
+        if (!DOWNLOAD_NAME.equals(name) || recording == null
+                || recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            deleteLastDump();
+            lastDump = Files.createTempFile("freightquote-", ".jfr");
+            recording.dump(lastDump);
+            return new WebEndpointResponse<>(new FileSystemResource(lastDump));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            startedAt = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException e) {
+                log.warn("Could not delete JFR dump {}", lastDump, e);
+            }
+            lastDump = null;
+        }
+    }
+}
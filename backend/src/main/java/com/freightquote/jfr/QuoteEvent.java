@@ -0,0 +1,46 @@
+package com.freightquote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one quote request (QuoteService.findMatchingQuotes and
+ * streamMatchingQuotes), committed however the request ends
+ */
+@Name("com.freightquote.Quote")
+@Label("Quote")
+@Category({ "Freight Quote", "Quotes" })
+@Description("Matching and pricing of one quote request")
+@StackTrace(false)
+public class QuoteEvent extends Event {
+
+    @Label("Origin Location Id")
+    public long originId;
+
+    @Label("Destination Location Id")
+    public long destinationId;
+
+    @Label("Shipping Type")
+    public String shippingType;
+
+    @Label("Sea Freight Mode")
+    public String seaFreightMode;
+
+    @Label("Source")
+    @Description("snapshot, database or stream")
+    public String source;
+
+    @Label("Candidates")
+    public int candidates;
+
+    @Label("Priced Quotes")
+    public int quotes;
+
+    @Label("Outcome")
+    @Description("success, error, timeout or cancelled")
+    public String outcome;
+}
@@ -0,0 +1,31 @@
+package com.freightquote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for acquiring a rate lane lock; the duration is the time spent waiting
+ */
+@Name("com.freightquote.RateLaneLock")
+@Label("Rate Lane Lock")
+@Category({ "Freight Quote", "Rates" })
+@Description("Wait for the in-process stripe and database lock serializing writes to a rate lane")
+@StackTrace(false)
+public class RateLaneLockEvent extends Event {
+
+    @Label("Lane")
+    public String lane;
+
+    @Label("Stripe")
+    public int stripe;
+
+    @Label("Database Lock")
+    public boolean databaseLock;
+
+    @Label("Acquired")
+    public boolean acquired;
+}
@@ -0,0 +1,28 @@
+package com.freightquote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a rebuild of the in-memory rate snapshot
+ */
+@Name("com.freightquote.RateSnapshotRebuild")
+@Label("Rate Snapshot Rebuild")
+@Category({ "Freight Quote", "Caches" })
+@Description("Reload of all active rates into a new rate snapshot")
+@StackTrace(false)
+public class RateSnapshotRebuildEvent extends Event {
+
+    @Label("Version")
+    public long version;
+
+    @Label("Rates")
+    public int rates;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
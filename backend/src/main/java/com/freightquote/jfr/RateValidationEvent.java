@@ -0,0 +1,37 @@
+package com.freightquote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the duplicate/overlap check run before a rate is created or updated
+ */
+@Name("com.freightquote.RateValidation")
+@Label("Rate Validation")
+@Category({ "Freight Quote", "Rates" })
+@Description("Conflict check of a courier rate against existing rates")
+@StackTrace(false)
+public class RateValidationEvent extends Event {
+
+    @Label("Origin Location Id")
+    public long originId;
+
+    @Label("Destination Location Id")
+    public long destinationId;
+
+    @Label("Shipping Type")
+    public String shippingType;
+
+    @Label("Sea Freight Mode")
+    public String seaFreightMode;
+
+    @Label("Container Types Checked")
+    public int containerTypes;
+
+    @Label("Conflict Found")
+    public boolean conflict;
+}
@@ -0,0 +1,178 @@
+package com.freightquote.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.freightquote.filter.SqlStatementRecorder;
+import com.freightquote.specification.SpecificationShape;
+
+/**
+ * Execution time and row counts aggregated per specification fingerprint.
+ *
+ * For each query shape the slowest execution is kept with its parameter values and the
+ * SQL Hibernate generated, so indexes can be targeted at the shapes real traffic uses.
+ * Executions slower than query-shapes.slow-threshold-ms are also logged.
+ */
+@Component
+public class QueryShapeStats {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryShapeStats.class);
+
+    /** Fingerprint recorded once query-shapes.max-shapes distinct shapes exist */
+    private static final String OVERFLOW_FINGERPRINT = "other";
+
+    @Value("${query-shapes.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-shapes.slow-threshold-ms:500}")
+    private long slowThresholdMillis;
+
+    @Value("${query-shapes.max-shapes:500}")
+    private int maxShapes;
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Run the query for the given shape and record its duration, row count and SQL
+     */
+    public <T> T execute(SpecificationShape<?> shape, Supplier<T> query, ToIntFunction<T> rowCount) {
+        if (!enabled) {
+            return query.get();
+        }
+
+        List<String> sql = SqlStatementRecorder.startCapture();
+        long startNanos = System.nanoTime();
+        T result;
+        try {
+            result = query.get();
+        } finally {
+            SqlStatementRecorder.stopCapture();
+        }
+        long nanos = System.nanoTime() - startNanos;
+        int rows = rowCount.applyAsInt(result);
+
+        statsFor(shape.getFingerprint()).record(nanos, rows, shape.getParameters(), sql);
+        if (TimeUnit.NANOSECONDS.toMillis(nanos) >= slowThresholdMillis) {
+            log.warn("Slow query shape {} took {} ms for {} rows; parameters {}; SQL {}", shape.getFingerprint(),
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows, shape.getParameters(), sql);
+        }
+        return result;
+    }
+
+    private ShapeStats statsFor(String fingerprint) {
+        ShapeStats stats = shapes.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxShapes) {
+            fingerprint = OVERFLOW_FINGERPRINT;
+        }
+        return shapes.computeIfAbsent(fingerprint, ShapeStats::new);
+    }
+
+    /**
+     * Shapes ordered by the given measure (total, max or mean time), slowest first
+     */
+    public List<Map<String, Object>> slowest(String orderBy, int limit) {
+        Comparator<ShapeStats> order = switch (orderBy == null ? "total" : orderBy) {
+            case "max" -> Comparator.comparingLong(ShapeStats::getMaxNanos);
+            case "mean" -> Comparator.comparingDouble(ShapeStats::getMeanNanos);
+            default -> Comparator.comparingLong(ShapeStats::getTotalNanos);
+        };
+        return shapes.values().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .map(ShapeStats::toMap)
+                .toList();
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    private static final class ShapeStats {
+
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalRows = new LongAdder();
+        private final ReentrantLock slowestLock = new ReentrantLock();
+
+        private volatile long maxNanos;
+        private volatile int slowestRows;
+        private volatile Map<String, Object> slowestParameters;
+        private volatile List<String> slowestSql;
+        private volatile Instant slowestAt;
+
+        ShapeStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void record(long nanos, int rows, Map<String, Object> parameters, List<String> sql) {
+            count.increment();
+            totalNanos.add(nanos);
+            totalRows.add(rows);
+            if (nanos > maxNanos) {
+                slowestLock.lock();
+                try {
+                    if (nanos > maxNanos) {
+                        maxNanos = nanos;
+                        slowestRows = rows;
+                        slowestParameters = new LinkedHashMap<>(parameters);
+                        slowestSql = new ArrayList<>(sql);
+                        slowestAt = Instant.now();
+                    }
+                } finally {
+                    slowestLock.unlock();
+                }
+            }
+        }
+
+        long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        long getMaxNanos() {
+            return maxNanos;
+        }
+
+        double getMeanNanos() {
+            long executions = count.sum();
+            return executions == 0 ? 0 : (double) totalNanos.sum() / executions;
+        }
+
+        Map<String, Object> toMap() {
+            long executions = count.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("fingerprint", fingerprint);
+            map.put("count", executions);
+            map.put("totalMs", totalNanos.sum() / 1_000_000.0);
+            map.put("meanMs", getMeanNanos() / 1_000_000.0);
+            map.put("maxMs", maxNanos / 1_000_000.0);
+            map.put("meanRows", executions == 0 ? 0 : (double) totalRows.sum() / executions);
+
+            Map<String, Object> slowest = new LinkedHashMap<>();
+            slowest.put("at", slowestAt);
+            slowest.put("rows", slowestRows);
+            slowest.put("parameters", slowestParameters);
+            slowest.put("sql", slowestSql);
+            map.put("slowest", slowest);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.freightquote.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/queryshapes: slowest specification shapes with example parameters (type and
+ * length only) and SQL. Optional query parameters: orderBy=total|max|mean (default total),
+ * limit (default 20). DELETE resets the statistics and needs
+ * management.endpoint.queryshapes.access=unrestricted.
+ */
+@Component
+@Endpoint(id = "queryshapes", defaultAccess = Access.READ_ONLY)
+public class QueryShapesEndpoint {
+
+    private final QueryShapeStats queryShapeStats;
+
+    public QueryShapesEndpoint(QueryShapeStats queryShapeStats) {
+        this.queryShapeStats = queryShapeStats;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> slowest(@Nullable String orderBy, @Nullable Integer limit) {
+        return queryShapeStats.slowest(orderBy, limit != null ? limit : 20);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryShapeStats.reset();
+    }
+}
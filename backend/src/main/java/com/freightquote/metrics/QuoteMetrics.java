@@ -0,0 +1,123 @@
+package com.freightquote.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Latency histograms for the quote, search and conflict-check pipelines.
+ *
+ * Every stage is a Timer named rate.pipeline.stage, tagged with operation, stage,
+ * shippingType and seaFreightMode. Percentiles (p50/p95/p99) are computed in-process
+ * and histogram buckets are published for Prometheus. Summaries are served by the
+ * quotepipeline actuator endpoint.
+ */
+@Component
+public class QuoteMetrics {
+
+    public static final String STAGE_TIMER = "rate.pipeline.stage";
+    public static final String CANDIDATES_SUMMARY = "rate.pipeline.candidates";
+    public static final String PRICING_TIMER = "rate.pipeline.pricing";
+
+    public static final String QUOTE = "quote";
+    public static final String SEARCH = "search";
+    public static final String CONFLICT_CHECK = "conflict_check";
+
+    /** Request attribute holding the tags the JSON serialization time is recorded under */
+    static final String SERIALIZATION_TAGS_ATTRIBUTE = QuoteMetrics.class.getName() + ".serializationTags";
+
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    private final MeterRegistry meterRegistry;
+
+    public QuoteMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Tags identifying one pipeline run
+     */
+    public Tags tags(String operation, ShippingType shippingType, SeaFreightMode seaFreightMode) {
+        return Tags.of(
+                "operation", operation,
+                "shippingType", shippingType != null ? shippingType.name() : "ANY",
+                "seaFreightMode", seaFreightMode != null ? seaFreightMode.name() : "ANY");
+    }
+
+    public <T> T time(String stage, Tags tags, Supplier<T> work) {
+        long startNanos = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, tags, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void time(String stage, Tags tags, Runnable work) {
+        long startNanos = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            record(stage, tags, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void record(String stage, Tags tags, long nanos) {
+        Timer.builder(STAGE_TIMER)
+                .description("Time spent per stage of the rate pipelines")
+                .tags(tags)
+                .tag("stage", stage)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCandidates(Tags tags, int count) {
+        DistributionSummary.builder(CANDIDATES_SUMMARY)
+                .description("Rates returned by the database or snapshot before pricing")
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    /**
+     * Record the total pricing time of one request, per Quotable implementation
+     */
+    public void recordPricing(Tags tags, Map<String, Long> nanosByQuotable) {
+        nanosByQuotable.forEach((quotable, nanos) -> Timer.builder(PRICING_TIMER)
+                .description("Time spent in Quotable.getQuotation per request, by pricing detail type")
+                .tags(tags)
+                .tag("quotable", quotable)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Have the JSON response body of the current request timed as the serialization stage
+     */
+    public void timeResponseSerialization(Tags tags) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(SERIALIZATION_TAGS_ATTRIBUTE, tags, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.freightquote.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * /actuator/quotepipeline: per-stage latency summary (count, mean, max, p50/p95/p99 in
+ * milliseconds) of the quote, search and conflict-check pipelines
+ */
+@Component
+@Endpoint(id = "quotepipeline")
+public class QuotePipelineEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    public QuotePipelineEndpoint(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> stages() {
+        List<Map<String, Object>> stages = new ArrayList<>();
+        for (String name : List.of(QuoteMetrics.STAGE_TIMER, QuoteMetrics.PRICING_TIMER)) {
+            for (Timer timer : meterRegistry.find(name).timers()) {
+                stages.add(summarize(timer));
+            }
+        }
+        return stages;
+    }
+
+    private Map<String, Object> summarize(Timer timer) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", timer.getId().getName());
+        for (Tag tag : timer.getId().getTags()) {
+            summary.put(tag.getKey(), tag.getValue());
+        }
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        summary.put("count", snapshot.count());
+        summary.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        summary.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            summary.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return summary;
+    }
+}
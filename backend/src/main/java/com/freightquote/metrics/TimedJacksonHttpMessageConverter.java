@@ -0,0 +1,48 @@
+package com.freightquote.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * JSON converter that records serialization time for requests that asked for it
+ * through {@link QuoteMetrics#timeResponseSerialization(Tags)}
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final QuoteMetrics quoteMetrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, QuoteMetrics quoteMetrics) {
+        super(objectMapper);
+        this.quoteMetrics = quoteMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object tags = attributes != null
+                ? attributes.getAttribute(QuoteMetrics.SERIALIZATION_TAGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        if (!(tags instanceof Tags serializationTags)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            quoteMetrics.record("serialization", serializationTags, System.nanoTime() - startNanos);
+        }
+    }
+}
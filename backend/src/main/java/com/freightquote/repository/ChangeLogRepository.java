@@ -0,0 +1,35 @@
+package com.freightquote.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.freightquote.entity.ChangeLogEntry;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+	List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	List<ChangeLogEntry> findByIdIn(Collection<Long> ids);
+
+	Optional<ChangeLogEntry> findFirstByChangedAtAfterOrderByIdAsc(Instant changedAt);
+
+	@Query("SELECT COALESCE(MAX(c.id), 0) FROM ChangeLogEntry c")
+	Long findMaxId();
+
+	@Query("SELECT MIN(c.id) FROM ChangeLogEntry c")
+	Long findMinId();
+
+	@Modifying
+	@Query("DELETE FROM ChangeLogEntry c WHERE c.changedAt < :cutoff AND c.id < :keepFromId")
+	int deleteOlderThan(@Param("cutoff") Instant cutoff, @Param("keepFromId") Long keepFromId);
+}
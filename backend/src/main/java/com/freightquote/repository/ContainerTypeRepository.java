@@ -3,18 +3,28 @@ package com.freightquote.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.freightquote.entity.ContainerType;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ContainerTypeRepository extends JpaRepository<ContainerType, Long> {
     
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<ContainerType> findAll();
+    
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<ContainerType> findByCode(String code);
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<ContainerType> findByIsActiveTrue();
     
     @Query("SELECT ct FROM ContainerType ct WHERE " +
@@ -33,6 +43,7 @@ public interface ContainerTypeRepository extends JpaRepository<ContainerType, Lo
            "LOWER(ct.description) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<ContainerType> searchContainerTypes(@Param("search") String search);
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT ct FROM ContainerType ct WHERE ct.isActive = true ORDER BY ct.volumeCBM ASC")
     List<ContainerType> findAllActiveOrderByCbm();
     
@@ -1,11 +1,24 @@
 package com.freightquote.repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,23 +26,94 @@ import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
 import com.freightquote.entity.CourierRate;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CourierRateRepository extends JpaRepository<CourierRate, Long>, JpaSpecificationExecutor<CourierRate> {
 
+	/**
+	 * Load a rate together with its locations and all pricing components in one query
+	 */
+	@Override
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
+	Optional<CourierRate> findById(Long id);
+
+	/**
+	 * Unpaged specification search (used for quotes) fetching all pricing components
+	 * with the matching rates instead of one secondary select per rate
+	 */
+	@Override
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
+	List<CourierRate> findAll(Specification<CourierRate> spec);
+
+	/**
+	 * Paged specification search: locations are joined into the page query; pricing
+	 * components come in one batch per page (@BatchSize on freightDetails), since fetching
+	 * a collection would make Hibernate page in memory
+	 */
+	@Override
+	@EntityGraph(attributePaths = { "origin", "destination" })
+	Page<CourierRate> findAll(Specification<CourierRate> spec, Pageable pageable);
+
+	/**
+	 * Bulk get: the given rates with locations and pricing components in one IN query
+	 */
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
+	List<CourierRate> findByIdIn(Collection<Long> ids);
+
+	/*
+	 * Unpaged lists fetch locations and pricing components with the rates, in one query.
+	 */
+
+	@Override
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
+	List<CourierRate> findAll();
+
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
 	List<CourierRate> findByShippingType(ShippingType shippingType);
 
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
 	List<CourierRate> findByShippingTypeAndSeaFreightMode(
 		ShippingType shippingType,
 		SeaFreightMode seaFreightMode);
 
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
 	@Query("SELECT cr FROM CourierRate cr WHERE cr.effectiveFrom <= :date AND cr.effectiveTo >= :date")
 	List<CourierRate> findActiveRatesOnDate(@Param("date") LocalDate date);
 
+	/*
+	 * Cursor-backed rate lists for streamed responses. Locations and pricing components come
+	 * in the same result set, ordered by id so each rate's detail rows are adjacent. Call inside
+	 * a transaction and close the stream; MySQL only fetches in chunks with useCursorFetch=true.
+	 */
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT cr FROM CourierRate cr JOIN FETCH cr.origin JOIN FETCH cr.destination " +
+		"LEFT JOIN FETCH cr.freightDetails ORDER BY cr.id")
+	Stream<CourierRate> streamAll();
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT cr FROM CourierRate cr JOIN FETCH cr.origin JOIN FETCH cr.destination " +
+		"LEFT JOIN FETCH cr.freightDetails " +
+		"WHERE cr.effectiveFrom <= :date AND cr.effectiveTo >= :date ORDER BY cr.id")
+	Stream<CourierRate> streamActiveRatesOnDate(@Param("date") LocalDate date);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT cr FROM CourierRate cr JOIN FETCH cr.origin JOIN FETCH cr.destination " +
+		"LEFT JOIN FETCH cr.freightDetails WHERE cr.shippingType = :shippingType ORDER BY cr.id")
+	Stream<CourierRate> streamByShippingType(@Param("shippingType") ShippingType shippingType);
+
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
 	@Query("SELECT cr FROM CourierRate cr WHERE " +
 		"(:shippingType IS NULL OR cr.shippingType = :shippingType) AND " +
 		"(:seaFreightMode IS NULL OR cr.seaFreightMode = :seaFreightMode) AND " +
-		"(:origin IS NULL OR LOWER(cr.origin) LIKE LOWER(CONCAT('%', :origin, '%'))) AND " +
-		"(:destination IS NULL OR LOWER(cr.destination) LIKE LOWER(CONCAT('%', :destination, '%'))) AND " +
+		"(:origin IS NULL OR LOWER(cr.origin.code) LIKE LOWER(CONCAT('%', :origin, '%')) OR " +
+		"LOWER(cr.origin.name) LIKE LOWER(CONCAT('%', :origin, '%')) OR " +
+		"LOWER(cr.origin.country) LIKE LOWER(CONCAT('%', :origin, '%'))) AND " +
+		"(:destination IS NULL OR LOWER(cr.destination.code) LIKE LOWER(CONCAT('%', :destination, '%')) OR " +
+		"LOWER(cr.destination.name) LIKE LOWER(CONCAT('%', :destination, '%')) OR " +
+		"LOWER(cr.destination.country) LIKE LOWER(CONCAT('%', :destination, '%'))) AND " +
 		"cr.effectiveFrom <= :currentDate AND cr.effectiveTo >= :currentDate")
 	List<CourierRate> findRatesWithFilters(
 		@Param("shippingType") ShippingType shippingType,
@@ -38,9 +122,14 @@ public interface CourierRateRepository extends JpaRepository<CourierRate, Long>,
 		@Param("destination") String destination,
 		@Param("currentDate") LocalDate currentDate);
 
+	@EntityGraph(attributePaths = { "origin", "destination", "freightDetails" })
 	@Query("SELECT cr FROM CourierRate cr WHERE " +
-		"(:origin IS NULL OR LOWER(cr.origin) LIKE LOWER(CONCAT('%', :origin, '%'))) AND " +
-		"(:destination IS NULL OR LOWER(cr.destination) LIKE LOWER(CONCAT('%', :destination, '%'))) AND " +
+		"(:origin IS NULL OR LOWER(cr.origin.code) LIKE LOWER(CONCAT('%', :origin, '%')) OR " +
+		"LOWER(cr.origin.name) LIKE LOWER(CONCAT('%', :origin, '%')) OR " +
+		"LOWER(cr.origin.country) LIKE LOWER(CONCAT('%', :origin, '%'))) AND " +
+		"(:destination IS NULL OR LOWER(cr.destination.code) LIKE LOWER(CONCAT('%', :destination, '%')) OR " +
+		"LOWER(cr.destination.name) LIKE LOWER(CONCAT('%', :destination, '%')) OR " +
+		"LOWER(cr.destination.country) LIKE LOWER(CONCAT('%', :destination, '%'))) AND " +
 		"cr.effectiveFrom <= :currentDate AND cr.effectiveTo >= :currentDate")
 	List<CourierRate> findRatesWithFilters(
 		@Param("origin") String origin,
@@ -64,7 +153,7 @@ public interface CourierRateRepository extends JpaRepository<CourierRate, Long>,
 		@Param("newEffectiveTo") LocalDate newEffectiveTo);
 
 	@Query("SELECT cr FROM CourierRate cr " +
-		"JOIN cr.fclFreightDetails fcl " +
+		"JOIN TREAT(cr.freightDetails AS FCLFreightRate) fcl " +
 		"WHERE LOWER(cr.courierName) = LOWER(:courierName) AND " +
 		"cr.origin.id = :originId AND " +
 		"cr.destination.id = :destinationId AND " +
@@ -79,4 +168,64 @@ public interface CourierRateRepository extends JpaRepository<CourierRate, Long>,
 		@Param("containerTypeId") Long containerTypeId,
 		@Param("newEffectiveFrom") LocalDate newEffectiveFrom,
 		@Param("newEffectiveTo") LocalDate newEffectiveTo);
+
+	/*
+	 * Archival: expired rates and their pricing components are copied to courier_rates_archive
+	 * and freight_details_archive and then deleted, a batch of ids per transaction, with plain
+	 * SQL so nothing is loaded into the persistence context.
+	 */
+
+	/**
+	 * Rates that ended before the cutoff and have an open history version (so they stay
+	 * readable once archived), not locked: candidates whose lanes the archiver locks next
+	 */
+	@Query("SELECT cr FROM CourierRate cr WHERE cr.effectiveTo < :cutoff AND EXISTS (" +
+		"SELECT v.id FROM CourierRateVersion v WHERE v.rateId = cr.id AND v.recordedTo IS NULL) ORDER BY cr.id")
+	List<CourierRate> findArchivableRates(@Param("cutoff") LocalDate cutoff, Limit limit);
+
+	/**
+	 * Those of the given rates that are still archivable, locked for the caller's
+	 * transaction. Rows locked by another transaction are skipped, so concurrent archivers
+	 * split the work.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+	@Query("SELECT cr FROM CourierRate cr WHERE cr.id IN :ids AND cr.effectiveTo < :cutoff AND EXISTS (" +
+		"SELECT v.id FROM CourierRateVersion v WHERE v.rateId = cr.id AND v.recordedTo IS NULL) ORDER BY cr.id")
+	List<CourierRate> lockArchivableRates(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDate cutoff);
+
+	/**
+	 * Rates that ended before the cutoff but have no open history version, which the
+	 * archiver leaves alone until the history backfill records one
+	 */
+	@Query("SELECT COUNT(cr) FROM CourierRate cr WHERE cr.effectiveTo < :cutoff AND NOT EXISTS (" +
+		"SELECT v.id FROM CourierRateVersion v WHERE v.rateId = cr.id AND v.recordedTo IS NULL)")
+	long countExpiredRatesWithoutOpenVersion(@Param("cutoff") LocalDate cutoff);
+
+	@Modifying
+	@Query(value = "INSERT INTO courier_rates_archive (id, courier_name, origin_location_id, destination_location_id, " +
+		"shipping_type, sea_freight_mode, effective_from, effective_to, is_active, transit_days, weight_limit, " +
+		"dimension_limit, description, created_at, updated_at, archived_at) " +
+		"SELECT id, courier_name, origin_location_id, destination_location_id, shipping_type, sea_freight_mode, " +
+		"effective_from, effective_to, is_active, transit_days, weight_limit, dimension_limit, description, " +
+		"created_at, updated_at, :archivedAt FROM courier_rates WHERE id IN (:ids)", nativeQuery = true)
+	int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+	@Modifying
+	@Query(value = "INSERT INTO freight_details_archive (id, freight_mode, courier_rate_id, rate, currency, description, " +
+		"minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, " +
+		"bunker_adjustment_rate, lcl_service_charge, container_type_id, terminal_handling_charge, archived_at) " +
+		"SELECT id, freight_mode, courier_rate_id, rate, currency, description, minimum_charge, fuel_surcharge_rate, " +
+		"security_surcharge, weight_limit, documentation_fee, bunker_adjustment_rate, lcl_service_charge, " +
+		"container_type_id, terminal_handling_charge, :archivedAt FROM freight_details " +
+		"WHERE courier_rate_id IN (:ids)", nativeQuery = true)
+	int copyFreightDetailsToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+	@Modifying
+	@Query(value = "DELETE FROM freight_details WHERE courier_rate_id IN (:ids)", nativeQuery = true)
+	int deleteFreightDetailsOfRates(@Param("ids") Collection<Long> ids);
+
+	@Modifying(clearAutomatically = true)
+	@Query(value = "DELETE FROM courier_rates WHERE id IN (:ids)", nativeQuery = true)
+	int deleteArchivedRates(@Param("ids") Collection<Long> ids);
 }
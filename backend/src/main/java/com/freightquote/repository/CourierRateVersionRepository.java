@@ -0,0 +1,28 @@
+package com.freightquote.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.freightquote.entity.CourierRateVersion;
+
+@Repository
+public interface CourierRateVersionRepository extends JpaRepository<CourierRateVersion, Long>,
+		JpaSpecificationExecutor<CourierRateVersion> {
+
+	List<CourierRateVersion> findByRateIdOrderByVersionAsc(Long rateId);
+
+	Optional<CourierRateVersion> findFirstByRateIdOrderByVersionDesc(Long rateId);
+
+	/**
+	 * Ids of rates that have no version yet (created before history was kept), lowest first
+	 */
+	@Query("SELECT cr.id FROM CourierRate cr WHERE NOT EXISTS " +
+		"(SELECT v.id FROM CourierRateVersion v WHERE v.rateId = cr.id) ORDER BY cr.id")
+	List<Long> findRateIdsWithoutVersions(Limit limit);
+}
@@ -1,22 +1,35 @@
 package com.freightquote.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.freightquote.entity.Location;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface LocationRepository extends JpaRepository<Location, Long> {
 
+	@Override
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+	List<Location> findAll();
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
 	Optional<Location> findByCode(String code);
 
+	List<Location> findByCodeIn(Collection<String> codes);
+
 	List<Location> findByCountryCode(String countryCode);
 
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
 	List<Location> findByType(Location.Type type);
 
 	@Query("SELECT l FROM Location l WHERE l.type = :Type AND l.countryCode = :countryCode")
@@ -31,6 +44,16 @@ public interface LocationRepository extends JpaRepository<Location, Long> {
 			"LOWER(l.countryCode) LIKE LOWER(CONCAT('%', :search, '%')) ")
 	List<Location> searchLocations(@Param("search") String search);
 
+	/**
+	 * Ids of the locations whose code, name or country contains the search text
+	 */
+	@Query("SELECT l.id FROM Location l WHERE " +
+			"LOWER(l.code) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+			"LOWER(l.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+			"LOWER(l.country) LIKE LOWER(CONCAT('%', :search, '%'))")
+	List<Long> findIdsMatching(@Param("search") String search);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
 	@Query("SELECT DISTINCT l.countryCode FROM Location l ORDER BY l.countryCode")
 	List<String> findDistinctCountryCodes();
 
@@ -0,0 +1,19 @@
+package com.freightquote.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.freightquote.entity.RateIdempotencyKey;
+
+@Repository
+public interface RateIdempotencyKeyRepository extends JpaRepository<RateIdempotencyKey, String> {
+
+	@Modifying
+	@Query("DELETE FROM RateIdempotencyKey k WHERE k.createdAt < :cutoff")
+	int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
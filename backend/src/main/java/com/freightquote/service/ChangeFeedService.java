@@ -0,0 +1,354 @@
+package com.freightquote.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.ChangeEventDto;
+import com.freightquote.entity.ChangeLogEntry;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.exception.ChangeTokenExpiredException;
+import com.freightquote.service.ChangeLogService.ChangeLogPage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+
+/**
+ * Pushes change log entries to server-sent event subscribers.
+ *
+ * Entries arrive from {@link ChangeLogTailer}, so subscribers on every instance see
+ * changes made on any instance. Each subscriber has a bounded buffer; a subscriber whose
+ * buffer overflows is sent a "resync" event and disconnected instead of slowing down
+ * everyone else.
+ *
+ * Servlet writes block, so a subscriber with events to send gets a sender thread of its
+ * own (virtual with spring.threads.virtual.enabled on Java 21, otherwise from a pool of
+ * at most change-feed.max-senders threads that queues up to change-feed.sender-queue-size
+ * drains): a stalled client socket only ever blocks its own sender. A subscriber whose
+ * drain the full pool rejects is sent a resync instead. A send still in progress after
+ * change-feed.send-timeout-ms drops the subscriber; its thread ends when the server's
+ * write timeout fails the write. Idle subscribers hold no thread.
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    /** Maximum number of missed events replayed for a reconnecting client (Last-Event-ID) */
+    private static final int MAX_REPLAY = 500;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${change-feed.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${change-feed.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${change-feed.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${change-feed.send-timeout-ms:10000}")
+    private long sendTimeoutMillis;
+
+    @Value("${change-feed.max-senders:200}")
+    private int maxSenders;
+
+    @Value("${change-feed.sender-queue-size:1000}")
+    private int senderQueueSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private Executor senders;
+
+    @PostConstruct
+    void initSenders() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualSenders = new SimpleAsyncTaskExecutor("change-feed-sender-");
+            virtualSenders.setVirtualThreads(true);
+            senders = virtualSenders;
+        } else {
+            ThreadPoolExecutor platformSenders = new ThreadPoolExecutor(maxSenders, maxSenders,
+                    60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(senderQueueSize), runnable -> {
+                        Thread thread = new Thread(runnable, "change-feed-sender");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            platformSenders.allowCoreThreadTimeOut(true);
+            senders = platformSenders;
+        }
+    }
+
+    /**
+     * Register a subscriber, optionally replaying the events after lastEventId first.
+     * Returns null when the subscriber limit is reached.
+     */
+    public SseEmitter subscribe(ChangeFeedFilter filter, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, filter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Live events may already be queued ahead of the replay; events carry their
+        // sequence, so clients can simply ignore ones they have already applied
+        if (lastEventId != null) {
+            replay(subscriber, lastEventId);
+        }
+        return emitter;
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        try {
+            ChangeLogPage page = changeLogService.readSince(lastEventId, MAX_REPLAY);
+            if (page.isHasMore()) {
+                subscriber.resync();
+                return;
+            }
+            for (ChangeLogEntry entry : page.getEntries()) {
+                offer(subscriber, entry);
+            }
+        } catch (ChangeTokenExpiredException e) {
+            subscriber.resync();
+        }
+    }
+
+    /**
+     * Fan out newly committed changes; called by the change log tailer
+     */
+    public void publish(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            for (ChangeLogEntry entry : entries) {
+                offer(subscriber, entry);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void offer(Subscriber subscriber, ChangeLogEntry entry) {
+        if (subscriber.filter.matches(entry)) {
+            subscriber.enqueue(SseEmitter.event()
+                    .id(String.valueOf(entry.getId()))
+                    .name("change")
+                    .data(new ChangeEventDto(entry), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * Comment line to every subscriber, so dead connections are detected and proxies
+     * do not close idle ones
+     */
+    @Scheduled(fixedDelayString = "${change-feed.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Drop subscribers whose current send has been blocked for longer than the send timeout
+     */
+    @Scheduled(fixedDelayString = "${change-feed.send-timeout-ms:10000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutMillis * 1_000_000L) {
+                log.debug("Dropping change feed subscriber whose send has been blocked for over {} ms", sendTimeoutMillis);
+                subscriber.abandon();
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Close all streams when shutdown starts, so graceful shutdown does not wait for them;
+     * EventSource clients reconnect (to another instance) on their own
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscribers() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.closed = true;
+            subscriber.emitter.complete();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (senders instanceof SimpleAsyncTaskExecutor virtualSenders) {
+            virtualSenders.close();
+        }
+    }
+
+    /**
+     * Filters a subscriber asked for. Lane, courier and shipping type apply to courier
+     * rate changes only; null means no restriction.
+     */
+    @Data
+    public static class ChangeFeedFilter {
+        private Set<EntityType> entityTypes;
+        private Long originId;
+        private Long destinationId;
+        private String courierName;
+        private ShippingType shippingType;
+
+        boolean matches(ChangeLogEntry entry) {
+            if (entityTypes != null && !entityTypes.isEmpty() && !entityTypes.contains(entry.getEntityType())) {
+                return false;
+            }
+            if (entry.getEntityType() != EntityType.COURIER_RATE) {
+                return true;
+            }
+            return (originId == null || originId.equals(entry.getOriginId()))
+                    && (destinationId == null || destinationId.equals(entry.getDestinationId()))
+                    && (courierName == null || courierName.equalsIgnoreCase(entry.getCourierName()))
+                    && (shippingType == null || shippingType == entry.getShippingType());
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ChangeFeedFilter filter;
+        private final Queue<SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedNanos; // 0 while no send is in progress
+
+        Subscriber(SseEmitter emitter, ChangeFeedFilter filter, int bufferSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void enqueue(SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("Disconnecting slow change feed subscriber after {} buffered events", bufferSize);
+                resync();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Tell the client it missed events and has to reload, then disconnect it
+         */
+        void resync() {
+            closed = true;
+            buffer.clear();
+            try {
+                senders.execute(() -> {
+                    try {
+                        emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                        emitter.complete();
+                    } catch (IOException | IllegalStateException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // No sender to spare: disconnect without the event, the client reconnects
+                emitter.complete();
+            }
+            remove(this);
+        }
+
+        /**
+         * Stop sending to a client that does not read; the blocked write fails on its own
+         * and completes the emitter
+         */
+        void abandon() {
+            closed = true;
+            buffer.clear();
+            remove(this);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    log.debug("Sender pool full, resyncing change feed subscriber");
+                    resync();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedNanos = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter callbacks remove the subscriber
+                closed = true;
+                emitter.completeWithError(e);
+                remove(this);
+            } finally {
+                sendStartedNanos = 0;
+                draining.set(false);
+            }
+            // Events enqueued after the last poll but before draining was cleared
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
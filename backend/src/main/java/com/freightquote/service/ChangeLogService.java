@@ -0,0 +1,190 @@
+package com.freightquote.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.entity.ChangeLogEntry;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.entity.ChangeLogEntry.Operation;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.exception.ChangeTokenExpiredException;
+import com.freightquote.repository.ChangeLogRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Records rate, location and container type changes in the change_log table so other
+ * backend instances can invalidate their caches (see {@link ChangeLogTailer}).
+ */
+@Service
+public class ChangeLogService {
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Value("${change-log.gap-timeout-ms:60000}")
+    private long gapTimeoutMillis;
+
+    @Value("${change-log.node-id:}")
+    private String configuredNodeId;
+
+    private String nodeId;
+
+    @PostConstruct
+    void initNodeId() {
+        // Must be unique per running instance, so default to a random id rather than the host name
+        nodeId = configuredNodeId != null && !configuredNodeId.isBlank()
+                ? configuredNodeId.trim()
+                : UUID.randomUUID().toString();
+    }
+
+    /**
+     * Id of this backend instance as written to change_log.node_id
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Append a change to the log. Must run inside the transaction that makes the change,
+     * so the entry becomes visible exactly when the change does.
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void record(EntityType entityType, Long entityId, Operation operation) {
+        changeLogRepository.save(new ChangeLogEntry(entityType, entityId, operation, nodeId));
+    }
+
+    /**
+     * Append a courier rate change, including the lane, courier and shipping type the
+     * change feed filters on
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void recordRate(CourierRate rate, Operation operation) {
+        recordRate(rate.getId(), RateLane.of(rate), operation);
+    }
+
+    /**
+     * Append an update of a courier rate that may have moved to another lane. Subscribers
+     * filtered on the lane it left get a DELETE for it first, or they would never see it go.
+     *
+     * @param previousLane The rate's lane before the update
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void recordRateUpdate(CourierRate rate, RateLane previousLane) {
+        RateLane lane = RateLane.of(rate);
+        if (!lane.sameAs(previousLane)) {
+            recordRate(rate.getId(), previousLane, Operation.DELETE);
+        }
+        recordRate(rate.getId(), lane, Operation.UPSERT);
+    }
+
+    private void recordRate(Long rateId, RateLane lane, Operation operation) {
+        ChangeLogEntry entry = new ChangeLogEntry(EntityType.COURIER_RATE, rateId, operation, nodeId);
+        entry.setOriginId(lane.getOriginId());
+        entry.setDestinationId(lane.getDestinationId());
+        entry.setCourierName(lane.getCourierName());
+        entry.setShippingType(lane.getShippingType());
+        changeLogRepository.save(entry);
+    }
+
+    /**
+     * Read up to limit entries after the given token, oldest first.
+     *
+     * Ids are assigned at insert but become visible at commit, so an id can be missing
+     * for a while and then appear. The returned token therefore only advances past
+     * entries with no unsettled gap before them; entries after a gap are returned again
+     * on the next call, which is harmless because applying a change is idempotent.
+     *
+     * @throws ChangeTokenExpiredException if entries after the token have already been purged
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public ChangeLogPage readSince(long sinceToken, int limit) {
+        Long oldestId = changeLogRepository.findMinId();
+        if (sinceToken < 0 || (oldestId != null && sinceToken < oldestId - 1)
+                || sinceToken > changeLogRepository.findMaxId()) {
+            throw new ChangeTokenExpiredException("Change token " + sinceToken + " is no longer valid, a full resync is required");
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository.findByIdGreaterThanOrderByIdAsc(sinceToken, Limit.of(limit));
+        Instant settledBefore = Instant.now().minusMillis(gapTimeoutMillis);
+        long token = sinceToken;
+        boolean blocked = false;
+        for (ChangeLogEntry entry : entries) {
+            // A gap is settled once a later entry is older than the gap timeout
+            if (!blocked && (entry.getId() == token + 1 || entry.getChangedAt().isBefore(settledBefore))) {
+                token = entry.getId();
+            } else {
+                blocked = true;
+            }
+        }
+        return new ChangeLogPage(entries, token, entries.size() == limit);
+    }
+
+    /**
+     * Token to hand out with a full snapshot read after this call: entries that may still
+     * have uncommitted predecessors are not covered by it and will be replayed
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public long currentToken() {
+        Instant settledBefore = Instant.now().minusMillis(gapTimeoutMillis);
+        return changeLogRepository.findFirstByChangedAtAfterOrderByIdAsc(settledBefore)
+                .map(recent -> recent.getId() - 1)
+                .orElseGet(changeLogRepository::findMaxId);
+    }
+
+    /**
+     * The rate attributes change feed subscribers filter on
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RateLane {
+        private Long originId;
+        private Long destinationId;
+        private String courierName;
+        private ShippingType shippingType;
+
+        public static RateLane of(CourierRate rate) {
+            return new RateLane(
+                    rate.getOrigin() != null ? rate.getOrigin().getId() : null,
+                    rate.getDestination() != null ? rate.getDestination().getId() : null,
+                    rate.getCourierName(),
+                    rate.getShippingType());
+        }
+
+        boolean sameAs(RateLane other) {
+            // Subscribers match courier names ignoring case
+            return Objects.equals(originId, other.originId)
+                    && Objects.equals(destinationId, other.destinationId)
+                    && Objects.equals(lowerCase(courierName), lowerCase(other.courierName))
+                    && shippingType == other.shippingType;
+        }
+
+        private static String lowerCase(String value) {
+            return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
+    }
+
+    /**
+     * One page of the change log
+     */
+    @Data
+    @AllArgsConstructor
+    public static class ChangeLogPage {
+        private List<ChangeLogEntry> entries;
+        private long nextToken;
+        private boolean hasMore;
+    }
+}
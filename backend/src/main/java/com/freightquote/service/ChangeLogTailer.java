@@ -0,0 +1,193 @@
+package com.freightquote.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.freightquote.entity.ChangeLogEntry;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.Location;
+import com.freightquote.jfr.CacheInvalidationEvent;
+import com.freightquote.repository.ChangeLogRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tails the change_log table and invalidates this instance's caches for changes made
+ * by other instances: the Hibernate second-level and query caches for locations and
+ * container types, and the rate snapshot. All changes, local or not, are then passed
+ * to the change feed.
+ *
+ * Polls by id, which is the table's primary key, so each poll is a short index range
+ * scan. Ids are assigned at insert but become visible at commit, so a lower id can show
+ * up after a higher one; such gaps are re-checked on later polls until
+ * change-log.gap-timeout-ms (after which they are assumed to be rolled back).
+ */
+@Service
+public class ChangeLogTailer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogTailer.class);
+
+    /** Larger jumps are not tracked id by id (e.g. after a bulk purge or a restore) */
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${change-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${change-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${change-log.gap-timeout-ms:60000}")
+    private long gapTimeoutMillis;
+
+    @Value("${change-log.retention-hours:24}")
+    private long retentionHours;
+
+    private long lastSeenId = -1;
+
+    /** Ids skipped by the tail that may still commit, with the time they were first seen missing */
+    private final Map<Long, Instant> pendingGaps = new HashMap<>();
+
+    /**
+     * Runs on the single scheduler thread, so the tail state needs no locking
+     */
+    @Scheduled(fixedDelayString = "${change-log.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (lastSeenId < 0) {
+                // Caches start out empty, so only changes from now on matter
+                lastSeenId = changeLogRepository.findMaxId();
+                return;
+            }
+
+            List<ChangeLogEntry> entries = new ArrayList<>();
+            if (!pendingGaps.isEmpty()) {
+                for (ChangeLogEntry late : changeLogRepository.findByIdIn(pendingGaps.keySet())) {
+                    pendingGaps.remove(late.getId());
+                    entries.add(late);
+                }
+            }
+
+            List<ChangeLogEntry> fresh;
+            do {
+                fresh = changeLogRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(batchSize));
+                for (ChangeLogEntry entry : fresh) {
+                    trackGap(lastSeenId, entry.getId());
+                    lastSeenId = entry.getId();
+                    entries.add(entry);
+                }
+            } while (fresh.size() == batchSize);
+
+            Instant expiry = Instant.now().minusMillis(gapTimeoutMillis);
+            pendingGaps.values().removeIf(firstSeen -> firstSeen.isBefore(expiry));
+
+            apply(entries);
+            changeFeedService.publish(entries);
+        } catch (RuntimeException e) {
+            // The next poll resumes from the last applied id
+            log.warn("Change log poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void trackGap(long previousId, long nextId) {
+        if (nextId - previousId - 1 > MAX_TRACKED_GAP) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (long missing = previousId + 1; missing < nextId; missing++) {
+            pendingGaps.put(missing, now);
+        }
+    }
+
+    private void apply(List<ChangeLogEntry> entries) {
+        String nodeId = changeLogService.getNodeId();
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.begin();
+        boolean rebuildSnapshot = false;
+        boolean evictQueryCache = false;
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        for (ChangeLogEntry entry : entries) {
+            if (nodeId.equals(entry.getNodeId())) {
+                // This instance already updated its own caches when it made the change
+                continue;
+            }
+            switch (entry.getEntityType()) {
+                case LOCATION -> {
+                    cache.evictEntityData(Location.class, entry.getEntityId());
+                    evictQueryCache = true;
+                }
+                case CONTAINER_TYPE -> {
+                    cache.evictEntityData(ContainerType.class, entry.getEntityId());
+                    evictQueryCache = true;
+                }
+                case COURIER_RATE -> {
+                    // Rates are not in the second-level cache
+                }
+            }
+            rebuildSnapshot = true;
+            event.changes++;
+        }
+
+        if (evictQueryCache) {
+            cache.evictDefaultQueryRegion();
+        }
+        if (rebuildSnapshot) {
+            log.debug("Applying {} remote changes up to change log id {}", entries.size(), lastSeenId);
+            rateSnapshotService.requestRebuild();
+
+            event.lastChangeLogId = lastSeenId;
+            event.queryCacheEvicted = evictQueryCache;
+            event.commit();
+        }
+    }
+
+    /**
+     * Drop entries older than change-log.retention-hours; every instance may run this
+     */
+    @Scheduled(fixedDelayString = "${change-log.purge-interval-ms:3600000}", initialDelayString = "${change-log.purge-interval-ms:3600000}")
+    @Transactional("transactionManager")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        // The newest entry is always kept, so delta-sync clients can tell a purged token from an empty log
+        int deleted = changeLogRepository.deleteOlderThan(Instant.now().minus(Duration.ofHours(retentionHours)),
+                changeLogRepository.findMaxId());
+        if (deleted > 0) {
+            log.info("Purged {} change log entries older than {} h", deleted, retentionHours);
+        }
+    }
+}
@@ -3,10 +3,16 @@ package com.freightquote.service;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.freightquote.dto.MultiGetResultDto;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.entity.ChangeLogEntry.Operation;
 import com.freightquote.entity.ContainerType;
 import com.freightquote.repository.ContainerTypeRepository;
 
@@ -16,6 +22,15 @@ public class ContainerTypeService {
     @Autowired
     private ContainerTypeRepository containerTypeRepository;
     
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+    
+    @Autowired
+    private ChangeLogService changeLogService;
+    
+    @Value("${bulk-get.max-ids:200}")
+    private int maxBulkIds;
+    
     public List<ContainerType> getAllContainerTypes() {
         return containerTypeRepository.findAll();
     }
@@ -32,6 +47,18 @@ public class ContainerTypeService {
         return containerTypeRepository.findById(id);
     }
     
+    /**
+     * Container types for the given ids in request order, with unknown ids listed as missing
+     */
+    public MultiGetResultDto<Long, ContainerType> getContainerTypesByIds(List<Long> ids) {
+        Set<Long> requested = MultiGetResultDto.requestedKeys(ids, maxBulkIds);
+        if (requested.isEmpty()) {
+            return new MultiGetResultDto<>();
+        }
+        return MultiGetResultDto.inRequestOrder(requested, containerTypeRepository.findAllById(requested),
+                ContainerType::getId);
+    }
+    
     public Optional<ContainerType> getContainerTypeByCode(String code) {
         return containerTypeRepository.findByCode(code);
     }
@@ -50,14 +77,21 @@ public class ContainerTypeService {
         return containerTypeRepository.searchContainerTypes(search.trim());
     }
     
+    @Transactional("transactionManager")
     public ContainerType saveContainerType(ContainerType containerType) {
         validateContainerType(containerType);
         calculateDerivedValues(containerType);
-        return containerTypeRepository.save(containerType);
+        ContainerType saved = containerTypeRepository.save(containerType);
+        changeLogService.record(EntityType.CONTAINER_TYPE, saved.getId(), Operation.UPSERT);
+        rateSnapshotService.requestRebuild();
+        return saved;
     }
     
+    @Transactional("transactionManager")
     public void deleteContainerType(Long id) {
         containerTypeRepository.deleteById(id);
+        changeLogService.record(EntityType.CONTAINER_TYPE, id, Operation.DELETE);
+        rateSnapshotService.requestRebuild();
     }
     
     public boolean existsByCode(String code) {
@@ -3,13 +3,20 @@ package com.freightquote.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,23 +26,80 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateChangesDto;
 import com.freightquote.dto.CourierRateDto;
 import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.MultiGetResultDto;
 import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ChangeLogEntry;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.entity.ChangeLogEntry.Operation;
 import com.freightquote.entity.ContainerType;
 import com.freightquote.entity.CourierRate;
 import com.freightquote.entity.FCLFreightRate;
 import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.exception.ChangeTokenExpiredException;
 import com.freightquote.exception.DuplicateRateException;
+import com.freightquote.jfr.RateValidationEvent;
+import com.freightquote.metrics.QueryShapeStats;
+import com.freightquote.metrics.QuoteMetrics;
 import com.freightquote.repository.CourierRateRepository;
+import com.freightquote.service.ChangeLogService.ChangeLogPage;
+import com.freightquote.service.ChangeLogService.RateLane;
+import com.freightquote.service.IdempotencyKeyService.StoredResponse;
 import com.freightquote.specification.CourierRateSpecification;
+import com.freightquote.specification.SpecificationShape;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 
 @Service
 public class CourierRateService {
 
+	/**
+	 * Maximum number of change log entries read per delta-sync call
+	 */
+	private static final int CHANGES_PAGE_SIZE = 500;
+
+	/**
+	 * Response statuses of an upsert that created or updated a rate, as stored with its idempotency key
+	 */
+	private static final int HTTP_CREATED = 201;
+	private static final int HTTP_OK = 200;
+
 	@Autowired
 	private CourierRateRepository courierRateRepository;
 
+	@Autowired
+	private RateSnapshotService rateSnapshotService;
+
+	@Autowired
+	private ChangeLogService changeLogService;
+
+	@Autowired
+	private QuoteMetrics quoteMetrics;
+
+	@Autowired
+	private QueryShapeStats queryShapeStats;
+
+	@Autowired
+	private RateLaneLocks rateLaneLocks;
+
+	@Autowired
+	private IdempotencyKeyService idempotencyKeyService;
+
+	@Autowired
+	private RateHistoryService rateHistoryService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${bulk-get.max-ids:200}")
+	private int maxBulkIds;
+
 	public List<CourierRateDto> getAllRates() {
 		return courierRateRepository.findAll()
 				.stream()
@@ -43,26 +107,167 @@ public class CourierRateService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Hand every rate to the action as it is read from the database cursor, without
+	 * building the whole list
+	 */
+	@Transactional(value = "transactionManager", readOnly = true)
+	public void streamAllRates(Consumer<CourierRateDto> action) {
+		forEachRate(courierRateRepository.streamAll(), action);
+	}
+
+	@Transactional(value = "transactionManager", readOnly = true)
+	public void streamActiveRates(Consumer<CourierRateDto> action) {
+		forEachRate(courierRateRepository.streamActiveRatesOnDate(LocalDate.now()), action);
+	}
+
+	@Transactional(value = "transactionManager", readOnly = true)
+	public void streamRatesByShippingType(ShippingType shippingType, Consumer<CourierRateDto> action) {
+		forEachRate(courierRateRepository.streamByShippingType(shippingType), action);
+	}
+
+	private void forEachRate(Stream<CourierRate> rates, Consumer<CourierRateDto> action) {
+		try (rates) {
+			rates.forEach(rate -> {
+				action.accept(new CourierRateDto(rate));
+				// Keep the persistence context (and heap) flat however many rows are read
+				entityManager.detach(rate);
+			});
+		}
+	}
+
 	public Optional<CourierRateDto> getRateById(Long id) {
 		return courierRateRepository.findById(id)
 				.map(CourierRateDto::new);
 	}
 
+	/**
+	 * Rates for the given ids in request order, with the ids that have no rate listed as missing
+	 */
+	public MultiGetResultDto<Long, CourierRateDto> getRatesByIds(List<Long> ids) {
+		Set<Long> requested = MultiGetResultDto.requestedKeys(ids, maxBulkIds);
+		if (requested.isEmpty()) {
+			return new MultiGetResultDto<>();
+		}
+		List<CourierRateDto> found = courierRateRepository.findByIdIn(requested)
+				.stream()
+				.map(CourierRateDto::new)
+				.collect(Collectors.toList());
+		return MultiGetResultDto.inRequestOrder(requested, found, CourierRateDto::getId);
+	}
+
+	@Transactional("transactionManager")
 	public CourierRateDto createRate(CourierRateDto rateDto) {
+		// Held until commit, so a concurrent create on the lane sees this rate in its check
+		rateLaneLocks.lockUntilCompletion(rateDto);
 		// Validate if a similar rate already exists
 		validateRateDoesNotExist(rateDto, null);
 
 		CourierRate rate = rateDto.toEntity();
 		CourierRate savedRate = courierRateRepository.save(rate);
+		changeLogService.recordRate(savedRate, Operation.UPSERT);
+		rateHistoryService.recordVersion(savedRate);
+		rateSnapshotService.requestRebuild();
 		return new CourierRateDto(savedRate);
 	}
 
+	/**
+	 * Create the rate, or update the one existing rate on its lane whose dates overlap it.
+	 *
+	 * With an idempotency key, a repeat of the same request gets the status and body the
+	 * first one got without applying it again, even if the rate changed or was deleted
+	 * since; the key cannot be reused for a different request. The key is reserved before
+	 * the lane is locked, so concurrent requests with one key are serialized on the key
+	 * whatever lanes their bodies name.
+	 *
+	 * @throws DuplicateRateException if the rate overlaps more than one existing rate
+	 */
+	@Transactional("transactionManager")
+	public RateUpsert upsertRate(String idempotencyKey, CourierRateDto rateDto) {
+		if (idempotencyKey != null) {
+			Optional<StoredResponse> stored = idempotencyKeyService.reserve(idempotencyKey,
+					idempotencyKeyService.requestHash(rateDto));
+			if (stored.isPresent()) {
+				return new RateUpsert(stored.get().getBody(), stored.get().getStatus() == HTTP_CREATED, true);
+			}
+		}
+		rateLaneLocks.lockUntilCompletion(rateDto);
+
+		Optional<CourierRate> existing = findOverlappingLaneRate(rateDto);
+		CourierRateDto written = existing.isPresent()
+				? updateRate(existing.get().getId(), rateDto).orElseThrow()
+				: createRate(rateDto);
+		if (idempotencyKey != null) {
+			idempotencyKeyService.record(idempotencyKey, existing.isEmpty() ? HTTP_CREATED : HTTP_OK, written);
+		}
+		return new RateUpsert(written, existing.isEmpty(), false);
+	}
+
+	/**
+	 * The rate on the same lane whose dates overlap the given one (per container type for FCL)
+	 */
+	private Optional<CourierRate> findOverlappingLaneRate(CourierRateDto rateDto) {
+		Long originId = rateDto.getOrigin() != null ? rateDto.getOrigin().getId() : null;
+		Long destinationId = rateDto.getDestination() != null ? rateDto.getDestination().getId() : null;
+		Map<Long, CourierRate> overlapping = new LinkedHashMap<>();
+		if (rateDto.getShippingType() == ShippingType.WATER &&
+				rateDto.getSeaFreightMode() == SeaFreightMode.FCL &&
+				rateDto.getRatesForFCL() != null) {
+			for (Long containerTypeId : rateDto.getRatesForFCL().keySet()) {
+				courierRateRepository.findConflictingFCLRatesForContainerType(rateDto.getCourierName(), originId,
+						destinationId, containerTypeId, rateDto.getEffectiveFrom(), rateDto.getEffectiveTo())
+						.forEach(rate -> overlapping.put(rate.getId(), rate));
+			}
+		} else {
+			courierRateRepository.findConflictingRates(rateDto.getCourierName(), originId, destinationId,
+					rateDto.getShippingType(), rateDto.getSeaFreightMode(), rateDto.getEffectiveFrom(),
+					rateDto.getEffectiveTo())
+					.forEach(rate -> overlapping.put(rate.getId(), rate));
+		}
+
+		if (overlapping.size() > 1) {
+			Set<Long> ids = new LinkedHashSet<>(overlapping.keySet());
+			throw new DuplicateRateException(String.format(
+					"The rate for courier '%s' from '%s' to '%s' overlaps %d existing rates (IDs %s); "
+							+ "an upsert can replace at most one.",
+					rateDto.getCourierName(),
+					getLocationDescription(rateDto.getOrigin()),
+					getLocationDescription(rateDto.getDestination()),
+					ids.size(),
+					ids),
+					ids.iterator().next());
+		}
+		return overlapping.values().stream().findFirst();
+	}
+
 	/**
 	 * Validate that a rate with similar criteria doesn't already exist
 	 * @param rateDto - the rate data to validate
 	 * @param excludeRateId - rate ID to exclude from validation (for updates), null for creates
 	 */
 	private void validateRateDoesNotExist(CourierRateDto rateDto, Long excludeRateId) {
+		Tags tags = quoteMetrics.tags(QuoteMetrics.CONFLICT_CHECK, rateDto.getShippingType(), rateDto.getSeaFreightMode());
+		RateValidationEvent event = new RateValidationEvent();
+		event.begin();
+		try {
+			quoteMetrics.time("query", tags, () -> checkConflicts(rateDto, excludeRateId));
+		} catch (DuplicateRateException e) {
+			event.conflict = true;
+			throw e;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.originId = rateDto.getOrigin() != null && rateDto.getOrigin().getId() != null ? rateDto.getOrigin().getId() : 0;
+				event.destinationId = rateDto.getDestination() != null && rateDto.getDestination().getId() != null ? rateDto.getDestination().getId() : 0;
+				event.shippingType = rateDto.getShippingType() != null ? rateDto.getShippingType().name() : null;
+				event.seaFreightMode = rateDto.getSeaFreightMode() != null ? rateDto.getSeaFreightMode().name() : null;
+				event.containerTypes = rateDto.getRatesForFCL() != null ? rateDto.getRatesForFCL().size() : 0;
+				event.commit();
+			}
+		}
+	}
+
+	private void checkConflicts(CourierRateDto rateDto, Long excludeRateId) {
 		// For FCL rates, check all container types in the ratesForFCL map
 		if (rateDto.getShippingType() == ShippingType.WATER &&
 				rateDto.getSeaFreightMode() == SeaFreightMode.FCL &&
@@ -193,8 +398,10 @@ public class CourierRateService {
 
 	@Transactional("transactionManager")
 	public Optional<CourierRateDto> updateRate(Long id, CourierRateDto rateDto) {
-		return courierRateRepository.findById(id)
+		return findLocked(id)
 			.map(existingRate -> {
+				RateLane previousLane = RateLane.of(existingRate);
+				rateLaneLocks.lockUntilCompletion(rateDto);
 				// Validate for conflicts before updating - exclude the current rate being updated
 				validateRateDoesNotExist(rateDto, id);
 				
@@ -224,10 +431,25 @@ public class CourierRateService {
 				updateFreightDetails(existingRate, rateDto);
 
 				CourierRate updatedRate = courierRateRepository.save(existingRate);
+				changeLogService.recordRateUpdate(updatedRate, previousLane);
+				rateHistoryService.recordVersion(updatedRate);
+				rateSnapshotService.requestRebuild();
 				return new CourierRateDto(updatedRate);
 			});
 	}
 
+	/**
+	 * The rate, read again after locking its lane: a write to the lane or the archival job
+	 * (which moves rates under their lane locks) may have changed or removed it meanwhile
+	 */
+	private Optional<CourierRate> findLocked(Long id) {
+		return courierRateRepository.findById(id).flatMap(rate -> {
+			rateLaneLocks.lockUntilCompletion(rate);
+			entityManager.detach(rate);
+			return courierRateRepository.findById(id);
+		});
+	}
+
 	/**
 	 * Update shipping-type-specific freight details based on the DTO
 	 */
@@ -282,16 +504,12 @@ public class CourierRateService {
 	 * Update or create FCLFreightRate details
 	 */
 	private void updateFCLFreightDetails(CourierRate existingRate, CourierRateDto rateDto) {
-		// Initialize the list if it doesn't exist
-		if (existingRate.getFclFreightDetails() == null) {
-			existingRate.setFclFreightDetails(new ArrayList<>());
-		}
-
 		// Handle multiple container types from DTO's ratesForFCL map
 		if (rateDto.getRatesForFCL() != null && !rateDto.getRatesForFCL().isEmpty()) {
 			
 			// Smart update: Update existing, remove obsolete, add new
-			List<FCLFreightRate> currentRates = existingRate.getFclFreightDetails();
+			List<FCLFreightRate> fclRates = existingRate.getFclFreightDetails();
+			List<FCLFreightRate> currentRates = fclRates != null ? fclRates : new ArrayList<>();
 			Map<Long, FCLFreightRate> currentRatesByContainerType = currentRates.stream()
 					.filter(rate -> rate.getContainerType() != null)
 					.collect(Collectors.toMap(
@@ -299,8 +517,8 @@ public class CourierRateService {
 						rate -> rate
 					));
 
-			// Clear the list to rebuild it
-			currentRates.clear();
+			// Rebuild the list of FCL rates
+			List<FCLFreightRate> updatedRates = new ArrayList<>();
 			
 			// Process each container type from DTO
 			for (Map.Entry<Long, BigDecimal> entry : rateDto.getRatesForFCL().entrySet()) {
@@ -313,13 +531,15 @@ public class CourierRateService {
 				if (existingFclRate != null) {
 					// Update existing rate
 					updateExistingFCLRate(existingFclRate, rateDto, newRate);
-					currentRates.add(existingFclRate);
+					updatedRates.add(existingFclRate);
 				} else {
 					// Create new rate
-					FCLFreightRate newFclRate = createFCLFreightRateFromDto(rateDto, containerTypeId, newRate);
-					existingRate.addFclRate(newFclRate);
+					updatedRates.add(createFCLFreightRateFromDto(rateDto, containerTypeId, newRate));
 				}
 			}
+
+			// Obsolete container types are dropped from the collection and removed as orphans
+			existingRate.setFclFreightDetails(updatedRates);
 		}
 	}
 
@@ -380,12 +600,68 @@ public class CourierRateService {
 		}
 	}
 
+	@Transactional("transactionManager")
 	public boolean deleteRate(Long id) {
-		if (courierRateRepository.existsById(id)) {
-			courierRateRepository.deleteById(id);
-			return true;
+		return findLocked(id)
+			.map(rate -> {
+				courierRateRepository.delete(rate);
+				changeLogService.recordRate(rate, Operation.DELETE);
+				rateHistoryService.recordDeletion(rate.getId());
+				rateSnapshotService.requestRebuild();
+				return true;
+			})
+			.orElse(false);
+	}
+
+	/**
+	 * Delta sync: courier rate inserts, updates and deletes since the given token, or
+	 * all rates and a fresh token when no token is given
+	 */
+	@Transactional(value = "transactionManager", readOnly = true)
+	public CourierRateChangesDto getChangesSince(String sinceToken) {
+		if (sinceToken == null || sinceToken.isBlank()) {
+			// Take the token first, so changes committed during the read are replayed rather than lost
+			long token = changeLogService.currentToken();
+			return new CourierRateChangesDto(String.valueOf(token), true, getAllRates(), new ArrayList<>(), false);
+		}
+
+		long since;
+		try {
+			since = Long.parseLong(sinceToken.trim());
+		} catch (NumberFormatException e) {
+			throw new ChangeTokenExpiredException("Malformed change token '" + sinceToken + "', a full resync is required");
 		}
-		return false;
+
+		ChangeLogPage page = changeLogService.readSince(since, CHANGES_PAGE_SIZE);
+
+		// Only the last operation per rate matters
+		Map<Long, Operation> lastOperations = new LinkedHashMap<>();
+		for (ChangeLogEntry entry : page.getEntries()) {
+			if (entry.getEntityType() == EntityType.COURIER_RATE) {
+				lastOperations.remove(entry.getEntityId());
+				lastOperations.put(entry.getEntityId(), entry.getOperation());
+			}
+		}
+
+		List<Long> upsertIds = lastOperations.entrySet().stream()
+				.filter(e -> e.getValue() == Operation.UPSERT)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+		List<CourierRateDto> upserts = courierRateRepository.findByIdIn(upsertIds)
+				.stream()
+				.map(CourierRateDto::new)
+				.collect(Collectors.toList());
+
+		// A rate logged as upserted but no longer present was deleted by a change after this page
+		Set<Long> found = upserts.stream().map(CourierRateDto::getId).collect(Collectors.toSet());
+		List<Long> deletes = lastOperations.keySet().stream()
+				.filter(id -> !found.contains(id))
+				.collect(Collectors.toList());
+
+		// While an uncommitted change holds the token back, calling again straight away cannot
+		// make progress; clients go back to their normal polling interval instead
+		boolean hasMore = page.isHasMore() && page.getNextToken() > since;
+		return new CourierRateChangesDto(String.valueOf(page.getNextToken()), false, upserts, deletes, hasMore);
 	}
 
 	public List<CourierRateDto> getRatesByShippingType(ShippingType shippingType) {
@@ -427,68 +703,71 @@ public class CourierRateService {
 	 * Advanced search using Specifications for dynamic querying
 	 */
 	public Page<CourierRateDto> searchRatesAdvanced(CourierRateSearchCriteriaDto criteria) {
-		// Build specification dynamically based on criteria
-		Specification<CourierRate> spec = Specification.allOf();
+		Tags tags = quoteMetrics.tags(QuoteMetrics.SEARCH, criteria.getShippingType(), criteria.getSeaFreightMode());
+		long specStartNanos = System.nanoTime();
+
+		// Build specification dynamically based on criteria, fingerprinted by the filters applied
+		SpecificationShape<CourierRate> shape = new SpecificationShape<>(QuoteMetrics.SEARCH, Specification.allOf());
 
 		// Add filters based on provided criteria
 		if (criteria.getCourierName() != null) {
-			spec = spec.and(CourierRateSpecification.hasCourierName(criteria.getCourierName()));
+			shape.and("courierName", criteria.getCourierName(), CourierRateSpecification.hasCourierName(criteria.getCourierName()));
 		}
 
 		if (criteria.getShippingType() != null) {
-			spec = spec.and(CourierRateSpecification.hasShippingType(criteria.getShippingType()));
+			shape.and("shippingType", criteria.getShippingType(), CourierRateSpecification.hasShippingType(criteria.getShippingType()));
 		}
 
 		if (criteria.getSeaFreightMode() != null) {
-			spec = spec.and(CourierRateSpecification.hasSeaFreightMode(criteria.getSeaFreightMode()));
+			shape.and("seaFreightMode", criteria.getSeaFreightMode(), CourierRateSpecification.hasSeaFreightMode(criteria.getSeaFreightMode()));
 		}
 
 		if (criteria.getOrigin() != null) {
-			spec = spec.and(CourierRateSpecification.hasOrigin(criteria.getOrigin()));
+			shape.and("origin", criteria.getOrigin(), CourierRateSpecification.hasOrigin(criteria.getOrigin()));
 		}
 
 		if (criteria.getDestination() != null) {
-			spec = spec.and(CourierRateSpecification.hasDestination(criteria.getDestination()));
+			shape.and("destination", criteria.getDestination(), CourierRateSpecification.hasDestination(criteria.getDestination()));
 		}
 
 		if (criteria.getOriginId() != null) {
-			spec = spec.and(CourierRateSpecification.hasOriginId(criteria.getOriginId()));
+			shape.and("originId", criteria.getOriginId(), CourierRateSpecification.hasOriginId(criteria.getOriginId()));
 		}
 
 		if (criteria.getDestinationId() != null) {
-			spec = spec.and(CourierRateSpecification.hasDestinationId(criteria.getDestinationId()));
+			shape.and("destinationId", criteria.getDestinationId(), CourierRateSpecification.hasDestinationId(criteria.getDestinationId()));
 		}
 
 		if (criteria.getActiveOnDate() != null) {
-			spec = spec.and(CourierRateSpecification.isActiveOnDate(criteria.getActiveOnDate()));
+			shape.and("activeOnDate", criteria.getActiveOnDate(), CourierRateSpecification.isActiveOnDate(criteria.getActiveOnDate()));
 		}
 
 		if (criteria.getEffectiveFromAfter() != null) {
-			spec = spec.and(CourierRateSpecification.hasEffectiveFromAfter(criteria.getEffectiveFromAfter()));
+			shape.and("effectiveFromAfter", criteria.getEffectiveFromAfter(), CourierRateSpecification.hasEffectiveFromAfter(criteria.getEffectiveFromAfter()));
 		}
 
 		if (criteria.getEffectiveToBefore() != null) {
-			spec = spec.and(CourierRateSpecification.hasEffectiveToBefore(criteria.getEffectiveToBefore()));
+			shape.and("effectiveToBefore", criteria.getEffectiveToBefore(), CourierRateSpecification.hasEffectiveToBefore(criteria.getEffectiveToBefore()));
 		}
 
 		if (criteria.getContainerTypeId() != null) {
-			spec = spec.and(CourierRateSpecification.hasContainerType(criteria.getContainerTypeId()));
+			shape.and("containerTypeId", criteria.getContainerTypeId(), CourierRateSpecification.hasContainerType(criteria.getContainerTypeId()));
 		}
 
 		if (criteria.getMaxTransitDays() != null) {
-			spec = spec.and(CourierRateSpecification.hasMaxTransitDays(criteria.getMaxTransitDays()));
+			shape.and("maxTransitDays", criteria.getMaxTransitDays(), CourierRateSpecification.hasMaxTransitDays(criteria.getMaxTransitDays()));
 		}
 
 		if (criteria.getDescription() != null) {
-			spec = spec.and(CourierRateSpecification.hasDescriptionContaining(criteria.getDescription()));
+			shape.and("description", criteria.getDescription(), CourierRateSpecification.hasDescriptionContaining(criteria.getDescription()));
 		}
 
 		if (criteria.getIsActive() != null) {
-			spec = spec.and(CourierRateSpecification.hasActiveStatus(criteria.getIsActive()));
+			shape.and("isActive", criteria.getIsActive(), CourierRateSpecification.hasActiveStatus(criteria.getIsActive()));
 		}
 
 		if (criteria.isCurrentlyActiveFilter()) {
-			spec = spec.and(CourierRateSpecification.isCurrentlyActive());
+			shape.and("currentlyActive", true, CourierRateSpecification.isCurrentlyActive());
 		}
 
 		// Create pageable with sorting
@@ -501,10 +780,35 @@ public class CourierRateService {
 				criteria.getSafeSize(),
 				sort);
 
+		shape.with("sort", sort);
+		quoteMetrics.record("spec_build", tags, System.nanoTime() - specStartNanos);
+
 		// Execute query and convert to DTO
-		Page<CourierRate> ratePage = courierRateRepository.findAll(spec, pageable);
+		Page<CourierRate> ratePage = quoteMetrics.time("query", tags, () -> queryShapeStats.execute(shape,
+				() -> courierRateRepository.findAll(shape.getSpecification(), pageable), Page::getNumberOfElements));
+		quoteMetrics.recordCandidates(tags, ratePage.getNumberOfElements());
+		quoteMetrics.timeResponseSerialization(tags);
 
-		return ratePage.map(CourierRateDto::new);
+		return quoteMetrics.time("mapping", tags, () -> ratePage.map(CourierRateDto::new));
+	}
+
+	/**
+	 * {@link #searchRatesAdvanced} followed by the matching archived rates, as one result:
+	 * pages run through the live matches first (exactly as without archived rates), then on
+	 * through the archived ones, which are read from their history versions
+	 */
+	@Transactional(value = "transactionManager", readOnly = true)
+	public Page<CourierRateDto> searchRatesAdvancedIncludingArchived(CourierRateSearchCriteriaDto criteria) {
+		Page<CourierRateDto> live = searchRatesAdvanced(criteria);
+		Pageable pageable = live.getPageable();
+		List<CourierRateDto> content = new ArrayList<>(live.getContent());
+		int remaining = pageable.getPageSize() - content.size();
+		long archivedTotal = rateHistoryService.countArchivedRates(criteria);
+		if (remaining > 0 && archivedTotal > 0) {
+			long archivedOffset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+			content.addAll(rateHistoryService.findArchivedRates(criteria, archivedOffset, remaining));
+		}
+		return new PageImpl<>(content, pageable, live.getTotalElements() + archivedTotal);
 	}
 
 	/**
@@ -558,4 +862,16 @@ public class CourierRateService {
 		lclRate.setDescription(rateDto.getDescription());
 		return lclRate;
 	}
+
+	/**
+	 * Outcome of an upsert: the rate as written and whether it was created, or replayed
+	 * from an earlier request with the same idempotency key
+	 */
+	@Data
+	@AllArgsConstructor
+	public static class RateUpsert {
+		private CourierRateDto rate;
+		private boolean created;
+		private boolean replayed;
+	}
 }
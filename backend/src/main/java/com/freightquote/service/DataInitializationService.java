@@ -34,7 +34,16 @@ public class DataInitializationService implements CommandLineRunner {
             return; // Data already initialized
         }
         
-        List<Location> locations = Arrays.asList(
+        List<Location> locations = defaultLocations();
+        locationRepository.saveAll(locations);
+        System.out.println("Initialized " + locations.size() + " locations");
+    }
+    
+    /**
+     * Seed locations, in insertion order (also used by the synthetic rate-book generator)
+     */
+    public static List<Location> defaultLocations() {
+        return Arrays.asList(
             // Major Sea Ports
             createLocation("SHP_USNY", "Port of New York", "United States", "USA", "USNYC", Location.Type.SEA_PORT),
             createLocation("SHP_USLB", "Port of Long Beach", "United States", "USA", "USLBG", Location.Type.SEA_PORT),
@@ -150,9 +159,6 @@ public class DataInitializationService implements CommandLineRunner {
 
 
         );
-        
-        locationRepository.saveAll(locations);
-        System.out.println("Initialized " + locations.size() + " locations");
     }
     
     private void initializeContainerTypes() {
@@ -161,7 +167,16 @@ public class DataInitializationService implements CommandLineRunner {
             return; // Data already initialized
         }
         
-        List<ContainerType> containerTypes = Arrays.asList(
+        List<ContainerType> containerTypes = defaultContainerTypes();
+        containerTypeRepository.saveAll(containerTypes);
+        System.out.println("Initialized " + containerTypes.size() + " container types");
+    }
+    
+    /**
+     * Seed container types, in insertion order (also used by the synthetic rate-book generator)
+     */
+    public static List<ContainerType> defaultContainerTypes() {
+        return Arrays.asList(
             // Standard 20ft containers
             createContainerType("20GP", "20ft General Purpose", 
                 "Standard 20-foot dry container for general cargo",
@@ -222,12 +237,9 @@ public class DataInitializationService implements CommandLineRunner {
                 new BigDecimal("12.03"), new BigDecimal("2.35"), new BigDecimal("2.39"),
                 new BigDecimal("45000"), new BigDecimal("5000"), false)
         );
-        
-        containerTypeRepository.saveAll(containerTypes);
-        System.out.println("Initialized " + containerTypes.size() + " container types");
     }
     
-    private Location createLocation(String Code, String name, String country, String countryCode, 
+    private static Location createLocation(String Code, String name, String country, String countryCode, 
                                   String portCode, Location.Type locationType) {
         Location location = new Location();
         location.setCode(Code);
@@ -239,7 +251,7 @@ public class DataInitializationService implements CommandLineRunner {
         return location;
     }
     
-    private ContainerType createContainerType(String code, String name, String description,
+    private static ContainerType createContainerType(String code, String name, String description,
                                             BigDecimal length, BigDecimal width, BigDecimal height,
                                             BigDecimal maxGrossWeight, BigDecimal tareWeight, boolean isRefrigerated) {
         ContainerType containerType = new ContainerType();
@@ -0,0 +1,176 @@
+package com.freightquote.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.entity.RateIdempotencyKey;
+import com.freightquote.exception.IdempotencyKeyException;
+import com.freightquote.repository.RateIdempotencyKeyRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Idempotency keys of rate upserts: the response a key produced, so a retry of the same
+ * request is answered with that response instead of being applied again
+ */
+@Service
+public class IdempotencyKeyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyService.class);
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Autowired
+    private RateIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * Reserve the key for this request in the current transaction, before anything is
+     * written. The key's row is inserted first: a concurrent request with the same key
+     * waits on it until this transaction completes, then sees its response (or takes the
+     * key over if this one rolled back).
+     *
+     * @return the stored response, if the key was already used for this request
+     * @throws IdempotencyKeyException if the key is malformed or was used for a different request
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public Optional<StoredResponse> reserve(String key, String requestHash) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        RateIdempotencyKey existing = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO rate_idempotency_keys (idempotency_key, request_hash, created_at) VALUES (?, ?, ?)")) {
+                insert.setString(1, key);
+                insert.setString(2, requestHash);
+                insert.setTimestamp(3, Timestamp.from(Instant.now()));
+                insert.executeUpdate();
+                return null;
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e)) {
+                    throw e;
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT request_hash, response_status, "
+                    + "response_body FROM rate_idempotency_keys WHERE idempotency_key = ? FOR UPDATE")) {
+                select.setString(1, key);
+                try (ResultSet result = select.executeQuery()) {
+                    if (!result.next()) {
+                        throw new IllegalStateException("Idempotency-Key '" + key + "' vanished while reserving it");
+                    }
+                    RateIdempotencyKey entry = new RateIdempotencyKey(key, result.getString(1));
+                    entry.setResponseStatus(result.getInt(2));
+                    entry.setResponseBody(result.getString(3));
+                    return entry;
+                }
+            }
+        });
+        if (existing == null) {
+            return Optional.empty();
+        }
+        if (!existing.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyException("Idempotency-Key '" + key + "' was already used for a different request");
+        }
+        try {
+            return Optional.of(new StoredResponse(existing.getResponseStatus(),
+                    objectMapper.readValue(existing.getResponseBody(), CourierRateDto.class)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored response of Idempotency-Key '" + key + "'", e);
+        }
+    }
+
+    /**
+     * Store the response to the request that reserved this key, in the transaction that
+     * reserved it
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void record(String key, int status, CourierRateDto body) {
+        RateIdempotencyKey entry = idempotencyKeyRepository.findById(key)
+                .orElseThrow(() -> new IllegalStateException("Idempotency-Key '" + key + "' was not reserved"));
+        entry.setRateId(body.getId());
+        entry.setResponseStatus(status);
+        try {
+            entry.setResponseBody(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store response of Idempotency-Key '" + key + "'", e);
+        }
+        idempotencyKeyRepository.save(entry);
+    }
+
+    /**
+     * SHA-256 of the request as JSON, with map entries sorted so equal requests hash equally
+     */
+    public String requestHash(CourierRateDto rateDto) {
+        try {
+            byte[] json = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(rateDto);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash rate upsert request", e);
+        }
+    }
+
+    /**
+     * Drop keys older than idempotency.retention-hours; every instance may run this
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}", initialDelayString = "${idempotency.purge-interval-ms:3600000}")
+    @Transactional("transactionManager")
+    public void purgeExpired() {
+        int deleted = idempotencyKeyRepository.deleteOlderThan(Instant.now().minus(Duration.ofHours(retentionHours)));
+        if (deleted > 0) {
+            log.info("Purged {} rate idempotency keys older than {} h", deleted, retentionHours);
+        }
+    }
+
+    /**
+     * Integrity constraint violation (SQLSTATE class 23); with the insert above that can
+     * only be the key's primary key
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+
+    /**
+     * Status and body of the response to the request that first used a key
+     */
+    @Data
+    @AllArgsConstructor
+    public static class StoredResponse {
+        private int status;
+        private CourierRateDto body;
+    }
+}
@@ -2,10 +2,16 @@ package com.freightquote.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.freightquote.dto.MultiGetResultDto;
+import com.freightquote.entity.ChangeLogEntry.EntityType;
+import com.freightquote.entity.ChangeLogEntry.Operation;
 import com.freightquote.entity.Location;
 import com.freightquote.repository.LocationRepository;
 
@@ -15,6 +21,15 @@ public class LocationService {
 	@Autowired
 	private LocationRepository locationRepository;
 
+	@Autowired
+	private RateSnapshotService rateSnapshotService;
+
+	@Autowired
+	private ChangeLogService changeLogService;
+
+	@Value("${bulk-get.max-ids:200}")
+	private int maxBulkIds;
+
 	public List<Location> getAllLocations() {
 		return locationRepository.findAll();
 	}
@@ -27,6 +42,28 @@ public class LocationService {
 		return locationRepository.findByCode(code);
 	}
 
+	/**
+	 * Locations for the given ids in request order, with unknown ids listed as missing
+	 */
+	public MultiGetResultDto<Long, Location> getLocationsByIds(List<Long> ids) {
+		Set<Long> requested = MultiGetResultDto.requestedKeys(ids, maxBulkIds);
+		if (requested.isEmpty()) {
+			return new MultiGetResultDto<>();
+		}
+		return MultiGetResultDto.inRequestOrder(requested, locationRepository.findAllById(requested), Location::getId);
+	}
+
+	/**
+	 * Locations for the given codes in request order, with unknown codes listed as missing
+	 */
+	public MultiGetResultDto<String, Location> getLocationsByCodes(List<String> codes) {
+		Set<String> requested = MultiGetResultDto.requestedKeys(codes, maxBulkIds);
+		if (requested.isEmpty()) {
+			return new MultiGetResultDto<>();
+		}
+		return MultiGetResultDto.inRequestOrder(requested, locationRepository.findByCodeIn(requested), Location::getCode);
+	}
+
 	public List<Location> getLocationsByCountry(String countryCode) {
 		return locationRepository.findByCountryCode(countryCode);
 	}
@@ -54,13 +91,21 @@ public class LocationService {
 		return locationRepository.findDistinctCountryCodes();
 	}
 
+	@Transactional("transactionManager")
 	public Location saveLocation(Location location) {
 		validateLocation(location);
-		return locationRepository.save(location);
+		Location saved = locationRepository.save(location);
+		changeLogService.record(EntityType.LOCATION, saved.getId(), Operation.UPSERT);
+		// Quotes are priced from the rate snapshot, which embeds locations
+		rateSnapshotService.requestRebuild();
+		return saved;
 	}
 
+	@Transactional("transactionManager")
 	public void deleteLocation(Long id) {
 		locationRepository.deleteById(id);
+		changeLogService.record(EntityType.LOCATION, id, Operation.DELETE);
+		rateSnapshotService.requestRebuild();
 	}
 
 	public boolean existsByCode(String locationCode) {
@@ -0,0 +1,68 @@
+package com.freightquote.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.NormalizedRatesDto;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.Location;
+
+/**
+ * Builds the normalized rate response: rates plus a side-loaded dictionary of the
+ * locations and container types they reference, so repeated origins and destinations
+ * are serialized once instead of once per rate
+ */
+@Service
+public class NormalizedRatesService {
+
+    @Autowired
+    private ContainerTypeService containerTypeService;
+
+    public NormalizedRatesDto normalize(List<CourierRateDto> rates) {
+        NormalizedRatesDto normalized = new NormalizedRatesDto();
+        normalized.setRates(rates);
+
+        Map<Long, Location> locations = normalized.getLocations();
+        Set<Long> containerTypeIds = new TreeSet<>();
+        for (CourierRateDto rate : rates) {
+            addLocation(locations, rate.getOrigin());
+            addLocation(locations, rate.getDestination());
+            if (rate.getRatesForFCL() != null) {
+                containerTypeIds.addAll(rate.getRatesForFCL().keySet());
+            }
+        }
+
+        if (!containerTypeIds.isEmpty()) {
+            // Small, query-cached table: one lookup instead of one per id
+            Map<Long, ContainerType> containerTypes = normalized.getContainerTypes();
+            for (ContainerType containerType : containerTypeService.getAllContainerTypes()) {
+                if (containerTypeIds.contains(containerType.getId())) {
+                    containerTypes.put(containerType.getId(), containerType);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    public NormalizedRatesDto normalize(Page<CourierRateDto> ratePage) {
+        NormalizedRatesDto normalized = normalize(ratePage.getContent());
+        normalized.setPage(ratePage.getNumber());
+        normalized.setSize(ratePage.getSize());
+        normalized.setTotalElements(ratePage.getTotalElements());
+        normalized.setTotalPages(ratePage.getTotalPages());
+        return normalized;
+    }
+
+    private static void addLocation(Map<Long, Location> locations, Location location) {
+        if (location != null && location.getId() != null) {
+            locations.putIfAbsent(location.getId(), location);
+        }
+    }
+}
@@ -1,46 +1,230 @@
 package com.freightquote.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.freightquote.dto.CourierRateDto;
 import com.freightquote.dto.ShippingRequirementDto;
 import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.filter.RequestDeadline;
+import com.freightquote.filter.SqlStatementRecorder;
+import com.freightquote.filter.SqlStatementRecorder.Recording;
+import com.freightquote.jfr.QuoteEvent;
+import com.freightquote.metrics.QueryShapeStats;
+import com.freightquote.metrics.QuoteMetrics;
 import com.freightquote.repository.CourierRateRepository;
+import com.freightquote.specification.CourierRateSpecification;
 import com.freightquote.specification.QuoteSpecification;
+import com.freightquote.specification.SpecificationShape;
+
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Service class dedicated to freight quotation generation and matching
  */
 @Service
 public class QuoteService {
-    
+
+    /**
+     * Number of rates read and priced per database round trip when streaming quotes
+     */
+    private static final int STREAM_BATCH_SIZE = 50;
+
     @Autowired
     private CourierRateRepository courierRateRepository;
-    
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private QuoteMetrics quoteMetrics;
+
+    @Autowired
+    private QueryShapeStats queryShapeStats;
+
     /**
      * Find matching rates and generate quotations based on shipping requirements
      * Uses QuoteSpecification for clean and maintainable filtering logic
      */
     public List<CourierRateDto> findMatchingQuotes(ShippingRequirementDto requirement) {
-        // Build specification using dedicated QuoteSpecification class
+        return findMatchingQuotes(requirement, rateSnapshotService.getSnapshot());
+    }
+
+    /**
+     * Price against the given rate snapshot without touching the database, or query
+     * the database when no snapshot is available (null)
+     */
+    public List<CourierRateDto> findMatchingQuotes(ShippingRequirementDto requirement, RateSnapshot snapshot) {
+        Tags tags = quoteMetrics.tags(QuoteMetrics.QUOTE, requirement.getShippingType(), requirement.getSeaFreightMode());
+        QuoteEvent event = new QuoteEvent();
+        event.begin();
+        String outcome = "error";
+        int candidates = 0;
+        int priced = 0;
+
+        try {
+            List<CourierRate> matchingRates;
+            if (snapshot != null) {
+                matchingRates = quoteMetrics.time("snapshot_match", tags, () -> snapshot.findMatching(requirement));
+            } else {
+                // Build specification using dedicated QuoteSpecification class
+                SpecificationShape<CourierRate> shape = quoteMetrics.time("spec_build", tags,
+                        () -> QuoteSpecification.buildQuoteShape(requirement));
+
+                // Execute query with specifications
+                matchingRates = quoteMetrics.time("query", tags, () -> queryShapeStats.execute(shape,
+                        () -> courierRateRepository.findAll(shape.getSpecification()), List::size));
+            }
+            candidates = matchingRates.size();
+            quoteMetrics.recordCandidates(tags, matchingRates.size());
+            quoteMetrics.timeResponseSerialization(tags);
+
+            // Generate quotations, timing DTO mapping and pricing separately
+            List<CourierRateDto> quotes = new ArrayList<>(matchingRates.size());
+            Map<String, Long> pricingNanos = new HashMap<>();
+            long mappingNanos = 0;
+            for (CourierRate rate : matchingRates) {
+                long startNanos = System.nanoTime();
+                CourierRateDto quotation = new CourierRateDto(rate);
+                long mappedNanos = System.nanoTime();
+                quotation.setRate(rate.getQuotation(requirement));
+                long pricedNanos = System.nanoTime();
+
+                mappingNanos += mappedNanos - startNanos;
+                pricingNanos.merge(quotableType(rate), pricedNanos - mappedNanos, Long::sum);
+                quotes.add(quotation);
+            }
+            quoteMetrics.record("mapping", tags, mappingNanos);
+            quoteMetrics.recordPricing(tags, pricingNanos);
+
+            priced = quotes.size();
+            outcome = "success";
+            return quotes;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            commit(event, requirement, snapshot != null ? "snapshot" : "database", outcome, candidates, priced);
+        }
+    }
+
+    /**
+     * Commit a quote event, whether the request succeeded or not
+     */
+    private static void commit(QuoteEvent event, ShippingRequirementDto requirement, String source, String outcome,
+            int candidates, int quotes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.originId = requirement.getOrigin() != null ? requirement.getOrigin() : 0;
+            event.destinationId = requirement.getDestination() != null ? requirement.getDestination() : 0;
+            event.shippingType = requirement.getShippingType() != null ? requirement.getShippingType().name() : null;
+            event.seaFreightMode = requirement.getSeaFreightMode() != null ? requirement.getSeaFreightMode().name() : null;
+            event.source = source;
+            event.outcome = outcome;
+            event.candidates = candidates;
+            event.quotes = quotes;
+            event.commit();
+        }
+    }
+
+    private static String outcomeOf(Throwable error) {
+        return RequestDeadline.findTimeout(error) != null ? "timeout" : "error";
+    }
+
+    /**
+     * Name of the Quotable implementation that prices the given rate
+     */
+    private static String quotableType(CourierRate rate) {
+        List<FreightRate> details = rate.getFreightDetails();
+        return details == null || details.isEmpty() ? "none" : Hibernate.getClass(details.get(0)).getSimpleName();
+    }
+
+    /**
+     * Non-blocking variant of findMatchingQuotes that emits priced quotes as they are read.
+     *
+     * Rates matching the same QuoteSpecification are read in id-ordered keyset batches of
+     * STREAM_BATCH_SIZE. The next batch is only queried once the subscriber has consumed
+     * the previous one, so a slow client holds no connection and no more than one batch
+     * in memory. Database work runs on the bounded-elastic scheduler, never on the
+     * caller's thread; the caller's request deadline is captured here and applies to
+     * every batch. Each subscription commits one QuoteEvent when it completes, fails or
+     * is cancelled.
+     */
+    public Flux<CourierRateDto> streamMatchingQuotes(ShippingRequirementDto requirement) {
         Specification<CourierRate> spec = QuoteSpecification.buildQuoteSpecification(requirement);
-        
-        // Execute query with specifications
-        List<CourierRate> matchingRates = courierRateRepository.findAll(spec);
-        
-        // Generate quotations and sort results
-        return matchingRates.stream()
-                .map(rate -> {
-                    // Calculate quotation for this rate
-                    var quotation = new CourierRateDto(rate);
-                    quotation.setRate(rate.getQuotation(requirement));
-                    return quotation;
-                })
-                .collect(Collectors.toList());
+        Long deadline = RequestDeadline.currentNanos();
+        Recording recording = SqlStatementRecorder.current();
+
+        Flux<CourierRateDto> quotes = fetchQuoteBatch(spec, requirement, null, deadline, recording)
+                // Container-type joins can return several rows per rate, so a short batch does
+                // not mean the end; stop only when a batch comes back empty
+                .expand(batch -> batch.isEmpty()
+                        ? Mono.empty()
+                        : fetchQuoteBatch(spec, requirement, batch.get(batch.size() - 1).getId(), deadline, recording))
+                .concatMapIterable(batch -> batch, 1);
+
+        return Flux.defer(() -> {
+            QuoteEvent event = new QuoteEvent();
+            event.begin();
+            AtomicInteger priced = new AtomicInteger();
+            AtomicReference<String> outcome = new AtomicReference<>("cancelled");
+            return quotes
+                    .doOnNext(quote -> priced.incrementAndGet())
+                    .doOnComplete(() -> outcome.set("success"))
+                    .doOnError(e -> outcome.set(outcomeOf(e)))
+                    // Every rate read is priced, so candidates and quotes are the same
+                    .doFinally(signal -> commit(event, requirement, "stream", outcome.get(), priced.get(), priced.get()));
+        });
+    }
+
+    /**
+     * Read and price one batch of matching rates after the given id inside its own
+     * read-only transaction, so lazy pricing details are loaded before it ends. Batches
+     * after the first are built on a scheduler thread, which carries no deadline of its
+     * own, so the deadline and statement recording captured by streamMatchingQuotes are
+     * passed in explicitly.
+     */
+    private Mono<List<CourierRateDto>> fetchQuoteBatch(Specification<CourierRate> spec,
+            ShippingRequirementDto requirement, Long afterId, Long deadline, Recording recording) {
+        Specification<CourierRate> batchSpec = spec.and(CourierRateSpecification.hasIdGreaterThan(afterId));
+
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        return Mono.fromCallable(RequestDeadline.propagate(deadline, SqlStatementRecorder.propagate(recording,
+                    () -> readOnlyTransaction.execute(status ->
+                            courierRateRepository.findBy(batchSpec,
+                                    query -> query.sortBy(Sort.by("id")).limit(STREAM_BATCH_SIZE).all())
+                                    .stream()
+                                    .map(rate -> toQuote(rate, requirement))
+                                    .collect(Collectors.toList())))))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private CourierRateDto toQuote(CourierRate rate, ShippingRequirementDto requirement) {
+        // Calculate quotation for this rate
+        var quotation = new CourierRateDto(rate);
+        quotation.setRate(rate.getQuotation(requirement));
+        return quotation;
     }
 }
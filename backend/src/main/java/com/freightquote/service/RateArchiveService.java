@@ -0,0 +1,175 @@
+package com.freightquote.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.freightquote.entity.ChangeLogEntry.Operation;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.repository.CourierRateRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Moves expired courier rates and their pricing components into the archive tables
+ * (courier_rates_archive, freight_details_archive).
+ *
+ * Each batch is one short transaction that locks the lanes of the rates it moves, like
+ * any rate write, so it never deletes a rate under a concurrent update, and then the rows
+ * themselves. For the live rate book an archived rate is a delete: it goes to the change
+ * log, so delta sync clients and other instances drop it, and the snapshot is rebuilt.
+ * Its history version stays open, which is what ?includeArchived=true reads.
+ *
+ * A run pauses between batches and can take minutes, so the scheduled trigger only hands
+ * it to a thread of its own; the shared scheduler thread stays free for the change log
+ * tailer, heartbeats and purges. A trigger while a run is still going is skipped.
+ */
+@Service
+public class RateArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateArchiveService.class);
+
+    @Autowired
+    private CourierRateRepository courierRateRepository;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private RateLaneLocks rateLaneLocks;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rate-archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-archive.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${rate-archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${rate-archive.batch-pause-ms:200}")
+    private long batchPauseMillis;
+
+    private final ExecutorService archiver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${rate-archive.interval-ms:3600000}", initialDelayString = "${rate-archive.interval-ms:3600000}")
+    public void archiveExpiredRates() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        archiver.execute(() -> {
+            try {
+                int archived = archiveRatesEndedBefore(LocalDate.now().minusDays(retentionDays));
+                if (archived > 0) {
+                    log.info("Archived {} courier rates that ended more than {} days ago", archived, retentionDays);
+                }
+            } catch (RuntimeException e) {
+                log.error("Archiving expired courier rates failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Interrupts a running archival between batches; batches already committed stay archived
+     */
+    @PreDestroy
+    public void shutdown() {
+        archiver.shutdownNow();
+    }
+
+    /**
+     * Archive every rate whose effectiveTo is before the cutoff, batch by batch, pausing
+     * between batches so replicas and concurrent writers keep up
+     *
+     * @return Number of rates archived
+     */
+    public int archiveRatesEndedBefore(LocalDate cutoff) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long withoutVersion = courierRateRepository.countExpiredRatesWithoutOpenVersion(cutoff);
+        if (withoutVersion > 0) {
+            log.warn("Not archiving {} courier rates that ended before {}: they have no open history version "
+                    + "(inserted around the backend?) until the rate history backfill records one", withoutVersion, cutoff);
+        }
+        int total = 0;
+        while (true) {
+            Integer moved = transaction.execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(batchPauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (total > 0) {
+            rateSnapshotService.requestRebuild();
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDate cutoff) {
+        List<CourierRate> candidates = courierRateRepository.findArchivableRates(cutoff, Limit.of(batchSize));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        // Writers hold their lane until commit; once we hold it, no write to these rates is in flight
+        for (CourierRate rate : candidates) {
+            rateLaneLocks.lockUntilCompletion(rate);
+        }
+        // Read the rates again under the locks, skipping any a write extended or removed meanwhile
+        entityManager.clear();
+        List<CourierRate> rates = courierRateRepository.lockArchivableRates(
+                candidates.stream().map(CourierRate::getId).collect(Collectors.toList()), cutoff);
+        if (rates.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rates.stream().map(CourierRate::getId).collect(Collectors.toList());
+        for (CourierRate rate : rates) {
+            changeLogService.recordRate(rate, Operation.DELETE);
+        }
+
+        Instant archivedAt = Instant.now();
+        courierRateRepository.copyToArchive(ids, archivedAt);
+        courierRateRepository.copyFreightDetailsToArchive(ids, archivedAt);
+        courierRateRepository.deleteFreightDetailsOfRates(ids);
+        courierRateRepository.deleteArchivedRates(ids);
+        // A batch with skipped rates ends the run early; the next run picks up the rest
+        return ids.size();
+    }
+}
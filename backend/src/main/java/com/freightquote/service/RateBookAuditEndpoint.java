@@ -0,0 +1,36 @@
+package com.freightquote.service;
+
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.freightquote.dto.RateBookAuditReportDto;
+
+/**
+ * /actuator/ratebookaudit: GET returns the report of the last rate book audit (404 before
+ * the first one), POST runs an audit now and returns its report; compact=true also merges
+ * the merge candidates. POST needs management.endpoint.ratebookaudit.access=unrestricted.
+ */
+@Component
+@Endpoint(id = "ratebookaudit", defaultAccess = Access.READ_ONLY)
+public class RateBookAuditEndpoint {
+
+    private final RateBookAuditService rateBookAuditService;
+
+    public RateBookAuditEndpoint(RateBookAuditService rateBookAuditService) {
+        this.rateBookAuditService = rateBookAuditService;
+    }
+
+    @ReadOperation
+    public RateBookAuditReportDto lastReport() {
+        return rateBookAuditService.getLastReport();
+    }
+
+    @WriteOperation
+    public RateBookAuditReportDto audit(@Nullable Boolean compact) {
+        return rateBookAuditService.audit(Boolean.TRUE.equals(compact));
+    }
+}
@@ -0,0 +1,494 @@
+package com.freightquote.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.RateBookAuditReportDto;
+import com.freightquote.dto.RateBookAuditReportDto.MergeCandidate;
+import com.freightquote.dto.RateBookAuditReportDto.Overlap;
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ChangeLogEntry.Operation;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.Location;
+import com.freightquote.entity.SeaFreightRate;
+import com.freightquote.repository.CourierRateRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Audits the whole rate book in one pass: every rate is read once from a cursor, grouped
+ * by lane (courier, origin, destination and shipping type) and each lane is sorted once by
+ * period and swept, so all overlaps are found in O(n log n + overlapping periods) without
+ * a conflict query per rate. Two rates with overlapping periods conflict like they do for
+ * the conflict checks on write: a WATER rate without a sea freight mode conflicts with
+ * rates of every mode, and FCL rates only if they share a container type or either of
+ * them has none. Each conflicting pair is counted once.
+ *
+ * Runs of back-to-back periods with identical pricing are reported as merge candidates
+ * and, when compaction is on, merged into their first rate (extended to the end of the
+ * run) under the lane lock. Runs stay within one sea freight mode. A run is skipped if any of its rates changed since the audit
+ * read them, and rates involved in an overlap are never merged.
+ *
+ * The scheduled audit reads the whole rate book, so it runs on a thread of its own
+ * rather than on the shared scheduler thread; a trigger while it is still running is
+ * skipped.
+ */
+@Service
+public class RateBookAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateBookAuditService.class);
+
+    private static final Comparator<LaneRate> BY_PERIOD = Comparator
+            .comparing((LaneRate rate) -> rate.effectiveFrom)
+            .thenComparing(rate -> rate.effectiveTo)
+            .thenComparingLong(rate -> rate.id);
+
+    @Autowired
+    private CourierRateRepository courierRateRepository;
+
+    @Autowired
+    private RateLaneLocks rateLaneLocks;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rate-book-audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-book-audit.compact:false}")
+    private boolean compactOnSchedule;
+
+    @Value("${rate-book-audit.max-reported:1000}")
+    private int maxReported;
+
+    private volatile RateBookAuditReportDto lastReport;
+
+    private final ExecutorService auditor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-book-auditor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean scheduledRunning = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${rate-book-audit.interval-ms:86400000}", initialDelayString = "${rate-book-audit.initial-delay-ms:600000}")
+    public void scheduledAudit() {
+        if (!enabled || !scheduledRunning.compareAndSet(false, true)) {
+            return;
+        }
+        auditor.execute(() -> {
+            try {
+                audit(compactOnSchedule);
+            } catch (RuntimeException e) {
+                log.error("Scheduled rate book audit failed", e);
+            } finally {
+                scheduledRunning.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        auditor.shutdownNow();
+    }
+
+    /**
+     * Report of the most recent audit, or null if none has run yet
+     */
+    public RateBookAuditReportDto getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Audit the rate book and, if compact is set, merge the merge candidates
+     */
+    public synchronized RateBookAuditReportDto audit(boolean compact) {
+        RateBookAuditReportDto report = new RateBookAuditReportDto();
+        report.setStartedAt(Instant.now());
+        long start = System.nanoTime();
+
+        Map<Lane, List<LaneRate>> lanes = readLanes(report);
+        List<List<LaneRate>> runs = scanLanes(lanes, report);
+        List<MergeCandidate> candidates = reportMergeCandidates(runs, report);
+
+        if (compact) {
+            report.setCompacted(true);
+            for (int i = 0; i < runs.size(); i++) {
+                if (mergeRun(runs.get(i))) {
+                    candidates.get(i).setMerged(true);
+                    report.setRatesMerged(report.getRatesMerged() + runs.get(i).size() - 1);
+                }
+            }
+            if (report.getRatesMerged() > 0) {
+                rateSnapshotService.requestRebuild();
+            }
+        }
+
+        report.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        lastReport = report;
+        log.info("Rate book audit: {} rates in {} lanes, {} overlaps, {} merge candidates{} in {} ms",
+                report.getRatesScanned(), report.getLanesScanned(), report.getOverlapCount(),
+                report.getMergeCandidateCount(), compact ? ", " + report.getRatesMerged() + " rates merged" : "",
+                report.getDurationMs());
+        return report;
+    }
+
+    /**
+     * Audit the given rates without compacting them, as the scheduled audit does with the
+     * rates it reads
+     */
+    RateBookAuditReportDto auditRates(Collection<CourierRate> rates) {
+        RateBookAuditReportDto report = new RateBookAuditReportDto();
+        report.setStartedAt(Instant.now());
+        Map<Lane, List<LaneRate>> lanes = new LinkedHashMap<>();
+        rates.forEach(rate -> addToLane(lanes, rate));
+        report.setRatesScanned(rates.size());
+        reportMergeCandidates(scanLanes(lanes, report), report);
+        return report;
+    }
+
+    private Map<Lane, List<LaneRate>> readLanes(RateBookAuditReportDto report) {
+        Map<Lane, List<LaneRate>> lanes = new LinkedHashMap<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<CourierRate> rates = courierRateRepository.streamAll()) {
+                rates.forEach(rate -> {
+                    addToLane(lanes, rate);
+                    // Keep the persistence context (and heap) flat however many rows are read
+                    entityManager.detach(rate);
+                });
+            }
+        });
+        report.setRatesScanned(lanes.values().stream().mapToInt(List::size).sum());
+        return lanes;
+    }
+
+    private static void addToLane(Map<Lane, List<LaneRate>> lanes, CourierRate rate) {
+        lanes.computeIfAbsent(Lane.of(rate), lane -> new ArrayList<>()).add(new LaneRate(rate));
+    }
+
+    /**
+     * Report the overlaps of every lane and collect its merge runs
+     */
+    private List<List<LaneRate>> scanLanes(Map<Lane, List<LaneRate>> lanes, RateBookAuditReportDto report) {
+        report.setLanesScanned(lanes.size());
+        List<List<LaneRate>> runs = new ArrayList<>();
+        for (Map.Entry<Lane, List<LaneRate>> lane : lanes.entrySet()) {
+            List<LaneRate> rates = lane.getValue();
+            rates.sort(BY_PERIOD);
+            Set<Long> overlapping = new HashSet<>();
+            sweep(lane.getKey(), rates, overlapping, report);
+
+            // A HashMap, as rates other than WATER have no sea freight mode
+            Map<SeaFreightMode, List<LaneRate>> byMode = new HashMap<>();
+            for (LaneRate rate : rates) {
+                byMode.computeIfAbsent(rate.seaFreightMode, mode -> new ArrayList<>()).add(rate);
+            }
+            for (List<LaneRate> modeRates : byMode.values()) {
+                collectMergeRuns(modeRates, overlapping, runs);
+            }
+        }
+        return runs;
+    }
+
+    private List<MergeCandidate> reportMergeCandidates(List<List<LaneRate>> runs, RateBookAuditReportDto report) {
+        report.setMergeCandidateCount(runs.size());
+        List<MergeCandidate> candidates = new ArrayList<>(runs.size());
+        for (List<LaneRate> run : runs) {
+            MergeCandidate candidate = new MergeCandidate(
+                    run.stream().map(rate -> rate.id).collect(Collectors.toList()),
+                    run.get(0).effectiveFrom, run.get(run.size() - 1).effectiveTo, false);
+            candidates.add(candidate);
+            if (report.getMergeCandidates().size() < maxReported) {
+                report.getMergeCandidates().add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Report every conflicting pair of the given rates, sorted by period, once. The queue
+     * holds the rates still open at the current start date, ordered by end date.
+     */
+    private void sweep(Lane lane, List<LaneRate> rates, Set<Long> overlapping, RateBookAuditReportDto report) {
+        PriorityQueue<LaneRate> open = new PriorityQueue<>(Comparator.comparing((LaneRate rate) -> rate.effectiveTo));
+        for (LaneRate rate : rates) {
+            while (!open.isEmpty() && open.peek().effectiveTo.isBefore(rate.effectiveFrom)) {
+                open.poll();
+            }
+            for (LaneRate other : open) {
+                if (!conflicts(rate, other)) {
+                    continue;
+                }
+                overlapping.add(rate.id);
+                overlapping.add(other.id);
+                report.setOverlapCount(report.getOverlapCount() + 1);
+                if (report.getOverlaps().size() < maxReported) {
+                    LocalDate overlapTo = other.effectiveTo.isBefore(rate.effectiveTo) ? other.effectiveTo : rate.effectiveTo;
+                    report.getOverlaps().add(new Overlap(rate.courierName, lane.getOriginId(), lane.getDestinationId(),
+                            lane.getShippingType(), rate.seaFreightMode != null ? rate.seaFreightMode : other.seaFreightMode,
+                            sharedContainerType(rate, other), other.id, rate.id, rate.effectiveFrom, overlapTo));
+                }
+            }
+            open.add(rate);
+        }
+    }
+
+    /**
+     * Whether two rates of a lane with overlapping periods conflict, as for the conflict
+     * checks on write
+     */
+    private static boolean conflicts(LaneRate rate, LaneRate other) {
+        if (rate.seaFreightMode == null || other.seaFreightMode == null) {
+            return true;
+        }
+        if (rate.seaFreightMode != other.seaFreightMode) {
+            return false;
+        }
+        if (rate.seaFreightMode != SeaFreightMode.FCL || rate.containerTypeIds.isEmpty()
+                || other.containerTypeIds.isEmpty()) {
+            return true;
+        }
+        return sharedContainerType(rate, other) != null;
+    }
+
+    /**
+     * The first container type both rates price, null if none
+     */
+    private static Long sharedContainerType(LaneRate rate, LaneRate other) {
+        return rate.containerTypeIds.stream().filter(other.containerTypeIds::contains).findFirst().orElse(null);
+    }
+
+    /**
+     * Runs of two or more rates, each starting the day after the previous one ends, with the
+     * same pricing and no overlaps
+     */
+    private static void collectMergeRuns(List<LaneRate> rates, Set<Long> overlapping, List<List<LaneRate>> runs) {
+        List<LaneRate> run = new ArrayList<>();
+        for (LaneRate rate : rates) {
+            if (overlapping.contains(rate.id)) {
+                addRun(run, runs);
+                run = new ArrayList<>();
+                continue;
+            }
+            LaneRate last = run.isEmpty() ? null : run.get(run.size() - 1);
+            if (last != null && !(rate.effectiveFrom.equals(last.effectiveTo.plusDays(1))
+                    && rate.pricing.equals(last.pricing))) {
+                addRun(run, runs);
+                run = new ArrayList<>();
+            }
+            run.add(rate);
+        }
+        addRun(run, runs);
+    }
+
+    private static void addRun(List<LaneRate> run, List<List<LaneRate>> runs) {
+        if (run.size() > 1) {
+            runs.add(run);
+        }
+    }
+
+    /**
+     * Extend the first rate of the run to the end of the run and delete the others, as one
+     * write to the lane
+     *
+     * @return false if the run was left alone because a rate changed since the audit
+     */
+    private boolean mergeRun(List<LaneRate> run) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Boolean merged = transaction.execute(status -> {
+            // Lock before reading, so the reads below see every earlier write to the lane
+            rateLaneLocks.lockUntilCompletion(run.get(0).toLaneDto());
+
+            Map<Long, CourierRate> current = courierRateRepository
+                    .findByIdIn(run.stream().map(rate -> rate.id).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(CourierRate::getId, Function.identity()));
+            for (LaneRate rate : run) {
+                CourierRate now = current.get(rate.id);
+                if (now == null || !Objects.equals(now.getUpdatedAt(), rate.updatedAt)) {
+                    log.info("Skipping merge of rates {}: rate {} changed since the audit", current.keySet(), rate.id);
+                    return false;
+                }
+            }
+
+            CourierRate keeper = current.get(run.get(0).id);
+            for (LaneRate rate : run.subList(1, run.size())) {
+                CourierRate absorbed = current.get(rate.id);
+                courierRateRepository.delete(absorbed);
+                changeLogService.recordRate(absorbed, Operation.DELETE);
+                rateHistoryService.recordDeletion(absorbed.getId());
+            }
+            keeper.setEffectiveTo(run.get(run.size() - 1).effectiveTo);
+            CourierRate saved = courierRateRepository.save(keeper);
+            changeLogService.recordRate(saved, Operation.UPSERT);
+            rateHistoryService.recordVersion(saved);
+            return true;
+        });
+        return Boolean.TRUE.equals(merged);
+    }
+
+    /**
+     * Everything that prices or restricts a rate apart from its period, with amounts
+     * compared by value (5.0 equals 5.00)
+     */
+    private static List<Object> pricingKey(CourierRate rate) {
+        List<Object> key = new ArrayList<>(Arrays.asList(rate.getIsActive(), rate.getTransitDays(),
+                rate.getWeightLimit(), rate.getDimensionLimit(), rate.getDescription()));
+        List<List<Object>> details = new ArrayList<>();
+        for (FreightRate detail : rate.getFreightDetails()) {
+            List<Object> values = new ArrayList<>(Arrays.asList(detail.getClass().getSimpleName(),
+                    amount(detail.getRate()), detail.getCurrency(), detail.getDescription()));
+            if (detail instanceof AirFreightRate air) {
+                values.addAll(Arrays.asList(amount(air.getMinimumCharge()), amount(air.getFuelSurchargeRate()),
+                        amount(air.getSecuritySurcharge()), air.getWeightLimit()));
+            }
+            if (detail instanceof SeaFreightRate sea) {
+                values.addAll(Arrays.asList(amount(sea.getDocumentationFee()), amount(sea.getBunkerAdjustmentRate())));
+            }
+            if (detail instanceof LCLFreightRate lcl) {
+                values.add(amount(lcl.getLclServiceCharge()));
+            }
+            if (detail instanceof FCLFreightRate fcl) {
+                values.addAll(Arrays.asList(containerTypeId(fcl), amount(fcl.getTerminalHandlingCharge())));
+            }
+            details.add(values);
+        }
+        details.sort(Comparator.comparing(Object::toString));
+        key.add(details);
+        return key;
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
+
+    private static Long containerTypeId(FCLFreightRate rate) {
+        return rate.getContainerType() != null ? rate.getContainerType().getId() : null;
+    }
+
+    /**
+     * What the audit keeps of a rate: its period, pricing and the version it saw
+     */
+    private static final class LaneRate {
+
+        private final long id;
+        private final String courierName;
+        private final Long originId;
+        private final Long destinationId;
+        private final ShippingType shippingType;
+        private final SeaFreightMode seaFreightMode;
+        private final LocalDate effectiveFrom;
+        private final LocalDate effectiveTo;
+        private final Instant updatedAt;
+        private final List<Object> pricing;
+        private final List<Long> containerTypeIds;
+
+        private LaneRate(CourierRate rate) {
+            this.id = rate.getId();
+            this.courierName = rate.getCourierName();
+            this.originId = rate.getOrigin() != null ? rate.getOrigin().getId() : null;
+            this.destinationId = rate.getDestination() != null ? rate.getDestination().getId() : null;
+            this.shippingType = rate.getShippingType();
+            this.seaFreightMode = rate.getSeaFreightMode();
+            this.effectiveFrom = rate.getEffectiveFrom();
+            this.effectiveTo = rate.getEffectiveTo();
+            this.updatedAt = rate.getUpdatedAt();
+            this.pricing = pricingKey(rate);
+            this.containerTypeIds = rate.getFreightDetails().stream()
+                    .filter(FCLFreightRate.class::isInstance)
+                    .map(detail -> containerTypeId((FCLFreightRate) detail))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Enough of the rate for {@link RateLaneLocks} to find its lane
+         */
+        private CourierRateDto toLaneDto() {
+            CourierRateDto dto = new CourierRateDto();
+            dto.setCourierName(courierName);
+            dto.setOrigin(location(originId));
+            dto.setDestination(location(destinationId));
+            dto.setShippingType(shippingType);
+            return dto;
+        }
+
+        private static Location location(Long id) {
+            Location location = new Location();
+            location.setId(id);
+            return location;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static final class Lane {
+
+        private String courierName;
+        private Long originId;
+        private Long destinationId;
+        private ShippingType shippingType;
+
+        private static Lane of(CourierRate rate) {
+            return new Lane(
+                    rate.getCourierName() != null ? rate.getCourierName().trim().toLowerCase(Locale.ROOT) : "",
+                    rate.getOrigin() != null ? rate.getOrigin().getId() : null,
+                    rate.getDestination() != null ? rate.getDestination().getId() : null,
+                    rate.getShippingType());
+        }
+    }
+}
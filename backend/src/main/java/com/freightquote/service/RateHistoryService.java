@@ -0,0 +1,310 @@
+package com.freightquote.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.RateVersionDto;
+import com.freightquote.dto.RateVersionPayload;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.CourierRateVersion;
+import com.freightquote.repository.CourierRateRepository;
+import com.freightquote.repository.CourierRateVersionRepository;
+import com.freightquote.repository.LocationRepository;
+import com.freightquote.specification.RateVersionSpecification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Append-only rate history (courier_rate_versions) and the as-of reads served from it.
+ *
+ * Every rate write appends a version in the writing transaction, so history and rates
+ * never disagree. As-of lookups filter on the indexed version columns and only then
+ * rebuild rates from the payloads, which keep every freight detail row, so they are
+ * priced and matched by the same code and with the same charges as current rates.
+ */
+@Service
+public class RateHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateHistoryService.class);
+
+    /** CourierRate sort properties that have a column on the version table */
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "courierName", "shippingType", "seaFreightMode", "effectiveFrom", "effectiveTo", "transitDays", "isActive");
+
+    @Autowired
+    private CourierRateVersionRepository versionRepository;
+
+    @Autowired
+    private CourierRateRepository courierRateRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rate-history.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    /**
+     * Close the rate's current version and append its new state. Must run inside the
+     * transaction that writes the rate.
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void recordVersion(CourierRate rate) {
+        Instant now = Instant.now();
+        int latest = closeCurrentVersion(rate.getId(), now);
+        versionRepository.save(new CourierRateVersion(rate, latest + 1, toPayload(rate), now));
+    }
+
+    /**
+     * Close the current version of a deleted rate; as-of reads before now still see it
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long rateId) {
+        closeCurrentVersion(rateId, Instant.now());
+    }
+
+    private int closeCurrentVersion(Long rateId, Instant at) {
+        return versionRepository.findFirstByRateIdOrderByVersionDesc(rateId)
+                .map(latest -> {
+                    if (latest.getRecordedTo() == null) {
+                        latest.setRecordedTo(at);
+                    }
+                    return latest.getVersion();
+                })
+                .orElse(0);
+    }
+
+    /**
+     * Every recorded version of the rate, oldest first
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public List<RateVersionDto> getHistory(Long rateId) {
+        return versionRepository.findByRateIdOrderByVersionAsc(rateId)
+                .stream()
+                .map(version -> new RateVersionDto(version.getVersion(), version.getRecordedFrom(),
+                        version.getRecordedTo(), fromPayload(version)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The rate as it was recorded at the given instant
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public Optional<CourierRateDto> getRateAsOf(Long rateId, Instant asOf) {
+        return versionRepository.findOne(RateVersionSpecification.recordedAsOf(asOf)
+                        .and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("rateId"), rateId)))
+                .map(this::fromPayload);
+    }
+
+    /**
+     * The active rates of the requirement's lane as they were at the given instant, as a
+     * snapshot QuoteService can price against
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public RateSnapshot snapshotAsOf(ShippingRequirementDto requirement, Instant asOf) {
+        List<CourierRate> rates = versionRepository
+                .findAll(RateVersionSpecification.matchesQuote(requirement, asOf), Sort.by("rateId"))
+                .stream()
+                .map(version -> readPayload(version).toEntity())
+                .collect(Collectors.toList());
+        return new RateSnapshot(0, asOf, rates);
+    }
+
+    /**
+     * Advanced search over the rates as they were at the given instant, paged by the
+     * database. Origin and destination text are resolved to location ids first; every
+     * filter is then on the version columns.
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public Page<CourierRateDto> searchRatesAsOf(CourierRateSearchCriteriaDto criteria, Instant asOf) {
+        Pageable pageable = PageRequest.of(criteria.getSafePage(), criteria.getSafeSize(), sortOf(criteria));
+        return versionRepository.findAll(searchSpecification(criteria, asOf), pageable).map(this::fromPayload);
+    }
+
+    /**
+     * Unpaged {@link #searchRatesAsOf}
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public List<CourierRateDto> findRatesAsOf(CourierRateSearchCriteriaDto criteria, Instant asOf) {
+        return versionRepository
+                .findAll(searchSpecification(criteria, asOf), sortOf(criteria))
+                .stream()
+                .map(this::fromPayload)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Archived rates (moved to courier_rates_archive) that match the search, as their
+     * still open versions record them: matches offset .. offset + limit - 1 in the search's
+     * order. The live part of an includeArchived search comes from the rates themselves.
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public List<CourierRateDto> findArchivedRates(CourierRateSearchCriteriaDto criteria, long offset, int limit) {
+        Specification<CourierRateVersion> spec = searchSpecification(criteria, Instant.now())
+                .and(RateVersionSpecification.isArchived());
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CourierRateVersion> query = criteriaBuilder.createQuery(CourierRateVersion.class);
+        Root<CourierRateVersion> root = query.from(CourierRateVersion.class);
+        query.select(root)
+                .where(spec.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(sortOf(criteria), root, criteriaBuilder));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(this::fromPayload)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of {@link #findArchivedRates} matches
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public long countArchivedRates(CourierRateSearchCriteriaDto criteria) {
+        return versionRepository.count(searchSpecification(criteria, Instant.now())
+                .and(RateVersionSpecification.isArchived()));
+    }
+
+    /**
+     * The archived rates of the requirement's lane, as a snapshot QuoteService can price
+     * against next to the current rates
+     */
+    @Transactional(value = "transactionManager", readOnly = true)
+    public RateSnapshot archivedSnapshot(ShippingRequirementDto requirement) {
+        Instant now = Instant.now();
+        List<CourierRate> rates = versionRepository
+                .findAll(RateVersionSpecification.matchesQuote(requirement, now)
+                        .and(RateVersionSpecification.isArchived()), Sort.by("rateId"))
+                .stream()
+                .map(version -> readPayload(version).toEntity())
+                .collect(Collectors.toList());
+        return new RateSnapshot(0, now, rates);
+    }
+
+    private Specification<CourierRateVersion> searchSpecification(CourierRateSearchCriteriaDto criteria, Instant asOf) {
+        return RateVersionSpecification.matchesSearch(criteria, asOf)
+                .and(RateVersionSpecification.hasOriginIdIn(locationIdsMatching(criteria.getOrigin())))
+                .and(RateVersionSpecification.hasDestinationIdIn(locationIdsMatching(criteria.getDestination())));
+    }
+
+    /**
+     * Ids of the locations the search text matches (by their current code, name and
+     * country), or null if there is no search text
+     */
+    private List<Long> locationIdsMatching(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return locationRepository.findIdsMatching(search.trim());
+    }
+
+    private static Sort sortOf(CourierRateSearchCriteriaDto criteria) {
+        String sortBy = SORTABLE_PROPERTIES.contains(criteria.getSafeSortBy()) ? criteria.getSafeSortBy() : "rateId";
+        return Sort.by(criteria.getSafeSortDirection().equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC,
+                sortBy).and(Sort.by("rateId"));
+    }
+
+    /**
+     * Give rates without a version their first one, from their current state: rates that
+     * predate the history table, and rates inserted around the backend (bulk loads, SQL
+     * imports). Runs at startup and every rate-history.backfill-interval-ms, in batches of
+     * rate-history.backfill-batch-size, one transaction each.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${rate-history.backfill-interval-ms:300000}", initialDelayString = "${rate-history.backfill-interval-ms:300000}")
+    public void backfillMissingVersions() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        while (true) {
+            Integer recorded;
+            try {
+                recorded = transaction.execute(status -> {
+                    List<Long> ids = versionRepository.findRateIdsWithoutVersions(Limit.of(backfillBatchSize));
+                    for (CourierRate rate : courierRateRepository.findByIdIn(ids)) {
+                        Instant since = rate.getUpdatedAt() != null ? rate.getUpdatedAt()
+                                : rate.getCreatedAt() != null ? rate.getCreatedAt() : Instant.now();
+                        versionRepository.save(new CourierRateVersion(rate, 1, toPayload(rate), since));
+                    }
+                    return ids.size();
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance is backfilling the same rates
+                log.info("Rate history backfill left to another instance: {}", e.getMostSpecificCause().getMessage());
+                return;
+            }
+            total += recorded;
+            if (recorded < backfillBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Recorded initial history versions for {} courier rates", total);
+        }
+    }
+
+    private String toPayload(CourierRate rate) {
+        try {
+            return objectMapper.writeValueAsString(new RateVersionPayload(rate));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize version of courier rate " + rate.getId(), e);
+        }
+    }
+
+    /**
+     * The version's rate as a DTO, built from the rebuilt entity like a current rate's
+     */
+    private CourierRateDto fromPayload(CourierRateVersion version) {
+        return new CourierRateDto(readPayload(version).toEntity());
+    }
+
+    private RateVersionPayload readPayload(CourierRateVersion version) {
+        try {
+            return objectMapper.readValue(version.getPayload(), RateVersionPayload.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable version " + version.getVersion() + " of courier rate "
+                    + version.getRateId(), e);
+        }
+    }
+}
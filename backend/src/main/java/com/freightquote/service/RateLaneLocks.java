@@ -0,0 +1,218 @@
+package com.freightquote.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.filter.RequestDeadline;
+import com.freightquote.jfr.RateLaneLockEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Serializes rate writes per lane (courier, origin, destination, shipping type), so the
+ * overlap check and the insert or update that follows it cannot interleave with another
+ * write to the same lane.
+ *
+ * Within this instance a lane maps onto one of a fixed set of lock stripes; writes to
+ * lanes on other stripes run in parallel. Across instances a row lock (SELECT ... FOR
+ * UPDATE) on the lane's row in rate_lane_locks does the same. Both are held until the
+ * transaction completes, since the overlap check of the next writer must see this one's
+ * commit.
+ */
+@Component
+public class RateLaneLocks {
+
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205; // ER_LOCK_WAIT_TIMEOUT
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rate-lane-locks.stripes:256}")
+    private int stripeCount;
+
+    @Value("${rate-lane-locks.timeout-ms:10000}")
+    private long timeoutMillis;
+
+    @Value("${rate-lane-locks.database-lock:true}")
+    private boolean databaseLock;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    void initStripes() {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock the lane of the given rate until the current transaction commits or rolls back;
+     * reentrant within the transaction
+     *
+     * @throws CannotAcquireLockException if the lane stays locked for rate-lane-locks.timeout-ms
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void lockUntilCompletion(CourierRateDto rate) {
+        Long originId = rate.getOrigin() != null ? rate.getOrigin().getId() : null;
+        Long destinationId = rate.getDestination() != null ? rate.getDestination().getId() : null;
+        lock(laneKey(rate.getCourierName(), originId, destinationId, rate.getShippingType()));
+    }
+
+    /**
+     * Lock the lane a stored rate is on, e.g. before changing or moving it; see
+     * {@link #lockUntilCompletion(CourierRateDto)}
+     */
+    @Transactional(value = "transactionManager", propagation = Propagation.MANDATORY)
+    public void lockUntilCompletion(CourierRate rate) {
+        Long originId = rate.getOrigin() != null ? rate.getOrigin().getId() : null;
+        Long destinationId = rate.getDestination() != null ? rate.getDestination().getId() : null;
+        lock(laneKey(rate.getCourierName(), originId, destinationId, rate.getShippingType()));
+    }
+
+    private void lock(String lane) {
+        int stripe = Math.floorMod(lane.hashCode(), stripes.length);
+        RateLaneLockEvent event = new RateLaneLockEvent();
+        event.begin();
+        try {
+            lockStripe(stripes[stripe], lane);
+            if (databaseLock) {
+                lockDatabase(lane);
+            }
+            event.acquired = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.lane = lane;
+                event.stripe = stripe;
+                event.databaseLock = databaseLock;
+                event.commit();
+            }
+        }
+    }
+
+    private void lockStripe(ReentrantLock lock, String lane) {
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for rate lane " + lane, e);
+        }
+        if (!acquired) {
+            throw new CannotAcquireLockException("Timed out waiting for rate lane " + lane);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Lock the lane's row in rate_lane_locks (inserting it on first use). A row lock
+     * belongs to the transaction, so commit or rollback releases it; nothing has to run
+     * on the connection afterwards.
+     *
+     * The insert comes first, in plain SQL: on a new lane the inserted row is already
+     * locked, and a concurrent first insert of the same lane waits for the other
+     * transaction and then fails on the key, after which the row can be locked. Locking
+     * a missing row first would take gap locks on MySQL that deadlock two first writers.
+     */
+    private void lockDatabase(String lane) {
+        String key = laneRowKey(lane);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                            "INSERT INTO rate_lane_locks (lane_key) VALUES (?)");
+                    PreparedStatement select = connection.prepareStatement(
+                            "SELECT lane_key FROM rate_lane_locks WHERE lane_key = ? FOR UPDATE")) {
+                limitWait(insert);
+                limitWait(select);
+                insert.setString(1, key);
+                try {
+                    insert.executeUpdate();
+                    return;
+                } catch (SQLException e) {
+                    if (!isDuplicateKey(e)) {
+                        throw e;
+                    }
+                }
+                select.setString(1, key);
+                try (ResultSet result = select.executeQuery()) {
+                    if (!result.next()) {
+                        throw new CannotAcquireLockException("Database lock row of rate lane " + lane + " is missing");
+                    }
+                }
+            } catch (SQLException e) {
+                // The request deadline's own query timeout still surfaces as a timeout
+                boolean lockWaitTimeout = e.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT
+                        || (e instanceof SQLTimeoutException && RequestDeadline.remainingMillis() > 0);
+                if (lockWaitTimeout) {
+                    throw new CannotAcquireLockException("Timed out waiting for database lock of rate lane " + lane, e);
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Integrity constraint violation (SQLSTATE class 23), i.e. the lane's row exists
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+
+    /**
+     * Bound the statement by rate-lane-locks.timeout-ms, unless the request deadline already
+     * gave it a shorter query timeout
+     */
+    private void limitWait(PreparedStatement statement) throws SQLException {
+        int timeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+        int current = statement.getQueryTimeout();
+        if (current == 0 || current > timeoutSeconds) {
+            statement.setQueryTimeout(timeoutSeconds);
+        }
+    }
+
+    private static String laneRowKey(String lane) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(lane.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Everything the overlap check matches on except dates and sea freight mode, which it
+     * compares per existing rate
+     */
+    private static String laneKey(String courierName, Long originId, Long destinationId, ShippingType shippingType) {
+        String courier = courierName != null ? courierName.trim().toLowerCase(Locale.ROOT) : "";
+        return courier + "|" + originId + "|" + destinationId + "|" + shippingType;
+    }
+}
@@ -0,0 +1,123 @@
+package com.freightquote.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+
+/**
+ * Immutable, versioned view of all active courier rates ("rate book").
+ *
+ * Built once by {@link RateSnapshotService} from fully loaded, detached entities and
+ * then only read, so any number of threads can price against it without locks or
+ * database access. Callers must treat the contained entities as read-only.
+ */
+public final class RateSnapshot {
+
+    private final long version;
+    private final Instant builtAt;
+    private final List<CourierRate> rates;
+    private final Map<Long, List<CourierRate>> ratesByOrigin;
+
+    RateSnapshot(long version, Instant builtAt, List<CourierRate> rates) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.rates = Collections.unmodifiableList(new ArrayList<>(rates));
+
+        Map<Long, List<CourierRate>> byOrigin = new HashMap<>();
+        for (CourierRate rate : this.rates) {
+            if (rate.getOrigin() != null) {
+                byOrigin.computeIfAbsent(rate.getOrigin().getId(), id -> new ArrayList<>()).add(rate);
+            }
+        }
+        byOrigin.replaceAll((id, list) -> Collections.unmodifiableList(list));
+        this.ratesByOrigin = Collections.unmodifiableMap(byOrigin);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public int size() {
+        return rates.size();
+    }
+
+    /**
+     * All active rates in id order
+     */
+    public List<CourierRate> getRates() {
+        return rates;
+    }
+
+    /**
+     * Rates matching the shipping requirements, mirroring QuoteSpecification
+     */
+    public List<CourierRate> findMatching(ShippingRequirementDto requirement) {
+        List<CourierRate> candidates = requirement.getOrigin() != null
+                ? ratesByOrigin.getOrDefault(requirement.getOrigin(), List.of())
+                : rates;
+
+        List<CourierRate> matches = new ArrayList<>();
+        for (CourierRate rate : candidates) {
+            if (matches(rate, requirement)) {
+                matches.add(rate);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matches(CourierRate rate, ShippingRequirementDto requirement) {
+        if (requirement.getDestination() != null
+                && (rate.getDestination() == null || !requirement.getDestination().equals(rate.getDestination().getId()))) {
+            return false;
+        }
+
+        LocalDate shippingDate = requirement.getShippingDate();
+        if (shippingDate != null
+                && (rate.getEffectiveFrom().isAfter(shippingDate) || rate.getEffectiveTo().isBefore(shippingDate))) {
+            return false;
+        }
+
+        if (requirement.getShippingType() != null && requirement.getShippingType() != rate.getShippingType()) {
+            return false;
+        }
+
+        if (requirement.getShippingType() == ShippingType.WATER && requirement.getSeaFreightMode() != null
+                && requirement.getSeaFreightMode() != rate.getSeaFreightMode()) {
+            return false;
+        }
+
+        if (requirement.getShippingType() == ShippingType.WATER
+                && requirement.getSeaFreightMode() == SeaFreightMode.FCL
+                && requirement.getContainerCount() != null && !requirement.getContainerCount().isEmpty()) {
+            return hasAnyContainerType(rate, requirement.getContainerCount().keySet());
+        }
+        return true;
+    }
+
+    private static boolean hasAnyContainerType(CourierRate rate, Set<Long> containerTypeIds) {
+        // Walks the freight details directly: this runs per candidate on every quote
+        for (FreightRate detail : rate.getFreightDetails()) {
+            if (detail instanceof FCLFreightRate fclRate && fclRate.getContainerType() != null
+                    && containerTypeIds.contains(fclRate.getContainerType().getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
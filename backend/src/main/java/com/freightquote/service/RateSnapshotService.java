@@ -0,0 +1,145 @@
+package com.freightquote.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.freightquote.entity.CourierRate;
+import com.freightquote.jfr.RateSnapshotRebuildEvent;
+import com.freightquote.repository.CourierRateRepository;
+import com.freightquote.specification.CourierRateSpecification;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds the current {@link RateSnapshot} and swaps in a new one after rate book changes.
+ *
+ * Readers get the snapshot with a single volatile read. Writers only call
+ * {@link #requestRebuild()}; the rebuild runs on one background thread after the
+ * writing transaction commits and after rate-snapshot.rebuild-delay-ms, so a burst of
+ * admin edits results in a single reload.
+ */
+@Service
+public class RateSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateSnapshotService.class);
+
+    @Autowired
+    private CourierRateRepository courierRateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${rate-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-snapshot.rebuild-delay-ms:500}")
+    private long rebuildDelayMillis;
+
+    private final AtomicReference<RateSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-snapshot-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Current snapshot, or null when snapshots are disabled or the first build has not finished
+     */
+    public RateSnapshot getSnapshot() {
+        return enabled ? current.get() : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInitialSnapshot() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Schedule a rebuild once the current transaction (if any) has committed.
+     * Calls made while a rebuild is already pending are folded into it.
+     */
+    public void requestRebuild() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRebuild();
+                }
+            });
+        } else {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(() -> {
+                // Cleared before loading so writes committed during the load schedule another pass
+                rebuildPending.set(false);
+                rebuild();
+            }, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild() {
+        RateSnapshotRebuildEvent event = new RateSnapshotRebuildEvent();
+        event.begin();
+        try {
+            long startNanos = System.nanoTime();
+            TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+
+            // findAll(Specification) fetches locations and freight details in the same query,
+            // so the detached entities are complete
+            List<CourierRate> rates = new ArrayList<>(readOnlyTransaction.execute(status ->
+                    courierRateRepository.findAll(CourierRateSpecification.hasActiveStatus(true))));
+            rates.sort(Comparator.comparing(CourierRate::getId));
+
+            RateSnapshot snapshot = new RateSnapshot(versions.incrementAndGet(), Instant.now(), rates);
+            current.set(snapshot);
+            event.version = snapshot.getVersion();
+            event.rates = snapshot.size();
+            event.succeeded = true;
+            log.info("Rate snapshot v{} built with {} active rates in {} ms", snapshot.getVersion(), snapshot.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot; the next write will trigger another attempt
+            log.error("Rate snapshot rebuild failed", e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -7,9 +7,14 @@ import org.springframework.data.jpa.domain.Specification;
 import com.freightquote.ENUM.SeaFreightMode;
 import com.freightquote.ENUM.ShippingType;
 import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
 
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.ListJoin;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 /**
  * Specification builder for CourierRate entity to enable dynamic querying
@@ -56,7 +61,7 @@ public class CourierRateSpecification {
     }
     
     /**
-     * Filter by origin location (searches in location code and country)
+     * Filter by origin location (searches in location code, country and name)
      */
     public static Specification<CourierRate> hasOrigin(String origin) {
         return (root, query, criteriaBuilder) -> {
@@ -69,7 +74,7 @@ public class CourierRateSpecification {
             
             return criteriaBuilder.or(
                 criteriaBuilder.like(
-                    criteriaBuilder.lower(originJoin.get("locationCode")), 
+                    criteriaBuilder.lower(originJoin.get("code")), 
                     searchTerm
                 ),
                 criteriaBuilder.like(
@@ -77,7 +82,7 @@ public class CourierRateSpecification {
                     searchTerm
                 ),
                 criteriaBuilder.like(
-                    criteriaBuilder.lower(originJoin.get("city")), 
+                    criteriaBuilder.lower(originJoin.get("name")), 
                     searchTerm
                 )
             );
@@ -85,7 +90,7 @@ public class CourierRateSpecification {
     }
     
     /**
-     * Filter by destination location (searches in location code and country)
+     * Filter by destination location (searches in location code, country and name)
      */
     public static Specification<CourierRate> hasDestination(String destination) {
         return (root, query, criteriaBuilder) -> {
@@ -98,7 +103,7 @@ public class CourierRateSpecification {
             
             return criteriaBuilder.or(
                 criteriaBuilder.like(
-                    criteriaBuilder.lower(destinationJoin.get("locationCode")), 
+                    criteriaBuilder.lower(destinationJoin.get("code")), 
                     searchTerm
                 ),
                 criteriaBuilder.like(
@@ -106,7 +111,7 @@ public class CourierRateSpecification {
                     searchTerm
                 ),
                 criteriaBuilder.like(
-                    criteriaBuilder.lower(destinationJoin.get("city")), 
+                    criteriaBuilder.lower(destinationJoin.get("name")), 
                     searchTerm
                 )
             );
@@ -189,7 +194,9 @@ public class CourierRateSpecification {
     }
     
     /**
-     * Filter by container type (for FCL rates)
+     * Filter by container type (for FCL rates). An EXISTS subquery rather than a join, so
+     * the rate's rows are not multiplied: a query that also fetches freightDetails would
+     * otherwise fill the collection with duplicates, which pricing sums up.
      */
     public static Specification<CourierRate> hasContainerType(Long containerTypeId) {
         return (root, query, criteriaBuilder) -> {
@@ -197,11 +204,27 @@ public class CourierRateSpecification {
                 return criteriaBuilder.conjunction();
             }
             
-            Join<Object, Object> fclJoin = root.join("fclFreightDetails", JoinType.LEFT);
-            return criteriaBuilder.equal(
+            Subquery<Integer> detail = query.subquery(Integer.class);
+            Root<CourierRate> rate = detail.correlate(root);
+            ListJoin<CourierRate, FreightRate> detailJoin = rate.joinList("freightDetails");
+            ListJoin<CourierRate, FCLFreightRate> fclJoin = criteriaBuilder.treat(detailJoin, FCLFreightRate.class);
+            detail.select(criteriaBuilder.literal(1)).where(criteriaBuilder.equal(
                 fclJoin.get("containerType").get("id"), 
                 containerTypeId
-            );
+            ));
+            return criteriaBuilder.exists(detail);
+        };
+    }
+    
+    /**
+     * Keyset filter: rates with an id greater than the given one (for batched streaming)
+     */
+    public static Specification<CourierRate> hasIdGreaterThan(Long id) {
+        return (root, query, criteriaBuilder) -> {
+            if (id == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.greaterThan(root.get("id"), id);
         };
     }
     
@@ -20,35 +20,45 @@ public class QuoteSpecification {
 	 * requirements
 	 */
 	public static Specification<CourierRate> buildQuoteSpecification(ShippingRequirementDto requirement) {
-		// Start with a base specification that matches everything
-		Specification<CourierRate> spec = (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+		return buildQuoteShape(requirement).getSpecification();
+	}
 
+	/**
+	 * Build the quote specification along with its filter fingerprint
+	 */
+	public static SpecificationShape<CourierRate> buildQuoteShape(ShippingRequirementDto requirement) {
 		// Always filter for active rates in quotes
-		spec = spec.and(CourierRateSpecification.hasActiveStatus(true));
+		SpecificationShape<CourierRate> shape = new SpecificationShape<>("quote",
+				CourierRateSpecification.hasActiveStatus(true));
 
 		// Filter by origin location ID
 		if (requirement.getOrigin() != null) {
-			spec = spec.and(CourierRateSpecification.hasOriginId(requirement.getOrigin()));
+			shape.and("originId", requirement.getOrigin(),
+					CourierRateSpecification.hasOriginId(requirement.getOrigin()));
 		}
 
 		// Filter by destination location ID
 		if (requirement.getDestination() != null) {
-			spec = spec.and(CourierRateSpecification.hasDestinationId(requirement.getDestination()));
+			shape.and("destinationId", requirement.getDestination(),
+					CourierRateSpecification.hasDestinationId(requirement.getDestination()));
 		}
 
 		// Filter by date (rate must be active on shipping date)
 		if (requirement.getShippingDate() != null) {
-			spec = spec.and(CourierRateSpecification.isActiveOnDate(requirement.getShippingDate()));
+			shape.and("shippingDate", requirement.getShippingDate(),
+					CourierRateSpecification.isActiveOnDate(requirement.getShippingDate()));
 		}
 
 		// Filter by shipping type
 		if (requirement.getShippingType() != null) {
-			spec = spec.and(CourierRateSpecification.hasShippingType(requirement.getShippingType()));
+			shape.and("shippingType", requirement.getShippingType(),
+					CourierRateSpecification.hasShippingType(requirement.getShippingType()));
 		}
 
 		// Filter by sea freight mode for water shipments
 		if (requirement.getShippingType() == ShippingType.WATER && requirement.getSeaFreightMode() != null) {
-			spec = spec.and(CourierRateSpecification.hasSeaFreightMode(requirement.getSeaFreightMode()));
+			shape.and("seaFreightMode", requirement.getSeaFreightMode(),
+					CourierRateSpecification.hasSeaFreightMode(requirement.getSeaFreightMode()));
 		}
 
 		// Filter by container types for FCL shipments
@@ -56,9 +66,10 @@ public class QuoteSpecification {
 				requirement.getSeaFreightMode() == SeaFreightMode.FCL &&
 				requirement.getContainerCount() != null && !requirement.getContainerCount().isEmpty()) {
 
-			spec = spec.and(buildContainerTypesSpecification(requirement.getContainerCount().keySet()));
+			shape.and("containerTypes", requirement.getContainerCount().keySet(),
+					buildContainerTypesSpecification(requirement.getContainerCount().keySet()));
 		}
-		return spec;
+		return shape;
 	}
 
 	/**
@@ -0,0 +1,200 @@
+package com.freightquote.specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.entity.ArchivedCourierRate;
+import com.freightquote.entity.CourierRateVersion;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Specification builder for as-of queries on the rate history. Every filter is on a
+ * column of courier_rate_versions or its container type table, so lookups never read the
+ * payloads they discard.
+ */
+public class RateVersionSpecification {
+    
+    /**
+     * Versions that were current at the given instant (transaction time)
+     */
+    public static Specification<CourierRateVersion> recordedAsOf(Instant asOf) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+            criteriaBuilder.lessThanOrEqualTo(root.get("recordedFrom"), asOf),
+            criteriaBuilder.or(
+                criteriaBuilder.isNull(root.get("recordedTo")),
+                criteriaBuilder.greaterThan(root.get("recordedTo"), asOf)
+            )
+        );
+    }
+    
+    /**
+     * Versions of rates that were moved to courier_rates_archive (whose current version the
+     * archival leaves open)
+     */
+    public static Specification<CourierRateVersion> isArchived() {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> archived = query.subquery(Long.class);
+            Root<ArchivedCourierRate> rate = archived.from(ArchivedCourierRate.class);
+            archived.select(rate.get("id")).where(criteriaBuilder.equal(rate.get("id"), root.get("rateId")));
+            return criteriaBuilder.exists(archived);
+        };
+    }
+    
+    /**
+     * The column filters of a quote: lane, shipping type and validity on the shipping date.
+     * Sea freight mode and container types are matched on the rebuilt rates.
+     */
+    public static Specification<CourierRateVersion> matchesQuote(ShippingRequirementDto requirement, Instant asOf) {
+        return recordedAsOf(asOf)
+            .and(hasActiveStatus(true))
+            .and(hasOriginId(requirement.getOrigin()))
+            .and(hasDestinationId(requirement.getDestination()))
+            .and(hasShippingType(requirement.getShippingType()))
+            .and(isActiveOnDate(requirement.getShippingDate()));
+    }
+    
+    /**
+     * An advanced search, except origin and destination text, which the caller resolves to
+     * location ids ({@link #hasOriginIdIn})
+     */
+    public static Specification<CourierRateVersion> matchesSearch(CourierRateSearchCriteriaDto criteria, Instant asOf) {
+        Specification<CourierRateVersion> spec = recordedAsOf(asOf)
+            .and(hasCourierName(criteria.getCourierName()))
+            .and(hasShippingType(criteria.getShippingType()))
+            .and(hasSeaFreightMode(criteria.getSeaFreightMode()))
+            .and(hasOriginId(criteria.getOriginId()))
+            .and(hasDestinationId(criteria.getDestinationId()))
+            .and(isActiveOnDate(criteria.getActiveOnDate()))
+            .and(hasMaxTransitDays(criteria.getMaxTransitDays()))
+            .and(hasActiveStatus(criteria.getIsActive()))
+            .and(hasContainerTypeId(criteria.getContainerTypeId()))
+            .and(hasDescriptionContaining(criteria.getDescription()));
+        if (criteria.getEffectiveFromAfter() != null) {
+            spec = spec.and((root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThanOrEqualTo(root.get("effectiveFrom"), criteria.getEffectiveFromAfter()));
+        }
+        if (criteria.getEffectiveToBefore() != null) {
+            spec = spec.and((root, query, criteriaBuilder) ->
+                criteriaBuilder.lessThanOrEqualTo(root.get("effectiveTo"), criteria.getEffectiveToBefore()));
+        }
+        if (criteria.isCurrentlyActiveFilter()) {
+            spec = spec.and(isActiveOnDate(LocalDate.now())).and(hasActiveStatus(true));
+        }
+        return spec;
+    }
+    
+    public static Specification<CourierRateVersion> hasCourierName(String courierName) {
+        return (root, query, criteriaBuilder) -> {
+            if (courierName == null || courierName.trim().isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("courierName")),
+                "%" + courierName.toLowerCase() + "%"
+            );
+        };
+    }
+    
+    public static Specification<CourierRateVersion> hasShippingType(ShippingType shippingType) {
+        return (root, query, criteriaBuilder) -> shippingType == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("shippingType"), shippingType);
+    }
+    
+    public static Specification<CourierRateVersion> hasSeaFreightMode(SeaFreightMode seaFreightMode) {
+        return (root, query, criteriaBuilder) -> seaFreightMode == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("seaFreightMode"), seaFreightMode);
+    }
+    
+    public static Specification<CourierRateVersion> hasOriginId(Long originId) {
+        return (root, query, criteriaBuilder) -> originId == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("originId"), originId);
+    }
+    
+    public static Specification<CourierRateVersion> hasDestinationId(Long destinationId) {
+        return (root, query, criteriaBuilder) -> destinationId == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("destinationId"), destinationId);
+    }
+    
+    /**
+     * Origin is one of the given locations; null means no restriction, empty matches nothing
+     */
+    public static Specification<CourierRateVersion> hasOriginIdIn(Collection<Long> originIds) {
+        return (root, query, criteriaBuilder) -> {
+            if (originIds == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return originIds.isEmpty() ? criteriaBuilder.disjunction() : root.get("originId").in(originIds);
+        };
+    }
+    
+    /**
+     * Destination is one of the given locations; null means no restriction, empty matches nothing
+     */
+    public static Specification<CourierRateVersion> hasDestinationIdIn(Collection<Long> destinationIds) {
+        return (root, query, criteriaBuilder) -> {
+            if (destinationIds == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return destinationIds.isEmpty() ? criteriaBuilder.disjunction() : root.get("destinationId").in(destinationIds);
+        };
+    }
+    
+    /**
+     * Valid time: the rate's effective dates include the given date
+     */
+    public static Specification<CourierRateVersion> isActiveOnDate(LocalDate date) {
+        return (root, query, criteriaBuilder) -> date == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.and(
+                criteriaBuilder.lessThanOrEqualTo(root.get("effectiveFrom"), date),
+                criteriaBuilder.greaterThanOrEqualTo(root.get("effectiveTo"), date)
+            );
+    }
+    
+    public static Specification<CourierRateVersion> hasMaxTransitDays(Integer maxTransitDays) {
+        return (root, query, criteriaBuilder) -> maxTransitDays == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.lessThanOrEqualTo(root.get("transitDays"), maxTransitDays);
+    }
+    
+    /**
+     * FCL versions with a rate for the container type (courier_rate_version_container_types)
+     */
+    public static Specification<CourierRateVersion> hasContainerTypeId(Long containerTypeId) {
+        return (root, query, criteriaBuilder) -> containerTypeId == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.isMember(containerTypeId, root.<Set<Long>>get("containerTypeIds"));
+    }
+    
+    public static Specification<CourierRateVersion> hasDescriptionContaining(String description) {
+        return (root, query, criteriaBuilder) -> {
+            if (description == null || description.trim().isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("description")),
+                "%" + description.toLowerCase() + "%"
+            );
+        };
+    }
+    
+    public static Specification<CourierRateVersion> hasActiveStatus(Boolean isActive) {
+        return (root, query, criteriaBuilder) -> isActive == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("isActive"), isActive);
+    }
+}
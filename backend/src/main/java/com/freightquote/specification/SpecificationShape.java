@@ -0,0 +1,77 @@
+package com.freightquote.specification;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A dynamically built specification together with the set of filters it was built from.
+ *
+ * The fingerprint names the operation and the applied filters (sorted, without their
+ * values), so every request with the same combination of filters produces the same
+ * query shape and can be aggregated as one. The last parameters are kept as an example
+ * for diagnostics. They come straight from requests and end up in logs and on the
+ * actuator, so free text (courier names, descriptions, origin and destination text) is
+ * redacted to its length; ids, dates and numbers are kept to reproduce the query.
+ */
+public class SpecificationShape<T> {
+
+    private final String operation;
+    private final TreeSet<String> filters = new TreeSet<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private Specification<T> specification;
+
+    public SpecificationShape(String operation, Specification<T> base) {
+        this.operation = operation;
+        this.specification = base;
+    }
+
+    /**
+     * AND the given filter into the specification and record it in the shape
+     */
+    public SpecificationShape<T> and(String filter, Object parameter, Specification<T> filterSpecification) {
+        specification = specification.and(filterSpecification);
+        filters.add(filter);
+        parameters.put(filter, redact(parameter));
+        return this;
+    }
+
+    /**
+     * Record a query modifier that changes the SQL without being a filter (e.g. sort order)
+     */
+    public SpecificationShape<T> with(String modifier, Object value) {
+        filters.add(modifier + "=" + value);
+        return this;
+    }
+
+    public Specification<T> getSpecification() {
+        return specification;
+    }
+
+    public String getFingerprint() {
+        return operation + ":" + (filters.isEmpty() ? "none" : String.join("+", filters));
+    }
+
+    public Map<String, Object> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Free text as its length, collections element by element, ids, numbers, dates, enums
+     * and booleans as they are
+     */
+    static Object redact(Object parameter) {
+        if (parameter instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (parameter instanceof Collection<?> collection) {
+            return collection.stream().map(SpecificationShape::redact).collect(Collectors.toList());
+        }
+        return parameter;
+    }
+}
@@ -0,0 +1,297 @@
+package com.freightquote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freightquote.filter.SqlStatementBudgetFilter;
+import com.freightquote.service.RateHistoryService;
+import com.freightquote.service.RateSnapshot;
+import com.freightquote.service.RateSnapshotService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Exact SQL statement counts per API endpoint against a test rate book (TestRateBook) on
+ * H2, each within its sql-budget. A change in a count is either an N+1 regression or an
+ * intended change of the query plan; update the expected count only for the latter.
+ *
+ * Counts are read from the http.sql.statements summary that SqlStatementBudgetFilter
+ * records when a request completes, so streamed responses include the statements of the
+ * thread that writes them. Other responses must also report the same count in the
+ * X-SQL-Statement-Count header. Every call starts with empty Hibernate caches, so counts
+ * do not depend on the order the endpoints run in; the server-sent change feed never
+ * ends and is not called.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "cors.allowed-origins=http://localhost",
+        "grpc.port=0",
+        "rate-lane-locks.database-lock=false",
+        "rate-archive.enabled=false",
+        "rate-book-audit.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementCountTest {
+
+    private static final long FIRST_RATE_ID = 1_000_001;
+    private static final int RATES = 2_000;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Map<String, Object> lane;
+    private Long createdLocationId;
+    private Long createdContainerTypeId;
+
+    @BeforeAll
+    void loadRateBook() throws Exception {
+        TestRateBook.load(dataSource, FIRST_RATE_ID, RATES);
+        rateHistoryService.backfillMissingVersions();
+
+        RateSnapshot before = rateSnapshotService.getSnapshot();
+        rateSnapshotService.requestRebuild();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (rateSnapshotService.getSnapshot() == null || rateSnapshotService.getSnapshot() == before) {
+            assertThat(System.nanoTime()).as("rate snapshot rebuilt").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        lane = new JdbcTemplate(dataSource).queryForMap("SELECT origin_location_id AS origin, "
+                + "destination_location_id AS destination, shipping_type AS shippingType, "
+                + "effective_from AS effectiveFrom "
+                + "FROM courier_rates WHERE id = ?", FIRST_RATE_ID);
+    }
+
+    Stream<Arguments> endpoints() {
+        String now = Instant.now().toString();
+        Object origin = lane.get("origin");
+        Object destination = lane.get("destination");
+        Map<String, Object> quote = Map.of(
+                "origin", origin,
+                "destination", destination,
+                "shippingType", lane.get("shippingType"),
+                "shippingDate", lane.get("effectiveFrom").toString(),
+                "numberOfPackages", 1,
+                "grossWeightKG", 250.0,
+                "volumeCBM", 2.0);
+        Map<String, Object> search = Map.of("origin", "Port", "size", 50);
+
+        return Stream.of(
+                // Rates
+                stream("GET", "/api/courier-rates", 5),
+                call("GET", "/api/courier-rates?normalized=true", 2),
+                call("GET", "/api/courier-rates/by-ids?ids=" + FIRST_RATE_ID + "," + (FIRST_RATE_ID + 7) + ",1", 1),
+                call("GET", "/api/courier-rates/" + FIRST_RATE_ID, 1),
+                call("GET", "/api/courier-rates/" + FIRST_RATE_ID + "?asOf=" + now, 1),
+                call("GET", "/api/courier-rates/" + FIRST_RATE_ID + "/history", 1),
+                stream("GET", "/api/courier-rates/active", 5),
+                call("GET", "/api/courier-rates/active?normalized=true", 2),
+                call("GET", "/api/courier-rates/changes", 3),
+                call("GET", "/api/courier-rates/search?shippingType=AIR", 1),
+                call("GET", "/api/courier-rates/search?shippingType=AIR&asOf=" + now, 1),
+                stream("GET", "/api/courier-rates/shipping-type/WATER", 5),
+                call("POST", "/api/courier-rates/search-advanced", search, 3),
+                call("POST", "/api/courier-rates/search-advanced?normalized=true", search, 4),
+                call("POST", "/api/courier-rates/search-advanced?asOf=" + now, search, 3),
+                // Quotes
+                call("POST", "/api/quotes/get-quotes", quote, 0),
+                call("POST", "/api/quotes/get-quotes?normalized=true", quote, 0),
+                call("POST", "/api/quotes/get-quotes?asOf=" + now, quote, 1),
+                stream("POST", "/api/quotes/stream", quote, 5),
+                // Locations
+                call("GET", "/api/locations", 1),
+                call("GET", "/api/locations?search=port&locationType=SEA_PORT", 1),
+                call("GET", "/api/locations/by-ids?ids=1,2,999", 1),
+                call("GET", "/api/locations/by-codes?codes=SHP_USNY,SHP_USLB,NOPE", 1),
+                call("GET", "/api/locations/1", 1),
+                call("GET", "/api/locations/code/SHP_USNY", 1),
+                call("GET", "/api/locations/countries", 1),
+                call("GET", "/api/locations/seaports", 1),
+                call("GET", "/api/locations/airports", 1),
+                // Container types
+                call("GET", "/api/container-types", 1),
+                call("GET", "/api/container-types?activeOnly=true", 1),
+                call("GET", "/api/container-types/by-ids?ids=1,2,999", 1),
+                call("GET", "/api/container-types/1", 1),
+                call("GET", "/api/container-types/code/20GP", 1),
+                call("GET", "/api/container-types/suitable?weightKG=10000&volumeCBM=30", 1),
+                call("POST", "/api/container-types/volume-weight?volumeCBM=2", 0),
+                call("POST", "/api/container-types/chargeable-weight?grossWeightKG=250&volumeWeightKG=334", 0),
+                // Writes last, so they do not change what the reads above return
+                call("POST", "/api/courier-rates", rate("Statement Count Create", origin, destination), 7),
+                call("POST", "/api/courier-rates/upsert", rate("Statement Count Upsert", origin, destination), 8),
+                // Update and delete read the rate again once its lane is locked
+                call("PUT", "/api/courier-rates/" + FIRST_RATE_ID, rate("Statement Count Update", origin, destination), 9),
+                call("DELETE", "/api/courier-rates/" + (FIRST_RATE_ID + 1), 7),
+                call("POST", "/api/locations", location("TST_SQL", "Statement Count Port"), 3),
+                call("PUT", "/api/locations/{created}", () -> "/api/locations/" + createdLocationId,
+                        () -> location("TST_SQL", "Statement Count Port 2"), 3),
+                call("DELETE", "/api/locations/{created}", () -> "/api/locations/" + createdLocationId, () -> null, 3),
+                call("POST", "/api/container-types", containerType("TST1"), 3),
+                call("PUT", "/api/container-types/{created}", () -> "/api/container-types/" + createdContainerTypeId,
+                        () -> containerType("TST1"), 2),
+                call("DELETE", "/api/container-types/{created}", () -> "/api/container-types/" + createdContainerTypeId,
+                        () -> null, 3));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("endpoints")
+    void issuesExpectedStatements(String method, Supplier<String> path, Supplier<Object> body, int expected,
+            boolean streamed) throws Exception {
+        String uri = path.get();
+        Object requestBody = body.get();
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        long requestsBefore = measuredRequests();
+        double statementsBefore = measuredStatements();
+        double exceededBefore = budgetsExceeded();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> response = rest.exchange(uri, HttpMethod.valueOf(method),
+                new HttpEntity<>(requestBody, headers), String.class);
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).as("status %s: %s", response.getStatusCode(), response.getBody())
+                .isTrue();
+        remember(method, uri, response.getBody());
+
+        // The filter records the count after the response, once the request has completed
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (measuredRequests() == requestsBefore) {
+            assertThat(System.nanoTime()).as("statement count recorded").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        int statements = (int) (measuredStatements() - statementsBefore);
+        assertThat(statements).as("SQL statements").isEqualTo(expected);
+        assertThat(budgetsExceeded()).as("SQL statement budget exceeded").isEqualTo(exceededBefore);
+        if (!streamed) {
+            String count = response.getHeaders().getFirst(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER);
+            assertThat(count).as("statement count header").isEqualTo(String.valueOf(statements));
+        }
+    }
+
+    private long measuredRequests() {
+        return meterRegistry.find("http.sql.statements").summaries().stream().mapToLong(DistributionSummary::count).sum();
+    }
+
+    private double measuredStatements() {
+        return meterRegistry.find("http.sql.statements").summaries().stream().mapToDouble(DistributionSummary::totalAmount).sum();
+    }
+
+    private double budgetsExceeded() {
+        return meterRegistry.find("http.sql.budget.exceeded").counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    /**
+     * Keep the ids of created master data for the update and delete calls that follow
+     */
+    private void remember(String method, String uri, String body) throws Exception {
+        if (!"POST".equals(method) || !(uri.equals("/api/locations") || uri.equals("/api/container-types"))) {
+            return;
+        }
+        long id = objectMapper.readTree(body).get("id").asLong();
+        if (uri.equals("/api/locations")) {
+            createdLocationId = id;
+        } else {
+            createdContainerTypeId = id;
+        }
+    }
+
+    private static Arguments call(String method, String path, int expected) {
+        return call(method, path, () -> path, () -> null, expected);
+    }
+
+    private static Arguments call(String method, String path, Object body, int expected) {
+        return call(method, path, () -> path, () -> body, expected);
+    }
+
+    private static Arguments call(String method, String name, Supplier<String> path, Supplier<Object> body, int expected) {
+        return Arguments.of(method, Named.of(name, path), body, expected, false);
+    }
+
+    /**
+     * A streamed response: its body is written on another thread after the headers
+     */
+    private static Arguments stream(String method, String path, int expected) {
+        return stream(method, path, null, expected);
+    }
+
+    private static Arguments stream(String method, String path, Object body, int expected) {
+        return Arguments.of(method, Named.of(path, (Supplier<String>) () -> path), (Supplier<Object>) () -> body,
+                expected, true);
+    }
+
+    private static Map<String, Object> rate(String courierName, Object origin, Object destination) {
+        return Map.of(
+                "courierName", courierName,
+                "origin", Map.of("id", origin),
+                "destination", Map.of("id", destination),
+                "shippingType", "AIR",
+                "effectiveFrom", "2040-01-01",
+                "effectiveTo", "2040-12-31",
+                "transitDays", 3,
+                "rate", 4.5,
+                "currency", "USD");
+    }
+
+    private static Map<String, Object> location(String code, String name) {
+        return Map.of("code", code, "name", name, "country", "Testland", "countryCode", "TST", "type", "SEA_PORT");
+    }
+
+    private static Map<String, Object> containerType(String code) {
+        return Map.of("code", code, "name", "Test container", "description", "Statement count test container",
+                "lengthMeters", 6.0, "widthMeters", 2.4, "heightMeters", 2.6, "volumeCBM", 33.0,
+                "maxGrossWeightKG", 30000, "tareWeightKG", 2200, "maxPayloadKG", 27800);
+    }
+}
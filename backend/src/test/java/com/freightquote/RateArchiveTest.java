@@ -0,0 +1,209 @@
+package com.freightquote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.service.CourierRateService;
+import com.freightquote.service.QuoteService;
+import com.freightquote.service.RateArchiveService;
+import com.freightquote.service.RateHistoryService;
+
+/**
+ * Rate archival on H2: archived rates follow the unchanged live results of includeArchived
+ * searches and quotes, and the archiver waits for, and then leaves alone, a rate that a
+ * concurrent update is extending.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-archive;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "cors.allowed-origins=http://localhost",
+        "grpc.port=0",
+        "rate-lane-locks.database-lock=true",
+        "rate-archive.enabled=false",
+        "rate-book-audit.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RateArchiveTest {
+
+    private static final long LIVE_RATE = 3_000_001;
+    private static final long EXPIRED_RATE = 3_000_002;
+    private static final long EXTENDED_RATE = 3_000_003;
+
+    private static final String INSERT_RATE = "INSERT INTO courier_rates (id, courier_name, origin_location_id, "
+            + "destination_location_id, shipping_type, sea_freight_mode, effective_from, effective_to, is_active, "
+            + "transit_days, weight_limit, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAIL = "INSERT INTO freight_details (freight_mode, courier_rate_id, rate, "
+            + "currency, minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RateArchiveService rateArchiveService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    @Autowired
+    private CourierRateService courierRateService;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private List<Long> airports;
+
+    private LocalDate cutoff;
+
+    @BeforeAll
+    void loadRates() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        airports = jdbc.queryForList("SELECT id FROM locations WHERE type = 'AIRPORT' ORDER BY id", Long.class);
+        cutoff = LocalDate.now().minusDays(365);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        insertAirRate(jdbc, LIVE_RATE, "Archive Air", 0, LocalDate.now().minusDays(10), LocalDate.now().plusDays(90), now);
+        insertAirRate(jdbc, EXPIRED_RATE, "Archive Air", 0, cutoff.minusDays(60), cutoff.minusDays(30), now);
+        insertAirRate(jdbc, EXTENDED_RATE, "Extended Air", 2, cutoff.minusDays(60), cutoff.minusDays(30), now);
+        rateHistoryService.backfillMissingVersions();
+    }
+
+    @AfterAll
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @Order(1)
+    void archiverWaitsForAConcurrentUpdateAndSkipsTheRateItExtended() throws Exception {
+        CourierRateDto extension = courierRateService.getRateById(EXTENDED_RATE).orElseThrow();
+        extension.setEffectiveTo(LocalDate.now().plusDays(30));
+
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Future<?> update = executor.submit(() -> transaction.executeWithoutResult(status -> {
+            courierRateService.updateRate(EXTENDED_RATE, extension).orElseThrow();
+            updated.countDown();
+            await(commit);
+        }));
+        assertThat(updated.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Integer> archived = CompletableFuture.supplyAsync(
+                () -> rateArchiveService.archiveRatesEndedBefore(cutoff), executor);
+        Thread.sleep(500);
+        assertThat(archived).isNotDone();
+        commit.countDown();
+        update.get(10, TimeUnit.SECONDS);
+
+        assertThat(archived.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(courierRateService.getRateById(EXTENDED_RATE)).get()
+                .extracting(CourierRateDto::getEffectiveTo).isEqualTo(extension.getEffectiveTo());
+        assertThat(courierRateService.getRateById(EXPIRED_RATE)).isEmpty();
+        assertThat(new JdbcTemplate(dataSource).queryForList("SELECT id FROM courier_rates_archive", Long.class))
+                .containsExactly(EXPIRED_RATE);
+    }
+
+    @Test
+    @Order(2)
+    void searchIncludingArchivedPagesThroughLiveThenArchivedRates() {
+        CourierRateSearchCriteriaDto criteria = new CourierRateSearchCriteriaDto();
+        criteria.setCourierName("Archive Air");
+        criteria.setSize(1);
+
+        Page<CourierRateDto> first = courierRateService.searchRatesAdvancedIncludingArchived(criteria);
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(CourierRateDto::getId).containsExactly(LIVE_RATE);
+
+        criteria.setPage(1);
+        Page<CourierRateDto> second = courierRateService.searchRatesAdvancedIncludingArchived(criteria);
+        assertThat(second.getContent()).extracting(CourierRateDto::getId).containsExactly(EXPIRED_RATE);
+
+        criteria.setPage(0);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Page<CourierRateDto> live = transaction.execute(status -> courierRateService.searchRatesAdvanced(criteria));
+        assertThat(live.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    void quotesIncludingArchivedAddArchivedQuotesToTheLiveOnes() {
+        ShippingRequirementDto past = requirement(cutoff.minusDays(45));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<CourierRateDto> live = transaction.execute(status -> quoteService.findMatchingQuotes(past, null));
+        assertThat(live).isEmpty();
+        assertThat(quoteService.findMatchingQuotes(past, rateHistoryService.archivedSnapshot(past)))
+                .extracting(CourierRateDto::getId).containsExactly(EXPIRED_RATE);
+
+        ShippingRequirementDto today = requirement(LocalDate.now());
+        assertThat(quoteService.findMatchingQuotes(today, rateHistoryService.archivedSnapshot(today))).isEmpty();
+    }
+
+    private ShippingRequirementDto requirement(LocalDate shippingDate) {
+        ShippingRequirementDto requirement = new ShippingRequirementDto();
+        requirement.setOrigin(airports.get(0));
+        requirement.setDestination(airports.get(1));
+        requirement.setShippingType(ShippingType.AIR);
+        requirement.setShippingDate(shippingDate);
+        requirement.setGrossWeightKG(200.0);
+        return requirement;
+    }
+
+    private void insertAirRate(JdbcTemplate jdbc, long id, String courier, int origin, LocalDate from, LocalDate to,
+            Timestamp now) {
+        jdbc.update(INSERT_RATE, id, courier, airports.get(origin), airports.get(origin + 1), "AIR", null,
+                Date.valueOf(from), Date.valueOf(to), true, 2, 1000.0, courier + " rate", now, now);
+        jdbc.update(INSERT_DETAIL, "AIR", id, new BigDecimal("4.25"), "USD", new BigDecimal("80"),
+                new BigDecimal("0.1500"), new BigDecimal("12.50"), 1000.0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
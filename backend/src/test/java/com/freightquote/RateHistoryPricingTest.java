@@ -0,0 +1,182 @@
+package com.freightquote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.dto.CourierRateSearchCriteriaDto;
+import com.freightquote.dto.ShippingRequirementDto;
+import com.freightquote.service.QuoteService;
+import com.freightquote.service.RateHistoryService;
+
+/**
+ * As-of reads of the rate history against the live rate book on H2: a quote priced with
+ * asOf=now must equal the live quote, down to per container type charges, and as-of
+ * searches filter container type and description in SQL.
+ *
+ * The rates are inserted with plain JDBC, like a bulk load, so they only get their
+ * versions from the history backfill.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-history;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "cors.allowed-origins=http://localhost",
+        "grpc.port=0",
+        "rate-lane-locks.database-lock=false",
+        "rate-archive.enabled=false",
+        "rate-book-audit.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RateHistoryPricingTest {
+
+    private static final long AIR_RATE = 2_000_001;
+    private static final long LCL_RATE = 2_000_002;
+    private static final long FCL_RATE = 2_000_003;
+
+    private static final String INSERT_RATE = "INSERT INTO courier_rates (id, courier_name, origin_location_id, "
+            + "destination_location_id, shipping_type, sea_freight_mode, effective_from, effective_to, is_active, "
+            + "transit_days, weight_limit, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAIL = "INSERT INTO freight_details (freight_mode, courier_rate_id, rate, "
+            + "currency, minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, "
+            + "bunker_adjustment_rate, lcl_service_charge, container_type_id, terminal_handling_charge) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Long> airports;
+    private List<Long> seaPorts;
+    private List<Long> containerTypes;
+
+    @BeforeAll
+    void loadRates() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        airports = jdbc.queryForList("SELECT id FROM locations WHERE type = 'AIRPORT' ORDER BY id", Long.class);
+        seaPorts = jdbc.queryForList("SELECT id FROM locations WHERE type = 'SEA_PORT' ORDER BY id", Long.class);
+        containerTypes = jdbc.queryForList("SELECT id FROM container_types ORDER BY id LIMIT 2", Long.class);
+
+        Date from = Date.valueOf(LocalDate.now().minusDays(10));
+        Date to = Date.valueOf(LocalDate.now().plusDays(90));
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.update(INSERT_RATE, AIR_RATE, "History Air", airports.get(0), airports.get(1), "AIR", null, from, to,
+                true, 2, 1000.0, "History air rate", now, now);
+        jdbc.update(INSERT_RATE, LCL_RATE, "History Sea", seaPorts.get(0), seaPorts.get(1), "WATER", "LCL", from,
+                to, true, 20, 1000.0, "History LCL rate", now, now);
+        jdbc.update(INSERT_RATE, FCL_RATE, "History Sea", seaPorts.get(0), seaPorts.get(1), "WATER", "FCL", from,
+                to, true, 18, 1000.0, "History FCL rate", now, now);
+
+        jdbc.update(INSERT_DETAIL, "AIR", AIR_RATE, money("4.25"), "USD", money("80"), money("0.1500"),
+                money("12.50"), 1000.0, null, null, null, null, null);
+        jdbc.update(INSERT_DETAIL, "LCL", LCL_RATE, money("42"), "USD", null, null, null, null, money("35"),
+                money("0.0500"), money("27.50"), null, null);
+        // Charges differ per container type; the DTO only carries one set of them
+        jdbc.update(INSERT_DETAIL, "FCL", FCL_RATE, money("1500"), "USD", null, null, null, null, money("75"),
+                money("0.0800"), null, containerTypes.get(0), money("250"));
+        jdbc.update(INSERT_DETAIL, "FCL", FCL_RATE, money("2600"), "USD", null, null, null, null, money("110"),
+                money("0.1200"), null, containerTypes.get(1), money("410"));
+
+        rateHistoryService.backfillMissingVersions();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeaFreightMode.class)
+    void seaQuotesAsOfNowMatchLiveQuotes(SeaFreightMode mode) {
+        ShippingRequirementDto requirement = requirement(seaPorts, ShippingType.WATER);
+        requirement.setSeaFreightMode(mode);
+        requirement.setVolumeCBM(12.0);
+        requirement.setGrossWeightKG(3000.0);
+        requirement.setContainerCount(Map.of(containerTypes.get(0), 2, containerTypes.get(1), 1));
+
+        assertAsOfNowMatchesLive(requirement, mode == SeaFreightMode.FCL ? FCL_RATE : LCL_RATE);
+    }
+
+    @Test
+    void airQuotesAsOfNowMatchLiveQuotes() {
+        ShippingRequirementDto requirement = requirement(airports, ShippingType.AIR);
+        requirement.setGrossWeightKG(500.0);
+        requirement.setVolumeCBM(2.0);
+
+        assertAsOfNowMatchesLive(requirement, AIR_RATE);
+    }
+
+    @Test
+    void searchAsOfFiltersContainerTypeAndDescription() {
+        CourierRateSearchCriteriaDto criteria = new CourierRateSearchCriteriaDto();
+        criteria.setSeaFreightMode(SeaFreightMode.FCL);
+        criteria.setContainerTypeId(containerTypes.get(1));
+        criteria.setDescription("history fcl");
+
+        assertThat(rateHistoryService.searchRatesAsOf(criteria, Instant.now()).getContent())
+                .extracting(CourierRateDto::getId).containsExactly(FCL_RATE);
+
+        criteria.setDescription("history lcl");
+        assertThat(rateHistoryService.searchRatesAsOf(criteria, Instant.now()).getContent()).isEmpty();
+    }
+
+    private void assertAsOfNowMatchesLive(ShippingRequirementDto requirement, long rateId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<CourierRateDto> live = transaction.execute(status -> quoteService.findMatchingQuotes(requirement, null));
+        List<CourierRateDto> asOf = quoteService.findMatchingQuotes(requirement,
+                rateHistoryService.snapshotAsOf(requirement, Instant.now()));
+
+        assertThat(live).extracting(CourierRateDto::getId).contains(rateId);
+        JsonNode liveJson = objectMapper.valueToTree(live);
+        JsonNode asOfJson = objectMapper.valueToTree(asOf);
+        assertThat(asOfJson).isEqualTo(liveJson);
+    }
+
+    private ShippingRequirementDto requirement(List<Long> ports, ShippingType shippingType) {
+        ShippingRequirementDto requirement = new ShippingRequirementDto();
+        requirement.setOrigin(ports.get(0));
+        requirement.setDestination(ports.get(1));
+        requirement.setShippingType(shippingType);
+        requirement.setShippingDate(LocalDate.now());
+        requirement.setNumberOfPackages(4);
+        return requirement;
+    }
+
+    private static BigDecimal money(String amount) {
+        return new BigDecimal(amount);
+    }
+}
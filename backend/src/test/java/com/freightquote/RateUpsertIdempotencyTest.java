@@ -0,0 +1,208 @@
+package com.freightquote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.entity.Location;
+import com.freightquote.exception.IdempotencyKeyException;
+import com.freightquote.service.CourierRateService;
+import com.freightquote.service.CourierRateService.RateUpsert;
+
+/**
+ * Idempotent rate upserts on H2 with the database lane lock on: retries replay the first
+ * response, and concurrent requests with one key are serialized on the key.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-upsert;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "cors.allowed-origins=http://localhost",
+        "grpc.port=0",
+        "rate-lane-locks.database-lock=true",
+        "rate-archive.enabled=false",
+        "rate-book-audit.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RateUpsertIdempotencyTest {
+
+    private static final String UPSERT = "/api/courier-rates/upsert";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private CourierRateService courierRateService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private List<Long> airports;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @BeforeAll
+    void findAirports() {
+        airports = new JdbcTemplate(dataSource)
+                .queryForList("SELECT id FROM locations WHERE type = 'AIRPORT' ORDER BY id", Long.class);
+    }
+
+    @AfterAll
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retryReplaysTheFirstResponseAfterTheRateChanged() {
+        CourierRateDto request = airRate("Replay Air", 0, 1, "4.50");
+        ResponseEntity<CourierRateDto> first = upsert("replay-changed", request);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("false");
+
+        CourierRateDto changed = airRate("Replay Air", 0, 1, "9.99");
+        rest.put("/api/courier-rates/" + first.getBody().getId(), changed);
+
+        ResponseEntity<CourierRateDto> retry = upsert("replay-changed", request);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(retry.getBody().getRate()).isEqualByComparingTo("4.50");
+    }
+
+    @Test
+    void retryAfterTheRateWasDeletedReplaysWithoutWriting() {
+        CourierRateDto request = airRate("Deleted Air", 1, 2, "5.00");
+        ResponseEntity<CourierRateDto> first = upsert("replay-deleted", request);
+        rest.delete("/api/courier-rates/" + first.getBody().getId());
+
+        ResponseEntity<CourierRateDto> retry = upsert("replay-deleted", request);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM courier_rates WHERE courier_name = 'Deleted Air'", Integer.class)).isZero();
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsUnprocessable() {
+        upsert("reused", airRate("Reused Air", 2, 3, "6.00"));
+        ResponseEntity<CourierRateDto> reused = upsert("reused", airRate("Reused Air", 2, 3, "6.50"));
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void concurrentRequestWithTheSameKeyOnAnotherLaneIsUnprocessable() throws Exception {
+        Future<RateUpsert> second = upsertWhileFirstIsOpen("concurrent-different",
+                airRate("Concurrent Air", 3, 4, "7.00"), airRate("Concurrent Air", 4, 5, "7.00"));
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IdempotencyKeyException.class);
+    }
+
+    @Test
+    void concurrentRetryWaitsForTheFirstRequestAndReplaysIt() throws Exception {
+        CourierRateDto request = airRate("Concurrent Retry Air", 5, 6, "8.00");
+        RateUpsert second = upsertWhileFirstIsOpen("concurrent-same", request, request).get(10, TimeUnit.SECONDS);
+        assertThat(second.isReplayed()).isTrue();
+        assertThat(second.isCreated()).isTrue();
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM courier_rates WHERE courier_name = 'Concurrent Retry Air'", Integer.class)).isOne();
+    }
+
+    /**
+     * Run the second upsert while the first one's transaction is still open, and commit the
+     * first once the second had time to reach the key
+     */
+    private Future<RateUpsert> upsertWhileFirstIsOpen(String key, CourierRateDto first, CourierRateDto second)
+            throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Future<RateUpsert> firstResult = executor.submit(() -> transaction.execute(status -> {
+            RateUpsert upsert = courierRateService.upsertRate(key, first);
+            written.countDown();
+            await(commit);
+            return upsert;
+        }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<RateUpsert> secondResult = CompletableFuture.supplyAsync(
+                () -> courierRateService.upsertRate(key, second), executor);
+        Thread.sleep(500);
+        assertThat(secondResult).isNotDone();
+        commit.countDown();
+        assertThat(firstResult.get(10, TimeUnit.SECONDS).isReplayed()).isFalse();
+        return secondResult;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ResponseEntity<CourierRateDto> upsert(String key, CourierRateDto rate) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", key);
+        return rest.postForEntity(UPSERT, new HttpEntity<>(rate, headers), CourierRateDto.class);
+    }
+
+    private CourierRateDto airRate(String courier, int origin, int destination, String rate) {
+        CourierRateDto dto = new CourierRateDto();
+        dto.setCourierName(courier);
+        dto.setOrigin(location(airports.get(origin % airports.size())));
+        dto.setDestination(location(airports.get(destination % airports.size())));
+        dto.setShippingType(ShippingType.AIR);
+        dto.setEffectiveFrom(LocalDate.now());
+        dto.setEffectiveTo(LocalDate.now().plusDays(30));
+        dto.setTransitDays(2);
+        dto.setRate(new BigDecimal(rate));
+        dto.setCurrency("USD");
+        dto.setMinimumCharge(new BigDecimal("50"));
+        dto.setFuelSurchargeRate(new BigDecimal("0.15"));
+        dto.setSecuritySurcharge(new BigDecimal("0.10"));
+        dto.setAirWeightLimit(1000.0);
+        return dto;
+    }
+
+    private static Location location(Long id) {
+        Location location = new Location();
+        location.setId(id);
+        return location;
+    }
+}
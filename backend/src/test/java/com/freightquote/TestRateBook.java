@@ -0,0 +1,90 @@
+package com.freightquote;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A small deterministic rate book for integration tests, inserted with plain JDBC on top
+ * of the seeded locations and container types.
+ *
+ * Rates cycle through AIR (between airports), LCL and FCL (between sea ports, FCL with two
+ * container types each). All start within the last 90 days; every tenth rate has already
+ * expired, the rest run for a year.
+ */
+public final class TestRateBook {
+
+    private static final String[] COURIERS = { "Maersk Line", "DHL Global", "Kuehne Nagel", "CMA CGM", "FedEx Freight" };
+
+    private static final String INSERT_RATE = "INSERT INTO courier_rates (id, courier_name, origin_location_id, "
+            + "destination_location_id, shipping_type, sea_freight_mode, effective_from, effective_to, is_active, "
+            + "transit_days, weight_limit, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAIL = "INSERT INTO freight_details (freight_mode, courier_rate_id, rate, "
+            + "currency, minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, "
+            + "bunker_adjustment_rate, lcl_service_charge, container_type_id, terminal_handling_charge) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private TestRateBook() {
+    }
+
+    /**
+     * Insert rates with ids firstId .. firstId + count - 1 and move the H2 identity past them
+     */
+    public static void load(DataSource dataSource, long firstId, int count) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<Long> airports = jdbc.queryForList("SELECT id FROM locations WHERE type = 'AIRPORT' ORDER BY id", Long.class);
+        List<Long> seaPorts = jdbc.queryForList("SELECT id FROM locations WHERE type = 'SEA_PORT' ORDER BY id", Long.class);
+        List<Long> containerTypes = jdbc.queryForList("SELECT id FROM container_types ORDER BY id LIMIT 4", Long.class);
+
+        LocalDate start = LocalDate.now().minusDays(90);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rates = new ArrayList<>(count);
+        List<Object[]> details = new ArrayList<>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            int kind = i % 3;
+            List<Long> ports = kind == 0 ? airports : seaPorts;
+            int origin = i % ports.size();
+            int destination = (origin + 1 + (i / ports.size()) % (ports.size() - 1)) % ports.size();
+            LocalDate effectiveFrom = start.plusDays(i % 60);
+            LocalDate effectiveTo = i % 10 == 9 ? effectiveFrom.plusDays(30) : effectiveFrom.plusDays(365);
+
+            rates.add(new Object[] { id, COURIERS[i % COURIERS.length], ports.get(origin), ports.get(destination),
+                    kind == 0 ? "AIR" : "WATER", kind == 0 ? null : kind == 1 ? "LCL" : "FCL",
+                    Date.valueOf(effectiveFrom), Date.valueOf(effectiveTo), true, 2 + i % 20, 1000.0,
+                    "Test rate " + i, now, now });
+
+            if (kind == 0) {
+                details.add(new Object[] { "AIR", id, money(4 + i % 50 / 10.0), "USD", money(50), money(0.15),
+                        money(0.10), 1000.0, null, null, null, null, null });
+            } else if (kind == 1) {
+                details.add(new Object[] { "LCL", id, money(40 + i % 30), "USD", null, null, null, null,
+                        money(35), money(0.05), money(15), null, null });
+            } else {
+                for (int c = 0; c < 2; c++) {
+                    details.add(new Object[] { "FCL", id, money(1500 + i % 500 + c * 400), "USD", null, null, null,
+                            null, money(75), money(0.08), null, containerTypes.get((i + c) % containerTypes.size()),
+                            money(250) });
+                }
+            }
+        }
+
+        jdbc.batchUpdate(INSERT_RATE, rates);
+        jdbc.batchUpdate(INSERT_DETAIL, details);
+        jdbc.execute("ALTER TABLE courier_rates ALTER COLUMN id RESTART WITH " + (firstId + count));
+    }
+
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(amount);
+    }
+}
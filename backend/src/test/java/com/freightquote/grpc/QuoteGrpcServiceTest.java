@@ -0,0 +1,280 @@
+package com.freightquote.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.freightquote.TestRateBook;
+import com.freightquote.dto.CourierRateDto;
+import com.freightquote.filter.AdaptiveConcurrencyLimiter;
+import com.freightquote.filter.AdaptiveConcurrencyLimiter.Priority;
+import com.freightquote.filter.AdmissionControlFilter;
+import com.freightquote.grpc.v1.BatchGetQuotesRequest;
+import com.freightquote.grpc.v1.BatchGetQuotesResponse;
+import com.freightquote.grpc.v1.GetQuotesRequest;
+import com.freightquote.grpc.v1.GetQuotesResponse;
+import com.freightquote.grpc.v1.Quote;
+import com.freightquote.grpc.v1.QuoteServiceGrpc;
+import com.freightquote.grpc.v1.QuoteServiceGrpc.QuoteServiceBlockingStub;
+import com.freightquote.grpc.v1.ShippingRequirement;
+import com.freightquote.grpc.v1.ShippingType;
+import com.freightquote.service.QuoteService;
+import com.freightquote.service.RateHistoryService;
+import com.freightquote.service.RateSnapshot;
+import com.freightquote.service.RateSnapshotService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+
+/**
+ * QuoteService over gRPC on the in-process server (grpc.in-process-name), against a
+ * test rate book (TestRateBook) on H2: the unary, batch and streaming calls must return what
+ * QuoteService prices for the same requirement, and invalid requests, exhausted
+ * deadlines and calls over the admission limit must fail with their status codes.
+ *
+ * Runs with the embedded web server: it registers the classpath: URL handler that the
+ * Ehcache configuration URI (hibernate.javax.cache.uri) is resolved with.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:grpc-quotes;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "cors.allowed-origins=http://localhost",
+        "grpc.in-process-name=" + QuoteGrpcServiceTest.SERVER_NAME,
+        "grpc.max-batch-size=3",
+        "rate-lane-locks.database-lock=false",
+        "rate-archive.enabled=false",
+        "rate-book-audit.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QuoteGrpcServiceTest {
+
+    static final String SERVER_NAME = "quote-grpc-service-test";
+
+    private static final long FIRST_RATE_ID = 1_000_001;
+    private static final int RATES = 2_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RateSnapshotService rateSnapshotService;
+
+    @Autowired
+    private RateHistoryService rateHistoryService;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private DeadlineServerInterceptor deadlineServerInterceptor;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    private ManagedChannel channel;
+    private ShippingRequirement airLane;
+    private ShippingRequirement otherLane;
+
+    @BeforeAll
+    void loadRateBook() throws Exception {
+        TestRateBook.load(dataSource, FIRST_RATE_ID, RATES);
+        rateHistoryService.backfillMissingVersions();
+
+        RateSnapshot before = rateSnapshotService.getSnapshot();
+        rateSnapshotService.requestRebuild();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (rateSnapshotService.getSnapshot() == null || rateSnapshotService.getSnapshot() == before) {
+            assertThat(System.nanoTime()).as("rate snapshot rebuilt").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        List<Map<String, Object>> lanes = new JdbcTemplate(dataSource).queryForList("SELECT "
+                + "origin_location_id AS origin, destination_location_id AS destination, effective_from AS effectiveFrom "
+                + "FROM courier_rates WHERE is_active = TRUE AND shipping_type = 'AIR' ORDER BY id LIMIT 2");
+        airLane = requirement(lanes.get(0));
+        otherLane = requirement(lanes.get(1));
+
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).build();
+    }
+
+    @AfterAll
+    void closeChannel() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void getQuotesPricesLikeQuoteService() {
+        GetQuotesResponse response = stub().getQuotes(request(airLane));
+
+        assertThat(ids(response.getQuotesList())).isNotEmpty().isEqualTo(expectedIds(airLane));
+        assertThat(response.getQuotesList()).allSatisfy(quote -> {
+            assertThat(quote.getOrigin().getId()).isEqualTo(airLane.getOrigin());
+            assertThat(quote.getDestination().getId()).isEqualTo(airLane.getDestination());
+            assertThat(quote.getShippingType()).isEqualTo(ShippingType.AIR);
+        });
+        assertThat(response.hasRateBookVersion()).isTrue();
+        assertThat(response.getRateBookVersion()).isEqualTo(rateSnapshotService.getSnapshot().getVersion());
+    }
+
+    @Test
+    void batchGetQuotesAnswersEachRequirementInOrder() {
+        BatchGetQuotesResponse response = stub().batchGetQuotes(BatchGetQuotesRequest.newBuilder()
+                .addRequirements(airLane)
+                .addRequirements(otherLane)
+                .addRequirements(airLane)
+                .build());
+
+        assertThat(response.getResultsList()).hasSize(3);
+        assertThat(ids(response.getResults(0).getQuotesList())).isEqualTo(expectedIds(airLane));
+        assertThat(ids(response.getResults(1).getQuotesList())).isEqualTo(expectedIds(otherLane));
+        assertThat(ids(response.getResults(2).getQuotesList())).isEqualTo(expectedIds(airLane));
+        assertThat(response.getResultsList())
+                .extracting(GetQuotesResponse::getRateBookVersion)
+                .containsOnly(response.getResults(0).getRateBookVersion());
+    }
+
+    @Test
+    void streamQuotesSendsTheSameQuotes() {
+        List<Quote> quotes = new ArrayList<>();
+        Iterator<Quote> stream = stub().streamQuotes(request(airLane));
+        stream.forEachRemaining(quotes::add);
+
+        assertThat(ids(quotes)).containsExactlyInAnyOrderElementsOf(expectedIds(airLane));
+    }
+
+    @Test
+    void invalidRequirementIsInvalidArgument() {
+        ShippingRequirement withoutOrigin = airLane.toBuilder().clearOrigin().build();
+        ShippingRequirement badDate = airLane.toBuilder().setShippingDate("15/12/2024").build();
+
+        assertStatus(() -> stub().getQuotes(request(withoutOrigin)), Status.Code.INVALID_ARGUMENT,
+                "requirement.origin: Origin is required");
+        assertStatus(() -> stub().getQuotes(request(badDate)), Status.Code.INVALID_ARGUMENT,
+                "requirement: Shipping date must be an ISO date");
+        assertStatus(() -> stub().streamQuotes(request(badDate)).hasNext(), Status.Code.INVALID_ARGUMENT,
+                "requirement: Shipping date must be an ISO date");
+        assertStatus(() -> stub().batchGetQuotes(BatchGetQuotesRequest.newBuilder()
+                        .addRequirements(airLane)
+                        .addRequirements(withoutOrigin)
+                        .build()),
+                Status.Code.INVALID_ARGUMENT, "requirements[1].origin: Origin is required");
+        assertStatus(() -> stub().batchGetQuotes(BatchGetQuotesRequest.newBuilder()
+                        .addRequirements(airLane).addRequirements(airLane)
+                        .addRequirements(airLane).addRequirements(airLane)
+                        .build()),
+                Status.Code.INVALID_ARGUMENT, "At most 3 requirements per batch, got 4");
+    }
+
+    @Test
+    void exhaustedDeadlineIsDeadlineExceeded() {
+        // A budget capped at 0 ms is spent before the handler runs, whatever the client's deadline
+        Object maxBudgetMillis = ReflectionTestUtils.getField(deadlineServerInterceptor, "maxBudgetMillis");
+        ReflectionTestUtils.setField(deadlineServerInterceptor, "maxBudgetMillis", 0L);
+        try {
+            assertStatus(() -> stub().getQuotes(request(airLane)), Status.Code.DEADLINE_EXCEEDED,
+                    "Request deadline already exceeded");
+            assertStatus(() -> stub().streamQuotes(request(airLane)).hasNext(), Status.Code.DEADLINE_EXCEEDED,
+                    "Request deadline already exceeded");
+        } finally {
+            ReflectionTestUtils.setField(deadlineServerInterceptor, "maxBudgetMillis", maxBudgetMillis);
+        }
+
+        // The client's own deadline
+        assertStatus(() -> QuoteServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(0, TimeUnit.MILLISECONDS)
+                .getQuotes(request(airLane)), Status.Code.DEADLINE_EXCEEDED, "");
+    }
+
+    @Test
+    void callsOverTheSharedAdmissionLimitAreResourceExhausted() {
+        // Take every interactive permit, as concurrent REST requests would
+        AdaptiveConcurrencyLimiter limiter = admissionControlFilter.getLimiter();
+        List<Integer> permits = new ArrayList<>();
+        for (int inflight = limiter.tryAcquire(Priority.INTERACTIVE); inflight >= 0;
+                inflight = limiter.tryAcquire(Priority.INTERACTIVE)) {
+            permits.add(inflight);
+        }
+        try {
+            assertStatus(() -> stub().getQuotes(request(airLane)), Status.Code.RESOURCE_EXHAUSTED,
+                    "Server is at capacity for interactive requests");
+            assertStatus(() -> stub().streamQuotes(request(airLane)).hasNext(), Status.Code.RESOURCE_EXHAUSTED,
+                    "Server is at capacity for interactive requests");
+        } finally {
+            // A zero RTT releases without feeding the limit
+            permits.forEach(inflight -> limiter.release(0, inflight));
+        }
+
+        int inflightBefore = limiter.getInflight();
+        assertThat(ids(stub().getQuotes(request(airLane)).getQuotesList())).isEqualTo(expectedIds(airLane));
+        List<Quote> streamed = new ArrayList<>();
+        stub().streamQuotes(request(airLane)).forEachRemaining(streamed::add);
+        assertThat(streamed).isNotEmpty();
+        // The server releases right after closing, which the client may observe first
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getInflight() != inflightBefore) {
+            assertThat(System.nanoTime()).as("permits released after the calls").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private QuoteServiceBlockingStub stub() {
+        return QuoteServiceGrpc.newBlockingStub(channel).withDeadlineAfter(30, TimeUnit.SECONDS);
+    }
+
+    private List<Long> expectedIds(ShippingRequirement requirement) {
+        return quoteService.findMatchingQuotes(QuoteProtoMapper.toRequirement(requirement), rateSnapshotService.getSnapshot())
+                .stream()
+                .map(CourierRateDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static void assertStatus(Runnable call, Status.Code code, String descriptionPrefix) {
+        StatusRuntimeException e = catchThrowableOfType(call::run, StatusRuntimeException.class);
+        assertThat(e).as("call fails with %s", code).isNotNull();
+        assertThat(e.getStatus().getCode()).isEqualTo(code);
+        assertThat(e.getStatus().getDescription()).startsWith(descriptionPrefix);
+    }
+
+    private static List<Long> ids(List<Quote> quotes) {
+        return quotes.stream().map(Quote::getId).collect(Collectors.toList());
+    }
+
+    private static GetQuotesRequest request(ShippingRequirement requirement) {
+        return GetQuotesRequest.newBuilder().setRequirement(requirement).build();
+    }
+
+    private static ShippingRequirement requirement(Map<String, Object> lane) {
+        return ShippingRequirement.newBuilder()
+                .setOrigin(((Number) lane.get("origin")).longValue())
+                .setDestination(((Number) lane.get("destination")).longValue())
+                .setShippingType(ShippingType.AIR)
+                .setShippingDate(lane.get("effectiveFrom").toString())
+                .setNumberOfPackages(1)
+                .setGrossWeightKg(250.0)
+                .setVolumeCbm(2.0)
+                .build();
+    }
+}
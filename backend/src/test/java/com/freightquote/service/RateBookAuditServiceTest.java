@@ -0,0 +1,203 @@
+package com.freightquote.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.freightquote.ENUM.SeaFreightMode;
+import com.freightquote.ENUM.ShippingType;
+import com.freightquote.dto.RateBookAuditReportDto;
+import com.freightquote.dto.RateBookAuditReportDto.MergeCandidate;
+import com.freightquote.dto.RateBookAuditReportDto.Overlap;
+import com.freightquote.entity.AirFreightRate;
+import com.freightquote.entity.ContainerType;
+import com.freightquote.entity.CourierRate;
+import com.freightquote.entity.FCLFreightRate;
+import com.freightquote.entity.FreightRate;
+import com.freightquote.entity.LCLFreightRate;
+import com.freightquote.entity.Location;
+
+/**
+ * The audit's sweep of a lane, on rates built in memory: overlaps are found once per
+ * conflicting pair, and only back-to-back periods with identical pricing are merge
+ * candidates.
+ */
+class RateBookAuditServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private RateBookAuditService service;
+
+    private long nextId;
+
+    @BeforeEach
+    void createService() {
+        service = new RateBookAuditService();
+        ReflectionTestUtils.setField(service, "maxReported", 100);
+        nextId = 1;
+    }
+
+    @Test
+    void overlappingPeriodsAreReportedAndNeverMerged() {
+        CourierRate first = air(0, 30, "4.00");
+        CourierRate second = air(20, 50, "4.00");
+
+        RateBookAuditReportDto report = service.auditRates(List.of(first, second));
+
+        assertThat(report.getOverlapCount()).isEqualTo(1);
+        Overlap overlap = report.getOverlaps().get(0);
+        assertThat(overlap.getRateId()).isEqualTo(first.getId());
+        assertThat(overlap.getOtherRateId()).isEqualTo(second.getId());
+        assertThat(overlap.getOverlapFrom()).isEqualTo(START.plusDays(20));
+        assertThat(overlap.getOverlapTo()).isEqualTo(START.plusDays(30));
+        assertThat(report.getMergeCandidateCount()).isZero();
+    }
+
+    @Test
+    void adjacentPeriodsWithIdenticalPricingAreOneMergeCandidate() {
+        CourierRate first = air(0, 9, "4.00");
+        CourierRate second = air(10, 19, "4.0");
+        CourierRate third = air(20, 29, "4.000");
+
+        RateBookAuditReportDto report = service.auditRates(List.of(third, first, second));
+
+        assertThat(report.getOverlapCount()).isZero();
+        assertThat(report.getMergeCandidates()).singleElement().satisfies(candidate -> {
+            assertThat(candidate.getRateIds()).containsExactly(first.getId(), second.getId(), third.getId());
+            assertThat(candidate.getEffectiveFrom()).isEqualTo(START);
+            assertThat(candidate.getEffectiveTo()).isEqualTo(START.plusDays(29));
+        });
+    }
+
+    @Test
+    void adjacentPeriodsWithDifferentPricingOrAGapAreLeftAlone() {
+        CourierRate first = air(0, 9, "4.00");
+        CourierRate repriced = air(10, 19, "4.50");
+        CourierRate afterGap = air(21, 30, "4.50");
+
+        RateBookAuditReportDto report = service.auditRates(List.of(first, repriced, afterGap));
+
+        assertThat(report.getOverlapCount()).isZero();
+        assertThat(report.getMergeCandidateCount()).isZero();
+    }
+
+    @Test
+    void waterRateWithoutModeConflictsWithEveryMode() {
+        CourierRate lcl = lcl(0, 30);
+        CourierRate fcl = fcl(0, 30, 1L);
+        CourierRate withoutMode = water(null, 10, 40, new ArrayList<>());
+
+        RateBookAuditReportDto report = service.auditRates(List.of(lcl, fcl, withoutMode));
+
+        assertThat(report.getLanesScanned()).isEqualTo(1);
+        assertThat(report.getOverlapCount()).isEqualTo(2);
+        assertThat(report.getOverlaps()).extracting(Overlap::getOtherRateId).containsOnly(withoutMode.getId());
+        assertThat(report.getOverlaps()).extracting(Overlap::getRateId)
+                .containsExactlyInAnyOrder(lcl.getId(), fcl.getId());
+    }
+
+    @Test
+    void lclAndFclRatesOfALaneDoNotConflict() {
+        RateBookAuditReportDto report = service.auditRates(List.of(lcl(0, 30), fcl(0, 30, 1L)));
+
+        assertThat(report.getOverlapCount()).isZero();
+    }
+
+    @Test
+    void fclRatesSharingSeveralContainerTypesAreOneOverlap() {
+        CourierRate first = fcl(0, 30, 1L, 2L, 3L);
+        CourierRate second = fcl(10, 40, 2L, 3L);
+
+        RateBookAuditReportDto report = service.auditRates(List.of(first, second));
+
+        assertThat(report.getOverlapCount()).isEqualTo(1);
+        assertThat(report.getOverlaps().get(0).getContainerTypeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void fclRatesOnlyConflictOnASharedContainerTypeOrWithoutOne() {
+        CourierRate twentyFoot = fcl(0, 30, 1L);
+        CourierRate fortyFoot = fcl(0, 30, 2L);
+        CourierRate withoutContainerType = fcl(20, 40);
+
+        RateBookAuditReportDto report = service.auditRates(List.of(twentyFoot, fortyFoot, withoutContainerType));
+
+        assertThat(report.getOverlapCount()).isEqualTo(2);
+        assertThat(report.getOverlaps()).extracting(Overlap::getOtherRateId)
+                .containsOnly(withoutContainerType.getId());
+        assertThat(report.getOverlaps()).extracting(Overlap::getContainerTypeId).containsOnlyNulls();
+    }
+
+    @Test
+    void mergeRunsStayWithinOneSeaFreightMode() {
+        CourierRate lcl = lcl(0, 9);
+        CourierRate nextLcl = lcl(10, 19);
+        CourierRate fcl = fcl(20, 29, 1L);
+
+        RateBookAuditReportDto report = service.auditRates(List.of(lcl, nextLcl, fcl));
+
+        assertThat(report.getMergeCandidates()).extracting(MergeCandidate::getRateIds)
+                .containsExactly(List.of(lcl.getId(), nextLcl.getId()));
+    }
+
+    private CourierRate air(int fromDay, int toDay, String amount) {
+        AirFreightRate detail = new AirFreightRate();
+        detail.setRate(new BigDecimal(amount));
+        detail.setCurrency("USD");
+        detail.setMinimumCharge(new BigDecimal("50"));
+        return rate(ShippingType.AIR, null, fromDay, toDay, new ArrayList<>(List.of(detail)));
+    }
+
+    private CourierRate lcl(int fromDay, int toDay) {
+        LCLFreightRate detail = new LCLFreightRate();
+        detail.setRate(new BigDecimal("42"));
+        detail.setCurrency("USD");
+        return water(SeaFreightMode.LCL, fromDay, toDay, new ArrayList<>(List.of(detail)));
+    }
+
+    private CourierRate fcl(int fromDay, int toDay, Long... containerTypeIds) {
+        List<FreightRate> details = new ArrayList<>();
+        for (Long containerTypeId : containerTypeIds) {
+            FCLFreightRate detail = new FCLFreightRate();
+            detail.setRate(new BigDecimal("1500"));
+            detail.setCurrency("USD");
+            detail.setContainerType(new ContainerType(containerTypeId));
+            details.add(detail);
+        }
+        return water(SeaFreightMode.FCL, fromDay, toDay, details);
+    }
+
+    private CourierRate water(SeaFreightMode mode, int fromDay, int toDay, List<FreightRate> details) {
+        return rate(ShippingType.WATER, mode, fromDay, toDay, details);
+    }
+
+    private CourierRate rate(ShippingType shippingType, SeaFreightMode mode, int fromDay, int toDay,
+            List<FreightRate> details) {
+        CourierRate rate = new CourierRate();
+        rate.setId(nextId++);
+        rate.setCourierName("Audit Lines");
+        rate.setOrigin(location(1L));
+        rate.setDestination(location(2L));
+        rate.setShippingType(shippingType);
+        rate.setSeaFreightMode(mode);
+        rate.setEffectiveFrom(START.plusDays(fromDay));
+        rate.setEffectiveTo(START.plusDays(toDay));
+        rate.setIsActive(true);
+        rate.setTransitDays(5);
+        rate.setFreightDetails(details);
+        return rate;
+    }
+
+    private static Location location(Long id) {
+        Location location = new Location();
+        location.setId(id);
+        return location;
+    }
+}
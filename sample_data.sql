@@ -1,81 +1,1037 @@
--- Sample data for Freight Quote Management System
--- Run this after the application has created the database schema
+-- Synthetic rate book: 300 courier rates, generated by RateBookSqlWriter {rates=300, out=../sample_data.sql}
+-- Run against a database the backend has created and seeded (locations, container types)
 
 USE freight_quote_db;
 
--- Insert sample courier rates with multiple couriers
-INSERT INTO courier_rates (courier_name, origin, destination, shipping_type, container_type, cost, currency, effective_from, effective_to, description, transit_days, weight_limit, dimension_limit, created_at, updated_at) VALUES
+SET @loc_SHP_USNY = (SELECT id FROM locations WHERE code = 'SHP_USNY');
+SET @loc_SHP_USLB = (SELECT id FROM locations WHERE code = 'SHP_USLB');
+SET @loc_SHP_CNSHG = (SELECT id FROM locations WHERE code = 'SHP_CNSHG');
+SET @loc_SHP_CNSZN = (SELECT id FROM locations WHERE code = 'SHP_CNSZN');
+SET @loc_SHP_SGSIN = (SELECT id FROM locations WHERE code = 'SHP_SGSIN');
+SET @loc_SHP_NLRTM = (SELECT id FROM locations WHERE code = 'SHP_NLRTM');
+SET @loc_SHP_DEHAM = (SELECT id FROM locations WHERE code = 'SHP_DEHAM');
+SET @loc_SHP_AEJEA = (SELECT id FROM locations WHERE code = 'SHP_AEJEA');
+SET @loc_SHP_JPYOK = (SELECT id FROM locations WHERE code = 'SHP_JPYOK');
+SET @loc_SHP_INMUN = (SELECT id FROM locations WHERE code = 'SHP_INMUN');
+SET @loc_SHP_INMAA = (SELECT id FROM locations WHERE code = 'SHP_INMAA');
+SET @loc_SHP_INCCU = (SELECT id FROM locations WHERE code = 'SHP_INCCU');
+SET @loc_SHP_INKOC = (SELECT id FROM locations WHERE code = 'SHP_INKOC');
+SET @loc_SHP_INVTZ = (SELECT id FROM locations WHERE code = 'SHP_INVTZ');
+SET @loc_SHP_INMRM = (SELECT id FROM locations WHERE code = 'SHP_INMRM');
+SET @loc_SHP_INKAN = (SELECT id FROM locations WHERE code = 'SHP_INKAN');
+SET @loc_SHP_INPAV = (SELECT id FROM locations WHERE code = 'SHP_INPAV');
+SET @loc_SHP_INHAL = (SELECT id FROM locations WHERE code = 'SHP_INHAL');
+SET @loc_SHP_INENY = (SELECT id FROM locations WHERE code = 'SHP_INENY');
+SET @loc_SHP_INTUT = (SELECT id FROM locations WHERE code = 'SHP_INTUT');
+SET @loc_SHP_INMNG = (SELECT id FROM locations WHERE code = 'SHP_INMNG');
+SET @loc_SHP_INJAW = (SELECT id FROM locations WHERE code = 'SHP_INJAW');
+SET @loc_SHP_INGOA = (SELECT id FROM locations WHERE code = 'SHP_INGOA');
+SET @loc_SHP_INPBD = (SELECT id FROM locations WHERE code = 'SHP_INPBD');
+SET @loc_SHP_INKAL = (SELECT id FROM locations WHERE code = 'SHP_INKAL');
+SET @loc_AIR_USLAX = (SELECT id FROM locations WHERE code = 'AIR_USLAX');
+SET @loc_AIR_USJFK = (SELECT id FROM locations WHERE code = 'AIR_USJFK');
+SET @loc_AIR_GBLON = (SELECT id FROM locations WHERE code = 'AIR_GBLON');
+SET @loc_AIR_DEFRM = (SELECT id FROM locations WHERE code = 'AIR_DEFRM');
+SET @loc_AIR_NLAMM = (SELECT id FROM locations WHERE code = 'AIR_NLAMM');
+SET @loc_AIR_AEDXB = (SELECT id FROM locations WHERE code = 'AIR_AEDXB');
+SET @loc_AIR_CNPEK = (SELECT id FROM locations WHERE code = 'AIR_CNPEK');
+SET @loc_AIR_CNPVG = (SELECT id FROM locations WHERE code = 'AIR_CNPVG');
+SET @loc_AIR_SGSIN = (SELECT id FROM locations WHERE code = 'AIR_SGSIN');
+SET @loc_AIR_JPNRT = (SELECT id FROM locations WHERE code = 'AIR_JPNRT');
+SET @loc_AIR_INDEL = (SELECT id FROM locations WHERE code = 'AIR_INDEL');
+SET @loc_AIR_INMUM = (SELECT id FROM locations WHERE code = 'AIR_INMUM');
+SET @loc_AIR_INBLR = (SELECT id FROM locations WHERE code = 'AIR_INBLR');
+SET @loc_AIR_INMAA = (SELECT id FROM locations WHERE code = 'AIR_INMAA');
+SET @loc_AIR_INCCU = (SELECT id FROM locations WHERE code = 'AIR_INCCU');
+SET @loc_AIR_INHYD = (SELECT id FROM locations WHERE code = 'AIR_INHYD');
+SET @loc_AIR_INKOC = (SELECT id FROM locations WHERE code = 'AIR_INKOC');
+SET @loc_AIR_INAHD = (SELECT id FROM locations WHERE code = 'AIR_INAHD');
+SET @loc_AIR_INGOI = (SELECT id FROM locations WHERE code = 'AIR_INGOI');
+SET @loc_AIR_INPNE = (SELECT id FROM locations WHERE code = 'AIR_INPNE');
+SET @loc_AIR_INJPR = (SELECT id FROM locations WHERE code = 'AIR_INJPR');
+SET @loc_AIR_INLKO = (SELECT id FROM locations WHERE code = 'AIR_INLKO');
+SET @loc_AIR_INJAI = (SELECT id FROM locations WHERE code = 'AIR_INJAI');
+SET @loc_AIR_INBHO = (SELECT id FROM locations WHERE code = 'AIR_INBHO');
+SET @loc_AIR_ININD = (SELECT id FROM locations WHERE code = 'AIR_ININD');
+SET @loc_AIR_INNAG = (SELECT id FROM locations WHERE code = 'AIR_INNAG');
+SET @loc_AIR_INRPR = (SELECT id FROM locations WHERE code = 'AIR_INRPR');
+SET @loc_AIR_INBBR = (SELECT id FROM locations WHERE code = 'AIR_INBBR');
+SET @loc_AIR_INVTZ = (SELECT id FROM locations WHERE code = 'AIR_INVTZ');
+SET @loc_AIR_INVGA = (SELECT id FROM locations WHERE code = 'AIR_INVGA');
+SET @loc_AIR_INRAJ = (SELECT id FROM locations WHERE code = 'AIR_INRAJ');
+SET @loc_AIR_INSUR = (SELECT id FROM locations WHERE code = 'AIR_INSUR');
+SET @loc_AIR_INVNS = (SELECT id FROM locations WHERE code = 'AIR_INVNS');
+SET @loc_AIR_INPAT = (SELECT id FROM locations WHERE code = 'AIR_INPAT');
+SET @loc_AIR_INRAN = (SELECT id FROM locations WHERE code = 'AIR_INRAN');
+SET @loc_AIR_INBAG = (SELECT id FROM locations WHERE code = 'AIR_INBAG');
+SET @loc_AIR_INGAU = (SELECT id FROM locations WHERE code = 'AIR_INGAU');
+SET @loc_AIR_INAGR = (SELECT id FROM locations WHERE code = 'AIR_INAGR');
+SET @loc_AIR_INKNU = (SELECT id FROM locations WHERE code = 'AIR_INKNU');
+SET @loc_AIR_INDEH = (SELECT id FROM locations WHERE code = 'AIR_INDEH');
+SET @loc_AIR_INJAM = (SELECT id FROM locations WHERE code = 'AIR_INJAM');
+SET @loc_AIR_INIXL = (SELECT id FROM locations WHERE code = 'AIR_INIXL');
+SET @loc_AIR_INSRI = (SELECT id FROM locations WHERE code = 'AIR_INSRI');
+SET @loc_AIR_INCHA = (SELECT id FROM locations WHERE code = 'AIR_INCHA');
+SET @loc_AIR_INADM = (SELECT id FROM locations WHERE code = 'AIR_INADM');
+SET @loc_AIR_INAMR = (SELECT id FROM locations WHERE code = 'AIR_INAMR');
+SET @loc_AIR_INLUH = (SELECT id FROM locations WHERE code = 'AIR_INLUH');
+SET @loc_AIR_INTRD = (SELECT id FROM locations WHERE code = 'AIR_INTRD');
+SET @loc_AIR_INCJB = (SELECT id FROM locations WHERE code = 'AIR_INCJB');
+SET @loc_AIR_INMDU = (SELECT id FROM locations WHERE code = 'AIR_INMDU');
+SET @loc_AIR_INTCR = (SELECT id FROM locations WHERE code = 'AIR_INTCR');
+SET @loc_AIR_INTUT = (SELECT id FROM locations WHERE code = 'AIR_INTUT');
+SET @loc_AIR_INMNG = (SELECT id FROM locations WHERE code = 'AIR_INMNG');
+SET @loc_AIR_INJOG = (SELECT id FROM locations WHERE code = 'AIR_INJOG');
+SET @loc_AIR_INHUB = (SELECT id FROM locations WHERE code = 'AIR_INHUB');
+SET @loc_AIR_INBLR2 = (SELECT id FROM locations WHERE code = 'AIR_INBLR2');
+SET @loc_AIR_INMYS = (SELECT id FROM locations WHERE code = 'AIR_INMYS');
+SET @loc_AIR_INRAJ2 = (SELECT id FROM locations WHERE code = 'AIR_INRAJ2');
+SET @loc_AIR_INTIR = (SELECT id FROM locations WHERE code = 'AIR_INTIR');
+SET @loc_AIR_INKDP = (SELECT id FROM locations WHERE code = 'AIR_INKDP');
+SET @loc_AIR_INWGL = (SELECT id FROM locations WHERE code = 'AIR_INWGL');
+SET @loc_AIR_INAGX = (SELECT id FROM locations WHERE code = 'AIR_INAGX');
+SET @loc_AIR_INIXS = (SELECT id FROM locations WHERE code = 'AIR_INIXS');
+SET @loc_AIR_INIXH = (SELECT id FROM locations WHERE code = 'AIR_INIXH');
+SET @loc_AIR_INZHL = (SELECT id FROM locations WHERE code = 'AIR_INZHL');
+SET @loc_AIR_INITN = (SELECT id FROM locations WHERE code = 'AIR_INITN');
+SET @loc_AIR_INIXM = (SELECT id FROM locations WHERE code = 'AIR_INIXM');
+SET @loc_AIR_INIXK = (SELECT id FROM locations WHERE code = 'AIR_INIXK');
+SET @loc_AIR_INBHJ = (SELECT id FROM locations WHERE code = 'AIR_INBHJ');
+SET @loc_AIR_INPOR = (SELECT id FROM locations WHERE code = 'AIR_INPOR');
+SET @loc_AIR_INJGA = (SELECT id FROM locations WHERE code = 'AIR_INJGA');
+SET @loc_AIR_INPBD = (SELECT id FROM locations WHERE code = 'AIR_INPBD');
+SET @loc_AIR_INCAI = (SELECT id FROM locations WHERE code = 'AIR_INCAI');
+SET @loc_AIR_INLAK = (SELECT id FROM locations WHERE code = 'AIR_INLAK');
+SET @ct_20GP = (SELECT id FROM container_types WHERE code = '20GP');
+SET @ct_20HC = (SELECT id FROM container_types WHERE code = '20HC');
+SET @ct_40GP = (SELECT id FROM container_types WHERE code = '40GP');
+SET @ct_40HC = (SELECT id FROM container_types WHERE code = '40HC');
+SET @ct_20RF = (SELECT id FROM container_types WHERE code = '20RF');
+SET @ct_40RF = (SELECT id FROM container_types WHERE code = '40RF');
+SET @ct_40RH = (SELECT id FROM container_types WHERE code = '40RH');
+SET @ct_20OT = (SELECT id FROM container_types WHERE code = '20OT');
+SET @ct_40OT = (SELECT id FROM container_types WHERE code = '40OT');
+SET @ct_20FR = (SELECT id FROM container_types WHERE code = '20FR');
+SET @ct_40FR = (SELECT id FROM container_types WHERE code = '40FR');
 
--- Air shipping rates - Multiple couriers
-('DHL Express', 'New York, USA', 'London, UK', 'AIR', NULL, 2500.00, 'INR', '2024-01-01', '2024-12-31', 'Express air freight service', 3, 68.0, '120x80x80 cm', CURDATE(), CURDATE()),
-('FedEx International', 'New York, USA', 'London, UK', 'AIR', NULL, 2650.00, 'INR', '2024-01-01', '2024-12-31', 'Premium air express', 2, 68.0, '119x80x80 cm', CURDATE(), CURDATE()),
-('UPS Worldwide Express', 'New York, USA', 'London, UK', 'AIR', NULL, 2400.00, 'INR', '2024-01-01', '2024-12-31', 'Worldwide express service', 4, 70.0, '120x80x80 cm', CURDATE(), CURDATE()),
+START TRANSACTION;
 
-('DHL Express', 'Los Angeles, USA', 'Tokyo, Japan', 'AIR', NULL, 3200.00, 'INR', '2024-01-01', '2024-12-31', 'Trans-Pacific air cargo', 4, 68.0, '120x80x80 cm', CURDATE(), CURDATE()),
-('FedEx International', 'Los Angeles, USA', 'Tokyo, Japan', 'AIR', NULL, 3100.00, 'INR', '2024-01-01', '2024-12-31', 'Pacific express route', 3, 68.0, '119x80x80 cm', CURDATE(), CURDATE()),
-('UPS Worldwide Express', 'Los Angeles, USA', 'Tokyo, Japan', 'AIR', NULL, 3350.00, 'INR', '2024-01-01', '2024-12-31', 'Premium Pacific service', 5, 70.0, '120x80x80 cm', CURDATE(), CURDATE()),
+INSERT INTO courier_rates (id, courier_name, origin_location_id, destination_location_id, shipping_type, sea_freight_mode, effective_from, effective_to, is_active, transit_days, weight_limit, description, created_at, updated_at) VALUES
+(1, 'Qatar Airways Cargo', @loc_AIR_INPNE, @loc_AIR_INDEL, 'AIR', NULL, '2025-01-06', '2025-04-05', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INPNE to AIR_INDEL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(2, 'Lufthansa Cargo', @loc_AIR_INCCU, @loc_AIR_INPAT, 'AIR', NULL, '2025-01-24', '2025-04-23', 1, 5, 5000.0, 'Lufthansa Cargo AIR_INCCU to AIR_INPAT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(3, 'Hapag-Lloyd', @loc_SHP_INMNG, @loc_SHP_INENY, 'WATER', 'LCL', '2025-02-07', '2026-02-06', 1, 21, 28000.0, 'Hapag-Lloyd SHP_INMNG to SHP_INENY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(4, 'Cathay Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-03-01', '2025-08-29', 1, 2, 5000.0, 'Cathay Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(5, 'CMA CGM', @loc_SHP_INPBD, @loc_SHP_INMUN, 'WATER', 'FCL', '2025-01-01', '2025-12-31', 1, 13, 28000.0, 'CMA CGM SHP_INPBD to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(6, 'Qatar Airways Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-05', '2026-01-04', 1, 2, 5000.0, 'Qatar Airways Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(7, 'Hapag-Lloyd', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-22', '2025-08-22', 1, 19, 28000.0, 'Hapag-Lloyd SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(8, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-11', '2025-05-11', 1, 21, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(9, 'Maersk Line', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-30', '2026-01-29', 1, 38, 28000.0, 'Maersk Line SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(10, 'Emirates SkyCargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-30', '2025-04-29', 1, 1, 5000.0, 'Emirates SkyCargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(11, 'MSC', @loc_SHP_INGOA, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-01-26', '2025-07-26', 1, 29, 28000.0, 'MSC SHP_INGOA to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(12, 'UPS Airlines', @loc_AIR_INTIR, @loc_AIR_CNPEK, 'AIR', NULL, '2025-01-28', '2025-07-28', 0, 1, 5000.0, 'UPS Airlines AIR_INTIR to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(13, 'Emirates SkyCargo', @loc_AIR_INCHA, @loc_AIR_INJAM, 'AIR', NULL, '2025-02-15', '2026-02-14', 1, 4, 5000.0, 'Emirates SkyCargo AIR_INCHA to AIR_INJAM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(14, 'Evergreen Line', @loc_SHP_INKOC, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-01-15', '2025-04-14', 1, 22, 28000.0, 'Evergreen Line SHP_INKOC to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(15, 'COSCO Shipping', @loc_SHP_INMAA, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-02-24', '2025-08-24', 1, 14, 28000.0, 'COSCO Shipping SHP_INMAA to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(16, 'ONE', @loc_SHP_INVTZ, @loc_SHP_CNSZN, 'WATER', 'FCL', '2025-01-26', '2026-01-25', 1, 35, 28000.0, 'ONE SHP_INVTZ to SHP_CNSZN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(17, 'CMA CGM', @loc_SHP_CNSHG, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-01-22', '2025-07-22', 1, 23, 28000.0, 'CMA CGM SHP_CNSHG to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(18, 'DHL Aviation', @loc_AIR_INIXL, @loc_AIR_INRAN, 'AIR', NULL, '2025-01-16', '2025-04-15', 1, 2, 5000.0, 'DHL Aviation AIR_INIXL to AIR_INRAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(19, 'DHL Aviation', @loc_AIR_INCCU, @loc_AIR_INHYD, 'AIR', NULL, '2025-02-05', '2025-05-05', 1, 2, 5000.0, 'DHL Aviation AIR_INCCU to AIR_INHYD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(20, 'Hapag-Lloyd', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-08-23', '2025-11-20', 1, 43, 28000.0, 'Hapag-Lloyd SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(21, 'HMM', @loc_SHP_JPYOK, @loc_SHP_SGSIN, 'WATER', 'LCL', '2025-02-25', '2025-05-25', 1, 29, 28000.0, 'HMM SHP_JPYOK to SHP_SGSIN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(22, 'COSCO Shipping', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-24', '2026-02-23', 1, 34, 28000.0, 'COSCO Shipping SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(23, 'Yang Ming', @loc_SHP_NLRTM, @loc_SHP_USNY, 'WATER', 'FCL', '2025-02-09', '2025-03-10', 1, 16, 28000.0, 'Yang Ming SHP_NLRTM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(24, 'Evergreen Line', @loc_SHP_INKOC, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-04-15', '2025-05-14', 1, 29, 28000.0, 'Evergreen Line SHP_INKOC to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(25, 'Etihad Cargo', @loc_AIR_INMUM, @loc_AIR_INKDP, 'AIR', NULL, '2025-02-04', '2025-05-04', 1, 1, 5000.0, 'Etihad Cargo AIR_INMUM to AIR_INKDP', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(26, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-02-10', '2025-03-11', 1, 30, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(27, 'Maersk Line', @loc_SHP_INGOA, @loc_SHP_USNY, 'WATER', 'LCL', '2025-02-02', '2025-08-02', 1, 43, 28000.0, 'Maersk Line SHP_INGOA to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(28, 'Emirates SkyCargo', @loc_AIR_INHYD, @loc_AIR_INIXK, 'AIR', NULL, '2025-02-13', '2025-05-13', 1, 6, 5000.0, 'Emirates SkyCargo AIR_INHYD to AIR_INIXK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(29, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INKOC, 'WATER', 'LCL', '2025-01-16', '2026-01-15', 1, 39, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(30, 'Etihad Cargo', @loc_AIR_ININD, @loc_AIR_INHUB, 'AIR', NULL, '2025-02-07', '2025-03-08', 1, 4, 5000.0, 'Etihad Cargo AIR_ININD to AIR_INHUB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(31, 'Emirates SkyCargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-02-20', '2025-05-20', 1, 1, 5000.0, 'Emirates SkyCargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(32, 'ZIM', @loc_SHP_DEHAM, @loc_SHP_INJAW, 'WATER', 'FCL', '2025-02-16', '2026-02-15', 1, 21, 28000.0, 'ZIM SHP_DEHAM to SHP_INJAW', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(33, 'Qatar Airways Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2026-01-05', '2027-01-04', 1, 3, 5000.0, 'Qatar Airways Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(34, 'MSC', @loc_SHP_CNSZN, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-02-09', '2025-05-09', 1, 27, 28000.0, 'MSC SHP_CNSZN to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(35, 'Emirates SkyCargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-04-30', '2025-07-28', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(36, 'Qatar Airways Cargo', @loc_AIR_INLAK, @loc_AIR_INGOI, 'AIR', NULL, '2025-02-11', '2025-05-11', 1, 6, 5000.0, 'Qatar Airways Cargo AIR_INLAK to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(37, 'Maersk Line', @loc_SHP_SGSIN, @loc_SHP_INKOC, 'WATER', 'FCL', '2025-01-28', '2025-04-27', 1, 45, 28000.0, 'Maersk Line SHP_SGSIN to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(38, 'MSC', @loc_SHP_INJAW, @loc_SHP_INPAV, 'WATER', 'FCL', '2025-01-12', '2025-07-12', 1, 23, 28000.0, 'MSC SHP_INJAW to SHP_INPAV', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(39, 'Singapore Airlines Cargo', @loc_AIR_INPNE, @loc_AIR_INHUB, 'AIR', NULL, '2025-01-02', '2025-01-31', 0, 6, 5000.0, 'Singapore Airlines Cargo AIR_INPNE to AIR_INHUB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(40, 'ONE', @loc_SHP_INCCU, @loc_SHP_DEHAM, 'WATER', 'FCL', '2025-01-26', '2026-01-25', 1, 21, 28000.0, 'ONE SHP_INCCU to SHP_DEHAM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(41, 'Qatar Airways Cargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-08', '2025-03-09', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(42, 'HMM', @loc_SHP_INVTZ, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-02-27', '2025-08-27', 1, 39, 28000.0, 'HMM SHP_INVTZ to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(43, 'Air India Cargo', @loc_AIR_INBLR2, @loc_AIR_INITN, 'AIR', NULL, '2025-02-28', '2025-05-28', 1, 4, 5000.0, 'Air India Cargo AIR_INBLR2 to AIR_INITN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(44, 'UPS Airlines', @loc_AIR_CNPEK, @loc_AIR_INIXS, 'AIR', NULL, '2025-01-30', '2026-01-29', 1, 5, 5000.0, 'UPS Airlines AIR_CNPEK to AIR_INIXS', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(45, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-03-01', '2025-03-30', 1, 33, 28000.0, 'Maersk Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(46, 'ONE', @loc_SHP_INPAV, @loc_SHP_DEHAM, 'WATER', 'LCL', '2025-02-02', '2025-05-02', 1, 37, 28000.0, 'ONE SHP_INPAV to SHP_DEHAM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(47, 'CMA CGM', @loc_SHP_INKAL, @loc_SHP_INMAA, 'WATER', 'FCL', '2025-01-16', '2025-04-15', 1, 25, 28000.0, 'CMA CGM SHP_INKAL to SHP_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(48, 'Evergreen Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-02-02', '2025-05-02', 1, 18, 28000.0, 'Evergreen Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(49, 'Qatar Airways Cargo', @loc_AIR_AEDXB, @loc_AIR_INSUR, 'AIR', NULL, '2025-01-12', '2025-04-11', 1, 6, 5000.0, 'Qatar Airways Cargo AIR_AEDXB to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(50, 'Evergreen Line', @loc_SHP_NLRTM, @loc_SHP_USNY, 'WATER', 'FCL', '2025-01-25', '2025-04-24', 1, 42, 28000.0, 'Evergreen Line SHP_NLRTM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(51, 'Lufthansa Cargo', @loc_AIR_INHUB, @loc_AIR_INPAT, 'AIR', NULL, '2025-02-15', '2025-08-15', 1, 5, 5000.0, 'Lufthansa Cargo AIR_INHUB to AIR_INPAT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(52, 'CMA CGM', @loc_SHP_JPYOK, @loc_SHP_CNSHG, 'WATER', 'FCL', '2025-02-10', '2025-08-10', 1, 18, 28000.0, 'CMA CGM SHP_JPYOK to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(53, 'DHL Aviation', @loc_AIR_INTUT, @loc_AIR_INGAU, 'AIR', NULL, '2025-01-08', '2025-02-06', 1, 4, 5000.0, 'DHL Aviation AIR_INTUT to AIR_INGAU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(54, 'Air India Cargo', @loc_AIR_INLAK, @loc_AIR_INITN, 'AIR', NULL, '2025-02-20', '2025-08-20', 1, 4, 5000.0, 'Air India Cargo AIR_INLAK to AIR_INITN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(55, 'Turkish Cargo', @loc_AIR_INBHO, @loc_AIR_GBLON, 'AIR', NULL, '2025-01-04', '2025-02-02', 1, 3, 5000.0, 'Turkish Cargo AIR_INBHO to AIR_GBLON', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(56, 'Emirates SkyCargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-01-20', '2026-01-19', 1, 3, 5000.0, 'Emirates SkyCargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(57, 'MSC', @loc_SHP_USNY, @loc_SHP_CNSHG, 'WATER', 'FCL', '2025-02-11', '2025-08-11', 1, 24, 28000.0, 'MSC SHP_USNY to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(58, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-05-12', '2025-08-09', 1, 20, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(59, 'MSC', @loc_SHP_INMUN, @loc_SHP_SGSIN, 'WATER', 'FCL', '2025-02-18', '2025-08-18', 1, 43, 28000.0, 'MSC SHP_INMUN to SHP_SGSIN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(60, 'Hapag-Lloyd', @loc_SHP_INVTZ, @loc_SHP_INKAN, 'WATER', 'LCL', '2025-02-13', '2025-03-14', 1, 17, 28000.0, 'Hapag-Lloyd SHP_INVTZ to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(61, 'X-Press Feeders', @loc_SHP_INMUN, @loc_SHP_INKAN, 'WATER', 'LCL', '2025-02-25', '2025-08-25', 1, 35, 28000.0, 'X-Press Feeders SHP_INMUN to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(62, 'DHL Aviation', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-02-20', '2025-05-20', 1, 2, 5000.0, 'DHL Aviation AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(63, 'Turkish Cargo', @loc_AIR_INLAK, @loc_AIR_INGOI, 'AIR', NULL, '2025-01-16', '2025-04-15', 1, 3, 5000.0, 'Turkish Cargo AIR_INLAK to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(64, 'Singapore Airlines Cargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-02-10', '2026-02-09', 1, 6, 5000.0, 'Singapore Airlines Cargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(65, 'ONE', @loc_SHP_INKAL, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-02-25', '2026-02-24', 1, 19, 28000.0, 'ONE SHP_INKAL to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(66, 'Hapag-Lloyd', @loc_SHP_INMRM, @loc_SHP_INENY, 'WATER', 'FCL', '2025-01-04', '2025-02-02', 1, 19, 28000.0, 'Hapag-Lloyd SHP_INMRM to SHP_INENY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(67, 'Singapore Airlines Cargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-27', '2025-08-27', 1, 4, 5000.0, 'Singapore Airlines Cargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(68, 'Emirates SkyCargo', @loc_AIR_INCAI, @loc_AIR_INVTZ, 'AIR', NULL, '2025-02-06', '2026-02-05', 1, 6, 5000.0, 'Emirates SkyCargo AIR_INCAI to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(69, 'COSCO Shipping', @loc_SHP_DEHAM, @loc_SHP_USLB, 'WATER', 'FCL', '2025-01-22', '2026-01-21', 1, 41, 28000.0, 'COSCO Shipping SHP_DEHAM to SHP_USLB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(70, 'Emirates SkyCargo', @loc_AIR_INMYS, @loc_AIR_INGOI, 'AIR', NULL, '2025-02-15', '2025-08-15', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INMYS to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(71, 'Lufthansa Cargo', @loc_AIR_INIXM, @loc_AIR_AEDXB, 'AIR', NULL, '2025-01-09', '2025-07-09', 1, 6, 5000.0, 'Lufthansa Cargo AIR_INIXM to AIR_AEDXB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(72, 'CMA CGM', @loc_SHP_INKOC, @loc_SHP_INTUT, 'WATER', 'LCL', '2025-02-02', '2025-05-02', 1, 27, 28000.0, 'CMA CGM SHP_INKOC to SHP_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(73, 'Qatar Airways Cargo', @loc_AIR_INIXL, @loc_AIR_INBAG, 'AIR', NULL, '2025-02-08', '2025-05-08', 1, 5, 5000.0, 'Qatar Airways Cargo AIR_INIXL to AIR_INBAG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(74, 'MSC', @loc_SHP_INKAN, @loc_SHP_INMUN, 'WATER', 'FCL', '2025-01-02', '2025-04-01', 1, 36, 28000.0, 'MSC SHP_INKAN to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(75, 'Emirates SkyCargo', @loc_AIR_INVTZ, @loc_AIR_INTUT, 'AIR', NULL, '2025-01-19', '2025-07-19', 1, 3, 5000.0, 'Emirates SkyCargo AIR_INVTZ to AIR_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(76, 'Etihad Cargo', @loc_AIR_INWGL, @loc_AIR_INTRD, 'AIR', NULL, '2025-02-01', '2025-05-01', 1, 6, 5000.0, 'Etihad Cargo AIR_INWGL to AIR_INTRD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(77, 'Blue Dart Aviation', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-14', '2025-08-14', 1, 1, 5000.0, 'Blue Dart Aviation AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(78, 'Evergreen Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-05-03', '2025-06-01', 1, 45, 28000.0, 'Evergreen Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(79, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-01-06', '2025-04-05', 1, 26, 28000.0, 'MSC SHP_NLRTM to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(80, 'Cathay Cargo', @loc_AIR_INCJB, @loc_AIR_INSRI, 'AIR', NULL, '2025-01-28', '2025-02-26', 1, 6, 5000.0, 'Cathay Cargo AIR_INCJB to AIR_INSRI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(81, 'COSCO Shipping', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'LCL', '2025-02-22', '2025-08-22', 1, 20, 28000.0, 'COSCO Shipping SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(82, 'Lufthansa Cargo', @loc_AIR_INJAI, @loc_AIR_INMAA, 'AIR', NULL, '2025-02-05', '2025-05-05', 1, 4, 5000.0, 'Lufthansa Cargo AIR_INJAI to AIR_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(83, 'Maersk Line', @loc_SHP_INVTZ, @loc_SHP_DEHAM, 'WATER', 'FCL', '2025-01-06', '2025-04-05', 1, 35, 28000.0, 'Maersk Line SHP_INVTZ to SHP_DEHAM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(84, 'COSCO Shipping', @loc_SHP_JPYOK, @loc_SHP_CNSHG, 'WATER', 'FCL', '2025-01-26', '2026-01-25', 1, 35, 28000.0, 'COSCO Shipping SHP_JPYOK to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(85, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-25', '2025-05-25', 1, 31, 28000.0, 'Maersk Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(86, 'DHL Aviation', @loc_AIR_INAHD, @loc_AIR_INVGA, 'AIR', NULL, '2025-01-25', '2025-04-24', 0, 3, 5000.0, 'DHL Aviation AIR_INAHD to AIR_INVGA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(87, 'Maersk Line', @loc_SHP_INMAA, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-01-27', '2025-07-27', 1, 16, 28000.0, 'Maersk Line SHP_INMAA to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(88, 'FedEx Express', @loc_AIR_INJAI, @loc_AIR_INIXH, 'AIR', NULL, '2025-02-08', '2025-08-08', 1, 4, 5000.0, 'FedEx Express AIR_INJAI to AIR_INIXH', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(89, 'UPS Airlines', @loc_AIR_INGAU, @loc_AIR_INMAA, 'AIR', NULL, '2025-01-28', '2025-04-27', 1, 3, 5000.0, 'UPS Airlines AIR_INGAU to AIR_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(90, 'Turkish Cargo', @loc_AIR_INGOI, @loc_AIR_INRAJ2, 'AIR', NULL, '2025-02-22', '2026-02-21', 1, 2, 5000.0, 'Turkish Cargo AIR_INGOI to AIR_INRAJ2', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(91, 'DHL Aviation', @loc_AIR_INTRD, @loc_AIR_INBHO, 'AIR', NULL, '2025-01-07', '2026-01-06', 1, 5, 5000.0, 'DHL Aviation AIR_INTRD to AIR_INBHO', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(92, 'UPS Airlines', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-10', '2025-03-11', 1, 4, 5000.0, 'UPS Airlines AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(93, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-08-10', '2026-08-09', 1, 13, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(94, 'Singapore Airlines Cargo', @loc_AIR_CNPVG, @loc_AIR_INRPR, 'AIR', NULL, '2025-02-24', '2026-02-23', 1, 3, 5000.0, 'Singapore Airlines Cargo AIR_CNPVG to AIR_INRPR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(95, 'MSC', @loc_SHP_CNSHG, @loc_SHP_INMNG, 'WATER', 'FCL', '2025-01-17', '2025-07-17', 1, 22, 28000.0, 'MSC SHP_CNSHG to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(96, 'UPS Airlines', @loc_AIR_INKNU, @loc_AIR_INPNE, 'AIR', NULL, '2025-02-03', '2026-02-02', 1, 6, 5000.0, 'UPS Airlines AIR_INKNU to AIR_INPNE', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(97, 'Maersk Line', @loc_SHP_INMRM, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-02-17', '2025-05-17', 1, 14, 28000.0, 'Maersk Line SHP_INMRM to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(98, 'ONE', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'LCL', '2025-02-17', '2025-08-17', 1, 42, 28000.0, 'ONE SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(99, 'Singapore Airlines Cargo', @loc_AIR_INTIR, @loc_AIR_INAMR, 'AIR', NULL, '2025-03-01', '2026-02-28', 1, 6, 5000.0, 'Singapore Airlines Cargo AIR_INTIR to AIR_INAMR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(100, 'CMA CGM', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-01-10', '2025-02-08', 1, 40, 28000.0, 'CMA CGM SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(101, 'COSCO Shipping', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'LCL', '2025-08-23', '2025-11-20', 1, 32, 28000.0, 'COSCO Shipping SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(102, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-01-24', '2025-07-24', 1, 30, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(103, 'Blue Dart Aviation', @loc_AIR_INKDP, @loc_AIR_INJAI, 'AIR', NULL, '2025-01-07', '2025-02-05', 1, 2, 5000.0, 'Blue Dart Aviation AIR_INKDP to AIR_INJAI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(104, 'COSCO Shipping', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-02-19', '2025-05-19', 1, 12, 28000.0, 'COSCO Shipping SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(105, 'MSC', @loc_SHP_NLRTM, @loc_SHP_USNY, 'WATER', 'LCL', '2025-02-26', '2026-02-25', 1, 17, 28000.0, 'MSC SHP_NLRTM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(106, 'Qatar Airways Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2027-01-05', '2028-01-04', 1, 3, 5000.0, 'Qatar Airways Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(107, 'Blue Dart Aviation', @loc_AIR_INVTZ, @loc_AIR_INMUM, 'AIR', NULL, '2025-01-15', '2025-02-13', 1, 2, 5000.0, 'Blue Dart Aviation AIR_INVTZ to AIR_INMUM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(108, 'Emirates SkyCargo', @loc_AIR_INMNG, @loc_AIR_INCJB, 'AIR', NULL, '2025-01-13', '2025-04-12', 1, 2, 5000.0, 'Emirates SkyCargo AIR_INMNG to AIR_INCJB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(109, 'Qatar Airways Cargo', @loc_AIR_INWGL, @loc_AIR_INIXS, 'AIR', NULL, '2025-01-14', '2025-04-13', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INWGL to AIR_INIXS', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(110, 'ONE', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-02-02', '2026-02-01', 1, 32, 28000.0, 'ONE SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(111, 'Emirates SkyCargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-05-21', '2025-08-18', 1, 3, 5000.0, 'Emirates SkyCargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(112, 'UPS Airlines', @loc_AIR_USLAX, @loc_AIR_INJOG, 'AIR', NULL, '2025-02-14', '2025-08-14', 1, 6, 5000.0, 'UPS Airlines AIR_USLAX to AIR_INJOG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(113, 'COSCO Shipping', @loc_SHP_USNY, @loc_SHP_INMNG, 'WATER', 'LCL', '2025-02-02', '2026-02-01', 1, 31, 28000.0, 'COSCO Shipping SHP_USNY to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(114, 'UPS Airlines', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-03-12', '2025-09-09', 1, 5, 5000.0, 'UPS Airlines AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(115, 'Maersk Line', @loc_SHP_INTUT, @loc_SHP_INKOC, 'WATER', 'FCL', '2025-01-18', '2025-04-17', 1, 13, 28000.0, 'Maersk Line SHP_INTUT to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(116, 'UPS Airlines', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-02-11', '2025-05-11', 1, 4, 5000.0, 'UPS Airlines AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(117, 'Etihad Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-25', '2026-01-24', 1, 6, 5000.0, 'Etihad Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(118, 'Etihad Cargo', @loc_AIR_INPAT, @loc_AIR_INIXL, 'AIR', NULL, '2025-02-15', '2026-02-14', 1, 5, 5000.0, 'Etihad Cargo AIR_INPAT to AIR_INIXL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(119, 'CMA CGM', @loc_SHP_INPAV, @loc_SHP_INKAL, 'WATER', 'FCL', '2025-02-24', '2026-02-23', 1, 19, 28000.0, 'CMA CGM SHP_INPAV to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(120, 'Qatar Airways Cargo', @loc_AIR_INMYS, @loc_AIR_INGOI, 'AIR', NULL, '2025-01-23', '2025-07-23', 1, 4, 5000.0, 'Qatar Airways Cargo AIR_INMYS to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(121, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-05-26', '2026-05-25', 1, 42, 28000.0, 'Maersk Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(122, 'Qatar Airways Cargo', @loc_AIR_INVGA, @loc_AIR_INGAU, 'AIR', NULL, '2025-02-21', '2026-02-20', 1, 3, 5000.0, 'Qatar Airways Cargo AIR_INVGA to AIR_INGAU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(123, 'ONE', @loc_SHP_INPBD, @loc_SHP_SGSIN, 'WATER', 'FCL', '2025-02-19', '2026-02-18', 1, 13, 28000.0, 'ONE SHP_INPBD to SHP_SGSIN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(124, 'Maersk Line', @loc_SHP_INMAA, @loc_SHP_INHAL, 'WATER', 'FCL', '2025-01-20', '2025-04-19', 1, 32, 28000.0, 'Maersk Line SHP_INMAA to SHP_INHAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(125, 'Blue Dart Aviation', @loc_AIR_INKDP, @loc_AIR_INKNU, 'AIR', NULL, '2025-02-20', '2025-05-20', 1, 1, 5000.0, 'Blue Dart Aviation AIR_INKDP to AIR_INKNU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(126, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-03-31', '2025-06-28', 1, 15, 28000.0, 'Maersk Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(127, 'Maersk Line', @loc_SHP_INMAA, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-13', '2025-07-13', 1, 43, 28000.0, 'Maersk Line SHP_INMAA to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(128, 'FedEx Express', @loc_AIR_INCJB, @loc_AIR_INZHL, 'AIR', NULL, '2025-01-14', '2025-04-13', 1, 1, 5000.0, 'FedEx Express AIR_INCJB to AIR_INZHL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(129, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2026-08-10', '2027-08-09', 1, 45, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(130, 'Maersk Line', @loc_SHP_INKOC, @loc_SHP_INENY, 'WATER', 'LCL', '2025-01-05', '2025-02-03', 1, 24, 28000.0, 'Maersk Line SHP_INKOC to SHP_INENY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(131, 'Korean Air Cargo', @loc_AIR_INVGA, @loc_AIR_INJAI, 'AIR', NULL, '2025-01-13', '2025-02-11', 0, 3, 5000.0, 'Korean Air Cargo AIR_INVGA to AIR_INJAI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(132, 'Qatar Airways Cargo', @loc_AIR_INVGA, @loc_AIR_INBLR, 'AIR', NULL, '2025-02-25', '2025-08-25', 1, 3, 5000.0, 'Qatar Airways Cargo AIR_INVGA to AIR_INBLR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(133, 'FedEx Express', @loc_AIR_DEFRM, @loc_AIR_INMYS, 'AIR', NULL, '2025-01-30', '2025-07-30', 1, 6, 5000.0, 'FedEx Express AIR_DEFRM to AIR_INMYS', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(134, 'CMA CGM', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'FCL', '2025-01-14', '2025-04-13', 1, 18, 28000.0, 'CMA CGM SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(135, 'MSC', @loc_SHP_INPAV, @loc_SHP_INKAL, 'WATER', 'FCL', '2025-02-17', '2025-03-18', 1, 41, 28000.0, 'MSC SHP_INPAV to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(136, 'DHL Aviation', @loc_AIR_INAHD, @loc_AIR_INVGA, 'AIR', NULL, '2025-04-20', '2025-07-18', 1, 2, 5000.0, 'DHL Aviation AIR_INAHD to AIR_INVGA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(137, 'Korean Air Cargo', @loc_AIR_INMUM, @loc_AIR_INMNG, 'AIR', NULL, '2025-02-06', '2025-03-07', 1, 4, 5000.0, 'Korean Air Cargo AIR_INMUM to AIR_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(138, 'DHL Aviation', @loc_AIR_INAGR, @loc_AIR_GBLON, 'AIR', NULL, '2025-02-19', '2025-08-19', 1, 3, 5000.0, 'DHL Aviation AIR_INAGR to AIR_GBLON', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(139, 'MSC', @loc_SHP_INMRM, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-01-08', '2025-07-08', 1, 28, 28000.0, 'MSC SHP_INMRM to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(140, 'MSC', @loc_SHP_INKAN, @loc_SHP_INHAL, 'WATER', 'LCL', '2025-02-28', '2025-05-28', 1, 15, 28000.0, 'MSC SHP_INKAN to SHP_INHAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(141, 'Yang Ming', @loc_SHP_INMAA, @loc_SHP_INJAW, 'WATER', 'FCL', '2025-02-13', '2026-02-12', 1, 39, 28000.0, 'Yang Ming SHP_INMAA to SHP_INJAW', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(142, 'Etihad Cargo', @loc_AIR_AEDXB, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-06', '2025-03-07', 0, 2, 5000.0, 'Etihad Cargo AIR_AEDXB to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(143, 'Emirates SkyCargo', @loc_AIR_INKNU, @loc_AIR_INITN, 'AIR', NULL, '2025-01-17', '2025-04-16', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INKNU to AIR_INITN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(144, 'Maersk Line', @loc_SHP_INPBD, @loc_SHP_INGOA, 'WATER', 'LCL', '2025-01-30', '2025-02-28', 1, 21, 28000.0, 'Maersk Line SHP_INPBD to SHP_INGOA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(145, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-07-25', '2026-01-22', 1, 33, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(146, 'ONE', @loc_SHP_JPYOK, @loc_SHP_CNSHG, 'WATER', 'FCL', '2025-02-15', '2025-05-15', 1, 36, 28000.0, 'ONE SHP_JPYOK to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(147, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INKOC, 'WATER', 'LCL', '2025-02-15', '2025-03-16', 1, 40, 28000.0, 'Maersk Line SHP_INKAN to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(148, 'HMM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-15', '2025-04-14', 1, 36, 28000.0, 'HMM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(149, 'Korean Air Cargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-07', '2025-08-07', 1, 6, 5000.0, 'Korean Air Cargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(150, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_USNY, 'WATER', 'FCL', '2025-02-04', '2026-02-03', 1, 16, 28000.0, 'Maersk Line SHP_NLRTM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(151, 'COSCO Shipping', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-01-05', '2025-04-04', 1, 39, 28000.0, 'COSCO Shipping SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(152, 'COSCO Shipping', @loc_SHP_INVTZ, @loc_SHP_USNY, 'WATER', 'LCL', '2025-01-25', '2025-02-23', 1, 28, 28000.0, 'COSCO Shipping SHP_INVTZ to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(153, 'COSCO Shipping', @loc_SHP_INKAL, @loc_SHP_INMAA, 'WATER', 'LCL', '2025-01-06', '2025-02-04', 1, 13, 28000.0, 'COSCO Shipping SHP_INKAL to SHP_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(154, 'IndiGo CarGo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-02-16', '2025-03-17', 1, 6, 5000.0, 'IndiGo CarGo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(155, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2026-01-23', '2026-07-23', 1, 35, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(156, 'Emirates SkyCargo', @loc_AIR_CNPVG, @loc_AIR_INVNS, 'AIR', NULL, '2025-01-08', '2025-04-07', 1, 3, 5000.0, 'Emirates SkyCargo AIR_CNPVG to AIR_INVNS', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(157, 'Maersk Line', @loc_SHP_INMRM, @loc_SHP_USLB, 'WATER', 'LCL', '2025-01-18', '2025-04-17', 1, 23, 28000.0, 'Maersk Line SHP_INMRM to SHP_USLB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(158, 'Korean Air Cargo', @loc_AIR_INJAI, @loc_AIR_INMAA, 'AIR', NULL, '2025-01-13', '2025-04-12', 1, 4, 5000.0, 'Korean Air Cargo AIR_INJAI to AIR_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(159, 'Maersk Line', @loc_SHP_INMNG, @loc_SHP_JPYOK, 'WATER', 'FCL', '2025-02-11', '2025-05-11', 1, 20, 28000.0, 'Maersk Line SHP_INMNG to SHP_JPYOK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(160, 'Maersk Line', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'FCL', '2025-02-03', '2025-08-03', 1, 14, 28000.0, 'Maersk Line SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(161, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2026-07-24', '2027-01-21', 1, 19, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(162, 'Maersk Line', @loc_SHP_DEHAM, @loc_SHP_USNY, 'WATER', 'FCL', '2025-01-10', '2025-02-08', 1, 15, 28000.0, 'Maersk Line SHP_DEHAM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(163, 'Emirates SkyCargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-07-29', '2025-08-27', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(164, 'MSC', @loc_SHP_INPAV, @loc_SHP_INMAA, 'WATER', 'FCL', '2025-01-08', '2025-02-06', 1, 17, 28000.0, 'MSC SHP_INPAV to SHP_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(165, 'Cathay Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-08-30', '2025-11-27', 1, 4, 5000.0, 'Cathay Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(166, 'Emirates SkyCargo', @loc_AIR_INJOG, @loc_AIR_INTRD, 'AIR', NULL, '2025-01-05', '2025-07-05', 1, 1, 5000.0, 'Emirates SkyCargo AIR_INJOG to AIR_INTRD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(167, 'Yang Ming', @loc_SHP_AEJEA, @loc_SHP_INTUT, 'WATER', 'FCL', '2025-03-01', '2025-08-29', 1, 32, 28000.0, 'Yang Ming SHP_AEJEA to SHP_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(168, 'Maersk Line', @loc_SHP_AEJEA, @loc_SHP_INTUT, 'WATER', 'LCL', '2025-02-11', '2025-05-11', 1, 15, 28000.0, 'Maersk Line SHP_AEJEA to SHP_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(169, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2027-01-22', '2027-04-21', 1, 41, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(170, 'Qatar Airways Cargo', @loc_AIR_INCAI, @loc_AIR_INVTZ, 'AIR', NULL, '2025-02-22', '2025-03-23', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INCAI to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(171, 'Qatar Airways Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-02-10', '2025-05-10', 1, 6, 5000.0, 'Qatar Airways Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(172, 'Qatar Airways Cargo', @loc_AIR_INHYD, @loc_AIR_INBHO, 'AIR', NULL, '2025-01-10', '2026-01-09', 1, 4, 5000.0, 'Qatar Airways Cargo AIR_INHYD to AIR_INBHO', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(173, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2027-08-10', '2028-08-08', 1, 20, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(174, 'Shipping Corporation of India', @loc_SHP_USLB, @loc_SHP_CNSZN, 'WATER', 'LCL', '2025-01-08', '2026-01-07', 1, 18, 28000.0, 'Shipping Corporation of India SHP_USLB to SHP_CNSZN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(175, 'Maersk Line', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-11', '2025-08-11', 1, 12, 28000.0, 'Maersk Line SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(176, 'MSC', @loc_SHP_INKAN, @loc_SHP_INKAL, 'WATER', 'LCL', '2025-03-01', '2026-02-28', 1, 28, 28000.0, 'MSC SHP_INKAN to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(177, 'CMA CGM', @loc_SHP_INKAN, @loc_SHP_INMUN, 'WATER', 'FCL', '2025-02-24', '2025-08-24', 1, 35, 28000.0, 'CMA CGM SHP_INKAN to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(178, 'Evergreen Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-02-26', '2025-05-26', 1, 24, 28000.0, 'Evergreen Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(179, 'Korean Air Cargo', @loc_AIR_INLKO, @loc_AIR_INIXK, 'AIR', NULL, '2025-01-02', '2025-04-01', 0, 2, 5000.0, 'Korean Air Cargo AIR_INLKO to AIR_INIXK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(180, 'COSCO Shipping', @loc_SHP_INMNG, @loc_SHP_CNSHG, 'WATER', 'LCL', '2025-02-01', '2026-01-31', 1, 22, 28000.0, 'COSCO Shipping SHP_INMNG to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(181, 'Blue Dart Aviation', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-17', '2025-07-17', 1, 4, 5000.0, 'Blue Dart Aviation AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(182, 'UPS Airlines', @loc_AIR_JPNRT, @loc_AIR_INGAU, 'AIR', NULL, '2025-02-24', '2025-08-24', 1, 3, 5000.0, 'UPS Airlines AIR_JPNRT to AIR_INGAU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(183, 'Air India Cargo', @loc_AIR_INIXH, @loc_AIR_INPBD, 'AIR', NULL, '2025-02-08', '2025-05-08', 1, 3, 5000.0, 'Air India Cargo AIR_INIXH to AIR_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(184, 'Air India Cargo', @loc_AIR_GBLON, @loc_AIR_INCAI, 'AIR', NULL, '2025-02-16', '2025-08-16', 1, 4, 5000.0, 'Air India Cargo AIR_GBLON to AIR_INCAI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(185, 'COSCO Shipping', @loc_SHP_CNSHG, @loc_SHP_INTUT, 'WATER', 'FCL', '2025-02-08', '2025-03-09', 1, 38, 28000.0, 'COSCO Shipping SHP_CNSHG to SHP_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(186, 'ONE', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-02-23', '2025-03-24', 1, 21, 28000.0, 'ONE SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(187, 'Cathay Cargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-01-20', '2026-01-19', 1, 3, 5000.0, 'Cathay Cargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(188, 'ONE', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-03-25', '2025-09-22', 1, 16, 28000.0, 'ONE SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(189, 'Maersk Line', @loc_SHP_DEHAM, @loc_SHP_INJAW, 'WATER', 'LCL', '2025-02-08', '2025-03-09', 1, 24, 28000.0, 'Maersk Line SHP_DEHAM to SHP_INJAW', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(190, 'Emirates SkyCargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-08-19', '2025-11-16', 1, 2, 5000.0, 'Emirates SkyCargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(191, 'Lufthansa Cargo', @loc_AIR_INMNG, @loc_AIR_INCJB, 'AIR', NULL, '2025-02-17', '2026-02-16', 1, 4, 5000.0, 'Lufthansa Cargo AIR_INMNG to AIR_INCJB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(192, 'Emirates SkyCargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-08-28', '2025-11-25', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(193, 'Emirates SkyCargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2026-01-20', '2027-01-19', 1, 2, 5000.0, 'Emirates SkyCargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(194, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-10', '2025-07-10', 1, 22, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(195, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-01-27', '2025-02-25', 1, 35, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(196, 'Maersk Line', @loc_SHP_INKOC, @loc_SHP_INKAL, 'WATER', 'FCL', '2025-01-11', '2025-04-10', 1, 26, 28000.0, 'Maersk Line SHP_INKOC to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(197, 'Qatar Airways Cargo', @loc_AIR_INGOI, @loc_AIR_INLAK, 'AIR', NULL, '2025-01-24', '2025-07-24', 1, 2, 5000.0, 'Qatar Airways Cargo AIR_INGOI to AIR_INLAK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(198, 'CMA CGM', @loc_SHP_INKOC, @loc_SHP_NLRTM, 'WATER', 'LCL', '2025-03-01', '2025-08-29', 0, 45, 28000.0, 'CMA CGM SHP_INKOC to SHP_NLRTM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(199, 'Air India Cargo', @loc_AIR_INTUT, @loc_AIR_INAGR, 'AIR', NULL, '2025-02-24', '2025-05-24', 1, 6, 5000.0, 'Air India Cargo AIR_INTUT to AIR_INAGR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(200, 'Maersk Line', @loc_SHP_INMAA, @loc_SHP_INENY, 'WATER', 'FCL', '2025-01-17', '2026-01-16', 1, 42, 28000.0, 'Maersk Line SHP_INMAA to SHP_INENY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(201, 'Shipping Corporation of India', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-01-12', '2025-02-10', 1, 32, 28000.0, 'Shipping Corporation of India SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(202, 'UPS Airlines', @loc_AIR_INIXS, @loc_AIR_INKOC, 'AIR', NULL, '2025-02-08', '2026-02-07', 1, 1, 5000.0, 'UPS Airlines AIR_INIXS to AIR_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(203, 'Shipping Corporation of India', @loc_SHP_INPBD, @loc_SHP_INPAV, 'WATER', 'FCL', '2025-01-28', '2025-04-27', 1, 43, 28000.0, 'Shipping Corporation of India SHP_INPBD to SHP_INPAV', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(204, 'UPS Airlines', @loc_AIR_INVTZ, @loc_AIR_INBLR, 'AIR', NULL, '2025-02-17', '2026-02-16', 1, 4, 5000.0, 'UPS Airlines AIR_INVTZ to AIR_INBLR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(205, 'UPS Airlines', @loc_AIR_INKNU, @loc_AIR_INKDP, 'AIR', NULL, '2025-01-22', '2026-01-21', 1, 1, 5000.0, 'UPS Airlines AIR_INKNU to AIR_INKDP', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(206, 'ZIM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-02-05', '2025-08-05', 1, 37, 28000.0, 'ZIM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(207, 'Emirates SkyCargo', @loc_AIR_INBLR, @loc_AIR_USJFK, 'AIR', NULL, '2025-03-01', '2025-05-29', 1, 3, 5000.0, 'Emirates SkyCargo AIR_INBLR to AIR_USJFK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(208, 'Maersk Line', @loc_SHP_SGSIN, @loc_SHP_INMUN, 'WATER', 'LCL', '2025-01-15', '2026-01-14', 1, 29, 28000.0, 'Maersk Line SHP_SGSIN to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(209, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-07-11', '2025-08-09', 1, 27, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(210, 'MSC', @loc_SHP_CNSZN, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-02-27', '2025-05-27', 1, 21, 28000.0, 'MSC SHP_CNSZN to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(211, 'CMA CGM', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-01-11', '2025-07-11', 1, 17, 28000.0, 'CMA CGM SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(212, 'Cathay Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-11-28', '2026-02-25', 1, 4, 5000.0, 'Cathay Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(213, 'Maersk Line', @loc_SHP_INKOC, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-01-21', '2025-04-20', 1, 14, 28000.0, 'Maersk Line SHP_INKOC to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(214, 'Qatar Airways Cargo', @loc_AIR_INIXS, @loc_AIR_INKOC, 'AIR', NULL, '2025-01-24', '2025-07-24', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INIXS to AIR_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(215, 'Lufthansa Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-07', '2026-01-06', 1, 3, 5000.0, 'Lufthansa Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(216, 'Lufthansa Cargo', @loc_AIR_CNPVG, @loc_AIR_INRPR, 'AIR', NULL, '2025-01-13', '2025-04-12', 1, 3, 5000.0, 'Lufthansa Cargo AIR_CNPVG to AIR_INRPR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(217, 'ZIM', @loc_SHP_NLRTM, @loc_SHP_USNY, 'WATER', 'FCL', '2025-01-04', '2025-02-02', 1, 26, 28000.0, 'ZIM SHP_NLRTM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(218, 'Emirates SkyCargo', @loc_AIR_INLAK, @loc_AIR_INGOI, 'AIR', NULL, '2025-01-27', '2025-04-26', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INLAK to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(219, 'HMM', @loc_SHP_INGOA, @loc_SHP_INKAN, 'WATER', 'LCL', '2025-01-05', '2025-04-04', 1, 40, 28000.0, 'HMM SHP_INGOA to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(220, 'Qatar Airways Cargo', @loc_AIR_INIXL, @loc_AIR_INKNU, 'AIR', NULL, '2025-01-16', '2026-01-15', 1, 2, 5000.0, 'Qatar Airways Cargo AIR_INIXL to AIR_INKNU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(221, 'UPS Airlines', @loc_AIR_INTUT, @loc_AIR_INPBD, 'AIR', NULL, '2025-02-18', '2025-03-19', 1, 5, 5000.0, 'UPS Airlines AIR_INTUT to AIR_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(222, 'Emirates SkyCargo', @loc_AIR_INTUT, @loc_AIR_AEDXB, 'AIR', NULL, '2025-02-05', '2026-02-04', 1, 1, 5000.0, 'Emirates SkyCargo AIR_INTUT to AIR_AEDXB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(223, 'ZIM', @loc_SHP_INKAN, @loc_SHP_INKAL, 'WATER', 'LCL', '2025-01-18', '2025-07-18', 1, 31, 28000.0, 'ZIM SHP_INKAN to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(224, 'Maersk Line', @loc_SHP_AEJEA, @loc_SHP_INCCU, 'WATER', 'FCL', '2025-02-06', '2025-08-06', 1, 13, 28000.0, 'Maersk Line SHP_AEJEA to SHP_INCCU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(225, 'CMA CGM', @loc_SHP_INKAN, @loc_SHP_INMUN, 'WATER', 'FCL', '2025-08-25', '2025-09-23', 1, 30, 28000.0, 'CMA CGM SHP_INKAN to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(226, 'Emirates SkyCargo', @loc_AIR_AEDXB, @loc_AIR_INJAI, 'AIR', NULL, '2025-01-17', '2025-04-16', 1, 2, 5000.0, 'Emirates SkyCargo AIR_AEDXB to AIR_INJAI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(227, 'Lufthansa Cargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-02-11', '2025-05-11', 1, 3, 5000.0, 'Lufthansa Cargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(228, 'MSC', @loc_SHP_INPBD, @loc_SHP_USLB, 'WATER', 'FCL', '2025-01-23', '2025-07-23', 1, 17, 28000.0, 'MSC SHP_INPBD to SHP_USLB', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(229, 'Hapag-Lloyd', @loc_SHP_INKAL, @loc_SHP_DEHAM, 'WATER', 'FCL', '2025-01-25', '2026-01-24', 1, 27, 28000.0, 'Hapag-Lloyd SHP_INKAL to SHP_DEHAM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(230, 'Lufthansa Cargo', @loc_AIR_INAGX, @loc_AIR_INZHL, 'AIR', NULL, '2025-02-09', '2025-05-09', 1, 4, 5000.0, 'Lufthansa Cargo AIR_INAGX to AIR_INZHL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(231, 'DHL Aviation', @loc_AIR_INJPR, @loc_AIR_INBHO, 'AIR', NULL, '2025-01-05', '2025-07-05', 1, 5, 5000.0, 'DHL Aviation AIR_INJPR to AIR_INBHO', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(232, 'Emirates SkyCargo', @loc_AIR_INPNE, @loc_AIR_CNPEK, 'AIR', NULL, '2025-10-30', '2026-10-29', 1, 6, 5000.0, 'Emirates SkyCargo AIR_INPNE to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(233, 'DHL Aviation', @loc_AIR_INCAI, @loc_AIR_INIXL, 'AIR', NULL, '2025-01-16', '2026-01-15', 1, 4, 5000.0, 'DHL Aviation AIR_INCAI to AIR_INIXL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(234, 'DHL Aviation', @loc_AIR_INRAJ, @loc_AIR_INCHA, 'AIR', NULL, '2025-01-30', '2025-04-29', 1, 5, 5000.0, 'DHL Aviation AIR_INRAJ to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(235, 'Turkish Cargo', @loc_AIR_INPOR, @loc_AIR_INSUR, 'AIR', NULL, '2025-01-17', '2025-04-16', 1, 2, 5000.0, 'Turkish Cargo AIR_INPOR to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(236, 'Maersk Line', @loc_SHP_INPAV, @loc_SHP_INKAL, 'WATER', 'LCL', '2025-01-30', '2025-02-28', 1, 39, 28000.0, 'Maersk Line SHP_INPAV to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(237, 'Evergreen Line', @loc_SHP_INKOC, @loc_SHP_CNSHG, 'WATER', 'FCL', '2025-02-02', '2025-03-03', 1, 13, 28000.0, 'Evergreen Line SHP_INKOC to SHP_CNSHG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(238, 'Hapag-Lloyd', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-02-02', '2025-05-02', 1, 35, 28000.0, 'Hapag-Lloyd SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(239, 'Singapore Airlines Cargo', @loc_AIR_INITN, @loc_AIR_INMDU, 'AIR', NULL, '2025-02-02', '2026-02-01', 1, 3, 5000.0, 'Singapore Airlines Cargo AIR_INITN to AIR_INMDU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(240, 'Maersk Line', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-06-29', '2025-12-27', 1, 30, 28000.0, 'Maersk Line SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(241, 'Emirates SkyCargo', @loc_AIR_AEDXB, @loc_AIR_INSUR, 'AIR', NULL, '2025-01-21', '2025-07-21', 1, 4, 5000.0, 'Emirates SkyCargo AIR_AEDXB to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(242, 'Maersk Line', @loc_SHP_INMNG, @loc_SHP_INGOA, 'WATER', 'FCL', '2025-02-19', '2025-05-19', 1, 42, 28000.0, 'Maersk Line SHP_INMNG to SHP_INGOA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(243, 'Shipping Corporation of India', @loc_SHP_INMUN, @loc_SHP_NLRTM, 'WATER', 'FCL', '2025-02-19', '2025-05-19', 1, 44, 28000.0, 'Shipping Corporation of India SHP_INMUN to SHP_NLRTM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(244, 'Evergreen Line', @loc_SHP_INPAV, @loc_SHP_INKAL, 'WATER', 'FCL', '2025-01-22', '2026-01-21', 1, 27, 28000.0, 'Evergreen Line SHP_INPAV to SHP_INKAL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(245, 'Singapore Airlines Cargo', @loc_AIR_JPNRT, @loc_AIR_INGAU, 'AIR', NULL, '2025-02-19', '2025-05-19', 1, 6, 5000.0, 'Singapore Airlines Cargo AIR_JPNRT to AIR_INGAU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(246, 'Singapore Airlines Cargo', @loc_AIR_INVTZ, @loc_AIR_INBLR, 'AIR', NULL, '2025-01-20', '2025-04-19', 1, 5, 5000.0, 'Singapore Airlines Cargo AIR_INVTZ to AIR_INBLR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(247, 'Emirates SkyCargo', @loc_AIR_INIXS, @loc_AIR_INKOC, 'AIR', NULL, '2025-02-16', '2026-02-15', 1, 4, 5000.0, 'Emirates SkyCargo AIR_INIXS to AIR_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(248, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-08-10', '2025-11-07', 1, 14, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(249, 'Emirates SkyCargo', @loc_AIR_INMUM, @loc_AIR_INWGL, 'AIR', NULL, '2025-01-16', '2025-07-16', 1, 5, 5000.0, 'Emirates SkyCargo AIR_INMUM to AIR_INWGL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(250, 'COSCO Shipping', @loc_SHP_INKOC, @loc_SHP_INKAN, 'WATER', 'FCL', '2025-02-05', '2025-03-06', 1, 14, 28000.0, 'COSCO Shipping SHP_INKOC to SHP_INKAN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(251, 'Turkish Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-02-06', '2025-08-06', 1, 6, 5000.0, 'Turkish Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(252, 'X-Press Feeders', @loc_SHP_INVTZ, @loc_SHP_INMNG, 'WATER', 'FCL', '2025-01-08', '2025-02-06', 1, 22, 28000.0, 'X-Press Feeders SHP_INVTZ to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(253, 'Blue Dart Aviation', @loc_AIR_INVNS, @loc_AIR_CNPEK, 'AIR', NULL, '2025-01-18', '2025-07-18', 1, 3, 5000.0, 'Blue Dart Aviation AIR_INVNS to AIR_CNPEK', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(254, 'Emirates SkyCargo', @loc_AIR_INGOI, @loc_AIR_INZHL, 'AIR', NULL, '2025-01-15', '2025-07-15', 1, 4, 5000.0, 'Emirates SkyCargo AIR_INGOI to AIR_INZHL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(255, 'FedEx Express', @loc_AIR_INLAK, @loc_AIR_INGOI, 'AIR', NULL, '2025-01-18', '2026-01-17', 1, 3, 5000.0, 'FedEx Express AIR_INLAK to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(256, 'ONE', @loc_SHP_DEHAM, @loc_SHP_USNY, 'WATER', 'LCL', '2025-01-25', '2025-07-25', 1, 23, 28000.0, 'ONE SHP_DEHAM to SHP_USNY', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(257, 'Shipping Corporation of India', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'LCL', '2025-02-11', '2025-08-11', 1, 21, 28000.0, 'Shipping Corporation of India SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(258, 'Singapore Airlines Cargo', @loc_AIR_INJPR, @loc_AIR_USLAX, 'AIR', NULL, '2025-01-23', '2026-01-22', 1, 1, 5000.0, 'Singapore Airlines Cargo AIR_INJPR to AIR_USLAX', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(259, 'Maersk Line', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2027-04-22', '2027-07-20', 1, 35, 28000.0, 'Maersk Line SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(260, 'Turkish Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-08-07', '2025-11-04', 1, 5, 5000.0, 'Turkish Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(261, 'X-Press Feeders', @loc_SHP_JPYOK, @loc_SHP_SGSIN, 'WATER', 'FCL', '2025-01-01', '2025-12-31', 1, 20, 28000.0, 'X-Press Feeders SHP_JPYOK to SHP_SGSIN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(262, 'CMA CGM', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-02-06', '2025-08-06', 1, 45, 28000.0, 'CMA CGM SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(263, 'CMA CGM', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-05', '2025-02-03', 1, 39, 28000.0, 'CMA CGM SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(264, 'ONE', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-15', '2025-08-15', 1, 36, 28000.0, 'ONE SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(265, 'HMM', @loc_SHP_INVTZ, @loc_SHP_INKOC, 'WATER', 'FCL', '2025-01-10', '2025-04-09', 1, 40, 28000.0, 'HMM SHP_INVTZ to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(266, 'CMA CGM', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-08-07', '2026-08-06', 1, 27, 28000.0, 'CMA CGM SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(267, 'CMA CGM', @loc_SHP_CNSZN, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-01-13', '2025-04-12', 1, 43, 28000.0, 'CMA CGM SHP_CNSZN to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(268, 'Korean Air Cargo', @loc_AIR_INCAI, @loc_AIR_INVTZ, 'AIR', NULL, '2025-01-24', '2026-01-23', 1, 3, 5000.0, 'Korean Air Cargo AIR_INCAI to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(269, 'Lufthansa Cargo', @loc_AIR_INPAT, @loc_AIR_INIXL, 'AIR', NULL, '2025-01-04', '2025-04-03', 1, 4, 5000.0, 'Lufthansa Cargo AIR_INPAT to AIR_INIXL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(270, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-11-08', '2026-05-08', 1, 14, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(271, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'LCL', '2025-02-26', '2025-08-26', 1, 13, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(272, 'Emirates SkyCargo', @loc_AIR_INCAI, @loc_AIR_INVTZ, 'AIR', NULL, '2026-02-06', '2026-05-06', 1, 1, 5000.0, 'Emirates SkyCargo AIR_INCAI to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(273, 'Etihad Cargo', @loc_AIR_CNPVG, @loc_AIR_INRPR, 'AIR', NULL, '2025-02-19', '2025-03-20', 1, 1, 5000.0, 'Etihad Cargo AIR_CNPVG to AIR_INRPR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(274, 'Cathay Cargo', @loc_AIR_INVNS, @loc_AIR_INADM, 'AIR', NULL, '2025-02-18', '2025-08-18', 1, 4, 5000.0, 'Cathay Cargo AIR_INVNS to AIR_INADM', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(275, 'Cathay Cargo', @loc_AIR_INLAK, @loc_AIR_INGOI, 'AIR', NULL, '2025-01-21', '2026-01-20', 1, 1, 5000.0, 'Cathay Cargo AIR_INLAK to AIR_INGOI', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(276, 'MSC', @loc_SHP_SGSIN, @loc_SHP_INKOC, 'WATER', 'LCL', '2025-01-02', '2025-01-31', 1, 45, 28000.0, 'MSC SHP_SGSIN to SHP_INKOC', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(277, 'DHL Aviation', @loc_AIR_INJPR, @loc_AIR_USLAX, 'AIR', NULL, '2025-01-08', '2025-04-07', 1, 2, 5000.0, 'DHL Aviation AIR_INJPR to AIR_USLAX', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(278, 'ONE', @loc_SHP_INMNG, @loc_SHP_INCCU, 'WATER', 'LCL', '2025-01-02', '2026-01-01', 1, 13, 28000.0, 'ONE SHP_INMNG to SHP_INCCU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(279, 'Maersk Line', @loc_SHP_JPYOK, @loc_SHP_INMNG, 'WATER', 'LCL', '2025-02-04', '2025-05-04', 1, 45, 28000.0, 'Maersk Line SHP_JPYOK to SHP_INMNG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(280, 'MSC', @loc_SHP_INENY, @loc_SHP_INCCU, 'WATER', 'FCL', '2025-02-27', '2025-05-27', 1, 17, 28000.0, 'MSC SHP_INENY to SHP_INCCU', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(281, 'DHL Aviation', @loc_AIR_INRAJ2, @loc_AIR_INAHD, 'AIR', NULL, '2025-01-15', '2025-07-15', 1, 4, 5000.0, 'DHL Aviation AIR_INRAJ2 to AIR_INAHD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(282, 'DHL Aviation', @loc_AIR_GBLON, @loc_AIR_INLUH, 'AIR', NULL, '2025-02-07', '2025-03-08', 1, 6, 5000.0, 'DHL Aviation AIR_GBLON to AIR_INLUH', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(283, 'COSCO Shipping', @loc_SHP_USLB, @loc_SHP_INMUN, 'WATER', 'LCL', '2025-02-04', '2025-05-04', 1, 29, 28000.0, 'COSCO Shipping SHP_USLB to SHP_INMUN', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(284, 'CMA CGM', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2026-08-07', '2026-11-04', 1, 19, 28000.0, 'CMA CGM SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(285, 'Maersk Line', @loc_SHP_INCCU, @loc_SHP_INPBD, 'WATER', 'FCL', '2026-01-30', '2027-01-29', 1, 34, 28000.0, 'Maersk Line SHP_INCCU to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(286, 'MSC', @loc_SHP_INKAN, @loc_SHP_INVTZ, 'WATER', 'FCL', '2025-01-28', '2026-01-27', 1, 18, 28000.0, 'MSC SHP_INKAN to SHP_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(287, 'ONE', @loc_SHP_INTUT, @loc_SHP_AEJEA, 'WATER', 'FCL', '2025-01-11', '2026-01-10', 1, 16, 28000.0, 'ONE SHP_INTUT to SHP_AEJEA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(288, 'MSC', @loc_SHP_INMAA, @loc_SHP_INPBD, 'WATER', 'FCL', '2025-01-07', '2026-01-06', 1, 26, 28000.0, 'MSC SHP_INMAA to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(289, 'HMM', @loc_SHP_INMNG, @loc_SHP_INTUT, 'WATER', 'FCL', '2025-02-26', '2025-08-26', 1, 29, 28000.0, 'HMM SHP_INMNG to SHP_INTUT', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(290, 'MSC', @loc_SHP_INMAA, @loc_SHP_INJAW, 'WATER', 'FCL', '2025-01-22', '2025-04-21', 1, 16, 28000.0, 'MSC SHP_INMAA to SHP_INJAW', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(291, 'ONE', @loc_SHP_INCCU, @loc_SHP_INMAA, 'WATER', 'FCL', '2025-02-10', '2025-03-11', 1, 44, 28000.0, 'ONE SHP_INCCU to SHP_INMAA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(292, 'Blue Dart Aviation', @loc_AIR_INMAA, @loc_AIR_INDEL, 'AIR', NULL, '2025-02-15', '2025-08-15', 1, 6, 5000.0, 'Blue Dart Aviation AIR_INMAA to AIR_INDEL', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(293, 'IndiGo CarGo', @loc_AIR_INCAI, @loc_AIR_INVTZ, 'AIR', NULL, '2025-02-06', '2025-05-06', 1, 5, 5000.0, 'IndiGo CarGo AIR_INCAI to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(294, 'Singapore Airlines Cargo', @loc_AIR_INRAJ2, @loc_AIR_ININD, 'AIR', NULL, '2025-01-28', '2025-04-27', 1, 5, 5000.0, 'Singapore Airlines Cargo AIR_INRAJ2 to AIR_ININD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(295, 'Cathay Cargo', @loc_AIR_AEDXB, @loc_AIR_INSUR, 'AIR', NULL, '2025-02-06', '2026-02-05', 1, 6, 5000.0, 'Cathay Cargo AIR_AEDXB to AIR_INSUR', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(296, 'MSC', @loc_SHP_NLRTM, @loc_SHP_INPBD, 'WATER', 'FCL', '2026-05-09', '2026-11-06', 1, 25, 28000.0, 'MSC SHP_NLRTM to SHP_INPBD', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(297, 'Qatar Airways Cargo', @loc_AIR_INIXH, @loc_AIR_INCHA, 'AIR', NULL, '2025-05-11', '2025-11-08', 1, 1, 5000.0, 'Qatar Airways Cargo AIR_INIXH to AIR_INCHA', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(298, 'COSCO Shipping', @loc_SHP_INVTZ, @loc_SHP_INPAV, 'WATER', 'LCL', '2025-01-25', '2026-01-24', 1, 12, 28000.0, 'COSCO Shipping SHP_INVTZ to SHP_INPAV', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(299, 'IndiGo CarGo', @loc_AIR_INCAI, @loc_AIR_INNAG, 'AIR', NULL, '2025-02-18', '2025-08-18', 1, 3, 5000.0, 'IndiGo CarGo AIR_INCAI to AIR_INNAG', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+(300, 'Emirates SkyCargo', @loc_AIR_INVNS, @loc_AIR_INVTZ, 'AIR', NULL, '2025-02-19', '2026-02-18', 1, 3, 5000.0, 'Emirates SkyCargo AIR_INVNS to AIR_INVTZ', '2025-01-01 00:00:00', '2025-01-01 00:00:00');
+INSERT INTO freight_details (freight_mode, courier_rate_id, rate, currency, minimum_charge, fuel_surcharge_rate, security_surcharge, weight_limit, documentation_fee, bunker_adjustment_rate, lcl_service_charge, container_type_id, terminal_handling_charge) VALUES
+('AIR', 1, 1.82, 'USD', 92.00, 0.1656, 25.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 2, 1.80, 'USD', 65.00, 0.1817, 22.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 3, 31.02, 'USD', NULL, NULL, NULL, NULL, 43.00, 0.1156, 20.00, NULL, NULL),
+('AIR', 4, 1.97, 'USD', 70.00, 0.1901, 28.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 5, 709.00, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_20GP, 228.00),
+('FCL', 5, 1148.57, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_40GP, 170.00),
+('FCL', 5, 1205.29, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_40HC, 240.00),
+('FCL', 5, 1524.34, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_40OT, 152.00),
+('FCL', 5, 1028.04, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_20OT, 249.00),
+('FCL', 5, 2162.44, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.0976, NULL, @ct_40RF, 163.00),
+('AIR', 6, 1.82, 'USD', 66.00, 0.2028, 53.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 7, 76.19, 'USD', NULL, NULL, NULL, NULL, 48.00, 0.0973, 47.00, NULL, NULL),
+('LCL', 8, 75.16, 'USD', NULL, NULL, NULL, NULL, 37.00, 0.1041, 24.00, NULL, NULL),
+('FCL', 9, 734.82, 'USD', NULL, NULL, NULL, NULL, 85.00, 0.1036, NULL, @ct_20GP, 245.00),
+('FCL', 9, 1190.40, 'USD', NULL, NULL, NULL, NULL, 85.00, 0.1036, NULL, @ct_40GP, 152.00),
+('FCL', 9, 1249.19, 'USD', NULL, NULL, NULL, NULL, 85.00, 0.1036, NULL, @ct_40HC, 191.00),
+('AIR', 10, 2.17, 'USD', 97.00, 0.1722, 46.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 11, 28.67, 'USD', NULL, NULL, NULL, NULL, 38.00, 0.1153, 36.00, NULL, NULL),
+('AIR', 12, 4.07, 'USD', 71.00, 0.2230, 23.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 13, 2.09, 'USD', 98.00, 0.2109, 15.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 14, 556.92, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_20GP, 250.00),
+('FCL', 14, 902.22, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_40GP, 140.00),
+('FCL', 14, 946.77, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_40HC, 158.00),
+('FCL', 14, 590.34, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_20HC, 159.00),
+('FCL', 14, 1308.77, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_40FR, 142.00),
+('FCL', 14, 1169.54, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1225, NULL, @ct_20RF, 247.00),
+('LCL', 15, 31.87, 'USD', NULL, NULL, NULL, NULL, 43.00, 0.0984, 54.00, NULL, NULL),
+('FCL', 16, 1494.76, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0886, NULL, @ct_20GP, 209.00),
+('FCL', 16, 2421.51, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0886, NULL, @ct_40GP, 254.00),
+('FCL', 16, 2541.09, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0886, NULL, @ct_40HC, 227.00),
+('FCL', 16, 2316.88, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0886, NULL, @ct_20FR, 236.00),
+('FCL', 16, 3512.68, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0886, NULL, @ct_40FR, 231.00),
+('LCL', 17, 74.90, 'USD', NULL, NULL, NULL, NULL, 52.00, 0.0880, 42.00, NULL, NULL),
+('AIR', 18, 1.91, 'USD', 88.00, 0.2202, 47.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 19, 1.85, 'USD', 86.00, 0.2292, 35.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 20, 82.13, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0908, 47.00, NULL, NULL),
+('LCL', 21, 95.54, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.0459, 39.00, NULL, NULL),
+('LCL', 22, 80.36, 'USD', NULL, NULL, NULL, NULL, 43.00, 0.0897, 47.00, NULL, NULL),
+('FCL', 23, 1884.49, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0598, NULL, @ct_20GP, 245.00),
+('FCL', 23, 3052.88, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0598, NULL, @ct_40GP, 208.00),
+('FCL', 23, 3203.64, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0598, NULL, @ct_40HC, 230.00),
+('FCL', 23, 4051.66, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0598, NULL, @ct_40OT, 227.00),
+('FCL', 23, 3957.43, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0598, NULL, @ct_20RF, 166.00),
+('FCL', 24, 659.82, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0733, NULL, @ct_20GP, 234.00),
+('FCL', 24, 1068.91, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0733, NULL, @ct_40GP, 234.00),
+('FCL', 24, 1121.69, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0733, NULL, @ct_40HC, 141.00),
+('AIR', 25, 2.08, 'USD', 84.00, 0.1974, 37.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 26, 1482.41, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0891, NULL, @ct_20GP, 147.00),
+('FCL', 26, 2401.51, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0891, NULL, @ct_40GP, 248.00),
+('FCL', 26, 2520.10, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0891, NULL, @ct_40HC, 149.00),
+('LCL', 27, 74.39, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.1054, 56.00, NULL, NULL),
+('AIR', 28, 2.02, 'USD', 62.00, 0.1293, 17.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 29, 65.31, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0673, 48.00, NULL, NULL),
+('AIR', 30, 2.01, 'USD', 82.00, 0.1278, 38.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 31, 4.31, 'USD', 60.00, 0.1310, 51.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 32, 1539.37, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_20GP, 228.00),
+('FCL', 32, 2493.78, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_40GP, 201.00),
+('FCL', 32, 2616.93, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_40HC, 209.00),
+('FCL', 32, 3309.65, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_40OT, 219.00),
+('FCL', 32, 3617.53, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_40FR, 246.00),
+('FCL', 32, 2386.03, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0571, NULL, @ct_20FR, 171.00),
+('AIR', 33, 1.74, 'USD', 95.00, 0.2387, 27.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 34, 1279.75, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1480, NULL, @ct_20GP, 164.00),
+('FCL', 34, 2073.20, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1480, NULL, @ct_40GP, 204.00),
+('FCL', 34, 2175.58, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1480, NULL, @ct_40HC, 175.00),
+('AIR', 35, 1.77, 'USD', 88.00, 0.1549, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 36, 1.61, 'USD', 93.00, 0.1630, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 37, 1330.70, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_20GP, 222.00),
+('FCL', 37, 2155.73, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_40GP, 243.00),
+('FCL', 37, 2262.19, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_40HC, 154.00),
+('FCL', 37, 2794.47, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_20RF, 187.00),
+('FCL', 37, 2062.58, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_20FR, 222.00),
+('FCL', 37, 4058.63, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0862, NULL, @ct_40RF, 230.00),
+('FCL', 38, 600.29, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.1055, NULL, @ct_20GP, 171.00),
+('FCL', 38, 972.47, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.1055, NULL, @ct_40GP, 195.00),
+('FCL', 38, 1020.50, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.1055, NULL, @ct_40HC, 181.00),
+('FCL', 38, 1290.63, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.1055, NULL, @ct_40OT, 168.00),
+('FCL', 38, 870.42, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.1055, NULL, @ct_20OT, 171.00),
+('AIR', 39, 1.97, 'USD', 88.00, 0.1880, 34.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 40, 1371.45, 'USD', NULL, NULL, NULL, NULL, 79.00, 0.1406, NULL, @ct_20GP, 184.00),
+('FCL', 40, 2221.75, 'USD', NULL, NULL, NULL, NULL, 79.00, 0.1406, NULL, @ct_40GP, 206.00),
+('FCL', 40, 2331.46, 'USD', NULL, NULL, NULL, NULL, 79.00, 0.1406, NULL, @ct_40HC, 157.00),
+('FCL', 40, 3222.91, 'USD', NULL, NULL, NULL, NULL, 79.00, 0.1406, NULL, @ct_40FR, 217.00),
+('AIR', 41, 1.88, 'USD', 103.00, 0.2192, 17.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 42, 695.89, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1327, NULL, @ct_20GP, 241.00),
+('FCL', 42, 1127.34, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1327, NULL, @ct_40GP, 145.00),
+('FCL', 42, 1183.01, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1327, NULL, @ct_40HC, 180.00),
+('FCL', 42, 1635.34, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1327, NULL, @ct_40FR, 230.00),
+('FCL', 42, 2122.46, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1327, NULL, @ct_40RF, 165.00),
+('AIR', 43, 2.02, 'USD', 80.00, 0.1720, 27.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 44, 4.24, 'USD', 107.00, 0.1984, 37.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 45, 1547.05, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_20GP, 228.00),
+('FCL', 45, 2506.22, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_40GP, 160.00),
+('FCL', 45, 2629.98, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_40HC, 167.00),
+('FCL', 45, 1639.87, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_20HC, 184.00),
+('FCL', 45, 3635.56, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_40FR, 182.00),
+('FCL', 45, 3248.80, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.0828, NULL, @ct_20RF, 205.00),
+('LCL', 46, 77.46, 'USD', NULL, NULL, NULL, NULL, 40.00, 0.1131, 44.00, NULL, NULL),
+('FCL', 47, 705.30, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0897, NULL, @ct_20GP, 248.00),
+('FCL', 47, 1142.58, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0897, NULL, @ct_40GP, 182.00),
+('FCL', 47, 1199.01, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0897, NULL, @ct_40HC, 148.00),
+('FCL', 48, 1391.24, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1105, NULL, @ct_20GP, 187.00),
+('FCL', 48, 2253.81, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1105, NULL, @ct_40GP, 162.00),
+('FCL', 48, 2365.11, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1105, NULL, @ct_40HC, 180.00),
+('FCL', 48, 1474.72, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1105, NULL, @ct_20HC, 254.00),
+('AIR', 49, 4.65, 'USD', 91.00, 0.2162, 32.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 50, 1907.35, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0987, NULL, @ct_20GP, 140.00),
+('FCL', 50, 3089.91, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0987, NULL, @ct_40GP, 188.00),
+('FCL', 50, 3242.50, 'USD', NULL, NULL, NULL, NULL, 66.00, 0.0987, NULL, @ct_40HC, 192.00),
+('AIR', 51, 2.02, 'USD', 96.00, 0.1732, 41.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 52, 2075.54, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1195, NULL, @ct_20GP, 240.00),
+('FCL', 52, 3362.37, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1195, NULL, @ct_40GP, 175.00),
+('FCL', 52, 3528.42, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1195, NULL, @ct_40HC, 223.00),
+('FCL', 52, 6537.95, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1195, NULL, @ct_40RH, 179.00),
+('AIR', 53, 1.91, 'USD', 75.00, 0.1298, 53.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 54, 1.72, 'USD', 112.00, 0.1759, 18.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 55, 4.20, 'USD', 64.00, 0.1869, 37.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 56, 2.13, 'USD', 103.00, 0.1898, 53.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 57, 1667.91, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.1151, NULL, @ct_20GP, 238.00),
+('FCL', 57, 2702.01, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.1151, NULL, @ct_40GP, 253.00),
+('FCL', 57, 2835.44, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.1151, NULL, @ct_40HC, 182.00),
+('FCL', 57, 3502.60, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.1151, NULL, @ct_20RF, 162.00),
+('FCL', 57, 5253.91, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.1151, NULL, @ct_40RH, 146.00),
+('LCL', 58, 81.69, 'USD', NULL, NULL, NULL, NULL, 35.00, 0.1077, 50.00, NULL, NULL),
+('FCL', 59, 1595.88, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_20GP, 150.00),
+('FCL', 59, 2585.33, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_40GP, 230.00),
+('FCL', 59, 2713.00, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_40HC, 144.00),
+('FCL', 59, 1691.64, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_20HC, 241.00),
+('FCL', 59, 2314.03, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_20OT, 187.00),
+('FCL', 59, 3431.15, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1247, NULL, @ct_40OT, 227.00),
+('LCL', 60, 32.53, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.1070, 45.00, NULL, NULL),
+('LCL', 61, 28.23, 'USD', NULL, NULL, NULL, NULL, 38.00, 0.0879, 26.00, NULL, NULL),
+('AIR', 62, 3.99, 'USD', 119.00, 0.1761, 31.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 63, 1.73, 'USD', 88.00, 0.1750, 52.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 64, 3.63, 'USD', 91.00, 0.1840, 41.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 65, 684.15, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1092, NULL, @ct_20GP, 237.00),
+('FCL', 65, 1108.33, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1092, NULL, @ct_40GP, 214.00),
+('FCL', 65, 1163.06, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1092, NULL, @ct_40HC, 210.00),
+('FCL', 66, 593.96, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_20GP, 212.00),
+('FCL', 66, 962.21, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_40GP, 217.00),
+('FCL', 66, 1009.73, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_40HC, 162.00),
+('FCL', 66, 1247.31, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_20RF, 178.00),
+('FCL', 66, 1395.80, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_40FR, 249.00),
+('FCL', 66, 861.24, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1478, NULL, @ct_20OT, 155.00),
+('AIR', 67, 1.68, 'USD', 61.00, 0.2201, 29.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 68, 2.11, 'USD', 69.00, 0.2119, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 69, 1749.63, 'USD', NULL, NULL, NULL, NULL, 99.00, 0.0623, NULL, @ct_20GP, 206.00),
+('FCL', 69, 2834.39, 'USD', NULL, NULL, NULL, NULL, 99.00, 0.0623, NULL, @ct_40GP, 140.00),
+('FCL', 69, 2974.36, 'USD', NULL, NULL, NULL, NULL, 99.00, 0.0623, NULL, @ct_40HC, 168.00),
+('AIR', 70, 1.88, 'USD', 70.00, 0.2356, 43.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 71, 4.20, 'USD', 103.00, 0.1398, 38.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 72, 36.24, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1051, 20.00, NULL, NULL),
+('AIR', 73, 2.16, 'USD', 91.00, 0.1562, 45.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 74, 666.04, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0882, NULL, @ct_20GP, 153.00),
+('FCL', 74, 1078.99, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0882, NULL, @ct_40GP, 250.00),
+('FCL', 74, 1132.27, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0882, NULL, @ct_40HC, 209.00),
+('AIR', 75, 1.74, 'USD', 99.00, 0.1783, 22.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 76, 2.15, 'USD', 100.00, 0.1412, 51.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 77, 1.66, 'USD', 118.00, 0.1764, 17.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 78, 1550.27, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0990, NULL, @ct_20GP, 176.00),
+('FCL', 78, 2511.44, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0990, NULL, @ct_40GP, 144.00),
+('FCL', 78, 2635.46, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0990, NULL, @ct_40HC, 182.00),
+('FCL', 78, 2402.92, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0990, NULL, @ct_20FR, 247.00),
+('FCL', 79, 1607.69, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_20GP, 228.00),
+('FCL', 79, 2604.46, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_40GP, 143.00),
+('FCL', 79, 2733.08, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_40HC, 184.00),
+('FCL', 79, 1704.15, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_20HC, 149.00),
+('FCL', 79, 3376.16, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_20RF, 187.00),
+('FCL', 79, 3456.54, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1214, NULL, @ct_40OT, 193.00),
+('AIR', 80, 1.61, 'USD', 89.00, 0.1993, 41.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 81, 36.92, 'USD', NULL, NULL, NULL, NULL, 37.00, 0.1088, 49.00, NULL, NULL),
+('AIR', 82, 1.71, 'USD', 109.00, 0.1777, 23.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 83, 1635.85, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.0829, NULL, @ct_20GP, 141.00),
+('FCL', 83, 2650.08, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.0829, NULL, @ct_40GP, 178.00),
+('FCL', 83, 2780.95, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.0829, NULL, @ct_40HC, 212.00),
+('FCL', 83, 3517.08, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.0829, NULL, @ct_40OT, 237.00),
+('FCL', 84, 1997.50, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.0732, NULL, @ct_20GP, 210.00),
+('FCL', 84, 3235.95, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.0732, NULL, @ct_40GP, 229.00),
+('FCL', 84, 3395.75, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.0732, NULL, @ct_40HC, 182.00),
+('FCL', 84, 2896.38, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.0732, NULL, @ct_20OT, 249.00),
+('LCL', 85, 63.25, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1158, 40.00, NULL, NULL),
+('AIR', 86, 2.02, 'USD', 88.00, 0.1456, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 87, 580.31, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.1192, NULL, @ct_20GP, 247.00),
+('FCL', 87, 940.10, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.1192, NULL, @ct_40GP, 187.00),
+('FCL', 87, 986.53, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.1192, NULL, @ct_40HC, 211.00),
+('FCL', 87, 1827.97, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.1192, NULL, @ct_40RH, 233.00),
+('FCL', 87, 899.48, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.1192, NULL, @ct_20FR, 211.00),
+('AIR', 88, 1.94, 'USD', 90.00, 0.1594, 50.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 89, 1.85, 'USD', 86.00, 0.1646, 42.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 90, 2.14, 'USD', 94.00, 0.1222, 20.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 91, 1.96, 'USD', 60.00, 0.1664, 52.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 92, 2.00, 'USD', 80.00, 0.2197, 52.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 93, 65.25, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.0457, 34.00, NULL, NULL),
+('AIR', 94, 4.01, 'USD', 105.00, 0.1930, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 95, 1235.35, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1181, NULL, @ct_20GP, 194.00),
+('FCL', 95, 2001.27, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1181, NULL, @ct_40GP, 198.00),
+('FCL', 95, 2100.10, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1181, NULL, @ct_40HC, 251.00),
+('AIR', 96, 2.09, 'USD', 92.00, 0.1257, 51.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 97, 607.96, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1295, NULL, @ct_20GP, 173.00),
+('FCL', 97, 984.90, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1295, NULL, @ct_40GP, 164.00),
+('FCL', 97, 1033.53, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1295, NULL, @ct_40HC, 238.00),
+('FCL', 97, 644.44, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1295, NULL, @ct_20HC, 206.00),
+('FCL', 97, 1307.12, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1295, NULL, @ct_40OT, 173.00),
+('LCL', 98, 32.39, 'USD', NULL, NULL, NULL, NULL, 41.00, 0.0639, 55.00, NULL, NULL),
+('AIR', 99, 1.72, 'USD', 68.00, 0.2378, 51.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 100, 37.17, 'USD', NULL, NULL, NULL, NULL, 46.00, 0.1105, 33.00, NULL, NULL),
+('LCL', 101, 36.49, 'USD', NULL, NULL, NULL, NULL, 47.00, 0.0856, 28.00, NULL, NULL),
+('FCL', 102, 587.19, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0573, NULL, @ct_20GP, 237.00),
+('FCL', 102, 951.25, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0573, NULL, @ct_40GP, 177.00),
+('FCL', 102, 998.23, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0573, NULL, @ct_40HC, 148.00),
+('FCL', 102, 1790.94, 'USD', NULL, NULL, NULL, NULL, 86.00, 0.0573, NULL, @ct_40RF, 162.00),
+('AIR', 103, 1.85, 'USD', 89.00, 0.2134, 24.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 104, 34.69, 'USD', NULL, NULL, NULL, NULL, 63.00, 0.0956, 40.00, NULL, NULL),
+('LCL', 105, 91.10, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0769, 42.00, NULL, NULL),
+('AIR', 106, 1.86, 'USD', 99.00, 0.1374, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 107, 1.90, 'USD', 72.00, 0.2058, 35.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 108, 1.65, 'USD', 64.00, 0.2277, 43.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 109, 1.76, 'USD', 69.00, 0.1221, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 110, 744.68, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0648, NULL, @ct_20GP, 201.00),
+('FCL', 110, 1206.39, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0648, NULL, @ct_40GP, 218.00),
+('FCL', 110, 1265.96, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0648, NULL, @ct_40HC, 156.00),
+('AIR', 111, 4.63, 'USD', 92.00, 0.2242, 46.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 112, 3.66, 'USD', 76.00, 0.2122, 42.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 113, 69.06, 'USD', NULL, NULL, NULL, NULL, 49.00, 0.0596, 36.00, NULL, NULL),
+('AIR', 114, 1.88, 'USD', 103.00, 0.1470, 26.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 115, 555.05, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0821, NULL, @ct_20GP, 142.00),
+('FCL', 115, 899.18, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0821, NULL, @ct_40GP, 179.00),
+('FCL', 115, 943.59, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0821, NULL, @ct_40HC, 175.00),
+('FCL', 115, 860.33, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0821, NULL, @ct_20FR, 184.00),
+('AIR', 116, 1.74, 'USD', 82.00, 0.1835, 39.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 117, 1.98, 'USD', 103.00, 0.1427, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 118, 1.78, 'USD', 83.00, 0.1454, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 119, 703.26, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0756, NULL, @ct_20GP, 232.00),
+('FCL', 119, 1139.28, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0756, NULL, @ct_40GP, 140.00),
+('FCL', 119, 1195.54, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0756, NULL, @ct_40HC, 187.00),
+('FCL', 119, 1019.73, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0756, NULL, @ct_20OT, 199.00),
+('FCL', 119, 2215.27, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0756, NULL, @ct_40RH, 249.00),
+('AIR', 120, 1.94, 'USD', 103.00, 0.1485, 50.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 121, 63.53, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0933, 36.00, NULL, NULL),
+('AIR', 122, 1.89, 'USD', 99.00, 0.1385, 43.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 123, 1518.24, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_20GP, 142.00),
+('FCL', 123, 2459.55, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_40GP, 257.00),
+('FCL', 123, 2581.01, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_40HC, 222.00),
+('FCL', 123, 3188.30, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_20RF, 156.00),
+('FCL', 123, 1609.33, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_20HC, 147.00),
+('FCL', 123, 4782.46, 'USD', NULL, NULL, NULL, NULL, 61.00, 0.1266, NULL, @ct_40RH, 182.00),
+('FCL', 124, 587.18, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1317, NULL, @ct_20GP, 151.00),
+('FCL', 124, 951.23, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1317, NULL, @ct_40GP, 141.00),
+('FCL', 124, 998.20, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1317, NULL, @ct_40HC, 140.00),
+('AIR', 125, 1.88, 'USD', 91.00, 0.1764, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 126, 1625.07, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0767, NULL, @ct_20GP, 208.00),
+('FCL', 126, 2632.62, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0767, NULL, @ct_40GP, 188.00),
+('FCL', 126, 2762.62, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0767, NULL, @ct_40HC, 159.00),
+('FCL', 127, 714.52, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_20GP, 228.00),
+('FCL', 127, 1157.53, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_40GP, 227.00),
+('FCL', 127, 1214.69, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_40HC, 213.00),
+('FCL', 127, 1107.51, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_20FR, 227.00),
+('FCL', 127, 1036.06, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_20OT, 194.00),
+('FCL', 127, 2250.74, 'USD', NULL, NULL, NULL, NULL, 83.00, 0.1356, NULL, @ct_40RH, 180.00),
+('AIR', 128, 1.62, 'USD', 85.00, 0.1226, 27.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 129, 75.71, 'USD', NULL, NULL, NULL, NULL, 49.00, 0.0511, 32.00, NULL, NULL),
+('LCL', 130, 34.84, 'USD', NULL, NULL, NULL, NULL, 49.00, 0.0495, 39.00, NULL, NULL),
+('AIR', 131, 2.01, 'USD', 78.00, 0.2245, 34.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 132, 2.14, 'USD', 116.00, 0.2396, 35.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 133, 3.64, 'USD', 76.00, 0.1808, 36.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 134, 630.54, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0830, NULL, @ct_20GP, 174.00),
+('FCL', 134, 1021.47, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0830, NULL, @ct_40GP, 249.00),
+('FCL', 134, 1071.92, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0830, NULL, @ct_40HC, 168.00),
+('FCL', 134, 1481.77, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0830, NULL, @ct_40FR, 161.00),
+('FCL', 134, 1355.66, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0830, NULL, @ct_40OT, 230.00),
+('FCL', 135, 630.91, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_20GP, 216.00),
+('FCL', 135, 1022.07, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_40GP, 177.00),
+('FCL', 135, 1072.55, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_40HC, 250.00),
+('FCL', 135, 1987.36, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_40RH, 194.00),
+('FCL', 135, 914.82, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_20OT, 232.00),
+('FCL', 135, 1356.45, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0669, NULL, @ct_40OT, 240.00),
+('AIR', 136, 1.95, 'USD', 91.00, 0.1844, 15.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 137, 2.08, 'USD', 118.00, 0.1874, 43.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 138, 4.48, 'USD', 64.00, 0.1541, 46.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 139, 647.73, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1075, NULL, @ct_20GP, 220.00),
+('FCL', 139, 1049.32, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1075, NULL, @ct_40GP, 254.00),
+('FCL', 139, 1101.14, 'USD', NULL, NULL, NULL, NULL, 80.00, 0.1075, NULL, @ct_40HC, 217.00),
+('LCL', 140, 32.19, 'USD', NULL, NULL, NULL, NULL, 39.00, 0.1085, 40.00, NULL, NULL),
+('FCL', 141, 575.45, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1361, NULL, @ct_20GP, 209.00),
+('FCL', 141, 932.22, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1361, NULL, @ct_40GP, 165.00),
+('FCL', 141, 978.26, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1361, NULL, @ct_40HC, 243.00),
+('AIR', 142, 4.34, 'USD', 114.00, 0.1975, 46.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 143, 1.73, 'USD', 67.00, 0.2394, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 144, 37.00, 'USD', NULL, NULL, NULL, NULL, 35.00, 0.0931, 23.00, NULL, NULL),
+('FCL', 145, 730.15, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.0525, NULL, @ct_20GP, 235.00),
+('FCL', 145, 1182.84, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.0525, NULL, @ct_40GP, 248.00),
+('FCL', 145, 1241.25, 'USD', NULL, NULL, NULL, NULL, 53.00, 0.0525, NULL, @ct_40HC, 209.00),
+('FCL', 146, 2016.22, 'USD', NULL, NULL, NULL, NULL, 64.00, 0.0911, NULL, @ct_20GP, 183.00),
+('FCL', 146, 3266.27, 'USD', NULL, NULL, NULL, NULL, 64.00, 0.0911, NULL, @ct_40GP, 258.00),
+('FCL', 146, 3427.57, 'USD', NULL, NULL, NULL, NULL, 64.00, 0.0911, NULL, @ct_40HC, 140.00),
+('FCL', 146, 2137.19, 'USD', NULL, NULL, NULL, NULL, 64.00, 0.0911, NULL, @ct_20HC, 190.00),
+('LCL', 147, 33.81, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.0927, 55.00, NULL, NULL),
+('FCL', 148, 1521.56, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1168, NULL, @ct_20GP, 185.00),
+('FCL', 148, 2464.93, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1168, NULL, @ct_40GP, 196.00),
+('FCL', 148, 2586.65, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1168, NULL, @ct_40HC, 255.00),
+('AIR', 149, 1.77, 'USD', 74.00, 0.2074, 28.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 150, 1725.36, 'USD', NULL, NULL, NULL, NULL, 82.00, 0.1140, NULL, @ct_20GP, 231.00),
+('FCL', 150, 2795.08, 'USD', NULL, NULL, NULL, NULL, 82.00, 0.1140, NULL, @ct_40GP, 176.00),
+('FCL', 150, 2933.11, 'USD', NULL, NULL, NULL, NULL, 82.00, 0.1140, NULL, @ct_40HC, 170.00),
+('FCL', 150, 2501.77, 'USD', NULL, NULL, NULL, NULL, 82.00, 0.1140, NULL, @ct_20OT, 259.00),
+('FCL', 150, 1828.88, 'USD', NULL, NULL, NULL, NULL, 82.00, 0.1140, NULL, @ct_20HC, 255.00),
+('LCL', 151, 34.31, 'USD', NULL, NULL, NULL, NULL, 52.00, 0.0848, 40.00, NULL, NULL),
+('LCL', 152, 80.59, 'USD', NULL, NULL, NULL, NULL, 41.00, 0.0406, 38.00, NULL, NULL),
+('LCL', 153, 36.68, 'USD', NULL, NULL, NULL, NULL, 42.00, 0.0717, 43.00, NULL, NULL),
+('AIR', 154, 1.62, 'USD', 95.00, 0.1876, 54.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 155, 638.78, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_20GP, 241.00),
+('FCL', 155, 1034.83, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_40GP, 201.00),
+('FCL', 155, 1085.93, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_40HC, 180.00),
+('FCL', 155, 1341.45, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_20RF, 233.00),
+('FCL', 155, 677.11, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_20HC, 176.00),
+('FCL', 155, 1948.29, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.1344, NULL, @ct_40RF, 169.00),
+('AIR', 156, 3.62, 'USD', 105.00, 0.2110, 18.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 157, 74.37, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.0897, 50.00, NULL, NULL),
+('AIR', 158, 2.04, 'USD', 108.00, 0.1588, 27.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 159, 1419.93, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0761, NULL, @ct_20GP, 223.00),
+('FCL', 159, 2300.28, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0761, NULL, @ct_40GP, 181.00),
+('FCL', 159, 2413.87, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0761, NULL, @ct_40HC, 236.00),
+('FCL', 159, 3052.84, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0761, NULL, @ct_40OT, 160.00),
+('FCL', 159, 2200.88, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.0761, NULL, @ct_20FR, 188.00),
+('FCL', 160, 668.69, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1091, NULL, @ct_20GP, 202.00),
+('FCL', 160, 1083.28, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1091, NULL, @ct_40GP, 215.00),
+('FCL', 160, 1136.78, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1091, NULL, @ct_40HC, 158.00),
+('FCL', 160, 1571.43, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1091, NULL, @ct_40FR, 164.00),
+('FCL', 161, 581.18, 'USD', NULL, NULL, NULL, NULL, 72.00, 0.0908, NULL, @ct_20GP, 244.00),
+('FCL', 161, 941.50, 'USD', NULL, NULL, NULL, NULL, 72.00, 0.0908, NULL, @ct_40GP, 198.00),
+('FCL', 161, 988.00, 'USD', NULL, NULL, NULL, NULL, 72.00, 0.0908, NULL, @ct_40HC, 142.00),
+('FCL', 161, 1772.59, 'USD', NULL, NULL, NULL, NULL, 72.00, 0.0908, NULL, @ct_40RF, 246.00),
+('FCL', 161, 616.05, 'USD', NULL, NULL, NULL, NULL, 72.00, 0.0908, NULL, @ct_20HC, 196.00),
+('FCL', 162, 1541.93, 'USD', NULL, NULL, NULL, NULL, 68.00, 0.1432, NULL, @ct_20GP, 196.00),
+('FCL', 162, 2497.92, 'USD', NULL, NULL, NULL, NULL, 68.00, 0.1432, NULL, @ct_40GP, 216.00),
+('FCL', 162, 2621.28, 'USD', NULL, NULL, NULL, NULL, 68.00, 0.1432, NULL, @ct_40HC, 143.00),
+('FCL', 162, 3623.53, 'USD', NULL, NULL, NULL, NULL, 68.00, 0.1432, NULL, @ct_40FR, 228.00),
+('AIR', 163, 1.73, 'USD', 66.00, 0.2149, 49.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 164, 708.43, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1381, NULL, @ct_20GP, 217.00),
+('FCL', 164, 1147.66, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1381, NULL, @ct_40GP, 192.00),
+('FCL', 164, 1204.34, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1381, NULL, @ct_40HC, 200.00),
+('FCL', 164, 1664.82, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1381, NULL, @ct_40FR, 204.00),
+('AIR', 165, 1.65, 'USD', 61.00, 0.2162, 47.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 166, 1.76, 'USD', 102.00, 0.1996, 24.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 167, 1511.70, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_20GP, 203.00),
+('FCL', 167, 2448.96, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_40GP, 250.00),
+('FCL', 167, 2569.89, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_40HC, 213.00),
+('FCL', 167, 4610.69, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_40RF, 202.00),
+('FCL', 167, 2343.14, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_20FR, 175.00),
+('FCL', 167, 4761.86, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0500, NULL, @ct_40RH, 141.00),
+('LCL', 168, 68.67, 'USD', NULL, NULL, NULL, NULL, 39.00, 0.1172, 35.00, NULL, NULL),
+('FCL', 169, 560.39, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0523, NULL, @ct_20GP, 259.00),
+('FCL', 169, 907.84, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0523, NULL, @ct_40GP, 187.00),
+('FCL', 169, 952.67, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0523, NULL, @ct_40HC, 167.00),
+('FCL', 169, 594.02, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.0523, NULL, @ct_20HC, 249.00),
+('AIR', 170, 1.68, 'USD', 62.00, 0.2183, 41.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 171, 2.07, 'USD', 100.00, 0.1948, 39.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 172, 1.61, 'USD', 68.00, 0.1721, 39.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 173, 66.86, 'USD', NULL, NULL, NULL, NULL, 55.00, 0.0862, 40.00, NULL, NULL),
+('LCL', 174, 90.41, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0980, 58.00, NULL, NULL),
+('LCL', 175, 34.90, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0532, 23.00, NULL, NULL),
+('LCL', 176, 28.81, 'USD', NULL, NULL, NULL, NULL, 47.00, 0.0837, 26.00, NULL, NULL),
+('FCL', 177, 570.71, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.0685, NULL, @ct_20GP, 140.00),
+('FCL', 177, 924.55, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.0685, NULL, @ct_40GP, 154.00),
+('FCL', 177, 970.20, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.0685, NULL, @ct_40HC, 255.00),
+('LCL', 178, 29.27, 'USD', NULL, NULL, NULL, NULL, 35.00, 0.0463, 31.00, NULL, NULL),
+('AIR', 179, 1.68, 'USD', 65.00, 0.1827, 23.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 180, 77.00, 'USD', NULL, NULL, NULL, NULL, 60.00, 0.0672, 39.00, NULL, NULL),
+('AIR', 181, 1.68, 'USD', 66.00, 0.1255, 28.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 182, 3.81, 'USD', 118.00, 0.2089, 30.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 183, 1.95, 'USD', 116.00, 0.1272, 15.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 184, 4.57, 'USD', 71.00, 0.2077, 26.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 185, 1336.47, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1315, NULL, @ct_20GP, 140.00),
+('FCL', 185, 2165.07, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1315, NULL, @ct_40GP, 227.00),
+('FCL', 185, 2271.99, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1315, NULL, @ct_40HC, 198.00),
+('FCL', 185, 4209.87, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1315, NULL, @ct_40RH, 256.00),
+('FCL', 185, 2071.52, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1315, NULL, @ct_20FR, 227.00),
+('LCL', 186, 28.02, 'USD', NULL, NULL, NULL, NULL, 47.00, 0.0729, 50.00, NULL, NULL),
+('AIR', 187, 2.17, 'USD', 77.00, 0.1271, 31.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 188, 30.28, 'USD', NULL, NULL, NULL, NULL, 36.00, 0.1191, 53.00, NULL, NULL),
+('LCL', 189, 69.12, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0751, 57.00, NULL, NULL),
+('AIR', 190, 4.40, 'USD', 101.00, 0.2302, 45.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 191, 2.16, 'USD', 78.00, 0.1788, 17.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 192, 1.72, 'USD', 61.00, 0.2062, 51.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 193, 1.77, 'USD', 68.00, 0.2334, 45.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 194, 1348.20, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.1183, NULL, @ct_20GP, 244.00),
+('FCL', 194, 2184.08, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.1183, NULL, @ct_40GP, 204.00),
+('FCL', 194, 2291.93, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.1183, NULL, @ct_40HC, 242.00),
+('FCL', 194, 2089.70, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.1183, NULL, @ct_20FR, 191.00),
+('LCL', 195, 80.46, 'USD', NULL, NULL, NULL, NULL, 57.00, 0.0768, 50.00, NULL, NULL),
+('FCL', 196, 574.82, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1187, NULL, @ct_20GP, 157.00),
+('FCL', 196, 931.21, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1187, NULL, @ct_40GP, 176.00),
+('FCL', 196, 977.20, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1187, NULL, @ct_40HC, 158.00),
+('FCL', 196, 609.31, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1187, NULL, @ct_20HC, 238.00),
+('AIR', 197, 1.81, 'USD', 83.00, 0.1461, 50.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 198, 66.69, 'USD', NULL, NULL, NULL, NULL, 40.00, 0.1178, 36.00, NULL, NULL),
+('AIR', 199, 1.82, 'USD', 97.00, 0.1501, 25.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 200, 608.21, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1489, NULL, @ct_20GP, 165.00),
+('FCL', 200, 985.30, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1489, NULL, @ct_40GP, 171.00),
+('FCL', 200, 1033.95, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1489, NULL, @ct_40HC, 188.00),
+('FCL', 200, 881.90, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1489, NULL, @ct_20OT, 204.00),
+('LCL', 201, 32.47, 'USD', NULL, NULL, NULL, NULL, 47.00, 0.1016, 36.00, NULL, NULL),
+('AIR', 202, 1.68, 'USD', 107.00, 0.2323, 29.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 203, 658.84, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1177, NULL, @ct_20GP, 216.00),
+('FCL', 203, 1067.33, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1177, NULL, @ct_40GP, 147.00),
+('FCL', 203, 1120.03, 'USD', NULL, NULL, NULL, NULL, 70.00, 0.1177, NULL, @ct_40HC, 181.00),
+('AIR', 204, 1.67, 'USD', 110.00, 0.2300, 48.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 205, 2.05, 'USD', 113.00, 0.1916, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 206, 1661.17, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.1279, NULL, @ct_20GP, 145.00),
+('FCL', 206, 2691.10, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.1279, NULL, @ct_40GP, 245.00),
+('FCL', 206, 2823.99, 'USD', NULL, NULL, NULL, NULL, 97.00, 0.1279, NULL, @ct_40HC, 161.00),
+('AIR', 207, 4.43, 'USD', 118.00, 0.1530, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 208, 72.19, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1105, 30.00, NULL, NULL),
+('FCL', 209, 1560.50, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1077, NULL, @ct_20GP, 193.00),
+('FCL', 209, 2528.02, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1077, NULL, @ct_40GP, 248.00),
+('FCL', 209, 2652.86, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1077, NULL, @ct_40HC, 218.00),
+('FCL', 209, 3667.19, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1077, NULL, @ct_40FR, 181.00),
+('FCL', 209, 2262.73, 'USD', NULL, NULL, NULL, NULL, 94.00, 0.1077, NULL, @ct_20OT, 174.00),
+('FCL', 210, 1375.74, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0985, NULL, @ct_20GP, 220.00),
+('FCL', 210, 2228.71, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0985, NULL, @ct_40GP, 174.00),
+('FCL', 210, 2338.77, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0985, NULL, @ct_40HC, 209.00),
+('FCL', 210, 2957.85, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0985, NULL, @ct_40OT, 160.00),
+('FCL', 210, 2889.06, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.0985, NULL, @ct_20RF, 178.00),
+('LCL', 211, 62.62, 'USD', NULL, NULL, NULL, NULL, 39.00, 0.0682, 29.00, NULL, NULL),
+('AIR', 212, 1.71, 'USD', 118.00, 0.1525, 35.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 213, 748.57, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1080, NULL, @ct_20GP, 140.00),
+('FCL', 213, 1212.68, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1080, NULL, @ct_40GP, 214.00),
+('FCL', 213, 1272.57, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1080, NULL, @ct_40HC, 173.00),
+('FCL', 213, 1572.00, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1080, NULL, @ct_20RF, 208.00),
+('FCL', 213, 1759.14, 'USD', NULL, NULL, NULL, NULL, 62.00, 0.1080, NULL, @ct_40FR, 193.00),
+('AIR', 214, 2.13, 'USD', 87.00, 0.1705, 47.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 215, 2.00, 'USD', 112.00, 0.2333, 50.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 216, 4.49, 'USD', 81.00, 0.1252, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 217, 1604.58, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1145, NULL, @ct_20GP, 213.00),
+('FCL', 217, 2599.42, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1145, NULL, @ct_40GP, 238.00),
+('FCL', 217, 2727.79, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1145, NULL, @ct_40HC, 240.00),
+('AIR', 218, 1.92, 'USD', 119.00, 0.2392, 38.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 219, 35.64, 'USD', NULL, NULL, NULL, NULL, 37.00, 0.0879, 29.00, NULL, NULL),
+('AIR', 220, 1.77, 'USD', 82.00, 0.1445, 39.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 221, 1.66, 'USD', 119.00, 0.1424, 32.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 222, 4.79, 'USD', 106.00, 0.1540, 53.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 223, 34.03, 'USD', NULL, NULL, NULL, NULL, 55.00, 0.0844, 51.00, NULL, NULL),
+('FCL', 224, 1254.84, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1463, NULL, @ct_20GP, 203.00),
+('FCL', 224, 2032.85, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1463, NULL, @ct_40GP, 209.00),
+('FCL', 224, 2133.23, 'USD', NULL, NULL, NULL, NULL, 88.00, 0.1463, NULL, @ct_40HC, 167.00),
+('FCL', 225, 632.91, 'USD', NULL, NULL, NULL, NULL, 95.00, 0.1216, NULL, @ct_20GP, 155.00),
+('FCL', 225, 1025.31, 'USD', NULL, NULL, NULL, NULL, 95.00, 0.1216, NULL, @ct_40GP, 196.00),
+('FCL', 225, 1075.94, 'USD', NULL, NULL, NULL, NULL, 95.00, 0.1216, NULL, @ct_40HC, 215.00),
+('FCL', 225, 917.71, 'USD', NULL, NULL, NULL, NULL, 95.00, 0.1216, NULL, @ct_20OT, 192.00),
+('AIR', 226, 4.14, 'USD', 114.00, 0.1700, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 227, 4.34, 'USD', 73.00, 0.1213, 50.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 228, 1488.85, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1440, NULL, @ct_20GP, 245.00),
+('FCL', 228, 2411.94, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1440, NULL, @ct_40GP, 242.00),
+('FCL', 228, 2531.05, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1440, NULL, @ct_40HC, 167.00),
+('FCL', 228, 2307.72, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1440, NULL, @ct_20FR, 170.00),
+('FCL', 228, 4689.89, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1440, NULL, @ct_40RH, 157.00),
+('FCL', 229, 1598.23, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_20GP, 156.00),
+('FCL', 229, 2589.13, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_40GP, 225.00),
+('FCL', 229, 2716.99, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_40HC, 168.00),
+('FCL', 229, 4874.61, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_40RF, 168.00),
+('FCL', 229, 2477.26, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_20FR, 207.00),
+('FCL', 229, 3436.20, 'USD', NULL, NULL, NULL, NULL, 81.00, 0.0803, NULL, @ct_40OT, 219.00),
+('AIR', 230, 2.09, 'USD', 82.00, 0.2019, 36.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 231, 1.96, 'USD', 99.00, 0.2181, 37.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 232, 4.62, 'USD', 70.00, 0.2357, 44.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 233, 1.98, 'USD', 79.00, 0.2207, 48.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 234, 1.69, 'USD', 92.00, 0.1842, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 235, 1.78, 'USD', 66.00, 0.1245, 34.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 236, 36.76, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.0755, 39.00, NULL, NULL),
+('FCL', 237, 1520.93, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0753, NULL, @ct_20GP, 208.00),
+('FCL', 237, 2463.91, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0753, NULL, @ct_40GP, 170.00),
+('FCL', 237, 2585.59, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0753, NULL, @ct_40HC, 237.00),
+('FCL', 237, 1612.19, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0753, NULL, @ct_20HC, 234.00),
+('FCL', 238, 683.08, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1215, NULL, @ct_20GP, 204.00),
+('FCL', 238, 1106.60, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1215, NULL, @ct_40GP, 233.00),
+('FCL', 238, 1161.24, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1215, NULL, @ct_40HC, 208.00),
+('FCL', 238, 2151.72, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.1215, NULL, @ct_40RH, 224.00),
+('AIR', 239, 1.76, 'USD', 76.00, 0.1530, 40.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 240, 1544.96, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1349, NULL, @ct_20GP, 255.00),
+('FCL', 240, 2502.84, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1349, NULL, @ct_40GP, 235.00),
+('FCL', 240, 2626.44, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1349, NULL, @ct_40HC, 180.00),
+('AIR', 241, 3.74, 'USD', 78.00, 0.1671, 29.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 242, 731.68, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.0677, NULL, @ct_20GP, 203.00),
+('FCL', 242, 1185.32, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.0677, NULL, @ct_40GP, 179.00),
+('FCL', 242, 1243.85, 'USD', NULL, NULL, NULL, NULL, 96.00, 0.0677, NULL, @ct_40HC, 203.00),
+('FCL', 243, 1595.36, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.1420, NULL, @ct_20GP, 158.00),
+('FCL', 243, 2584.48, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.1420, NULL, @ct_40GP, 209.00),
+('FCL', 243, 2712.11, 'USD', NULL, NULL, NULL, NULL, 56.00, 0.1420, NULL, @ct_40HC, 203.00),
+('FCL', 244, 569.42, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0931, NULL, @ct_20GP, 205.00),
+('FCL', 244, 922.46, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0931, NULL, @ct_40GP, 204.00),
+('FCL', 244, 968.01, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0931, NULL, @ct_40HC, 235.00),
+('FCL', 244, 825.66, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0931, NULL, @ct_20OT, 235.00),
+('AIR', 245, 4.25, 'USD', 89.00, 0.2280, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 246, 2.02, 'USD', 62.00, 0.1339, 45.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 247, 1.96, 'USD', 65.00, 0.1213, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 248, 1322.56, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1145, NULL, @ct_20GP, 209.00),
+('FCL', 248, 2142.54, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1145, NULL, @ct_40GP, 239.00),
+('FCL', 248, 2248.35, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1145, NULL, @ct_40HC, 142.00),
+('FCL', 248, 1401.91, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1145, NULL, @ct_20HC, 245.00),
+('FCL', 248, 4033.80, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.1145, NULL, @ct_40RF, 240.00),
+('AIR', 249, 1.80, 'USD', 118.00, 0.1931, 36.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 250, 640.63, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0877, NULL, @ct_20GP, 152.00),
+('FCL', 250, 1037.82, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0877, NULL, @ct_40GP, 215.00),
+('FCL', 250, 1089.07, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0877, NULL, @ct_40HC, 249.00),
+('FCL', 250, 679.06, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.0877, NULL, @ct_20HC, 224.00),
+('AIR', 251, 1.61, 'USD', 73.00, 0.1917, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 252, 618.50, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0733, NULL, @ct_20GP, 251.00),
+('FCL', 252, 1001.98, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0733, NULL, @ct_40GP, 235.00),
+('FCL', 252, 1051.46, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0733, NULL, @ct_40HC, 147.00),
+('FCL', 252, 1298.86, 'USD', NULL, NULL, NULL, NULL, 54.00, 0.0733, NULL, @ct_20RF, 170.00),
+('AIR', 253, 4.00, 'USD', 87.00, 0.1399, 18.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 254, 2.03, 'USD', 106.00, 0.1812, 48.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 255, 2.07, 'USD', 88.00, 0.1331, 31.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 256, 101.57, 'USD', NULL, NULL, NULL, NULL, 37.00, 0.0843, 33.00, NULL, NULL),
+('LCL', 257, 35.34, 'USD', NULL, NULL, NULL, NULL, 64.00, 0.0518, 55.00, NULL, NULL),
+('AIR', 258, 4.68, 'USD', 64.00, 0.2335, 37.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 259, 684.38, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1314, NULL, @ct_20GP, 229.00),
+('FCL', 259, 1108.69, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1314, NULL, @ct_40GP, 183.00),
+('FCL', 259, 1163.44, 'USD', NULL, NULL, NULL, NULL, 93.00, 0.1314, NULL, @ct_40HC, 173.00),
+('AIR', 260, 1.81, 'USD', 74.00, 0.1527, 26.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 261, 1818.71, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0874, NULL, @ct_20GP, 198.00),
+('FCL', 261, 2946.31, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0874, NULL, @ct_40GP, 150.00),
+('FCL', 261, 3091.80, 'USD', NULL, NULL, NULL, NULL, 71.00, 0.0874, NULL, @ct_40HC, 207.00),
+('FCL', 262, 605.14, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_20GP, 162.00),
+('FCL', 262, 980.33, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_40GP, 158.00),
+('FCL', 262, 1028.74, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_40HC, 236.00),
+('FCL', 262, 1422.09, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_40FR, 149.00),
+('FCL', 262, 1845.69, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_40RF, 247.00),
+('FCL', 262, 1270.80, 'USD', NULL, NULL, NULL, NULL, 73.00, 0.0981, NULL, @ct_20RF, 228.00),
+('FCL', 263, 636.38, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1104, NULL, @ct_20GP, 142.00),
+('FCL', 263, 1030.94, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1104, NULL, @ct_40GP, 241.00),
+('FCL', 263, 1081.85, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1104, NULL, @ct_40HC, 164.00),
+('FCL', 263, 1940.97, 'USD', NULL, NULL, NULL, NULL, 69.00, 0.1104, NULL, @ct_40RF, 163.00),
+('LCL', 264, 73.25, 'USD', NULL, NULL, NULL, NULL, 48.00, 0.1001, 59.00, NULL, NULL),
+('FCL', 265, 598.75, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.1407, NULL, @ct_20GP, 250.00),
+('FCL', 265, 969.97, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.1407, NULL, @ct_40GP, 176.00),
+('FCL', 265, 1017.87, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.1407, NULL, @ct_40HC, 157.00),
+('FCL', 265, 1257.37, 'USD', NULL, NULL, NULL, NULL, 91.00, 0.1407, NULL, @ct_20RF, 170.00),
+('FCL', 266, 571.19, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_20GP, 170.00),
+('FCL', 266, 925.32, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_40GP, 247.00),
+('FCL', 266, 971.02, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_40HC, 223.00),
+('FCL', 266, 1342.29, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_40FR, 155.00),
+('FCL', 266, 605.46, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_20HC, 176.00),
+('FCL', 266, 828.22, 'USD', NULL, NULL, NULL, NULL, 89.00, 0.1108, NULL, @ct_20OT, 222.00),
+('LCL', 267, 71.65, 'USD', NULL, NULL, NULL, NULL, 44.00, 0.0724, 27.00, NULL, NULL),
+('AIR', 268, 1.83, 'USD', 77.00, 0.1945, 47.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 269, 1.99, 'USD', 60.00, 0.1948, 35.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 270, 1345.86, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.1093, NULL, @ct_20GP, 213.00),
+('FCL', 270, 2180.29, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.1093, NULL, @ct_40GP, 174.00),
+('FCL', 270, 2287.96, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.1093, NULL, @ct_40HC, 199.00),
+('FCL', 270, 3162.77, 'USD', NULL, NULL, NULL, NULL, 76.00, 0.1093, NULL, @ct_40FR, 143.00),
+('LCL', 271, 77.69, 'USD', NULL, NULL, NULL, NULL, 48.00, 0.1053, 40.00, NULL, NULL),
+('AIR', 272, 1.88, 'USD', 79.00, 0.1868, 36.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 273, 4.41, 'USD', 105.00, 0.1377, 18.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 274, 1.74, 'USD', 78.00, 0.2309, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 275, 1.71, 'USD', 109.00, 0.1481, 18.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 276, 65.78, 'USD', NULL, NULL, NULL, NULL, 63.00, 0.0785, 56.00, NULL, NULL),
+('AIR', 277, 4.54, 'USD', 105.00, 0.1367, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 278, 30.10, 'USD', NULL, NULL, NULL, NULL, 42.00, 0.0961, 25.00, NULL, NULL),
+('LCL', 279, 74.10, 'USD', NULL, NULL, NULL, NULL, 44.00, 0.1195, 28.00, NULL, NULL),
+('FCL', 280, 655.52, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_20GP, 256.00),
+('FCL', 280, 1061.94, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_40GP, 169.00),
+('FCL', 280, 1114.38, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_40HC, 180.00),
+('FCL', 280, 1409.36, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_40OT, 163.00),
+('FCL', 280, 950.50, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_20OT, 171.00),
+('FCL', 280, 2064.88, 'USD', NULL, NULL, NULL, NULL, 87.00, 0.0550, NULL, @ct_40RH, 245.00),
+('AIR', 281, 1.75, 'USD', 81.00, 0.1758, 33.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 282, 4.59, 'USD', 107.00, 0.1465, 46.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 283, 73.63, 'USD', NULL, NULL, NULL, NULL, 63.00, 0.0808, 20.00, NULL, NULL),
+('FCL', 284, 557.57, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0571, NULL, @ct_20GP, 254.00),
+('FCL', 284, 903.27, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0571, NULL, @ct_40GP, 247.00),
+('FCL', 284, 947.88, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0571, NULL, @ct_40HC, 259.00),
+('FCL', 284, 1700.60, 'USD', NULL, NULL, NULL, NULL, 50.00, 0.0571, NULL, @ct_40RF, 206.00),
+('FCL', 285, 622.46, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0638, NULL, @ct_20GP, 194.00),
+('FCL', 285, 1008.38, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0638, NULL, @ct_40GP, 154.00),
+('FCL', 285, 1058.18, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0638, NULL, @ct_40HC, 210.00),
+('FCL', 285, 1898.49, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0638, NULL, @ct_40RF, 218.00),
+('FCL', 286, 620.92, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1158, NULL, @ct_20GP, 250.00),
+('FCL', 286, 1005.88, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1158, NULL, @ct_40GP, 183.00),
+('FCL', 286, 1055.56, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1158, NULL, @ct_40HC, 150.00),
+('FCL', 286, 900.33, 'USD', NULL, NULL, NULL, NULL, 77.00, 0.1158, NULL, @ct_20OT, 235.00),
+('FCL', 287, 1252.45, 'USD', NULL, NULL, NULL, NULL, 75.00, 0.0891, NULL, @ct_20GP, 252.00),
+('FCL', 287, 2028.97, 'USD', NULL, NULL, NULL, NULL, 75.00, 0.0891, NULL, @ct_40GP, 157.00),
+('FCL', 287, 2129.16, 'USD', NULL, NULL, NULL, NULL, 75.00, 0.0891, NULL, @ct_40HC, 183.00),
+('FCL', 287, 3945.21, 'USD', NULL, NULL, NULL, NULL, 75.00, 0.0891, NULL, @ct_40RH, 237.00),
+('FCL', 288, 726.37, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.0669, NULL, @ct_20GP, 241.00),
+('FCL', 288, 1176.72, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.0669, NULL, @ct_40GP, 202.00),
+('FCL', 288, 1234.83, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.0669, NULL, @ct_40HC, 149.00),
+('FCL', 288, 2288.07, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.0669, NULL, @ct_40RH, 224.00),
+('FCL', 288, 1561.70, 'USD', NULL, NULL, NULL, NULL, 67.00, 0.0669, NULL, @ct_40OT, 186.00),
+('FCL', 289, 710.19, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.1108, NULL, @ct_20GP, 253.00),
+('FCL', 289, 1150.51, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.1108, NULL, @ct_40GP, 159.00),
+('FCL', 289, 1207.32, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.1108, NULL, @ct_40HC, 227.00),
+('FCL', 289, 752.80, 'USD', NULL, NULL, NULL, NULL, 58.00, 0.1108, NULL, @ct_20HC, 160.00),
+('FCL', 290, 684.79, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1450, NULL, @ct_20GP, 248.00),
+('FCL', 290, 1109.37, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1450, NULL, @ct_40GP, 209.00),
+('FCL', 290, 1164.15, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1450, NULL, @ct_40HC, 226.00),
+('FCL', 290, 1061.43, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1450, NULL, @ct_20FR, 246.00),
+('FCL', 290, 2088.62, 'USD', NULL, NULL, NULL, NULL, 51.00, 0.1450, NULL, @ct_40RF, 156.00),
+('FCL', 291, 694.89, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1285, NULL, @ct_20GP, 226.00),
+('FCL', 291, 1125.73, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1285, NULL, @ct_40GP, 201.00),
+('FCL', 291, 1181.32, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1285, NULL, @ct_40HC, 144.00),
+('FCL', 291, 2188.91, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1285, NULL, @ct_40RH, 223.00),
+('FCL', 291, 736.59, 'USD', NULL, NULL, NULL, NULL, 59.00, 0.1285, NULL, @ct_20HC, 161.00),
+('AIR', 292, 2.00, 'USD', 103.00, 0.1343, 25.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 293, 2.09, 'USD', 107.00, 0.1575, 49.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 294, 1.93, 'USD', 104.00, 0.1528, 21.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 295, 3.81, 'USD', 105.00, 0.1379, 47.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('FCL', 296, 1642.56, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0576, NULL, @ct_20GP, 228.00),
+('FCL', 296, 2660.95, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0576, NULL, @ct_40GP, 212.00),
+('FCL', 296, 2792.36, 'USD', NULL, NULL, NULL, NULL, 65.00, 0.0576, NULL, @ct_40HC, 218.00),
+('AIR', 297, 1.90, 'USD', 62.00, 0.1445, 41.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('LCL', 298, 35.20, 'USD', NULL, NULL, NULL, NULL, 46.00, 0.1069, 37.00, NULL, NULL),
+('AIR', 299, 1.99, 'USD', 97.00, 0.1203, 19.00, 5000.0, NULL, NULL, NULL, NULL, NULL),
+('AIR', 300, 1.87, 'USD', 89.00, 0.2122, 28.00, 5000.0, NULL, NULL, NULL, NULL, NULL);
 
-('Lufthansa Cargo', 'Chicago, USA', 'Frankfurt, Germany', 'AIR', NULL, 2800.00, 'INR', '2024-01-01', '2024-12-31', 'Transatlantic air freight', 3, 100.0, '150x100x100 cm', CURDATE(), CURDATE()),
-('Air France Cargo', 'Chicago, USA', 'Frankfurt, Germany', 'AIR', NULL, 2750.00, 'INR', '2024-01-01', '2024-12-31', 'European air express', 4, 80.0, '140x90x90 cm', CURDATE(), CURDATE()),
-
-('American Airlines Cargo', 'Miami, USA', 'São Paulo, Brazil', 'AIR', NULL, 2100.00, 'INR', '2024-01-01', '2024-12-31', 'South American air route', 5, 50.0, '100x80x60 cm', CURDATE(), CURDATE()),
-('LATAM Cargo', 'Miami, USA', 'São Paulo, Brazil', 'AIR', NULL, 1950.00, 'INR', '2024-01-01', '2024-12-31', 'Regional Latin America service', 4, 60.0, '110x80x70 cm', CURDATE(), CURDATE()),
-
--- Water shipping rates - FCL (Full Container Load) - Multiple shipping lines
-('Maersk Line', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'FCL', 4500.00, 'INR', '2024-01-01', '2024-12-31', '20ft FCL container to China', 15, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE()),
-('COSCO Shipping', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'FCL', 4200.00, 'INR', '2024-01-01', '2024-12-31', 'Competitive FCL service', 18, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE()),
-('MSC Mediterranean', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'FCL', 4350.00, 'INR', '2024-01-01', '2024-12-31', 'Reliable trans-Pacific route', 16, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE()),
-
-('Maersk Line', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'FCL', 3800.00, 'INR', '2024-01-01', '2024-12-31', '40ft FCL container to Europe', 12, 26500.0, '12x2.4x2.6 m', CURDATE(), CURDATE()),
-('Hapag-Lloyd', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'FCL', 3650.00, 'INR', '2024-01-01', '2024-12-31', 'European express route', 11, 26500.0, '12x2.4x2.6 m', CURDATE(), CURDATE()),
-('CMA CGM', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'FCL', 3900.00, 'INR', '2024-01-01', '2024-12-31', 'Premium Atlantic service', 13, 26500.0, '12x2.4x2.6 m', CURDATE(), CURDATE()),
-
-('Evergreen Marine', 'Houston, USA', 'Hamburg, Germany', 'WATER', 'FCL', 4200.00, 'INR', '2024-01-01', '2024-12-31', 'Transatlantic FCL shipping', 14, 26500.0, '12x2.4x2.6 m', CURDATE(), CURDATE()),
-('Yang Ming Marine', 'Long Beach, USA', 'Yokohama, Japan', 'WATER', 'FCL', 3900.00, 'INR', '2024-01-01', '2024-12-31', 'Pacific FCL route', 13, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE()),
-
--- Water shipping rates - LCL (Less than Container Load) - Multiple forwarders
-('DB Schenker', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'LCL', 850.00, 'INR', '2024-01-01', '2024-12-31', 'LCL service to China', 20, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-('Kuehne + Nagel', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'LCL', 780.00, 'INR', '2024-01-01', '2024-12-31', 'Efficient LCL consolidation', 22, 1200.0, '2.5x2x2 m', CURDATE(), CURDATE()),
-('DHL Global Forwarding', 'Los Angeles, USA', 'Shanghai, China', 'WATER', 'LCL', 820.00, 'INR', '2024-01-01', '2024-12-31', 'Reliable LCL service', 19, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-
-('DB Schenker', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'LCL', 720.00, 'INR', '2024-01-01', '2024-12-31', 'LCL service to Europe', 16, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-('Expeditors', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'LCL', 690.00, 'INR', '2024-01-01', '2024-12-31', 'Cost-effective LCL', 18, 1200.0, '2.5x2x2 m', CURDATE(), CURDATE()),
-('Panalpina (DSV)', 'New York, USA', 'Rotterdam, Netherlands', 'WATER', 'LCL', 750.00, 'INR', '2024-01-01', '2024-12-31', 'Premium LCL service', 15, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-
-('Geodis', 'Houston, USA', 'Hamburg, Germany', 'WATER', 'LCL', 780.00, 'INR', '2024-01-01', '2024-12-31', 'Transatlantic LCL', 17, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-('C.H. Robinson', 'Miami, USA', 'Santos, Brazil', 'WATER', 'LCL', 650.00, 'INR', '2024-01-01', '2024-12-31', 'South American LCL', 14, 800.0, '1.8x1.8x1.8 m', CURDATE(), CURDATE()),
-
--- Additional routes with budget-friendly options
-('TNT Express', 'Dallas, USA', 'Dubai, UAE', 'AIR', NULL, 2900.00, 'INR', '2024-06-01', '2024-12-31', 'Middle East air cargo', 5, 68.0, '120x80x80 cm', CURDATE(), CURDATE()),
-('Emirates SkyCargo', 'Dallas, USA', 'Dubai, UAE', 'AIR', NULL, 3100.00, 'INR', '2024-06-01', '2024-12-31', 'Premium Middle East service', 3, 100.0, '150x100x100 cm', CURDATE(), CURDATE()),
-
-('Qantas Freight', 'Boston, USA', 'Melbourne, Australia', 'AIR', NULL, 4200.00, 'INR', '2024-03-01', '2024-11-30', 'Australia air freight', 7, 68.0, '120x80x80 cm', CURDATE(), CURDATE()),
-
--- Budget options
-('Budget Air Cargo', 'Seattle, USA', 'Mumbai, India', 'AIR', NULL, 2800.00, 'INR', '2024-01-01', '2024-12-31', 'Economy air service to India', 6, 50.0, '100x70x70 cm', CURDATE(), CURDATE()),
-('Westwood Shipping', 'Portland, USA', 'Vancouver, Canada', 'WATER', 'FCL', 1200.00, 'INR', '2024-01-01', '2024-12-31', 'Canada FCL service', 3, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE()),
-('Regional LCL Services', 'Norfolk, USA', 'Le Havre, France', 'WATER', 'LCL', 690.00, 'INR', '2024-02-01', '2024-10-31', 'French LCL route', 16, 1000.0, '2x2x2 m', CURDATE(), CURDATE()),
-
--- Expired rate (for testing)
-('Old Express Co', 'Phoenix, USA', 'Mexico City, Mexico', 'AIR', NULL, 1800.00, 'INR', '2023-01-01', '2023-12-31', 'Expired Mexican route', 4, 50.0, '100x60x60 cm', CURDATE(), CURDATE()),
-
--- Future rate (for testing)
-('Future Logistics', 'Atlanta, USA', 'Lagos, Nigeria', 'WATER', 'FCL', 5200.00, 'INR', '2025-01-01', '2025-12-31', 'Future African route', 21, 22000.0, '6x2.4x2.4 m', CURDATE(), CURDATE());
-
--- Verify the data
-SELECT 
-    origin, 
-    destination, 
-    shipping_type, 
-    container_type, 
-    cost, 
-    currency,
-    effective_from,
-    effective_to,
-    CASE 
-        WHEN CURDATE() < effective_from THEN 'Future'
-        WHEN CURDATE() > effective_to THEN 'Expired'
-        ELSE 'Active'
-    END as status
-FROM courier_rates
-ORDER BY shipping_type, container_type, origin;
+COMMIT;